@@ -1,8 +1,13 @@
 package thrift;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -12,6 +17,7 @@ import javafx.application.Application;
 import javafx.stage.Stage;
 import thrift.commons.core.Config;
 import thrift.commons.core.LogsCenter;
+import thrift.commons.core.ThriftFileFormat;
 import thrift.commons.core.Version;
 import thrift.commons.exceptions.DataConversionException;
 import thrift.commons.util.ConfigUtil;
@@ -26,10 +32,14 @@ import thrift.model.ReadOnlyUserPrefs;
 import thrift.model.Thrift;
 import thrift.model.UserPrefs;
 import thrift.model.util.CurrencyUtil;
+import thrift.storage.BinaryThriftStorage;
 import thrift.storage.CurrencyMappingsStorage;
+import thrift.storage.JournaledThriftStorage;
 import thrift.storage.JsonCurrencyMappingsStorage;
 import thrift.storage.JsonThriftStorage;
+import thrift.storage.JsonUndoRecordStore;
 import thrift.storage.JsonUserPrefsStorage;
+import thrift.storage.PartitionedThriftStorage;
 import thrift.storage.Storage;
 import thrift.storage.StorageManager;
 import thrift.storage.ThriftStorage;
@@ -62,49 +72,197 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        ThriftStorage thriftStorage = new JsonThriftStorage(userPrefs.getThriftFilePath());
+        ThriftStorage thriftStorage = initThriftStorage(userPrefs);
         CurrencyMappingsStorage currencyMappingsStorage =
                 new JsonCurrencyMappingsStorage(userPrefs.getCurrencyMappingsFilePath());
         storage = new StorageManager(thriftStorage, userPrefsStorage, currencyMappingsStorage);
-        PastUndoableCommands pastUndoableCommands = new PastUndoableCommands();
+        PastUndoableCommands pastUndoableCommands = initPastUndoableCommands(userPrefs);
 
         initLogging(config);
 
         initCurrencyMappings(storage);
 
-        model = initModelManager(storage, userPrefs, pastUndoableCommands);
+        migrateThriftFile(userPrefs);
+
+        model = initModelManager(storage, thriftStorage, userPrefs, pastUndoableCommands);
+        Optional<String> startupWarning = Optional.empty();
+        if (thriftStorage instanceof JournaledThriftStorage) {
+            JournaledThriftStorage journaledThriftStorage = (JournaledThriftStorage) thriftStorage;
+            journaledThriftStorage.trackThrift(model.getThrift());
+            if (journaledThriftStorage.getSnapshotStorage() instanceof BinaryThriftStorage) {
+                startupWarning = ((BinaryThriftStorage) journaledThriftStorage.getSnapshotStorage())
+                        .getRecoveryMessage();
+            }
+        }
 
         logic = new LogicManager(model, storage);
 
-        ui = new UiManager(logic);
+        ui = new UiManager(logic, startupWarning);
+    }
+
+    /**
+     * Returns a {@code PastUndoableCommands} bounded as set in {@code config}, which keeps its histories in undo logs
+     * next to the data file in {@code userPrefs}, restoring the histories of the last session. <br>
+     * The undo logs are not read until the user first undoes or redoes, so they do not delay starting up.
+     */
+    private PastUndoableCommands initPastUndoableCommands(ReadOnlyUserPrefs userPrefs) {
+        Path thriftFilePath = userPrefs.getThriftFilePath();
+        String thriftFileName = thriftFilePath.getFileName().toString();
+        try {
+            return new PastUndoableCommands(config.getUndoHistoryMaxCommands(), config.getUndoHistoryMaxTransactions(),
+                    new JsonUndoRecordStore(thriftFilePath.resolveSibling(thriftFileName + ".undo"),
+                            config.getUndoHistoryMaxSavedCommands()),
+                    new JsonUndoRecordStore(thriftFilePath.resolveSibling(thriftFileName + ".redo"),
+                            config.getUndoHistoryMaxSavedCommands()));
+        } catch (IllegalArgumentException e) {
+            logger.warning("Invalid undo history bounds in config, keeping the undo history in memory only: "
+                    + StringUtil.getDetails(e));
+            return new PastUndoableCommands();
+        }
     }
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s thrift and {@code userPrefs}. <br>
      * The data from the sample thrift will be used instead if {@code storage}'s thrift is not found,
-     * or an empty thrift will be used instead if errors occur when reading {@code storage}'s thrift.
+     * or an empty thrift will be used instead if errors occur when reading {@code storage}'s thrift. <br>
+     * If {@code thriftStorage} is partitioned, only the recent months are read, and the model loads the other months
+     * from {@code thriftStorage} on demand.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs,
+    private Model initModelManager(Storage storage, ThriftStorage thriftStorage, ReadOnlyUserPrefs userPrefs,
             PastUndoableCommands pastUndoableCommands) {
+        boolean isPartitioned = thriftStorage instanceof PartitionedThriftStorage;
         Optional<ReadOnlyThrift> thriftOptional;
         ReadOnlyThrift initialData;
         try {
-            thriftOptional = storage.readThrift();
+            thriftOptional = storage.readRecentThrift();
             if (!thriftOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample THRIFT");
             }
             initialData = thriftOptional.orElseGet(Thrift::new);
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty THRIFT");
+            thriftOptional = Optional.empty();
             initialData = new Thrift();
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty THRIFT");
+            thriftOptional = Optional.empty();
             initialData = new Thrift();
         }
+        if (!thriftOptional.isPresent()) {
+            // The saved undo history changed data that is not there.
+            pastUndoableCommands.clear();
+        }
 
+        if (isPartitioned) {
+            return new ModelManager(initialData, userPrefs, pastUndoableCommands,
+                    (PartitionedThriftStorage) thriftStorage);
+        }
         return new ModelManager(initialData, userPrefs, pastUndoableCommands);
     }
 
+    /**
+     * Returns a {@code ThriftStorage} for the data in the format chosen in {@code userPrefs}. <br>
+     * Single data files are journaled, see {@code JournaledThriftStorage}, while partitioned data already rewrites
+     * only the months that changed.
+     */
+    private ThriftStorage initThriftStorage(ReadOnlyUserPrefs userPrefs) {
+        switch (userPrefs.getThriftFileFormat()) {
+        case PARTITIONED:
+            return new PartitionedThriftStorage(userPrefs.getPartitionedThriftDirectoryPath(),
+                    config.isThriftDataPrettyPrinted());
+        case BINARY:
+            return new JournaledThriftStorage(new BinaryThriftStorage(userPrefs.getBinaryThriftFilePath(),
+                    config.isThriftDataCompressed()));
+        case JSON:
+        default:
+            return new JournaledThriftStorage(
+                    new JsonThriftStorage(userPrefs.getThriftFilePath(), config.isThriftDataPrettyPrinted(),
+                            config.isThriftDataCodecEnabled()));
+        }
+    }
+
+    /**
+     * Fills in the data in the format chosen in {@code userPrefs} from the data in another format, if the latter was
+     * written more recently, or the chosen format has no data yet. This happens when the chosen format has just been
+     * changed, including back to a format whose data has since gone stale. <br>
+     * If the newer data cannot be imported, the chosen format is left as it is with a warning, and the newer data is
+     * kept for another attempt.
+     */
+    private void migrateThriftFile(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getThriftFilePath();
+        Path binaryFilePath = userPrefs.getBinaryThriftFilePath();
+        PartitionedThriftStorage partitionedStorage = new PartitionedThriftStorage(
+                userPrefs.getPartitionedThriftDirectoryPath(), config.isThriftDataPrettyPrinted());
+
+        Map<ThriftFileFormat, ThriftStorage> storages = new EnumMap<>(ThriftFileFormat.class);
+        storages.put(ThriftFileFormat.JSON, new JournaledThriftStorage(new JsonThriftStorage(jsonFilePath,
+                config.isThriftDataPrettyPrinted(), config.isThriftDataCodecEnabled())));
+        storages.put(ThriftFileFormat.BINARY, new JournaledThriftStorage(
+                new BinaryThriftStorage(binaryFilePath, config.isThriftDataCompressed())));
+        storages.put(ThriftFileFormat.PARTITIONED, partitionedStorage);
+
+        Map<ThriftFileFormat, List<Path>> dataFilePaths = new EnumMap<>(ThriftFileFormat.class);
+        dataFilePaths.put(ThriftFileFormat.JSON,
+                List.of(jsonFilePath, JournaledThriftStorage.getJournalFilePath(jsonFilePath)));
+        dataFilePaths.put(ThriftFileFormat.BINARY,
+                List.of(binaryFilePath, JournaledThriftStorage.getJournalFilePath(binaryFilePath)));
+        dataFilePaths.put(ThriftFileFormat.PARTITIONED, List.of(partitionedStorage.getManifestFilePath()));
+
+        ThriftFileFormat format = userPrefs.getThriftFileFormat();
+        Optional<FileTime> lastWritten = getLastModifiedTime(dataFilePaths.get(format));
+        Optional<ThriftFileFormat> newestFormat = Optional.empty();
+        Optional<FileTime> newestLastWritten = lastWritten;
+        for (ThriftFileFormat otherFormat : ThriftFileFormat.values()) {
+            Optional<FileTime> otherLastWritten = getLastModifiedTime(dataFilePaths.get(otherFormat));
+            if (otherFormat != format && otherLastWritten.isPresent() && (!newestLastWritten.isPresent()
+                    || otherLastWritten.get().compareTo(newestLastWritten.get()) > 0)) {
+                newestFormat = Optional.of(otherFormat);
+                newestLastWritten = otherLastWritten;
+            }
+        }
+        if (!newestFormat.isPresent()) {
+            return;
+        }
+
+        ThriftStorage source = storages.get(newestFormat.get());
+        ThriftStorage target = storages.get(format);
+        try {
+            Optional<ReadOnlyThrift> thrift = source.readThrift();
+            if (thrift.isPresent()) {
+                target.saveThrift(thrift.get());
+                logger.info("Imported the " + newestFormat.get() + " data " + dataFilePaths.get(newestFormat.get())
+                        + " into the " + format + " data " + dataFilePaths.get(format)
+                        + (lastWritten.isPresent() ? ", which was older" : ""));
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Problem while importing the newer " + newestFormat.get() + " data "
+                    + dataFilePaths.get(newestFormat.get()) + ", starting on the " + format + " data "
+                    + dataFilePaths.get(format) + " which may be missing later changes: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the time the most recently modified of the existing {@code files} was last modified, or an empty
+     * {@code Optional} if none of them exist.
+     */
+    private static Optional<FileTime> getLastModifiedTime(List<Path> files) {
+        Optional<FileTime> lastModified = Optional.empty();
+        for (Path file : files) {
+            try {
+                FileTime fileLastModified = Files.getLastModifiedTime(file);
+                if (!lastModified.isPresent() || fileLastModified.compareTo(lastModified.get()) > 0) {
+                    lastModified = Optional.of(fileLastModified);
+                }
+            } catch (NoSuchFileException e) {
+                // The file has not been written yet.
+            } catch (IOException e) {
+                logger.warning("Problem while checking when " + file + " was last written: "
+                        + StringUtil.getDetails(e));
+            }
+        }
+        return lastModified;
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -217,6 +375,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping THRIFT ] =============================");
+        try {
+            storage.flushThrift();
+        } catch (IOException e) {
+            logger.severe("Failed to save THRIFT " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -15,6 +15,12 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean thriftDataPrettyPrinted = false;
+    private boolean thriftDataCodecEnabled = false;
+    private boolean thriftDataCompressed = false;
+    private int undoHistoryMaxCommands = 100;
+    private int undoHistoryMaxTransactions = 1000;
+    private int undoHistoryMaxSavedCommands = 1000;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +38,78 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if THRIFT data should be saved with line breaks and indentation, for easier debugging.
+     * Data is saved compactly otherwise.
+     */
+    public boolean isThriftDataPrettyPrinted() {
+        return thriftDataPrettyPrinted;
+    }
+
+    public void setThriftDataPrettyPrinted(boolean thriftDataPrettyPrinted) {
+        this.thriftDataPrettyPrinted = thriftDataPrettyPrinted;
+    }
+
+    /**
+     * Returns true if THRIFT json data should be read and written token by token with a hand-written codec.
+     * Data is read and written through Jackson's data binding otherwise.
+     */
+    public boolean isThriftDataCodecEnabled() {
+        return thriftDataCodecEnabled;
+    }
+
+    public void setThriftDataCodecEnabled(boolean thriftDataCodecEnabled) {
+        this.thriftDataCodecEnabled = thriftDataCodecEnabled;
+    }
+
+    /**
+     * Returns true if binary THRIFT data should be saved in compressed, checksummed blocks.
+     * Binary data is saved uncompressed otherwise.
+     */
+    public boolean isThriftDataCompressed() {
+        return thriftDataCompressed;
+    }
+
+    public void setThriftDataCompressed(boolean thriftDataCompressed) {
+        this.thriftDataCompressed = thriftDataCompressed;
+    }
+
+    /**
+     * Returns the number of undoable commands kept in memory, on each of the undo and redo histories, past which the
+     * oldest of them are only kept in the undo log on disk.
+     */
+    public int getUndoHistoryMaxCommands() {
+        return undoHistoryMaxCommands;
+    }
+
+    public void setUndoHistoryMaxCommands(int undoHistoryMaxCommands) {
+        this.undoHistoryMaxCommands = undoHistoryMaxCommands;
+    }
+
+    /**
+     * Returns the number of transactions the undoable commands kept in memory may hold, on each of the undo and redo
+     * histories, past which the oldest of them are only kept in the undo log on disk.
+     */
+    public int getUndoHistoryMaxTransactions() {
+        return undoHistoryMaxTransactions;
+    }
+
+    public void setUndoHistoryMaxTransactions(int undoHistoryMaxTransactions) {
+        this.undoHistoryMaxTransactions = undoHistoryMaxTransactions;
+    }
+
+    /**
+     * Returns the number of undoable commands kept in each of the undo logs on disk across sessions, past which the
+     * oldest of them are dropped.
+     */
+    public int getUndoHistoryMaxSavedCommands() {
+        return undoHistoryMaxSavedCommands;
+    }
+
+    public void setUndoHistoryMaxSavedCommands(int undoHistoryMaxSavedCommands) {
+        this.undoHistoryMaxSavedCommands = undoHistoryMaxSavedCommands;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +122,19 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && thriftDataPrettyPrinted == o.thriftDataPrettyPrinted
+                && thriftDataCodecEnabled == o.thriftDataCodecEnabled
+                && thriftDataCompressed == o.thriftDataCompressed
+                && undoHistoryMaxCommands == o.undoHistoryMaxCommands
+                && undoHistoryMaxTransactions == o.undoHistoryMaxTransactions
+                && undoHistoryMaxSavedCommands == o.undoHistoryMaxSavedCommands;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, thriftDataPrettyPrinted, thriftDataCodecEnabled,
+                thriftDataCompressed, undoHistoryMaxCommands, undoHistoryMaxTransactions, undoHistoryMaxSavedCommands);
     }
 
     @Override
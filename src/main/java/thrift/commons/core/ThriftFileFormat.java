@@ -0,0 +1,13 @@
+package thrift.commons.core;
+
+/**
+ * The formats THRIFT data can be stored in on the hard disk.
+ */
+public enum ThriftFileFormat {
+    /** Human-readable json, see {@code JsonThriftStorage}. */
+    JSON,
+    /** Compact binary snapshot, see {@code BinaryThriftStorage}. */
+    BINARY,
+    /** Json split into one file per month, loaded lazily, see {@code PartitionedThriftStorage}. */
+    PARTITIONED
+}
@@ -1,18 +1,34 @@
 package thrift.commons.util;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    /** The smallest file, in bytes, that {@link #openForReading(Path)} reads through a memory mapping. */
+    public static final long MAPPED_READ_THRESHOLD = 1024 * 1024;
+
     private static final String CHARSET = "UTF-8";
 
+    /**
+     * Windows keeps a mapped file locked until the mapping is garbage collected, which would stop the file from
+     * being saved again right after it is read.
+     */
+    private static final boolean IS_MAPPED_READ_SUPPORTED = !System.getProperty("os.name", "").startsWith("Windows");
+
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
     }
@@ -72,6 +88,55 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Opens {@code file} for reading, through a read-only memory mapping if it is at least
+     * {@link #MAPPED_READ_THRESHOLD} bytes long, or through a buffered stream otherwise. <br>
+     * A mapped file is read straight from the page cache, without copying it into the heap as a whole.
+     * Assumes file exists.
+     */
+    public static InputStream openForReading(Path file) throws IOException {
+        return openForReading(file, MAPPED_READ_THRESHOLD);
+    }
+
+    /**
+     * Similar to {@link #openForReading(Path)}, but maps the file if it is at least {@code mappedReadThreshold} bytes
+     * long. Files that are too large for a single mapping are always read through a buffered stream.
+     */
+    public static InputStream openForReading(Path file, long mappedReadThreshold) throws IOException {
+        requireNonNull(file);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (IS_MAPPED_READ_SUPPORTED && size >= mappedReadThreshold && size <= Integer.MAX_VALUE) {
+                // The mapping stays valid after its channel is closed.
+                return new ByteBufferInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+            }
+        }
+        return new BufferedInputStream(Files.newInputStream(file));
+    }
+
+    /**
+     * Returns the sibling of {@code file} that a new version of it is written to before it replaces {@code file},
+     * see {@link #replaceWithTempFile(Path)}.
+     */
+    public static Path getTempFilePath(Path file) {
+        requireNonNull(file);
+        return file.resolveSibling(file.getFileName() + ".tmp");
+    }
+
+    /**
+     * Replaces {@code file} with its temp file from {@link #getTempFilePath(Path)}, once the temp file is flushed to
+     * the disk, in a single atomic move. A crash while the new version is written thus leaves the old {@code file}
+     * whole, rather than a file cut off part of the way through.
+     */
+    public static void replaceWithTempFile(Path file) throws IOException {
+        Path tempFile = getTempFilePath(file);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
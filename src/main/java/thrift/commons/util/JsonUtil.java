@@ -3,6 +3,8 @@ package thrift.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +13,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -110,6 +115,39 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, without any line breaks.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance on a single line, in string
+     */
+    public static <T> String toSingleLineJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Creates a parser that reads JSON tokens from {@code inputStream} one at a time.
+     * Values at the parser's current position can be converted to instances of a class with
+     * {@link JsonParser#readValueAs(Class)}.
+     * @param inputStream The stream to read the JSON data from. Closed together with the parser.
+     */
+    public static JsonParser createParser(InputStream inputStream) throws IOException {
+        return objectMapper.getFactory().createParser(inputStream);
+    }
+
+    /**
+     * Creates a generator that writes JSON tokens to {@code outputStream} as they are produced.
+     * Instances of a class can be written at the generator's current position with
+     * {@link JsonGenerator#writeObject(Object)}.
+     * @param outputStream The stream to write the JSON data to. Closed together with the generator.
+     * @param isPrettyPrinted Whether the JSON data should be written with line breaks and indentation.
+     */
+    public static JsonGenerator createGenerator(OutputStream outputStream, boolean isPrettyPrinted)
+            throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+        return isPrettyPrinted ? generator.useDefaultPrettyPrinter() : generator;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
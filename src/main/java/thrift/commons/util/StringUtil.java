@@ -6,6 +6,7 @@ import static thrift.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -42,6 +43,50 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the key of {@code word} under which it is looked up in a word index that matches words the way
+     * {@link #containsWordIgnoreCase(String, String)} does. Like in that method, {@code word} is trimmed first.
+     *
+     * @param word cannot be null, cannot be empty, must be a single word
+     */
+    public static String toWordKeyIgnoreCase(String word) {
+        requireNonNull(word);
+
+        String preppedWord = word.trim();
+        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        return toCaseInsensitiveKey(preppedWord);
+    }
+
+    /**
+     * Returns the keys of the distinct words of {@code sentence}, split the way
+     * {@link #containsWordIgnoreCase(String, String)} splits it, so that the sentence contains a word exactly when the
+     * key of the word from {@link #toWordKeyIgnoreCase(String)} is one of them.
+     */
+    public static Set<String> getWordKeysIgnoreCase(String sentence) {
+        requireNonNull(sentence);
+
+        Set<String> keys = new HashSet<>();
+        for (String word : sentence.split("\\s+")) {
+            if (!word.isEmpty()) {
+                keys.add(toCaseInsensitiveKey(word));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Returns {@code word} with every character mapped to the lower case of its upper case, so that two words have
+     * the same key exactly when {@code String#equalsIgnoreCase} is true for them.
+     */
+    private static String toCaseInsensitiveKey(String word) {
+        char[] key = new char[word.length()];
+        for (int i = 0; i < key.length; i++) {
+            key[i] = Character.toLowerCase(Character.toUpperCase(word.charAt(i)));
+        }
+        return new String(key);
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -61,7 +61,7 @@ public class LogicManager implements Logic {
         CommandResult commandResult = processParsedCommand(command, commandText, transactionListPanel, balanceBar,
                 filteredBar);
         try {
-            storage.saveThrift(model.getThrift());
+            storage.saveThrift(model.getThriftSnapshot());
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
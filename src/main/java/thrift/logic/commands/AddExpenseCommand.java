@@ -7,6 +7,8 @@ import thrift.logic.parser.CliSyntax;
 import thrift.model.Model;
 import thrift.model.transaction.Expense;
 import thrift.model.transaction.Transaction;
+import thrift.model.undo.TransactionEdit;
+import thrift.model.undo.UndoRecord;
 import thrift.ui.TransactionListPanel;
 
 /**
@@ -98,4 +100,11 @@ public class AddExpenseCommand extends ScrollingCommand implements Undoable {
         model.addExpense(toAdd);
         return String.format(REDO_SUCCESS, toAdd);
     }
+
+    @Override
+    public UndoRecord toUndoRecord() {
+        requireNonNull(toAdd);
+        return new UndoRecord(TransactionEdit.addLast(toAdd), String.format(UNDO_SUCCESS, toAdd),
+                String.format(REDO_SUCCESS, toAdd));
+    }
 }
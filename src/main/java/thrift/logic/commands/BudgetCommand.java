@@ -8,6 +8,8 @@ import java.text.SimpleDateFormat;
 import thrift.logic.parser.CliSyntax;
 import thrift.model.Model;
 import thrift.model.transaction.Budget;
+import thrift.model.undo.BudgetEdit;
+import thrift.model.undo.UndoRecord;
 
 /**
  * Sets the monthly budget.
@@ -64,21 +66,45 @@ public class BudgetCommand extends NonScrollingCommand implements Undoable {
     public String undo(Model model) {
         requireAllNonNull(model, budget);
         assert oldBudget == null || budget.getBudgetDate().equals(oldBudget.getBudgetDate());
-        String monthYear = new SimpleDateFormat("MMMMM yyyy").format(budget.getBudgetDate().getTime());
         if (oldBudget == null) {
             model.resetBudgetForThatMonth(budget);
-            return String.format(UNDO_SUCCESS, monthYear, "-");
         } else {
             model.setBudget(oldBudget);
-            return String.format(UNDO_SUCCESS, monthYear, oldBudget);
         }
+        return getUndoMessage();
     }
 
     @Override
     public String redo(Model model) {
         requireAllNonNull(model, budget);
-        String monthYear = new SimpleDateFormat("MMMM yyyy").format(budget.getBudgetDate().getTime());
         model.setBudget(budget);
-        return String.format(REDO_SUCCESS, monthYear, budget);
+        return getRedoMessage();
+    }
+
+    @Override
+    public UndoRecord toUndoRecord() {
+        requireNonNull(budget);
+        return new UndoRecord(new BudgetEdit(oldBudget, budget), getUndoMessage(), getRedoMessage());
+    }
+
+    /**
+     * Returns the feedback message of undoing this command.
+     */
+    private String getUndoMessage() {
+        return String.format(UNDO_SUCCESS, getMonthYear(), oldBudget == null ? "-" : oldBudget);
+    }
+
+    /**
+     * Returns the feedback message of redoing this command.
+     */
+    private String getRedoMessage() {
+        return String.format(REDO_SUCCESS, getMonthYear(), budget);
+    }
+
+    /**
+     * Returns the month and year of the budget, such as "October 2019".
+     */
+    private String getMonthYear() {
+        return new SimpleDateFormat("MMMM yyyy").format(budget.getBudgetDate().getTime());
     }
 }
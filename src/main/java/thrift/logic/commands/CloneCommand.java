@@ -4,12 +4,13 @@ import static java.util.Objects.requireNonNull;
 import static thrift.commons.util.CollectionUtil.requireAllNonNull;
 import static thrift.model.transaction.TransactionDate.DATE_FORMATTER;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.Calendar;
-import java.util.Date;
 import java.util.List;
 import java.util.Set;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import thrift.commons.core.LogsCenter;
 import thrift.commons.core.Messages;
@@ -26,6 +27,8 @@ import thrift.model.transaction.Remark;
 import thrift.model.transaction.Transaction;
 import thrift.model.transaction.TransactionDate;
 import thrift.model.transaction.Value;
+import thrift.model.undo.TransactionEdit;
+import thrift.model.undo.UndoRecord;
 import thrift.ui.TransactionListPanel;
 
 /**
@@ -73,7 +76,7 @@ public class CloneCommand extends ScrollingCommand implements Undoable {
 
     private final Index targetIndex;
     private final Occurrence occurrence;
-    private int frequencyCalendarField;
+    private ChronoUnit frequencyUnit;
     private ArrayList<Transaction> clonedTransactionList;
 
     /**
@@ -90,7 +93,7 @@ public class CloneCommand extends ScrollingCommand implements Undoable {
         this.targetIndex = targetIndex;
         this.occurrence = occurrence;
         this.clonedTransactionList = new ArrayList<>();
-        this.frequencyCalendarField = 0;
+        this.frequencyUnit = null;
     }
 
     @Override
@@ -103,12 +106,12 @@ public class CloneCommand extends ScrollingCommand implements Undoable {
         }
 
         Transaction transactionToClone = lastShownList.get(targetIndex.getZeroBased());
-        Date originalDate = transactionToClone.getDate().getDate();
+        LocalDate originalDate = transactionToClone.getDate().getLocalDate();
 
-        frequencyCalendarField = occurrence.getFrequencyCalendarField();
-        assert (frequencyCalendarField == Calendar.DATE) || (frequencyCalendarField == Calendar.WEEK_OF_YEAR)
-                || (frequencyCalendarField == Calendar.MONTH) || (frequencyCalendarField == Calendar.YEAR)
-                : "Frequency of occurrence for clones not converted to a valid Calendar field";
+        frequencyUnit = occurrence.getFrequencyUnit();
+        assert (frequencyUnit == ChronoUnit.DAYS) || (frequencyUnit == ChronoUnit.WEEKS)
+                || (frequencyUnit == ChronoUnit.MONTHS) || (frequencyUnit == ChronoUnit.YEARS)
+                : "Frequency of occurrence for clones not converted to a valid ChronoUnit";
 
         executeCloneOperation(originalDate, transactionToClone, model, transactionListPanel);
 
@@ -145,7 +148,7 @@ public class CloneCommand extends ScrollingCommand implements Undoable {
     }
 
     /**
-     * Adds cloned transactions to the existing {@link Model} and scrolls to their list entries in the
+     * Adds cloned transactions to the existing {@link Model}, all at once, and scrolls to their list entries in the
      * {@link TransactionListPanel}.
      *
      * @param originalDate of the original transaction.
@@ -153,7 +156,7 @@ public class CloneCommand extends ScrollingCommand implements Undoable {
      * @param model The {@link Model} which cloned transactions should be added to.
      * @param transactionListPanel The {@link TransactionListPanel} that should scroll to the list entry of clones.
      */
-    private void executeCloneOperation(Date originalDate, Transaction transactionToClone, Model model,
+    private void executeCloneOperation(LocalDate originalDate, Transaction transactionToClone, Model model,
                                        TransactionListPanel transactionListPanel) {
         requireAllNonNull(originalDate, transactionToClone, model);
         StringBuilder logDates = new StringBuilder("Clones created for: ");
@@ -167,22 +170,15 @@ public class CloneCommand extends ScrollingCommand implements Undoable {
 
             String date = getDateOfClone(originalDate, cloneNumber);
 
-            Transaction clonedTransaction = createClonedTransaction(transactionToClone, date);
-            clonedTransactionList.add(clonedTransaction);
-            if (clonedTransaction instanceof Expense) {
-                model.addExpense((Expense) clonedTransaction);
-            } else {
-                assert clonedTransaction instanceof Income : "Transaction to Clone not of type Expense or Income";
-                model.addIncome((Income) clonedTransaction);
-            }
-
+            clonedTransactionList.add(createClonedTransaction(transactionToClone, date));
             logDates.append(date).append(", ");
+        }
+        model.addTransactions(clonedTransactionList);
 
-            // Use null comparison instead of requireNonNull(transactionListPanel) as current JUnit tests are unable to
-            // handle JavaFX initialization
-            if (transactionListPanel != null && model.isInView(clonedTransaction)) {
-                transactionListPanel.getTransactionListView().scrollTo(model.getFilteredTransactionList().size() - 1);
-            }
+        // Use null comparison instead of requireNonNull(transactionListPanel) as current JUnit tests are unable to
+        // handle JavaFX initialization
+        if (transactionListPanel != null && clonedTransactionList.stream().anyMatch(model::isInView)) {
+            transactionListPanel.getTransactionListView().scrollTo(model.getFilteredTransactionList().size() - 1);
         }
 
         cloneNumber = (occurrence.getNumOccurrences() == 0) ? cloneNumber : cloneNumber - 1;
@@ -197,14 +193,10 @@ public class CloneCommand extends ScrollingCommand implements Undoable {
      * @param dateFieldIncrement to be added to the relevant date field of {@code originalDate}.
      * @return {@code Date} String that cloned transaction contains.
      */
-    private String getDateOfClone(Date originalDate, int dateFieldIncrement) {
+    private String getDateOfClone(LocalDate originalDate, int dateFieldIncrement) {
         requireAllNonNull(originalDate, dateFieldIncrement);
-        Calendar calendar = Calendar.getInstance();
-        if (occurrence.getNumOccurrences() > 0) {
-            calendar.setTime(originalDate);
-        }
-        calendar.add(frequencyCalendarField, dateFieldIncrement);
-        return DATE_FORMATTER.format(calendar.getTime());
+        LocalDate date = occurrence.getNumOccurrences() > 0 ? originalDate : LocalDate.now();
+        return date.plus(dateFieldIncrement, frequencyUnit).format(DATE_FORMATTER);
     }
 
     @Override
@@ -220,9 +212,8 @@ public class CloneCommand extends ScrollingCommand implements Undoable {
         requireAllNonNull(model, occurrence);
         StringBuilder sb = new StringBuilder();
         int actualTimesCloned = (occurrence.getNumOccurrences() == 0) ? 1 : occurrence.getNumOccurrences();
-        for (int i = 0; i < actualTimesCloned; i++) {
-            Transaction deleteTransaction = model.deleteLastTransaction();
-            sb.append(deleteTransaction).append("\n");
+        for (Transaction deletedTransaction : model.deleteLastTransactions(actualTimesCloned)) {
+            sb.append(deletedTransaction).append("\n");
         }
         sb.deleteCharAt(sb.length() - 1);
         return String.format(UNDO_SUCCESS, sb.toString());
@@ -231,20 +222,36 @@ public class CloneCommand extends ScrollingCommand implements Undoable {
     @Override
     public String redo(Model model) {
         requireAllNonNull(model, occurrence);
-        assert frequencyCalendarField == Calendar.DATE || frequencyCalendarField == Calendar.WEEK_OF_YEAR
-                || frequencyCalendarField == Calendar.MONTH || frequencyCalendarField == Calendar.YEAR;
+        assert frequencyUnit == ChronoUnit.DAYS || frequencyUnit == ChronoUnit.WEEKS
+                || frequencyUnit == ChronoUnit.MONTHS || frequencyUnit == ChronoUnit.YEARS;
         assert clonedTransactionList.size() > 0;
 
         StringBuilder sb = new StringBuilder();
+        model.addTransactions(clonedTransactionList);
         for (Transaction clonedTransaction : clonedTransactionList) {
-            if (clonedTransaction instanceof Expense) {
-                model.addExpense((Expense) clonedTransaction);
-            } else if (clonedTransaction instanceof Income) {
-                model.addIncome((Income) clonedTransaction);
-            }
             sb.append(clonedTransaction).append("\n");
         }
         sb.deleteCharAt(sb.length() - 1);
         return String.format(REDO_SUCCESS, sb.toString());
     }
+
+    @Override
+    public UndoRecord toUndoRecord() {
+        assert clonedTransactionList.size() > 0;
+        StringBuilder sb = new StringBuilder();
+        for (Transaction clonedTransaction : clonedTransactionList) {
+            sb.append(clonedTransaction).append("\n");
+        }
+        sb.deleteCharAt(sb.length() - 1);
+        List<TransactionEdit> edits = clonedTransactionList.stream()
+                .map(TransactionEdit::addLast)
+                .collect(Collectors.toList());
+        return new UndoRecord(edits,
+                String.format(UNDO_SUCCESS, sb.toString()), String.format(REDO_SUCCESS, sb.toString()));
+    }
+
+    @Override
+    public int getEditCount() {
+        return clonedTransactionList == null ? 1 : clonedTransactionList.size();
+    }
 }
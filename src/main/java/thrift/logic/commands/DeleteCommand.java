@@ -13,6 +13,8 @@ import thrift.model.Model;
 import thrift.model.transaction.Expense;
 import thrift.model.transaction.Income;
 import thrift.model.transaction.Transaction;
+import thrift.model.undo.TransactionEdit;
+import thrift.model.undo.UndoRecord;
 
 /**
  * Deletes a transaction identified using it's displayed index from THRIFT.
@@ -41,6 +43,7 @@ public class DeleteCommand extends NonScrollingCommand implements Undoable {
 
     private final Index targetIndex;
     private Transaction transactionToDelete;
+    private Transaction previousTransaction;
     private Index actualIndex;
 
     public DeleteCommand(Index targetIndex) {
@@ -62,6 +65,9 @@ public class DeleteCommand extends NonScrollingCommand implements Undoable {
         transactionToDelete = lastShownList.get(targetIndex.getZeroBased());
         assert transactionToDelete != null;
         actualIndex = model.getIndexInFullTransactionList(transactionToDelete).get();
+        previousTransaction = actualIndex.getZeroBased() == 0
+                ? null
+                : model.getThrift().getTransactionList().get(actualIndex.getZeroBased() - 1);
         model.deleteTransaction(actualIndex);
         return new CommandResult(String.format(MESSAGE_DELETE_TRANSACTION_SUCCESS, transactionToDelete));
     }
@@ -90,4 +96,11 @@ public class DeleteCommand extends NonScrollingCommand implements Undoable {
         model.deleteTransaction(actualIndex);
         return String.format(REDO_SUCCESS, transactionToDelete);
     }
+
+    @Override
+    public UndoRecord toUndoRecord() {
+        requireAllNonNull(actualIndex, transactionToDelete);
+        return new UndoRecord(TransactionEdit.remove(actualIndex, transactionToDelete, previousTransaction),
+                String.format(UNDO_SUCCESS, transactionToDelete), String.format(REDO_SUCCESS, transactionToDelete));
+    }
 }
@@ -2,13 +2,22 @@ package thrift.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+
 import thrift.commons.core.Messages;
+import thrift.logic.commands.exceptions.CommandException;
 import thrift.model.Model;
 import thrift.model.transaction.DescriptionOrRemarkContainsKeywordsPredicate;
+import thrift.model.transaction.DescriptionOrRemarkMatchesSearchTermsPredicate;
+import thrift.model.transaction.SearchTerm;
+import thrift.model.transaction.Transaction;
 
 /**
  * Finds and lists all transactions in THRIFT whose description contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive. Keywords ending in {@code *} match words starting with them, and keywords
+ * ending in {@code ~} match words with a few typos; the transactions found with them are listed best match first.
  */
 public class FindCommand extends NonScrollingCommand {
 
@@ -17,27 +26,49 @@ public class FindCommand extends NonScrollingCommand {
     public static final String HELP_MESSAGE = COMMAND_WORD + ": Finds all transactions whose descriptions contain any "
             + "of the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Format: " + COMMAND_WORD + " KEYWORD [MORE_KEYWORDS]...\n"
+            + "A KEYWORD ending in " + SearchTerm.PREFIX_WILDCARD + " matches words starting with it, and a KEYWORD "
+            + "ending in " + SearchTerm.TYPO_MARKER + " also matches words with a few typos.\n"
             + "Possible usage of " + COMMAND_WORD + ": \n"
             + "To find all transactions that contain the words 'alice', 'bob' and 'charlie': "
-            + COMMAND_WORD + " alice bob charlie";
+            + COMMAND_WORD + " alice bob charlie\n"
+            + "To find all transactions with words starting with 'starb' or close to 'chiken': "
+            + COMMAND_WORD + " starb" + SearchTerm.PREFIX_WILDCARD + " chiken" + SearchTerm.TYPO_MARKER;
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all transactions whose descriptions contain any "
             + "of the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... (ending a KEYWORD in " + SearchTerm.PREFIX_WILDCARD
+            + " matches words starting with it, and in " + SearchTerm.TYPO_MARKER + " allows typos)\n"
             + "Example: " + COMMAND_WORD + " alice bob charlie";
 
     private final DescriptionOrRemarkContainsKeywordsPredicate predicate;
+    private final DescriptionOrRemarkMatchesSearchTermsPredicate searchTermsPredicate;
 
     public FindCommand(DescriptionOrRemarkContainsKeywordsPredicate predicate) {
         this.predicate = predicate;
+        this.searchTermsPredicate = null;
+    }
+
+    /**
+     * Creates a FindCommand that lists the transactions matching {@code searchTermsPredicate}, best match first.
+     */
+    public FindCommand(DescriptionOrRemarkMatchesSearchTermsPredicate searchTermsPredicate) {
+        this.predicate = null;
+        this.searchTermsPredicate = searchTermsPredicate;
     }
 
     @Override
-    public CommandResult execute(Model model) {
+    public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        assert predicate != null;
+        assert predicate != null || searchTermsPredicate != null;
 
-        model.updateFilteredTransactionList(predicate);
+        model.loadAllTransactions();
+        if (searchTermsPredicate != null) {
+            ToIntFunction<Transaction> matchQuality = model.getIndexedMatchQuality(searchTermsPredicate);
+            model.updateFilteredTransactionList(transaction -> matchQuality.applyAsInt(transaction)
+                    != SearchTerm.NO_MATCH, Comparator.comparingInt(matchQuality));
+        } else {
+            model.updateFilteredTransactionList(model.getIndexedPredicate(predicate));
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_TRANSACTIONS_LISTED_OVERVIEW,
                         model.getFilteredTransactionList().size()));
@@ -47,6 +78,7 @@ public class FindCommand extends NonScrollingCommand {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && Objects.equals(predicate, ((FindCommand) other).predicate)
+                && Objects.equals(searchTermsPredicate, ((FindCommand) other).searchTermsPredicate)); // state check
     }
 }
@@ -1,11 +1,23 @@
 package thrift.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static thrift.commons.util.CollectionUtil.requireAllNonNull;
+
+import static thrift.model.transaction.Value.DECIMAL_FORMATTER;
 
 import java.util.Calendar;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import thrift.logic.commands.exceptions.CommandException;
 import thrift.logic.parser.CliSyntax;
 import thrift.model.Model;
+import thrift.model.tag.Tag;
+import thrift.model.tag.TagSet;
+import thrift.model.transaction.Transaction;
+import thrift.model.transaction.TransactionDate;
 
 /**
  * Lists all transactions in THRIFT to the user.
@@ -14,46 +26,130 @@ public class ListCommand extends NonScrollingCommand {
 
     public static final String COMMAND_WORD = "list";
 
+    /** Preamble of a list by tags that lists the transactions with any of the tags instead of all of them. */
+    public static final String KEYWORD_ANY_TAG = "any";
+
     public static final String HELP_MESSAGE = COMMAND_WORD
-            + ": Lists all transactions or lists transactions filtered by month\n"
+            + ": Lists all transactions or lists transactions filtered by month, by date range or by tags\n"
             + "Format: " + COMMAND_WORD + " [" + CliSyntax.PREFIX_MONTH + "MONTH] (must be of format MM/yyyy)\n"
+            + "Format: " + COMMAND_WORD + " [" + CliSyntax.PREFIX_DATE + "START_DATE " + CliSyntax.PREFIX_DATE
+            + "END_DATE] (must be of format dd/MM/yyyy)\n"
+            + "Format: " + COMMAND_WORD + " [" + KEYWORD_ANY_TAG + "] " + CliSyntax.PREFIX_TAG + "TAG ["
+            + CliSyntax.PREFIX_TAG + "MORE_TAGS]...\n"
             + "Possible usages of " + COMMAND_WORD + ": \n"
             + "To list all transactions: " + COMMAND_WORD + "\n"
             + "To list all transactions that were created in January 2019: "
-            + COMMAND_WORD + " " + CliSyntax.PREFIX_MONTH + "01/2019";
+            + COMMAND_WORD + " " + CliSyntax.PREFIX_MONTH + "01/2019\n"
+            + "To list all transactions that were created from 15 January 2019 to 14 February 2019: "
+            + COMMAND_WORD + " " + CliSyntax.PREFIX_DATE + "15/01/2019 " + CliSyntax.PREFIX_DATE + "14/02/2019\n"
+            + "To list all transactions tagged with both Food and Drinks: "
+            + COMMAND_WORD + " " + CliSyntax.PREFIX_TAG + "Food " + CliSyntax.PREFIX_TAG + "Drinks\n"
+            + "To list all transactions tagged with Food, Drinks or both: "
+            + COMMAND_WORD + " " + KEYWORD_ANY_TAG + " " + CliSyntax.PREFIX_TAG + "Food " + CliSyntax.PREFIX_TAG
+            + "Drinks";
 
     public static final String MESSAGE_SUCCESS = "Listed all transactions";
 
     public static final String MESSAGE_SUCCESS_MONTH_FILTER = "Listed transactions in specified month";
 
+    public static final String MESSAGE_SUCCESS_DATE_RANGE_FILTER = "Listed %1$d transactions from %2$s to %3$s";
+
+    public static final String MESSAGE_SUCCESS_TAG_FILTER = "Listed %1$d transactions tagged with %2$s of %3$s";
+
+    public static final String MESSAGE_TAG_MONTH_TOTALS = "\n%1$s in %2$s: expense $%3$s, income $%4$s";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": lists all transactions or list transactions filtered by month.\n"
+            + ": lists all transactions or list transactions filtered by month, by date range or by tags.\n"
             + "Parameters: "
-            + CliSyntax.PREFIX_MONTH + "MONTH (must be of format MM/yyyy)\n"
-            //+ CliSyntax.PREFIX_TAG + "TAG...\n"
+            + CliSyntax.PREFIX_MONTH + "MONTH (must be of format MM/yyyy) or "
+            + CliSyntax.PREFIX_DATE + "START_DATE " + CliSyntax.PREFIX_DATE
+            + "END_DATE (must be of format dd/MM/yyyy) or "
+            + "[" + KEYWORD_ANY_TAG + "] " + CliSyntax.PREFIX_TAG + "TAG [" + CliSyntax.PREFIX_TAG + "MORE_TAGS]...\n"
             + "Example: " + COMMAND_WORD + " " + CliSyntax.PREFIX_MONTH + "01/2019";
 
     private Calendar monthyear;
+    private TransactionDate startDate;
+    private TransactionDate endDate;
+    private Set<Tag> tags;
+    private boolean isMatchingAllTags;
 
     public ListCommand(Calendar monthyear) {
         this.monthyear = monthyear;
     }
 
+    /**
+     * Creates a ListCommand that lists the transactions from {@code startDate} to {@code endDate}, both inclusive.
+     */
+    public ListCommand(TransactionDate startDate, TransactionDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        this.monthyear = null;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    /**
+     * Creates a ListCommand that lists the transactions tagged with every tag in {@code tags} if
+     * {@code isMatchingAllTags}, or with any of them otherwise.
+     */
+    public ListCommand(Set<Tag> tags, boolean isMatchingAllTags) {
+        requireNonNull(tags);
+        this.monthyear = null;
+        this.tags = TagSet.of(tags);
+        this.isMatchingAllTags = isMatchingAllTags;
+    }
+
     public ListCommand() {
         this.monthyear = null;
     }
 
     @Override
-    public CommandResult execute(Model model) {
+    public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        if (this.monthyear == null) {
+        if (this.startDate != null) {
+            model.loadTransactions(startDate.getYearMonth(), endDate.getYearMonth());
+            // The date index already found the transactions in range, so the list only checks membership.
+            List<Transaction> transactionsInRange = model.getTransactionsBetween(startDate, endDate);
+            Set<Transaction> matchingTransactions = new HashSet<>(transactionsInRange);
+            model.updateFilteredTransactionList(matchingTransactions::contains);
+            return new CommandResult(String.format(MESSAGE_SUCCESS_DATE_RANGE_FILTER, transactionsInRange.size(),
+                    startDate, endDate));
+        } else if (this.tags != null) {
+            return listByTags(model);
+        } else if (this.monthyear == null) {
+            model.loadAllTransactions();
             model.updateFilteredTransactionList(Model.PREDICATE_SHOW_ALL_TRANSACTIONS);
             return new CommandResult(MESSAGE_SUCCESS);
         } else {
+            model.loadTransactions(this.monthyear);
             model.setCurrentMonthYear(this.monthyear);
             model.updateFilteredTransactionListToCurrentMonth();
             return new CommandResult(MESSAGE_SUCCESS_MONTH_FILTER);
         }
     }
+
+    /**
+     * Lists the transactions with the tags in {@code model}, and returns their number and the current month's expense
+     * and income of each tag.
+     *
+     * @throws CommandException if the transactions could not be loaded.
+     */
+    private CommandResult listByTags(Model model) throws CommandException {
+        model.loadAllTransactions();
+        // The tag index already found the tagged transactions, so the list only checks membership.
+        List<Transaction> taggedTransactions = model.getTransactionsWithTags(tags, isMatchingAllTags);
+        Set<Transaction> matchingTransactions = new HashSet<>(taggedTransactions);
+        model.updateFilteredTransactionList(matchingTransactions::contains);
+        int count = taggedTransactions.size();
+
+        String tagNames = tags.stream().map(Tag::toString).collect(Collectors.joining(" "));
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS_TAG_FILTER, count,
+                isMatchingAllTags ? "all" : "any", tagNames));
+        for (Tag tag : tags) {
+            message.append(String.format(MESSAGE_TAG_MONTH_TOTALS, tag, model.getCurrentMonthYear(),
+                    DECIMAL_FORMATTER.format(model.getCurrentMonthExpenseForTag(tag)),
+                    DECIMAL_FORMATTER.format(model.getCurrentMonthIncomeForTag(tag))));
+        }
+        return new CommandResult(message.toString());
+    }
 }
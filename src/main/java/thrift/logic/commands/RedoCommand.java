@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import thrift.logic.commands.exceptions.CommandException;
 import thrift.model.Model;
+import thrift.model.transaction.exceptions.TransactionNotFoundException;
 
 /**
  * Redo undone command in THRIFT.
@@ -23,11 +24,19 @@ public class RedoCommand extends NonScrollingCommand {
 
     public static final String NO_REDOABLE_COMMAND = "No valid command to redo";
 
+    public static final String MESSAGE_HISTORY_MISMATCH = "The command to redo changed transactions that are "
+            + "no longer there, so it cannot be redone.";
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         Undoable undoable = model.getUndoneCommand();
-        String outputMessage = undoable.redo(model);
+        String outputMessage;
+        try {
+            outputMessage = undoable.redo(model);
+        } catch (TransactionNotFoundException e) {
+            throw new CommandException(MESSAGE_HISTORY_MISMATCH, e);
+        }
         return new CommandResult(MESSAGE_SUCCESS + "\n" + outputMessage);
     }
 }
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import thrift.logic.commands.exceptions.CommandException;
 import thrift.model.Model;
+import thrift.model.transaction.exceptions.TransactionNotFoundException;
 
 /**
  * Undo the previous undoable command in THRIFT.
@@ -23,11 +24,19 @@ public class UndoCommand extends NonScrollingCommand {
 
     public static final String NO_UNDOABLE_COMMAND = "No valid command to undo.";
 
+    public static final String MESSAGE_HISTORY_MISMATCH = "The command to undo changed transactions that are "
+            + "no longer there, so it cannot be undone.";
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         Undoable command = model.getPreviousUndoableCommand();
-        String outputMessage = command.undo(model);
+        String outputMessage;
+        try {
+            outputMessage = command.undo(model);
+        } catch (TransactionNotFoundException e) {
+            throw new CommandException(MESSAGE_HISTORY_MISMATCH, e);
+        }
         return new CommandResult(MESSAGE_SUCCESS + "\n" + outputMessage);
     }
 }
@@ -1,6 +1,7 @@
 package thrift.logic.commands;
 
 import thrift.model.Model;
+import thrift.model.undo.UndoRecord;
 
 /**
  * Allows the command to perform undo and redo.
@@ -24,4 +25,18 @@ public interface Undoable {
      * @return feedback message of the operation result for display.
      */
     String redo(Model model);
+
+    /**
+     * Returns the changes this command made to the model, with the messages of its undo and redo, as a record that
+     * can be undone and redone in its place and kept outside of memory. <br>
+     * Must only be called once the command has been executed.
+     */
+    UndoRecord toUndoRecord();
+
+    /**
+     * Returns the number of transactions and budgets this command changed, as a measure of the memory it keeps.
+     */
+    default int getEditCount() {
+        return 1;
+    }
 }
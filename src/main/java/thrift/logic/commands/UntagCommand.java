@@ -20,6 +20,8 @@ import thrift.model.transaction.Remark;
 import thrift.model.transaction.Transaction;
 import thrift.model.transaction.TransactionDate;
 import thrift.model.transaction.Value;
+import thrift.model.undo.TransactionEdit;
+import thrift.model.undo.UndoRecord;
 import thrift.ui.TransactionListPanel;
 
 /**
@@ -180,4 +182,12 @@ public class UntagCommand extends ScrollingCommand implements Undoable {
         model.setTransactionWithIndex(actualIndex, updatedTransaction);
         return String.format(REDO_SUCCESS, updatedTransaction, transactionToTag);
     }
+
+    @Override
+    public UndoRecord toUndoRecord() {
+        requireAllNonNull(actualIndex, updatedTransaction, transactionToTag);
+        return new UndoRecord(TransactionEdit.replace(actualIndex, transactionToTag, updatedTransaction),
+                String.format(UNDO_SUCCESS, transactionToTag, updatedTransaction),
+                String.format(REDO_SUCCESS, updatedTransaction, transactionToTag));
+    }
 }
@@ -25,6 +25,8 @@ import thrift.model.transaction.Remark;
 import thrift.model.transaction.Transaction;
 import thrift.model.transaction.TransactionDate;
 import thrift.model.transaction.Value;
+import thrift.model.undo.TransactionEdit;
+import thrift.model.undo.UndoRecord;
 import thrift.ui.TransactionListPanel;
 
 /**
@@ -185,6 +187,14 @@ public class UpdateCommand extends ScrollingCommand implements Undoable {
         return String.format(REDO_SUCCESS, updatedTransaction, transactionToUpdate);
     }
 
+    @Override
+    public UndoRecord toUndoRecord() {
+        requireAllNonNull(actualIndex, updatedTransaction, transactionToUpdate);
+        return new UndoRecord(TransactionEdit.replace(actualIndex, transactionToUpdate, updatedTransaction),
+                String.format(UNDO_SUCCESS, transactionToUpdate, updatedTransaction),
+                String.format(REDO_SUCCESS, updatedTransaction, transactionToUpdate));
+    }
+
     /**
      * Stores the details to update the transaction with. Each non-empty field value will replace the
      * corresponding field value of the transaction.
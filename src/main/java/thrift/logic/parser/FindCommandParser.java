@@ -1,11 +1,15 @@
 package thrift.logic.parser;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import thrift.commons.core.Messages;
 import thrift.logic.commands.FindCommand;
 import thrift.logic.parser.exceptions.ParseException;
 import thrift.model.transaction.DescriptionOrRemarkContainsKeywordsPredicate;
+import thrift.model.transaction.DescriptionOrRemarkMatchesSearchTermsPredicate;
+import thrift.model.transaction.SearchTerm;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -27,7 +31,11 @@ public class FindCommandParser implements Parser<FindCommand> {
         String[] nameKeywords = trimmedArgs.split("\\s+");
         assert nameKeywords[0] != null;
 
-        return new FindCommand(new DescriptionOrRemarkContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        if (Arrays.stream(nameKeywords).noneMatch(SearchTerm::hasMarker)) {
+            return new FindCommand(new DescriptionOrRemarkContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        }
+        List<SearchTerm> searchTerms = Arrays.stream(nameKeywords).map(SearchTerm::new).collect(Collectors.toList());
+        return new FindCommand(new DescriptionOrRemarkMatchesSearchTermsPredicate(searchTerms));
     }
 
 }
@@ -1,11 +1,15 @@
 package thrift.logic.parser;
 
 import java.util.Calendar;
+import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import thrift.commons.core.Messages;
 import thrift.logic.commands.ListCommand;
 import thrift.logic.parser.exceptions.ParseException;
+import thrift.model.tag.Tag;
+import thrift.model.transaction.TransactionDate;
 
 /**
  * Parses input arguments and creates a new ListCommand object
@@ -13,6 +17,8 @@ import thrift.logic.parser.exceptions.ParseException;
 public class ListCommandParser implements Parser<ListCommand> {
 
     //this string will be used if i use ParserUtil#parseMonth in the future.
+    public static final String MESSAGE_INVALID_DATE_RANGE = "Start date must not be after end date!";
+
     public static final String MESSAGE_INVALID_MONTH_FORMAT = "Invalid month format! "
             + CliSyntax.PREFIX_MONTH + "MONTH (must be of format MM/yyyy)\n + MM should be between 01 to 12";
 
@@ -23,7 +29,15 @@ public class ListCommandParser implements Parser<ListCommand> {
      */
     public ListCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, CliSyntax.PREFIX_MONTH);
+                ArgumentTokenizer.tokenize(args, CliSyntax.PREFIX_MONTH, CliSyntax.PREFIX_DATE, CliSyntax.PREFIX_TAG);
+
+        if (arePrefixesPresent(argMultimap, CliSyntax.PREFIX_TAG)) {
+            return getTagCommand(argMultimap);
+        }
+
+        if (arePrefixesPresent(argMultimap, CliSyntax.PREFIX_DATE)) {
+            return getDateRangeCommand(argMultimap);
+        }
 
         if (!arePrefixesPresent(argMultimap, CliSyntax.PREFIX_MONTH)
                 && !args.isEmpty()) {
@@ -47,6 +61,47 @@ public class ListCommandParser implements Parser<ListCommand> {
         }
     }
 
+    /**
+     * Returns a ListCommand for the date range given by the two {@code PREFIX_DATE} values in {@code argMultimap}.
+     *
+     * @throws ParseException if there is not exactly one start date and one end date, or the range is invalid.
+     */
+    private ListCommand getDateRangeCommand(ArgumentMultimap argMultimap) throws ParseException {
+        List<String> dates = argMultimap.getAllValues(CliSyntax.PREFIX_DATE);
+        if (dates.size() != 2 || arePrefixesPresent(argMultimap, CliSyntax.PREFIX_MONTH)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                    ListCommand.MESSAGE_USAGE));
+        }
+
+        TransactionDate startDate = ParserUtil.parseTransactionDate(dates.get(0));
+        TransactionDate endDate = ParserUtil.parseTransactionDate(dates.get(1));
+        if (startDate.getEpochDay() > endDate.getEpochDay()) {
+            throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+        }
+        return new ListCommand(startDate, endDate);
+    }
+
+    /**
+     * Returns a ListCommand for the tags given by the {@code PREFIX_TAG} values in {@code argMultimap}, which lists the
+     * transactions with any of the tags if the preamble is {@link ListCommand#KEYWORD_ANY_TAG}, or with all of them if
+     * there is no preamble.
+     *
+     * @throws ParseException if there is any other preamble or prefix, or a tag is invalid.
+     */
+    private ListCommand getTagCommand(ArgumentMultimap argMultimap) throws ParseException {
+        String preamble = argMultimap.getPreamble();
+        if (arePrefixesPresent(argMultimap, CliSyntax.PREFIX_MONTH)
+                || arePrefixesPresent(argMultimap, CliSyntax.PREFIX_DATE)
+                || !(preamble.isEmpty() || preamble.equals(ListCommand.KEYWORD_ANY_TAG))) {
+            throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                    ListCommand.MESSAGE_USAGE));
+        }
+
+        Set<Tag> tags = ParserUtil.parseTags(argMultimap.getAllValues(CliSyntax.PREFIX_TAG));
+        return new ListCommand(tags, preamble.isEmpty());
+    }
+
     /**
      * This methods checks if the required prefixes are present in the {@code ArgumentMultimap}.
      *
@@ -17,10 +17,12 @@ import thrift.commons.util.StringUtil;
 import thrift.logic.parser.exceptions.ParseException;
 import thrift.model.clone.Occurrence;
 import thrift.model.tag.Tag;
+import thrift.model.tag.TagDictionary;
 import thrift.model.transaction.Budget;
 import thrift.model.transaction.BudgetValue;
 import thrift.model.transaction.Description;
 import thrift.model.transaction.Remark;
+import thrift.model.transaction.TransactionDate;
 import thrift.model.transaction.Value;
 import thrift.model.util.CurrencyUtil;
 
@@ -78,6 +80,21 @@ public class ParserUtil {
         return date;
     }
 
+    /**
+     * Parses a {@code String date} of format dd/MM/yyyy into a {@code TransactionDate} and returns it.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code date} is invalid.
+     */
+    public static TransactionDate parseTransactionDate(String date) throws ParseException {
+        requireNonNull(date);
+        String trimmedDate = date.trim();
+        if (!TransactionDate.isValidDate(trimmedDate)) {
+            throw new ParseException(TransactionDate.DATE_CONSTRAINTS);
+        }
+        return new TransactionDate(trimmedDate);
+    }
+
     /**
      * Parses a {@code String value} into a {@code Value} and returns it.
      * Leading and trailing whitespaces will be trimmed.
@@ -130,7 +147,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return TagDictionary.intern(trimmedTag);
     }
 
     /**
@@ -1,19 +1,30 @@
 package thrift.model;
 
 import java.nio.file.Path;
+import java.time.YearMonth;
 import java.util.Calendar;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 
 import javafx.collections.ObservableList;
 import thrift.commons.core.GuiSettings;
 import thrift.commons.core.index.Index;
 import thrift.logic.commands.Undoable;
 import thrift.logic.commands.exceptions.CommandException;
+import thrift.model.tag.Tag;
 import thrift.model.transaction.Budget;
+import thrift.model.transaction.DescriptionOrRemarkContainsKeywordsPredicate;
+import thrift.model.transaction.DescriptionOrRemarkMatchesSearchTermsPredicate;
 import thrift.model.transaction.Expense;
 import thrift.model.transaction.Income;
 import thrift.model.transaction.Transaction;
+import thrift.model.transaction.TransactionDate;
 
 /**
  * The API of the Model component.
@@ -60,6 +71,18 @@ public interface Model {
     /** Returns THRIFT */
     ReadOnlyThrift getThrift();
 
+    /**
+     * Returns an unchanging snapshot of the THRIFT data as it is now, with its version. Unlike the rest of the model,
+     * this may be called from any thread, so that background workers can read the data while it keeps changing.
+     */
+    ReadOnlyThrift getThriftSnapshot();
+
+    /**
+     * Adds {@code observer}, which is given the latest snapshot of the THRIFT data on the JavaFX application thread
+     * after every burst of changes from now on.
+     */
+    void addThriftSnapshotObserver(Consumer<? super ReadOnlyThrift> observer);
+
     /**
      * Returns true if a transaction with the same identity as {@code transaction} exists in the transactions list.
      */
@@ -91,6 +114,25 @@ public interface Model {
      */
     Transaction deleteLastTransaction();
 
+    /**
+     * Deletes the transactions at the given indices of the full transaction list as a single change.
+     *
+     * @return deleted transactions, in the order of the full transaction list.
+     */
+    List<Transaction> deleteTransactions(List<Index> indices);
+
+    /**
+     * Deletes the last {@code count} transactions in the full transaction list as a single change.
+     *
+     * @return deleted transactions, in the order of the full transaction list.
+     */
+    List<Transaction> deleteLastTransactions(int count);
+
+    /**
+     * Adds the given transactions to the end of the full transaction list, in their order, as a single change.
+     */
+    void addTransactions(List<Transaction> transactions);
+
     /**
      * Adds the given expense.
      */
@@ -138,6 +180,12 @@ public interface Model {
      */
     void setTransactionWithIndex(Index actualIndex, Transaction updatedTransaction);
 
+    /**
+     * Replaces the transaction at each index of {@code updatedTransactions} with the transaction it maps to, as a
+     * single change. Every index must be valid.
+     */
+    void setTransactionsWithIndex(Map<Index, Transaction> updatedTransactions);
+
     /** Returns the current month and year in MMM yyyy format. */
     String getCurrentMonthYear();
 
@@ -149,9 +197,54 @@ public interface Model {
     /** Returns the current month's budget. */
     double getCurrentMonthBudget();
 
+    /**
+     * Loads the transactions of the month of {@code monthYear} from storage, if they have not been loaded yet.
+     *
+     * @throws CommandException if the transactions could not be loaded.
+     */
+    void loadTransactions(Calendar monthYear) throws CommandException;
+
+    /**
+     * Loads the transactions of the months from {@code startMonth} to {@code endMonth}, both inclusive, from storage,
+     * if they have not been loaded yet.
+     *
+     * @throws CommandException if the transactions could not be loaded.
+     */
+    void loadTransactions(YearMonth startMonth, YearMonth endMonth) throws CommandException;
+
+    /**
+     * Loads the transactions of every month that has not been loaded yet from storage.
+     *
+     * @throws CommandException if the transactions could not be loaded.
+     */
+    void loadAllTransactions() throws CommandException;
+
     /** Returns an unmodifiable view of the filtered transaction list */
     ObservableList<Transaction> getFilteredTransactionList();
 
+    /**
+     * Returns the transactions from {@code startDate} to {@code endDate}, both inclusive, ordered by date.
+     */
+    List<Transaction> getTransactionsBetween(TransactionDate startDate, TransactionDate endDate);
+
+    /**
+     * Returns the transactions tagged with every tag in {@code tags} if {@code isMatchingAll}, or with any of them
+     * otherwise, in the order of the transaction list.
+     */
+    List<Transaction> getTransactionsWithTags(Set<Tag> tags, boolean isMatchingAll);
+
+    /**
+     * Returns a predicate that matches the same transactions as {@code predicate}, but looks the keywords up in an
+     * index of the words of the transactions instead of going through their descriptions and remarks.
+     */
+    Predicate<Transaction> getIndexedPredicate(DescriptionOrRemarkContainsKeywordsPredicate predicate);
+
+    /**
+     * Returns a function that gives the same match quality as {@code predicate}, but looks the matching words up in
+     * an index of the words of the transactions instead of going through their descriptions and remarks.
+     */
+    ToIntFunction<Transaction> getIndexedMatchQuality(DescriptionOrRemarkMatchesSearchTermsPredicate predicate);
+
     /** Filters the view of the transaction list to only show transactions that occur in the current month. */
     void updateFilteredTransactionListToCurrentMonth();
 
@@ -162,6 +255,14 @@ public interface Model {
      */
     void updateFilteredTransactionList(Predicate<Transaction> predicate);
 
+    /**
+     * Updates the filter of the filtered transaction list to filter by the given {@code predicate}, and orders the
+     * transactions shown by {@code ranking} instead of by their order in THRIFT, until the filter is next updated.
+     *
+     * @throws NullPointerException if {@code predicate} or {@code ranking} is null.
+     */
+    void updateFilteredTransactionList(Predicate<Transaction> predicate, Comparator<Transaction> ranking);
+
     /**
      * Updates the balance tracked by the model by summing values from the {@code Transaction} in the filteredList.
      */
@@ -192,6 +293,16 @@ public interface Model {
      */
     double getIncome();
 
+    /**
+     * Returns the current month's expense of the transactions tagged with {@code tag}.
+     */
+    double getCurrentMonthExpenseForTag(Tag tag);
+
+    /**
+     * Returns the current month's income of the transactions tagged with {@code tag}.
+     */
+    double getCurrentMonthIncomeForTag(Tag tag);
+
     /**
      * Returns if {@code transaction} is currently in {@code FilteredList<Transaction>}.
      */
@@ -1,28 +1,53 @@
 package thrift.model;
 
 import static java.util.Objects.requireNonNull;
+import static thrift.commons.util.AppUtil.checkArgument;
 import static thrift.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.IOException;
 import java.nio.file.Path;
-import java.text.SimpleDateFormat;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import thrift.commons.core.GuiSettings;
 import thrift.commons.core.LogsCenter;
+import thrift.commons.core.Messages;
 import thrift.commons.core.index.Index;
+import thrift.commons.exceptions.DataConversionException;
 import thrift.commons.util.CollectionUtil;
 import thrift.logic.commands.Undoable;
 import thrift.logic.commands.exceptions.CommandException;
+import thrift.model.tag.Tag;
 import thrift.model.transaction.Budget;
+import thrift.model.transaction.DescriptionOrRemarkContainsKeywordsPredicate;
+import thrift.model.transaction.DescriptionOrRemarkMatchesSearchTermsPredicate;
 import thrift.model.transaction.Expense;
 import thrift.model.transaction.Income;
 import thrift.model.transaction.Transaction;
+import thrift.model.transaction.TransactionDate;
 import thrift.model.transaction.TransactionIsInMonthYearPredicate;
+import thrift.model.util.MoneyUtil;
+import thrift.model.util.PackedDateUtil;
 
 /**
  * Represents the in-memory model of the THRIFT data.
@@ -30,30 +55,51 @@ import thrift.model.transaction.TransactionIsInMonthYearPredicate;
 public class ModelManager implements Model {
 
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    private static final DateTimeFormatter MONTH_YEAR_FORMATTER = DateTimeFormatter.ofPattern("MMMM yyyy");
 
     private final Thrift thrift;
     private final UserPrefs userPrefs;
     private final FilteredList<Transaction> filteredTransactions;
+    private final SortedList<Transaction> rankedTransactions;
     private final PastUndoableCommands pastUndoableCommands;
-    private Calendar currentMonthYear;
+    private final TransactionLoader transactionLoader;
+    private final ThriftSnapshotPublisher snapshotPublisher;
+    private int currentPackedYearMonth;
     private double balance;
     private double expense;
     private double income;
 
     /**
      * Initializes a ModelManager with the given thrift, userPrefs and pastUndoableCommands.
+     * The unloaded months of {@code thrift}, if any, cannot be loaded.
      */
     public ModelManager(ReadOnlyThrift thrift, ReadOnlyUserPrefs userPrefs, PastUndoableCommands pastUndoableCommands) {
+        this(thrift, userPrefs, pastUndoableCommands, month -> {
+            throw new IOException("No storage to load the transactions of " + month + " from");
+        });
+    }
+
+    /**
+     * Initializes a ModelManager with the given thrift, userPrefs and pastUndoableCommands, which loads the unloaded
+     * months of {@code thrift} with {@code transactionLoader}.
+     */
+    public ModelManager(ReadOnlyThrift thrift, ReadOnlyUserPrefs userPrefs, PastUndoableCommands pastUndoableCommands,
+            TransactionLoader transactionLoader) {
         super();
-        requireAllNonNull(thrift, userPrefs);
+        requireAllNonNull(thrift, userPrefs, transactionLoader);
 
         logger.fine("Initializing with THRIFT: " + thrift + " and user prefs " + userPrefs);
 
         this.thrift = new Thrift(thrift);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredTransactions = new FilteredList<>(this.thrift.getTransactionList());
+        rankedTransactions = new SortedList<>(filteredTransactions);
+        snapshotPublisher = new ThriftSnapshotPublisher(this.thrift);
+        this.thrift.getTransactionList().addListener((ListChangeListener<Transaction>) unused ->
+                snapshotPublisher.publish());
         this.pastUndoableCommands = pastUndoableCommands;
-        currentMonthYear = Calendar.getInstance();
+        this.transactionLoader = transactionLoader;
+        currentPackedYearMonth = PackedDateUtil.toPackedYearMonth(Calendar.getInstance());
         balance = 0;
         expense = 0;
     }
@@ -102,6 +148,7 @@ public class ModelManager implements Model {
     @Override
     public void setThrift(ReadOnlyThrift thrift) {
         this.thrift.resetData(thrift);
+        snapshotPublisher.publish();
     }
 
     @Override
@@ -109,6 +156,16 @@ public class ModelManager implements Model {
         return thrift;
     }
 
+    @Override
+    public ReadOnlyThrift getThriftSnapshot() {
+        return thrift.getSnapshot();
+    }
+
+    @Override
+    public void addThriftSnapshotObserver(Consumer<? super ReadOnlyThrift> observer) {
+        snapshotPublisher.addObserver(observer);
+    }
+
     @Override
     public boolean hasTransaction(Transaction t) {
         requireNonNull(t);
@@ -135,36 +192,66 @@ public class ModelManager implements Model {
         return thrift.removeLastTransaction();
     }
 
+    @Override
+    public List<Transaction> deleteTransactions(List<Index> indices) {
+        return thrift.removeTransactionsByIndex(indices);
+    }
+
+    @Override
+    public List<Transaction> deleteLastTransactions(int count) {
+        int size = thrift.getTransactionList().size();
+        checkArgument(count >= 0 && count <= size, "Cannot delete " + count + " of " + size + " transactions");
+        List<Index> indices = IntStream.range(size - count, size)
+                .mapToObj(Index::fromZeroBased)
+                .collect(Collectors.toList());
+        return thrift.removeTransactionsByIndex(indices);
+    }
+
+    @Override
+    public void addTransactions(List<Transaction> transactions) {
+        loadMonthsOf(transactions, Collections.emptyList());
+        thrift.addTransactions(transactions);
+    }
+
     @Override
     public void addExpense(Expense expense) {
+        loadMonthsOf(Collections.singletonList(expense), Collections.emptyList());
         thrift.addTransaction(expense);
     }
 
     @Override
     public void addExpense(Expense expense, Index index) {
-        thrift.addTransaction(expense, index);
+        thrift.addTransaction(expense, loadMonthsOf(Collections.singletonList(expense), List.of(index)).get(0));
     }
 
     @Override
     public void addIncome(Income income) {
+        loadMonthsOf(Collections.singletonList(income), Collections.emptyList());
         thrift.addTransaction(income);
     }
 
     @Override
     public void addIncome(Income income, Index index) {
-        thrift.addTransaction(income, index);
+        thrift.addTransaction(income, loadMonthsOf(Collections.singletonList(income), List.of(index)).get(0));
     }
 
     @Override
     public String getCurrentMonthYear() {
-        return new SimpleDateFormat("MMMMM yyyy").format(currentMonthYear.getTime());
+        return MONTH_YEAR_FORMATTER.format(getCurrentYearMonth());
     }
 
     @Override
     public double getCurrentMonthBudget() {
-        Optional<Budget> optBudget = thrift.getBudgetList().getBudgetForMonthYear(currentMonthYear);
+        return MoneyUtil.toUnits(getCurrentMonthBudgetCents());
+    }
+
+    /**
+     * Returns the budget of the current month in cents, or 0 if it has no budget.
+     */
+    private long getCurrentMonthBudgetCents() {
+        Optional<Budget> optBudget = thrift.getBudgetList().getBudgetForMonthYear(currentPackedYearMonth);
         if (optBudget.isPresent()) {
-            return optBudget.get().getBudgetValue().getMonetaryValue();
+            return optBudget.get().getBudgetValue().getCents();
         } else {
             return 0;
         }
@@ -173,18 +260,22 @@ public class ModelManager implements Model {
     @Override
     public Optional<Budget> setBudget(Budget budget) {
         requireNonNull(budget);
-        return thrift.setBudget(budget);
+        Optional<Budget> replacedBudget = thrift.setBudget(budget);
+        snapshotPublisher.publish();
+        return replacedBudget;
     }
 
     @Override
     public void resetBudgetForThatMonth(Budget budget) {
         requireNonNull(budget);
         thrift.removeBudget(budget);
+        snapshotPublisher.publish();
     }
 
     @Override
     public void setTransaction(Transaction target, Transaction updatedTransaction) {
         CollectionUtil.requireAllNonNull(target, updatedTransaction);
+        loadMonthsOf(Collections.singletonList(updatedTransaction), Collections.emptyList());
         thrift.setTransaction(target, updatedTransaction);
         updateBalanceForCurrentMonth();
     }
@@ -192,13 +283,102 @@ public class ModelManager implements Model {
     @Override
     public void setTransactionWithIndex(Index actualIndex, Transaction updatedTransaction) {
         CollectionUtil.requireAllNonNull(actualIndex, updatedTransaction);
-        thrift.setTransactionWithIndex(actualIndex, updatedTransaction);
+        Index index = loadMonthsOf(Collections.singletonList(updatedTransaction), List.of(actualIndex)).get(0);
+        thrift.setTransactionWithIndex(index, updatedTransaction);
+        updateBalanceForCurrentMonth();
+    }
+
+    @Override
+    public void setTransactionsWithIndex(Map<Index, Transaction> updatedTransactions) {
+        requireNonNull(updatedTransactions);
+        List<Index> indices = new ArrayList<>(updatedTransactions.keySet());
+        List<Index> movedIndices = loadMonthsOf(updatedTransactions.values(), indices);
+        Map<Index, Transaction> movedTransactions = new HashMap<>();
+        for (int i = 0; i < indices.size(); i++) {
+            movedTransactions.put(movedIndices.get(i), updatedTransactions.get(indices.get(i)));
+        }
+        thrift.replaceTransactions(movedTransactions);
         updateBalanceForCurrentMonth();
     }
 
     @Override
     public void setCurrentMonthYear(Calendar monthYear) {
-        this.currentMonthYear = monthYear;
+        requireNonNull(monthYear);
+        this.currentPackedYearMonth = PackedDateUtil.toPackedYearMonth(monthYear);
+    }
+
+    @Override
+    public void loadTransactions(Calendar monthYear) throws CommandException {
+        requireNonNull(monthYear);
+        YearMonth month = PackedDateUtil.toYearMonth(PackedDateUtil.toPackedYearMonth(monthYear));
+        if (thrift.getUnloadedMonths().contains(month)) {
+            loadTransactions(month);
+        }
+    }
+
+    /**
+     * Loads the transactions of {@code month}, which must be one of the unloaded months, into THRIFT.
+     *
+     * @return the index of the transaction list the loaded transactions are placed at.
+     * @throws CommandException if the transactions could not be loaded.
+     */
+    private Index loadTransactions(YearMonth month) throws CommandException {
+        logger.info("Loading transactions of " + month);
+        try {
+            return thrift.addLoadedTransactions(month, transactionLoader.loadTransactions(month));
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Problem while loading transactions of " + month + ": " + e);
+            throw new CommandException(String.format(Messages.MESSAGE_TRANSACTIONS_NOT_LOADED, month), e);
+        }
+    }
+
+    @Override
+    public void loadTransactions(YearMonth startMonth, YearMonth endMonth) throws CommandException {
+        requireAllNonNull(startMonth, endMonth);
+        List<YearMonth> months = new ArrayList<>(thrift.getUnloadedMonths());
+        Collections.reverse(months);
+        for (YearMonth month : months) {
+            if (!month.isBefore(startMonth) && !month.isAfter(endMonth)) {
+                loadTransactions(month);
+            }
+        }
+    }
+
+    @Override
+    public void loadAllTransactions() throws CommandException {
+        List<YearMonth> months = new ArrayList<>(thrift.getUnloadedMonths());
+        Collections.reverse(months);
+        for (YearMonth month : months) {
+            loadTransactions(month);
+        }
+    }
+
+    /**
+     * Loads the unloaded months of {@code transactions}, which are about to be added to THRIFT, so that they are not
+     * added to a month whose stored transactions THRIFT does not hold, and returns {@code indices} of the transaction
+     * list moved past the transactions loaded at or before them. A month that cannot be loaded is left unloaded, in
+     * which case the storage keeps its stored transactions before the added ones.
+     */
+    private List<Index> loadMonthsOf(Collection<? extends Transaction> transactions, List<Index> indices) {
+        List<Index> movedIndices = new ArrayList<>(indices);
+        for (Transaction transaction : transactions) {
+            YearMonth month = transaction.getDate().getYearMonth();
+            if (!thrift.getUnloadedMonths().contains(month)) {
+                continue;
+            }
+            int sizeBeforeLoading = thrift.getTransactionList().size();
+            Index loadedIndex;
+            try {
+                loadedIndex = loadTransactions(month);
+            } catch (CommandException e) {
+                continue; // already logged, and the storage keeps the stored transactions of the month
+            }
+            int loadedCount = thrift.getTransactionList().size() - sizeBeforeLoading;
+            movedIndices.replaceAll(index -> index.getZeroBased() < loadedIndex.getZeroBased()
+                    ? index
+                    : Index.fromZeroBased(index.getZeroBased() + loadedCount));
+        }
+        return movedIndices;
     }
 
     //=========== Filtered Transaction List Accessors =============================================================
@@ -208,44 +388,66 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Transaction> getFilteredTransactionList() {
-        return filteredTransactions;
+        return rankedTransactions;
+    }
+
+    @Override
+    public List<Transaction> getTransactionsBetween(TransactionDate startDate, TransactionDate endDate) {
+        return thrift.getTransactionsBetween(startDate, endDate);
+    }
+
+    @Override
+    public List<Transaction> getTransactionsWithTags(Set<Tag> tags, boolean isMatchingAll) {
+        requireNonNull(tags);
+        return thrift.getTransactionsWithTags(tags, isMatchingAll);
+    }
+
+    @Override
+    public Predicate<Transaction> getIndexedPredicate(DescriptionOrRemarkContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return thrift.getIndexedPredicate(predicate);
+    }
+
+    @Override
+    public ToIntFunction<Transaction> getIndexedMatchQuality(DescriptionOrRemarkMatchesSearchTermsPredicate predicate) {
+        requireNonNull(predicate);
+        return thrift.getIndexedMatchQuality(predicate);
     }
 
     /** Filters the view of the transaction list to only show transactions that occur in the current month. */
     @Override
     public void updateFilteredTransactionListToCurrentMonth() {
-        filteredTransactions.setPredicate(new TransactionIsInMonthYearPredicate(currentMonthYear));
+        updateFilteredTransactionList(new TransactionIsInMonthYearPredicate(currentPackedYearMonth));
         updateBalanceForCurrentMonth();
     }
 
     @Override
     public void updateFilteredTransactionList(Predicate<Transaction> predicate) {
         requireNonNull(predicate);
+        rankedTransactions.setComparator(null);
         filteredTransactions.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredTransactionList(Predicate<Transaction> predicate, Comparator<Transaction> ranking) {
+        requireAllNonNull(predicate, ranking);
+        filteredTransactions.setPredicate(predicate);
+        rankedTransactions.setComparator(ranking);
+    }
+
+    /**
+     * Returns the month of {@code currentPackedYearMonth}.
+     */
+    private YearMonth getCurrentYearMonth() {
+        return PackedDateUtil.toYearMonth(currentPackedYearMonth);
+    }
+
     @Override
     public void updateBalanceForCurrentMonth() {
-        //If transaction does not belong to current displayed month, don't update the balance.
         logger.info("Original balance: " + balance);
-        balance = getCurrentMonthBudget() + thrift.getTransactionList().stream()
-                .filter(t -> {
-                    Calendar temp = Calendar.getInstance();
-                    temp.setTime(t.getDate().getDate());
-                    if (temp.get(Calendar.MONTH) != currentMonthYear.get(Calendar.MONTH)
-                            || temp.get(Calendar.YEAR) != currentMonthYear.get(Calendar.YEAR)) {
-                        return false;
-                    }
-                    return true;
-                })
-                .mapToDouble(t -> {
-                    double value = t.getValue().getMonetaryValue();
-                    if (t instanceof Expense) {
-                        return value * -1;
-                    }
-                    return value;
-                })
-                .sum();
+        YearMonth month = getCurrentYearMonth();
+        balance = MoneyUtil.toUnits(getCurrentMonthBudgetCents() + thrift.getIncomeCentsForMonth(month)
+                - thrift.getExpenseCentsForMonth(month));
         logger.info("Updated balance: " + balance);
     }
 
@@ -256,21 +458,8 @@ public class ModelManager implements Model {
 
     @Override
     public void updateExpenseForCurrentMonth() {
-        //If transaction does not belong to current displayed month and not an expense, don't update the expense.
         logger.info("Original expense: " + expense);
-        expense = thrift.getTransactionList().stream()
-                .filter(t -> {
-                    Calendar temp = Calendar.getInstance();
-                    temp.setTime(t.getDate().getDate());
-                    if (temp.get(Calendar.MONTH) != currentMonthYear.get(Calendar.MONTH)
-                            || temp.get(Calendar.YEAR) != currentMonthYear.get(Calendar.YEAR)
-                            || t instanceof Income) {
-                        return false;
-                    }
-                    return true;
-                })
-                .mapToDouble(t -> t.getValue().getMonetaryValue())
-                .sum();
+        expense = MoneyUtil.toUnits(thrift.getExpenseCentsForMonth(getCurrentYearMonth()));
         logger.info("Updated expense: " + expense);
     }
 
@@ -281,21 +470,8 @@ public class ModelManager implements Model {
 
     @Override
     public void updateIncomeForCurrentMonth() {
-        //If transaction does not belong to current displayed month and not an income, don't update the income.
         logger.info("Original income: " + income);
-        income = thrift.getTransactionList().stream()
-                .filter(t -> {
-                    Calendar temp = Calendar.getInstance();
-                    temp.setTime(t.getDate().getDate());
-                    if (temp.get(Calendar.MONTH) != currentMonthYear.get(Calendar.MONTH)
-                            || temp.get(Calendar.YEAR) != currentMonthYear.get(Calendar.YEAR)
-                            || t instanceof Expense) {
-                        return false;
-                    }
-                    return true;
-                })
-                .mapToDouble(t -> t.getValue().getMonetaryValue())
-                .sum();
+        income = MoneyUtil.toUnits(thrift.getIncomeCentsForMonth(getCurrentYearMonth()));
         logger.info("Updated income: " + income);
     }
 
@@ -304,6 +480,18 @@ public class ModelManager implements Model {
         return income;
     }
 
+    @Override
+    public double getCurrentMonthExpenseForTag(Tag tag) {
+        requireNonNull(tag);
+        return MoneyUtil.toUnits(thrift.getExpenseCentsForTagAndMonth(tag, getCurrentYearMonth()));
+    }
+
+    @Override
+    public double getCurrentMonthIncomeForTag(Tag tag) {
+        requireNonNull(tag);
+        return MoneyUtil.toUnits(thrift.getIncomeCentsForTagAndMonth(tag, getCurrentYearMonth()));
+    }
+
     @Override
     public boolean isInView(Transaction transaction) {
         return filteredTransactions.contains(transaction);
@@ -325,7 +513,7 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return thrift.equals(other.thrift)
                 && userPrefs.equals(other.userPrefs)
-                && filteredTransactions.equals(other.filteredTransactions);
+                && rankedTransactions.equals(other.rankedTransactions);
     }
 
     //=========== Past Commands History =============================================================
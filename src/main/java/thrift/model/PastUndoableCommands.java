@@ -1,23 +1,63 @@
 package thrift.model;
 
-import java.util.Stack;
+import static java.util.Objects.requireNonNull;
+import static thrift.commons.util.AppUtil.checkArgument;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.logging.Logger;
+
+import thrift.commons.core.LogsCenter;
+import thrift.commons.exceptions.DataConversionException;
+import thrift.commons.util.StringUtil;
 import thrift.logic.commands.RedoCommand;
 import thrift.logic.commands.UndoCommand;
 import thrift.logic.commands.Undoable;
 import thrift.logic.commands.exceptions.CommandException;
+import thrift.model.undo.UndoRecord;
+import thrift.model.undo.UndoRecordStore;
 
 /**
- * Stores all the past undoable commands executed by the user.
+ * Stores all the past undoable commands executed by the user. <br>
+ * The undo and redo histories can each be backed by an {@link UndoRecordStore}, such as a file next to the data file,
+ * which every command is written through to as an {@link UndoRecord} when it is pushed, so that the histories are kept
+ * across sessions. Only the newest commands, at most a given number of them holding at most a given number of
+ * transactions, are also kept in memory; older ones are read back from the store a batch at a time once the user
+ * undoes or redoes past the commands in memory. A history restored from an earlier session is thus not read at all
+ * until the user first undoes or redoes.
  */
 public class PastUndoableCommands {
 
-    private final Stack<Undoable> undoStack;
-    private final Stack<Undoable> redoStack;
+    public static final String MESSAGE_HISTORY_READ_FAILED = "Could not read the older commands: %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(PastUndoableCommands.class);
+
+    private final History undoHistory;
+    private final History redoHistory;
 
+    /**
+     * Creates past undoable commands that keep every command in memory.
+     */
     public PastUndoableCommands() {
-        this.undoStack = new Stack<>();
-        this.redoStack = new Stack<>();
+        this.undoHistory = new History(Integer.MAX_VALUE, Integer.MAX_VALUE, null, UndoCommand.NO_UNDOABLE_COMMAND);
+        this.redoHistory = new History(Integer.MAX_VALUE, Integer.MAX_VALUE, null, RedoCommand.NO_REDOABLE_COMMAND);
+    }
+
+    /**
+     * Creates past undoable commands that keep their histories in {@code undoStore} and {@code redoStore}, which may
+     * hold histories from an earlier session, and at most {@code maxCommands} commands, holding at most
+     * {@code maxTransactions} transactions, of each history in memory.
+     */
+    public PastUndoableCommands(int maxCommands, int maxTransactions, UndoRecordStore undoStore,
+            UndoRecordStore redoStore) {
+        requireNonNull(undoStore);
+        requireNonNull(redoStore);
+        checkArgument(maxCommands > 0 && maxTransactions > 0, "Undo history bounds must be positive");
+        this.undoHistory = new History(maxCommands, maxTransactions, undoStore, UndoCommand.NO_UNDOABLE_COMMAND);
+        this.redoHistory = new History(maxCommands, maxTransactions, redoStore, RedoCommand.NO_REDOABLE_COMMAND);
     }
 
     /**
@@ -30,7 +70,7 @@ public class PastUndoableCommands {
         if (hasRedoCommand()) {
             clearRedoStack();
         }
-        undoStack.push(command);
+        undoHistory.push(command);
     }
 
     /**
@@ -40,12 +80,9 @@ public class PastUndoableCommands {
      * @throws CommandException if there is no command to undo.
      */
     public Undoable getCommandToUndo() throws CommandException {
-        if (hasUndoCommand()) {
-            Undoable undoCommand = undoStack.pop();
-            addUndoneCommand(undoCommand);
-            return undoCommand;
-        }
-        throw new CommandException(UndoCommand.NO_UNDOABLE_COMMAND);
+        Undoable undoCommand = undoHistory.pop();
+        addUndoneCommand(undoCommand);
+        return undoCommand;
     }
 
     /**
@@ -54,14 +91,14 @@ public class PastUndoableCommands {
      * @return true if there is available commands to perform undo, else false.
      */
     public boolean hasUndoCommand() {
-        return !undoStack.isEmpty();
+        return !undoHistory.isEmpty();
     }
 
     /**
      * Removes all undoable commands to be redone.
      */
     private void clearRedoStack() {
-        redoStack.clear();
+        redoHistory.clear();
     }
 
     /**
@@ -70,7 +107,7 @@ public class PastUndoableCommands {
      * @param command is the undoable command to be tracked
      */
     private void addUndoneCommand(Undoable command) {
-        redoStack.push(command);
+        redoHistory.push(command);
     }
 
     /**
@@ -80,12 +117,9 @@ public class PastUndoableCommands {
      * @throws CommandException if there is no command to redo.
      */
     public Undoable getCommandToRedo() throws CommandException {
-        if (hasRedoCommand()) {
-            Undoable redoCommand = redoStack.pop();
-            undoStack.push(redoCommand);
-            return redoCommand;
-        }
-        throw new CommandException(RedoCommand.NO_REDOABLE_COMMAND);
+        Undoable redoCommand = redoHistory.pop();
+        undoHistory.push(redoCommand);
+        return redoCommand;
     }
 
     /**
@@ -94,6 +128,169 @@ public class PastUndoableCommands {
      * @return true if there is available commands to perform redo, else false.
      */
     public boolean hasRedoCommand() {
-        return !redoStack.isEmpty();
+        return !redoHistory.isEmpty();
+    }
+
+    /**
+     * Forgets every past command, such as when the data they changed could not be read.
+     */
+    public void clear() {
+        undoHistory.clear();
+        redoHistory.clear();
+    }
+
+    /**
+     * A stack of commands, all of which are in an {@code UndoRecordStore} if it has one, with the newest also in
+     * memory.
+     */
+    private static class History {
+        private final Deque<Undoable> commands = new ArrayDeque<>();
+        private final int maxCommands;
+        private final int maxTransactions;
+        private final String emptyMessage;
+        private UndoRecordStore store;
+        private int transactionCount = 0;
+
+        /**
+         * Creates a history with the given bounds that writes its commands through to {@code store}, or only keeps
+         * the commands in memory if it is null, and that reports {@code emptyMessage} when popped while empty.
+         */
+        History(int maxCommands, int maxTransactions, UndoRecordStore store, String emptyMessage) {
+            this.maxCommands = maxCommands;
+            this.maxTransactions = maxTransactions;
+            this.store = store;
+            this.emptyMessage = emptyMessage;
+        }
+
+        /**
+         * Pushes {@code command}, dropping the oldest commands in memory if either bound is passed.
+         */
+        void push(Undoable command) {
+            requireNonNull(command);
+            if (store != null) {
+                try {
+                    store.push(Collections.singletonList(command.toUndoRecord()));
+                } catch (IOException e) {
+                    abandonStore("Failed to save a command of the undo history", e);
+                }
+            }
+            commands.addLast(command);
+            transactionCount += command.getEditCount();
+            if (commands.size() > maxCommands || transactionCount > maxTransactions) {
+                dropOldest();
+            }
+        }
+
+        /**
+         * Pops the newest command, reading older commands back from the store first if there are none left in memory.
+         *
+         * @throws CommandException if there is no command, or the older commands cannot be read.
+         */
+        Undoable pop() throws CommandException {
+            if (commands.isEmpty() && getStoreSize() > 0) {
+                readNewestFromStore();
+            }
+            if (commands.isEmpty()) {
+                throw new CommandException(emptyMessage);
+            }
+            Undoable command = commands.removeLast();
+            transactionCount -= command.getEditCount();
+            if (store != null) {
+                try {
+                    store.pop(1);
+                } catch (IOException e) {
+                    abandonStore("Failed to remove a command from the saved undo history", e);
+                }
+            }
+            return command;
+        }
+
+        boolean isEmpty() {
+            return commands.isEmpty() && getStoreSize() == 0;
+        }
+
+        /**
+         * Removes every command, in memory and in the store.
+         */
+        void clear() {
+            commands.clear();
+            transactionCount = 0;
+            if (getStoreSize() == 0) {
+                return;
+            }
+            try {
+                store.clear();
+            } catch (IOException e) {
+                abandonStore("Failed to clear the saved undo history", e);
+            }
+        }
+
+        /**
+         * Returns the number of commands in the store, or 0 if there is none.
+         */
+        private int getStoreSize() {
+            if (store == null) {
+                return 0;
+            }
+            try {
+                return store.size();
+            } catch (IOException e) {
+                abandonStore("Failed to read the saved undo history", e);
+                return 0;
+            }
+        }
+
+        /**
+         * Drops the oldest commands from memory until at most half of each bound is used, always keeping the newest
+         * command, so that commands are dropped and read back in batches rather than one by one. The dropped commands
+         * stay in the store, or are gone if there is none.
+         */
+        private void dropOldest() {
+            int dropped = 0;
+            while (commands.size() > 1
+                    && (commands.size() > maxCommands / 2 || transactionCount > maxTransactions / 2)) {
+                transactionCount -= commands.removeFirst().getEditCount();
+                dropped++;
+            }
+            if (store == null) {
+                logger.fine("Dropping " + dropped + " old command(s) from the undo history");
+            }
+        }
+
+        /**
+         * Reads the newest batch of commands in the store into memory, which must have no commands.
+         *
+         * @throws CommandException if they cannot be read, in which case the store is abandoned.
+         */
+        private void readNewestFromStore() throws CommandException {
+            assert commands.isEmpty();
+            List<UndoRecord> records;
+            try {
+                records = store.peek(Math.max(1, maxCommands / 2));
+            } catch (IOException | DataConversionException e) {
+                abandonStore("Failed to read the saved undo history", e);
+                throw new CommandException(String.format(MESSAGE_HISTORY_READ_FAILED, e.getMessage()), e);
+            }
+            for (UndoRecord record : records) {
+                commands.addLast(record);
+                transactionCount += record.getEditCount();
+            }
+        }
+
+        /**
+         * Stops using the store after it failed with {@code cause}, emptying it if possible, so that it can no longer
+         * get out of step with the commands in memory. The older commands only in the store are lost.
+         */
+        private void abandonStore(String message, Exception cause) {
+            logger.warning(message + ", the older commands can no longer be undone or redone: "
+                    + StringUtil.getDetails(cause));
+            UndoRecordStore abandoned = store;
+            store = null;
+            try {
+                abandoned.clear();
+            } catch (IOException e) {
+                logger.warning("Failed to clear the saved undo history: " + StringUtil.getDetails(e));
+            }
+        }
     }
 }
@@ -1,5 +1,9 @@
 package thrift.model;
 
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+
 import javafx.collections.ObservableList;
 import thrift.model.transaction.BudgetList;
 import thrift.model.transaction.Transaction;
@@ -14,9 +18,38 @@ public interface ReadOnlyThrift {
      */
     ObservableList<Transaction> getTransactionList();
 
+    /**
+     * Returns the transactions as they are now, as an immutable list that does not follow later changes.
+     * By default the transaction list is copied.
+     */
+    default List<Transaction> getTransactionSnapshot() {
+        return List.copyOf(getTransactionList());
+    }
+
     /**
      * Returns the budget list.
      */
     BudgetList getBudgetList();
 
+    /**
+     * Returns the months whose transactions are kept in storage but have not been loaded into this THRIFT yet.
+     * The transaction list holds every transaction only if this is empty.
+     */
+    Set<YearMonth> getUnloadedMonths();
+
+    /**
+     * Returns the version of the data in this THRIFT. Every change to the data is given a new version, unique across
+     * all THRIFT instances, and a copy of a THRIFT keeps the version of its source. Two THRIFT instances with the same
+     * version thus hold the same data.
+     */
+    long getVersion();
+
+    /**
+     * Returns an unchanging copy of this THRIFT as it is now, with the same version, which can be read from another
+     * thread, such as to save it in the background. It takes O(1) time if {@link #getTransactionSnapshot()} does.
+     */
+    default ReadOnlyThrift getSnapshot() {
+        return new ThriftSnapshot(this);
+    }
+
 }
@@ -3,6 +3,7 @@ package thrift.model;
 import java.nio.file.Path;
 
 import thrift.commons.core.GuiSettings;
+import thrift.commons.core.ThriftFileFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +14,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getThriftFilePath();
 
+    Path getBinaryThriftFilePath();
+
+    Path getPartitionedThriftDirectoryPath();
+
+    ThriftFileFormat getThriftFileFormat();
+
 }
@@ -1,25 +1,49 @@
 package thrift.model;
 
 import static java.util.Objects.requireNonNull;
+import static thrift.commons.util.AppUtil.checkArgument;
 import static thrift.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 
 import javafx.collections.ObservableList;
 import thrift.commons.core.index.Index;
+import thrift.model.tag.Tag;
 import thrift.model.transaction.Budget;
 import thrift.model.transaction.BudgetList;
+import thrift.model.transaction.DescriptionOrRemarkContainsKeywordsPredicate;
+import thrift.model.transaction.DescriptionOrRemarkMatchesSearchTermsPredicate;
 import thrift.model.transaction.Transaction;
+import thrift.model.transaction.TransactionDate;
 import thrift.model.transaction.TransactionList;
+import thrift.model.util.PackedDateUtil;
 
 /**
- * Wraps all data at the THRIFT level
+ * Wraps all data at the THRIFT level. <br>
+ * Changes are meant to be made on the JavaFX application thread, but {@link #getSnapshot()} may be called from any
+ * thread, such as by a background worker that saves or reports on the data while the user keeps making changes.
  */
 public class Thrift implements ReadOnlyThrift {
 
+    public static final String MESSAGE_MONTH_ALREADY_LOADED = "Transactions of %s have already been loaded";
+
+    private static final AtomicLong latestVersion = new AtomicLong();
+
     private final TransactionList transactions;
     private final BudgetList budgets;
+    private final Set<YearMonth> unloadedMonths;
+    private volatile long version;
+    private ReadOnlyThrift snapshot;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -31,6 +55,8 @@ public class Thrift implements ReadOnlyThrift {
     {
         transactions = new TransactionList();
         budgets = new BudgetList();
+        unloadedMonths = new TreeSet<>();
+        version = latestVersion.incrementAndGet();
     }
 
     public Thrift() {}
@@ -41,6 +67,7 @@ public class Thrift implements ReadOnlyThrift {
     public Thrift(ReadOnlyThrift toBeCopied) {
         this();
         resetData(toBeCopied);
+        version = toBeCopied.getVersion();
     }
 
     //// list overwrite operations
@@ -48,50 +75,98 @@ public class Thrift implements ReadOnlyThrift {
     /**
      * Replaces the contents of the transaction list with {@code transactions}.
      */
-    public void setTransactions(List<Transaction> transactions) {
+    public synchronized void setTransactions(List<Transaction> transactions) {
+        updateVersion();
         this.transactions.setTransactions(transactions);
     }
 
     /**
      * Replaces the contents of the budget list with {@code budgets}.
      */
-    public void setBudgets(BudgetList budgets) {
+    public synchronized void setBudgets(BudgetList budgets) {
+        updateVersion();
         this.budgets.setBudgets(budgets);
     }
 
+    /**
+     * Replaces the months whose transactions are still to be loaded from storage with {@code unloadedMonths}.
+     */
+    public synchronized void setUnloadedMonths(Collection<YearMonth> unloadedMonths) {
+        requireAllNonNull(unloadedMonths);
+        updateVersion();
+        this.unloadedMonths.clear();
+        this.unloadedMonths.addAll(unloadedMonths);
+    }
+
     /**
      * Resets the existing data of this transactions list with {@code newData}.
      */
-    public void resetData(ReadOnlyThrift newData) {
+    public synchronized void resetData(ReadOnlyThrift newData) {
         requireNonNull(newData);
-        setTransactions(newData.getTransactionList());
+        setTransactions(newData.getTransactionSnapshot());
         setBudgets(newData.getBudgetList());
+        setUnloadedMonths(newData.getUnloadedMonths());
     }
 
     //// transaction-level operations
 
+    /**
+     * Adds the transactions of {@code month}, just loaded from storage, to THRIFT. They are placed before the
+     * transactions of any later month, so that the transaction list stays in the order it was stored in, and the
+     * index they are placed at is returned. {@code month} must be one of the unloaded months.
+     */
+    public synchronized Index addLoadedTransactions(YearMonth month, List<Transaction> loadedTransactions) {
+        requireAllNonNull(month, loadedTransactions);
+        checkArgument(unloadedMonths.contains(month), String.format(MESSAGE_MONTH_ALREADY_LOADED, month));
+
+        List<Transaction> transactionList = transactions.asUnmodifiableObservableList();
+        int packedMonth = PackedDateUtil.toPackedYearMonth(month);
+        int index = 0;
+        while (index < transactionList.size()
+                && transactionList.get(index).getDate().getPackedYearMonth() <= packedMonth) {
+            index++;
+        }
+
+        updateVersion();
+        unloadedMonths.remove(month);
+        transactions.addAll(loadedTransactions, Index.fromZeroBased(index));
+        return Index.fromZeroBased(index);
+    }
+
     /**
      * Adds a transaction to THRIFT.
      */
-    public void addTransaction(Transaction t) {
+    public synchronized void addTransaction(Transaction t) {
+        updateVersion();
         transactions.add(t);
     }
 
     /**
      * Adds a transaction to a specified index in THRIFT.
      */
-    public void addTransaction(Transaction t, Index index) {
+    public synchronized void addTransaction(Transaction t, Index index) {
+        updateVersion();
         transactions.add(t, index);
     }
 
+    /**
+     * Adds {@code toAdd} to the end of THRIFT, in their order, as a single change of the transaction list.
+     */
+    public synchronized void addTransactions(List<Transaction> toAdd) {
+        requireAllNonNull(toAdd);
+        updateVersion();
+        transactions.addAll(toAdd);
+    }
+
     /**
      * Adds the specified {@code budget} into the budget list, updates the budget instead if it already exists.
      *
      * @param budget budget to be replaced with.
      * @return replaced budget wrapped in optional.
      */
-    public Optional<Budget> setBudget(Budget budget) {
+    public synchronized Optional<Budget> setBudget(Budget budget) {
         requireNonNull(budget);
+        updateVersion();
         return budgets.setBudget(budget);
     }
 
@@ -100,8 +175,9 @@ public class Thrift implements ReadOnlyThrift {
      *
      * @param budget is the budget to be removed.
      */
-    public void removeBudget(Budget budget) {
+    public synchronized void removeBudget(Budget budget) {
         requireNonNull(budget);
+        updateVersion();
         budgets.removeBudget(budget);
     }
 
@@ -109,8 +185,9 @@ public class Thrift implements ReadOnlyThrift {
      * Replaces the given transaction {@code target} in the list with {@code updatedTransaction}.
      * {@code target} must exist in THRIFT.
      */
-    public void setTransaction(Transaction target, Transaction updatedTransaction) {
+    public synchronized void setTransaction(Transaction target, Transaction updatedTransaction) {
         requireAllNonNull(target, updatedTransaction);
+        updateVersion();
         transactions.setTransaction(target, updatedTransaction);
     }
 
@@ -118,8 +195,9 @@ public class Thrift implements ReadOnlyThrift {
      * Replaces the given transaction {@code actualIndex} in the list with {@code updatedTransaction}.
      * {@code actualIndex} must be a valid index.
      */
-    public void setTransactionWithIndex(Index actualIndex, Transaction updatedTransaction) {
+    public synchronized void setTransactionWithIndex(Index actualIndex, Transaction updatedTransaction) {
         requireAllNonNull(actualIndex, updatedTransaction);
+        updateVersion();
         transactions.setTransactionWithIndex(actualIndex, updatedTransaction);
     }
 
@@ -135,7 +213,8 @@ public class Thrift implements ReadOnlyThrift {
      * Removes {@code key} from this {@code Thrift}.
      * {@code key} must exist in THRIFT.
      */
-    public void removeTransaction(Transaction key) {
+    public synchronized void removeTransaction(Transaction key) {
+        updateVersion();
         transactions.remove(key);
     }
 
@@ -144,17 +223,49 @@ public class Thrift implements ReadOnlyThrift {
      *
      * @return deleted transaction.
      */
-    public Transaction removeLastTransaction() {
+    public synchronized Transaction removeLastTransaction() {
+        updateVersion();
         return transactions.removeLast();
     }
 
     /**
      * Remove the transaction from the list based on the index.
      */
-    public void removeTransactionByIndex(Index index) {
+    public synchronized void removeTransactionByIndex(Index index) {
+        updateVersion();
         transactions.removeByIndex(index);
     }
 
+    /**
+     * Removes the transactions at {@code indices}, which must all be valid, as a single change of the transaction
+     * list.
+     *
+     * @return the removed transactions, in the order of the transaction list.
+     */
+    public synchronized List<Transaction> removeTransactionsByIndex(Collection<Index> indices) {
+        requireAllNonNull(indices);
+        updateVersion();
+        return transactions.removeAll(indices);
+    }
+
+    /**
+     * Replaces the transaction at each index of {@code replacements}, which must all be valid, with the transaction
+     * it maps to, as a single change of the transaction list.
+     */
+    public synchronized void replaceTransactions(Map<Index, Transaction> replacements) {
+        requireNonNull(replacements);
+        updateVersion();
+        transactions.replaceAll(replacements);
+    }
+
+    /**
+     * Gives the data in this THRIFT a new version. Called before every change, so that listeners of the
+     * transaction list already see the version of the change they are notified of.
+     */
+    private void updateVersion() {
+        version = latestVersion.incrementAndGet();
+    }
+
     //// util methods
 
     /**
@@ -168,16 +279,125 @@ public class Thrift implements ReadOnlyThrift {
         return transactions.getIndex(transaction);
     }
 
+    /**
+     * Returns the total income of the transactions in {@code month}, in cents of the default currency.
+     */
+    public long getIncomeCentsForMonth(YearMonth month) {
+        return transactions.getIncomeCentsForMonth(month);
+    }
+
+    /**
+     * Returns the total expense of the transactions in {@code month}, in cents of the default currency.
+     */
+    public long getExpenseCentsForMonth(YearMonth month) {
+        return transactions.getExpenseCentsForMonth(month);
+    }
+
+    /**
+     * Returns the total income of the transactions in the months from {@code startMonth} to {@code endMonth}, both
+     * inclusive, in cents of the default currency.
+     */
+    public long getIncomeCentsBetween(YearMonth startMonth, YearMonth endMonth) {
+        return transactions.getIncomeCentsBetween(startMonth, endMonth);
+    }
+
+    /**
+     * Returns the total expense of the transactions in the months from {@code startMonth} to {@code endMonth}, both
+     * inclusive, in cents of the default currency. With {@link BudgetList#getTotalBudgetCentsBetween}, it compares
+     * the budget and spending of several months, such as of the year to date.
+     */
+    public long getExpenseCentsBetween(YearMonth startMonth, YearMonth endMonth) {
+        return transactions.getExpenseCentsBetween(startMonth, endMonth);
+    }
+
+    /**
+     * Returns the transactions from {@code startDate} to {@code endDate}, both inclusive, ordered by date.
+     */
+    public List<Transaction> getTransactionsBetween(TransactionDate startDate, TransactionDate endDate) {
+        return transactions.getTransactionsBetween(startDate, endDate);
+    }
+
+    /**
+     * Returns the transactions tagged with every tag in {@code tags} if {@code isMatchingAll}, or with any of them
+     * otherwise, in the order of the transaction list.
+     */
+    public List<Transaction> getTransactionsWithTags(Collection<Tag> tags, boolean isMatchingAll) {
+        return transactions.getTransactionsWithTags(tags, isMatchingAll);
+    }
+
+    /**
+     * Returns a predicate that matches the same transactions as {@code predicate}, using the word index of the
+     * transaction list.
+     */
+    public Predicate<Transaction> getIndexedPredicate(DescriptionOrRemarkContainsKeywordsPredicate predicate) {
+        return transactions.getIndexedPredicate(predicate);
+    }
+
+    /**
+     * Returns a function that gives the same match quality as {@code predicate}, using the word index of the
+     * transaction list.
+     */
+    public ToIntFunction<Transaction> getIndexedMatchQuality(DescriptionOrRemarkMatchesSearchTermsPredicate predicate) {
+        return transactions.getIndexedMatchQuality(predicate);
+    }
+
+    /**
+     * Returns the total income of the transactions tagged with {@code tag} in {@code month}, in cents of the default
+     * currency.
+     */
+    public long getIncomeCentsForTagAndMonth(Tag tag, YearMonth month) {
+        return transactions.getIncomeCentsForTagAndMonth(tag, month);
+    }
+
+    /**
+     * Returns the total expense of the transactions tagged with {@code tag} in {@code month}, in cents of the default
+     * currency.
+     */
+    public long getExpenseCentsForTagAndMonth(Tag tag, YearMonth month) {
+        return transactions.getExpenseCentsForTagAndMonth(tag, month);
+    }
+
     @Override
     public ObservableList<Transaction> getTransactionList() {
         return transactions.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the transactions as they are now, in O(1) time, see {@link TransactionList#snapshot()}.
+     */
+    @Override
+    public List<Transaction> getTransactionSnapshot() {
+        return transactions.snapshot();
+    }
+
+    /**
+     * Returns an unchanging copy of this THRIFT as it is now, which is taken once per version. Safe to call from any
+     * thread: every change to this THRIFT is made while holding its lock, so the snapshot always holds the
+     * transactions, budgets and unloaded months of exactly the version it reports.
+     */
+    @Override
+    public synchronized ReadOnlyThrift getSnapshot() {
+        if (snapshot == null || snapshot.getVersion() != version) {
+            snapshot = new ThriftSnapshot(this);
+        }
+        return snapshot;
+    }
+
     @Override
     public BudgetList getBudgetList() {
         return budgets;
     }
 
+    @Override
+    public Set<YearMonth> getUnloadedMonths() {
+        return Collections.unmodifiableSet(unloadedMonths);
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public String toString() {
         return transactions.asUnmodifiableObservableList().size() + " transactions";
@@ -189,7 +409,8 @@ public class Thrift implements ReadOnlyThrift {
         return other == this // short circuit if same object
                 || (other instanceof Thrift // instanceof handles nulls
                 && transactions.equals(((Thrift) other).transactions)
-                && budgets.equals(((Thrift) other).budgets));
+                && budgets.equals(((Thrift) other).budgets)
+                && unloadedMonths.equals(((Thrift) other).unloadedMonths));
     }
 
     @Override
@@ -0,0 +1,78 @@
+package thrift.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import thrift.model.transaction.BudgetList;
+import thrift.model.transaction.Transaction;
+
+/**
+ * An unchanging copy of THRIFT data as it was at one version, see {@link ReadOnlyThrift#getSnapshot()}.
+ * Guarantees: immutable.
+ */
+class ThriftSnapshot implements ReadOnlyThrift {
+
+    private final List<Transaction> transactions;
+    private final ObservableList<Transaction> transactionList;
+    private final BudgetList budgets;
+    private final Set<YearMonth> unloadedMonths;
+    private final long version;
+
+    /**
+     * Takes a snapshot of {@code source}. Its transactions are shared if {@code source} gives them as an immutable
+     * list, and the budgets and unloaded months, of which there are a few per month, are copied.
+     */
+    ThriftSnapshot(ReadOnlyThrift source) {
+        requireNonNull(source);
+        transactions = source.getTransactionSnapshot();
+        transactionList = FXCollections.unmodifiableObservableList(FXCollections.observableList(transactions));
+        budgets = new BudgetList();
+        budgets.setBudgets(source.getBudgetList());
+        unloadedMonths = Set.copyOf(source.getUnloadedMonths());
+        version = source.getVersion();
+    }
+
+    @Override
+    public ObservableList<Transaction> getTransactionList() {
+        return transactionList;
+    }
+
+    @Override
+    public List<Transaction> getTransactionSnapshot() {
+        return transactions;
+    }
+
+    /**
+     * Returns the budget list, which must not be changed.
+     */
+    @Override
+    public BudgetList getBudgetList() {
+        return budgets;
+    }
+
+    @Override
+    public Set<YearMonth> getUnloadedMonths() {
+        return unloadedMonths;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public ReadOnlyThrift getSnapshot() {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return transactions.size() + " transactions";
+    }
+
+}
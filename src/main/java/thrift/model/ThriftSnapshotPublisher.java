@@ -0,0 +1,83 @@
+package thrift.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import javafx.application.Platform;
+
+/**
+ * Publishes snapshots of a THRIFT to observers on the JavaFX application thread. <br>
+ * A burst of changes, such as the clones of one command or the months of one load, is published as one snapshot:
+ * the first change schedules a publication with {@link Platform#runLater(Runnable)}, later changes before it runs
+ * only ride along, and it takes the snapshot when it runs, so observers always get the latest version and never the
+ * same version twice.
+ */
+class ThriftSnapshotPublisher {
+
+    private static final long NO_VERSION = -1;
+
+    private final ReadOnlyThrift source;
+    private final Executor uiExecutor;
+    private final List<Consumer<? super ReadOnlyThrift>> observers = new CopyOnWriteArrayList<>();
+    private boolean isPublicationScheduled = false;
+    private long publishedVersion = NO_VERSION;
+
+    ThriftSnapshotPublisher(ReadOnlyThrift source) {
+        this(source, Platform::runLater);
+    }
+
+    /**
+     * Creates a publisher of the snapshots of {@code source} that runs its publications with {@code uiExecutor}.
+     */
+    ThriftSnapshotPublisher(ReadOnlyThrift source, Executor uiExecutor) {
+        requireNonNull(source);
+        requireNonNull(uiExecutor);
+        this.source = source;
+        this.uiExecutor = uiExecutor;
+    }
+
+    /**
+     * Adds {@code observer}, which is given a snapshot after every burst of changes from now on.
+     */
+    void addObserver(Consumer<? super ReadOnlyThrift> observer) {
+        requireNonNull(observer);
+        observers.add(observer);
+    }
+
+    /**
+     * Schedules the observers to be given a snapshot, unless a publication is already scheduled. May be called from
+     * any thread. Does nothing while there are no observers, so the JavaFX toolkit is not needed until then.
+     */
+    void publish() {
+        if (observers.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            if (isPublicationScheduled) {
+                return;
+            }
+            isPublicationScheduled = true;
+        }
+        uiExecutor.execute(this::runPublication);
+    }
+
+    /**
+     * Gives the observers the latest snapshot, unless they already have its version.
+     */
+    private void runPublication() {
+        synchronized (this) {
+            isPublicationScheduled = false;
+        }
+        ReadOnlyThrift snapshot = source.getSnapshot();
+        if (snapshot.getVersion() == publishedVersion) {
+            return;
+        }
+        publishedVersion = snapshot.getVersion();
+        observers.forEach(observer -> observer.accept(snapshot));
+    }
+
+}
@@ -0,0 +1,25 @@
+package thrift.model;
+
+import java.io.IOException;
+import java.time.YearMonth;
+import java.util.List;
+
+import thrift.commons.exceptions.DataConversionException;
+import thrift.model.transaction.Transaction;
+
+/**
+ * Loads the transactions of the months that are kept in storage but not yet loaded into THRIFT,
+ * see {@link ReadOnlyThrift#getUnloadedMonths()}.
+ */
+@FunctionalInterface
+public interface TransactionLoader {
+
+    /**
+     * Returns the stored transactions of {@code month}, in the order they were stored in.
+     *
+     * @throws DataConversionException if the stored transactions are not in the correct format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    List<Transaction> loadTransactions(YearMonth month) throws DataConversionException, IOException;
+
+}
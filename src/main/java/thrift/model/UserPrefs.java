@@ -7,6 +7,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import thrift.commons.core.GuiSettings;
+import thrift.commons.core.ThriftFileFormat;
 
 /**
  * Represents User's preferences.
@@ -15,6 +16,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path thriftFilePath = Paths.get("data" , "thrift.json");
+    private Path binaryThriftFilePath = Paths.get("data" , "thrift.bin");
+    private Path partitionedThriftDirectoryPath = Paths.get("data" , "thrift");
+    private ThriftFileFormat thriftFileFormat = ThriftFileFormat.JSON;
     private Path currencyMappingsFilePath = Paths.get("data" , "currency.json");
 
     /**
@@ -37,6 +41,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setThriftFilePath(newUserPrefs.getThriftFilePath());
+        setBinaryThriftFilePath(newUserPrefs.getBinaryThriftFilePath());
+        setPartitionedThriftDirectoryPath(newUserPrefs.getPartitionedThriftDirectoryPath());
+        setThriftFileFormat(newUserPrefs.getThriftFileFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -57,6 +64,33 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.thriftFilePath = thriftFilePath;
     }
 
+    public Path getBinaryThriftFilePath() {
+        return binaryThriftFilePath;
+    }
+
+    public void setBinaryThriftFilePath(Path binaryThriftFilePath) {
+        requireNonNull(binaryThriftFilePath);
+        this.binaryThriftFilePath = binaryThriftFilePath;
+    }
+
+    public Path getPartitionedThriftDirectoryPath() {
+        return partitionedThriftDirectoryPath;
+    }
+
+    public void setPartitionedThriftDirectoryPath(Path partitionedThriftDirectoryPath) {
+        requireNonNull(partitionedThriftDirectoryPath);
+        this.partitionedThriftDirectoryPath = partitionedThriftDirectoryPath;
+    }
+
+    public ThriftFileFormat getThriftFileFormat() {
+        return thriftFileFormat;
+    }
+
+    public void setThriftFileFormat(ThriftFileFormat thriftFileFormat) {
+        requireNonNull(thriftFileFormat);
+        this.thriftFileFormat = thriftFileFormat;
+    }
+
     public Path getCurrencyMappingsFilePath() {
         return currencyMappingsFilePath;
     }
@@ -73,12 +107,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && thriftFilePath.equals(o.thriftFilePath);
+                && thriftFilePath.equals(o.thriftFilePath)
+                && binaryThriftFilePath.equals(o.binaryThriftFilePath)
+                && partitionedThriftDirectoryPath.equals(o.partitionedThriftDirectoryPath)
+                && thriftFileFormat == o.thriftFileFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, thriftFilePath);
+        return Objects.hash(guiSettings, thriftFilePath, binaryThriftFilePath, partitionedThriftDirectoryPath,
+                thriftFileFormat);
     }
 
     @Override
@@ -86,6 +124,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + thriftFilePath);
+        sb.append("\nLocal binary data file location : " + binaryThriftFilePath);
+        sb.append("\nLocal partitioned data folder location : " + partitionedThriftDirectoryPath);
+        sb.append("\nLocal data file format : " + thriftFileFormat);
         return sb.toString();
     }
 
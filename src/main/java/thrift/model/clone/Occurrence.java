@@ -2,7 +2,7 @@ package thrift.model.clone;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Calendar;
+import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 
 import thrift.logic.commands.exceptions.CommandException;
@@ -61,21 +61,21 @@ public class Occurrence {
     }
 
     /**
-     * Get the {@code Calendar} date field corresponding to the {@code Occurrence}'s {@code frequency}.
+     * Get the {@code ChronoUnit} of dates corresponding to the {@code Occurrence}'s {@code frequency}.
      *
-     * @return {@code int} value of Calendar field corresponding to Occurrence's frequency.
+     * @return {@code ChronoUnit} corresponding to Occurrence's frequency.
      * @throws CommandException if {@code frequency} is invalid.
      */
-    public int getFrequencyCalendarField() throws CommandException {
+    public ChronoUnit getFrequencyUnit() throws CommandException {
         switch (frequency) {
         case "daily":
-            return Calendar.DATE;
+            return ChronoUnit.DAYS;
         case "weekly":
-            return Calendar.WEEK_OF_YEAR;
+            return ChronoUnit.WEEKS;
         case "monthly":
-            return Calendar.MONTH;
+            return ChronoUnit.MONTHS;
         case "yearly":
-            return Calendar.YEAR;
+            return ChronoUnit.YEARS;
         default:
             throw new CommandException(OCCURRENCE_CONSTRAINTS);
         }
@@ -3,6 +3,8 @@ package thrift.model.tag;
 import static java.util.Objects.requireNonNull;
 import static thrift.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Tag in THRIFT.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -11,11 +13,15 @@ public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tag names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String tagName;
 
+    /** The id of this tag's name in the {@link TagDictionary}. */
+    final int id;
+
     /**
-     * Constructs a {@code Tag}.
+     * Constructs a {@code Tag}. Prefer {@link TagDictionary#intern(String)}, which returns the shared tag instead.
      *
      * @param tagName A valid tag name.
      */
@@ -23,20 +29,30 @@ public class Tag {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = tagName;
+        this.id = TagDictionary.intern(tagName).id;
+    }
+
+    /**
+     * Constructs the shared {@code Tag} of the {@link TagDictionary} with the given id.
+     */
+    Tag(String tagName, int id) {
+        this.tagName = tagName;
+        this.id = id;
     }
 
     /**
-     * Returns true if a given string is a valid tag name.
+     * Returns true if a given string is a valid tag name. Names already in the {@link TagDictionary} are known to be
+     * valid, so they are not matched again.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return TagDictionary.contains(test) || VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Tag // instanceof handles nulls
-                && tagName.equals(((Tag) other).tagName)); // state check
+                && id == ((Tag) other).id); // state check
     }
 
     @Override
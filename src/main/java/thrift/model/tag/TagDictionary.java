@@ -0,0 +1,68 @@
+package thrift.model.tag;
+
+import static java.util.Objects.requireNonNull;
+import static thrift.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The dictionary of every tag name used in THRIFT, which gives each name one shared {@code Tag} and a small id. <br>
+ * Interned tags let transactions share their tags instead of each holding its own copies, and let a {@link TagSet}
+ * keep just the ids of its tags. A name is only validated the first time it is interned, and names are never
+ * removed, so ids stay valid for as long as THRIFT runs. Interning is thread-safe.
+ */
+public class TagDictionary {
+
+    private static final Map<String, Tag> tagsByName = new ConcurrentHashMap<>();
+
+    /** The interned tags, indexed by id. Replaced, never changed, when a tag is added. */
+    private static volatile Tag[] tagsById = new Tag[0];
+
+    private TagDictionary() {} // prevents instantiation
+
+    /**
+     * Returns the shared tag named {@code tagName}, adding it to the dictionary if it is new.
+     *
+     * @throws IllegalArgumentException if {@code tagName} is not a valid tag name.
+     */
+    public static Tag intern(String tagName) {
+        requireNonNull(tagName);
+        Tag tag = tagsByName.get(tagName);
+        return tag != null ? tag : add(tagName);
+    }
+
+    /**
+     * Returns true if a tag named {@code tagName} has been interned, which means it is a valid tag name.
+     */
+    public static boolean contains(String tagName) {
+        return tagsByName.containsKey(tagName);
+    }
+
+    /**
+     * Returns the shared tag with the id {@code id}.
+     */
+    static Tag get(int id) {
+        return tagsById[id];
+    }
+
+    /**
+     * Adds a tag named {@code tagName} to the dictionary, unless another thread has just added it, and returns it.
+     */
+    private static synchronized Tag add(String tagName) {
+        Tag tag = tagsByName.get(tagName);
+        if (tag != null) {
+            return tag;
+        }
+        checkArgument(Tag.isValidTagName(tagName), Tag.MESSAGE_CONSTRAINTS);
+
+        Tag[] newTagsById = Arrays.copyOf(tagsById, tagsById.length + 1);
+        tag = new Tag(tagName, tagsById.length);
+        newTagsById[tag.id] = tag;
+        tagsById = newTagsById;
+        tagsByName.put(tagName, tag);
+        return tag;
+    }
+
+}
@@ -0,0 +1,134 @@
+package thrift.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of tags, kept as the sorted ids of the tags in the {@link TagDictionary}. <br>
+ * A transaction's few tags take a small int array instead of a hash table of its own, and checking whether a tag is
+ * in the set is a binary search over the ids. Like {@code Collections.unmodifiableSet}, it throws
+ * {@code UnsupportedOperationException} if modification is attempted. The tags are iterated in the order of their ids,
+ * the order their names were first used in.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    public static final TagSet EMPTY = new TagSet(new int[0]);
+
+    private final int[] ids;
+
+    private TagSet(int[] ids) {
+        this.ids = ids;
+    }
+
+    /**
+     * Returns the set of the tags in {@code tags}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        int[] ids = new int[tags.size()];
+        int count = 0;
+        for (Tag tag : tags) {
+            ids[count++] = tag.id;
+        }
+        Arrays.sort(ids);
+        int distinctCount = 1;
+        for (int i = 1; i < count; i++) {
+            if (ids[i] != ids[distinctCount - 1]) {
+                ids[distinctCount++] = ids[i];
+            }
+        }
+        return new TagSet(distinctCount == count ? ids : Arrays.copyOf(ids, distinctCount));
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        return other instanceof Tag && Arrays.binarySearch(ids, ((Tag) other).id) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return ids.length;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int position = 0;
+
+            @Override
+            public boolean hasNext() {
+                return position < ids.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return TagDictionary.get(ids[position++]);
+            }
+        };
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> tags) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> others) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> others) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof TagSet) {
+            return Arrays.equals(ids, ((TagSet) other).ids);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+}
@@ -6,6 +6,8 @@ import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Objects;
 
+import thrift.model.util.PackedDateUtil;
+
 /**
  * Represents a budget for a particular month, containing a Date and Value object.
  */
@@ -17,6 +19,7 @@ public class Budget {
     public static final String VALIDATION_REGEX = "^(0[1-9]|10|11|12)\\/(?!0{4})[0-9]{4}$";
 
     private Calendar period;
+    private int packedYearMonth;
     private BudgetValue value;
 
     /**
@@ -25,6 +28,7 @@ public class Budget {
     public Budget(Calendar period, BudgetValue value) {
         requireAllNonNull(period, value);
         this.period = period;
+        this.packedYearMonth = PackedDateUtil.toPackedYearMonth(period);
         this.value = value;
     }
 
@@ -34,10 +38,15 @@ public class Budget {
         return this.period;
     }
 
-    public String getBudgetDateString() {
-        assert period != null;
+    /**
+     * Returns the month of this budget as a packed year-month of {@link PackedDateUtil}.
+     */
+    public int getPackedYearMonth() {
+        return packedYearMonth;
+    }
 
-        return BUDGET_DATE_FORMAT.format(period.getTime());
+    public String getBudgetDateString() {
+        return PackedDateUtil.formatPackedYearMonth(packedYearMonth);
     }
 
     public BudgetValue getBudgetValue() {
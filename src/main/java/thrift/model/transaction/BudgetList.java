@@ -2,55 +2,84 @@ package thrift.model.transaction;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.TreeMap;
+
+import thrift.model.util.PackedDateUtil;
 
 /**
  * A list of {@code Budget} that does not allow nulls. A unique month-year can contain one budget set, which can be
  * changed by the user.
+ *
+ * The budgets are kept in maps keyed by their packed year-month of {@link PackedDateUtil}: one in the order the
+ * budgets were first set, which is the order of the list, and one in the order of the months, so the budget of a
+ * month and the budgets of a range of months are looked up without going through the list.
  */
 public class BudgetList implements Iterable<Budget> {
 
-    private final List<Budget> internalList;
-
-    public BudgetList() {
-        this.internalList = new ArrayList<>();
-    }
+    private final Map<Integer, Budget> budgetsInOrder = new LinkedHashMap<>();
+    private final NavigableMap<Integer, Budget> budgetsByMonth = new TreeMap<>();
 
     /**
      * Returns an optional budget tied to the given {@code Calendar} date.
      */
     public Optional<Budget> getBudgetForMonthYear(Calendar toCheck) {
         requireNonNull(toCheck);
-        assert internalList != null;
+        return getBudgetForMonthYear(PackedDateUtil.toPackedYearMonth(toCheck));
+    }
 
-        for (Budget b : internalList) {
-            if (b.getBudgetDate().get(Calendar.MONTH) == toCheck.get(Calendar.MONTH)
-                && b.getBudgetDate().get(Calendar.YEAR) == toCheck.get(Calendar.YEAR)) {
-                return Optional.of(b);
-            }
+    /**
+     * Returns an optional budget tied to the month of {@code packedYearMonth}, a packed year-month of
+     * {@link PackedDateUtil}.
+     */
+    public Optional<Budget> getBudgetForMonthYear(int packedYearMonth) {
+        return Optional.ofNullable(budgetsByMonth.get(packedYearMonth));
+    }
+
+    /**
+     * Returns the budgets of the months from {@code startMonth} to {@code endMonth}, both inclusive, ordered by month.
+     */
+    public List<Budget> getBudgetsBetween(YearMonth startMonth, YearMonth endMonth) {
+        requireNonNull(startMonth);
+        requireNonNull(endMonth);
+        int start = PackedDateUtil.toPackedYearMonth(startMonth);
+        int end = PackedDateUtil.toPackedYearMonth(endMonth);
+        if (start > end) {
+            return new ArrayList<>();
         }
-        return Optional.empty();
+        return new ArrayList<>(budgetsByMonth.subMap(start, true, end, true).values());
+    }
+
+    /**
+     * Returns the total budget of the months from {@code startMonth} to {@code endMonth}, both inclusive, in cents.
+     * Months without a budget count as 0.
+     */
+    public long getTotalBudgetCentsBetween(YearMonth startMonth, YearMonth endMonth) {
+        return getBudgetsBetween(startMonth, endMonth).stream()
+                .mapToLong(budget -> budget.getBudgetValue().getCents())
+                .sum();
     }
 
     /**
      * Adds or updates an existing {@code Budget} in the budget list with {@code toSet}.
+     * An updated budget keeps its place in the list.
      *
      * @param toSet budget to be replaced with.
      * @return replaced budget wrapped in optional.
      */
     public Optional<Budget> setBudget(Budget toSet) {
         requireNonNull(toSet);
-        Optional<Budget> optBudget = getBudgetForMonthYear(toSet.getBudgetDate());
-        if (optBudget.isPresent()) {
-            internalList.set(internalList.indexOf(optBudget.get()), toSet);
-        } else {
-            internalList.add(toSet);
-        }
-        return optBudget;
+        budgetsByMonth.put(toSet.getPackedYearMonth(), toSet);
+        return Optional.ofNullable(budgetsInOrder.put(toSet.getPackedYearMonth(), toSet));
     }
 
     /**
@@ -60,38 +89,42 @@ public class BudgetList implements Iterable<Budget> {
      */
     public void removeBudget(Budget budget) {
         requireNonNull(budget);
-        assert internalList != null;
 
-        internalList.remove(budget);
+        int packedYearMonth = budget.getPackedYearMonth();
+        if (budget.equals(budgetsInOrder.get(packedYearMonth))) {
+            budgetsInOrder.remove(packedYearMonth);
+            budgetsByMonth.remove(packedYearMonth);
+        }
     }
 
     /**
      * Replaces the content of this budget list with {@code replacement}.
      */
     public void setBudgets(BudgetList replacement) {
-        assert internalList != null;
+        requireNonNull(replacement);
 
-        internalList.clear();
-        internalList.addAll(replacement.internalList);
+        budgetsInOrder.clear();
+        budgetsByMonth.clear();
+        budgetsInOrder.putAll(replacement.budgetsInOrder);
+        budgetsByMonth.putAll(replacement.budgetsByMonth);
     }
 
     @Override
     public Iterator<Budget> iterator() {
-        assert internalList != null;
-
-        return internalList.iterator();
+        return Collections.unmodifiableCollection(budgetsInOrder.values()).iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof BudgetList) //instanceof handles nulls
-                        && internalList.equals(((BudgetList) other).internalList);
+                        && new ArrayList<>(budgetsInOrder.values())
+                                .equals(new ArrayList<>(((BudgetList) other).budgetsInOrder.values()));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return new ArrayList<>(budgetsInOrder.values()).hashCode();
     }
 
 }
@@ -2,7 +2,8 @@ package thrift.model.transaction;
 
 import static java.util.Objects.requireNonNull;
 import static thrift.commons.util.AppUtil.checkArgument;
-import static thrift.model.transaction.Value.DECIMAL_FORMATTER;
+
+import thrift.model.util.MoneyUtil;
 
 /**
  * Represents a Budget's monetary value in the Budgets list.
@@ -13,9 +14,10 @@ public class BudgetValue {
     public static final String VALUE_CONSTRAINTS =
             "Value should only contain non-negative numbers and an optional decimal point, which if specified, "
                     + "accepts up to 2 decimal digits.\nValue should also be lesser than 1 billion.";
+    /** The values {@link #isValidValue(String)} accepts, which it checks without a regex. */
     public static final String VALIDATION_REGEX = "^\\d{1,9}(\\.\\d{0,2})?$";
 
-    private Double amount;
+    private final long cents;
 
     /**
      * Constructs a {@code BudgetValue} that allows $0.
@@ -25,7 +27,17 @@ public class BudgetValue {
     public BudgetValue(String value) {
         requireNonNull(value);
         checkArgument(isValidValue(value), VALUE_CONSTRAINTS);
-        this.amount = Double.parseDouble(value);
+        this.cents = MoneyUtil.parseCents(value);
+    }
+
+    /**
+     * Constructs a {@code BudgetValue} of {@code cents} cents, which allows $0.
+     *
+     * @param cents Monetary cost describing the value, in cents.
+     */
+    public BudgetValue(long cents) {
+        checkArgument(isValidCents(cents), VALUE_CONSTRAINTS);
+        this.cents = cents;
     }
 
     /**
@@ -34,16 +46,28 @@ public class BudgetValue {
      * @return true if amount is a valid double.
      */
     public static boolean isValidValue(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isValidCents(MoneyUtil.parseCents(test));
     }
 
     /**
-     * Returns this object's value in double.
+     * Returns true if a given amount of cents is a valid monetary value.
+     */
+    public static boolean isValidCents(long cents) {
+        return cents >= 0 && cents < MoneyUtil.CENTS_PER_UNIT * 1_000_000_000L;
+    }
+
+    /**
+     * Returns this object's value in cents.
      */
-    public Double getMonetaryValue() {
-        assert amount != null;
+    public long getCents() {
+        return cents;
+    }
 
-        return this.amount;
+    /**
+     * Returns this object's value in double.
+     */
+    public double getMonetaryValue() {
+        return MoneyUtil.toUnits(cents);
     }
 
     /**
@@ -51,25 +75,23 @@ public class BudgetValue {
      * storing.
      */
     public String getUnformattedString() {
-        return String.format("%.2f", getMonetaryValue());
+        return MoneyUtil.toPlainString(cents);
     }
 
     @Override
     public String toString() {
-        assert amount != null;
-
-        return String.valueOf(DECIMAL_FORMATTER.format(amount));
+        return MoneyUtil.toGroupedString(cents);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof BudgetValue // instanceof handles nulls
-                && amount.equals(((BudgetValue) other).amount)); // state check
+                && cents == ((BudgetValue) other).cents); // state check
     }
 
     @Override
     public int hashCode() {
-        return amount.hashCode();
+        return Long.hashCode(cents);
     }
 }
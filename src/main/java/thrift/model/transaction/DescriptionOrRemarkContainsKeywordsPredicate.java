@@ -2,6 +2,7 @@ package thrift.model.transaction;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -17,6 +18,13 @@ public class DescriptionOrRemarkContainsKeywordsPredicate implements Predicate<T
         this.keywords = keywords;
     }
 
+    /**
+     * Returns the keywords, any of which a matching description or remark contains.
+     */
+    public List<String> getKeywords() {
+        return Collections.unmodifiableList(keywords);
+    }
+
     @Override
     public boolean test(Transaction transaction) {
         requireNonNull(transaction);
@@ -0,0 +1,61 @@
+package thrift.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import thrift.commons.util.StringUtil;
+
+/**
+ * Tests that a word of a {@code Transaction}'s {@code Description} or {@code Remark} matches any of the search terms
+ * given, and rates how well the transaction matches.
+ */
+public class DescriptionOrRemarkMatchesSearchTermsPredicate implements Predicate<Transaction> {
+    private final List<SearchTerm> searchTerms;
+
+    public DescriptionOrRemarkMatchesSearchTermsPredicate(List<SearchTerm> searchTerms) {
+        requireNonNull(searchTerms);
+        this.searchTerms = searchTerms;
+    }
+
+    /**
+     * Returns the search terms, any of which a word of a matching description or remark matches.
+     */
+    public List<SearchTerm> getSearchTerms() {
+        return Collections.unmodifiableList(searchTerms);
+    }
+
+    /**
+     * Returns the best match quality of any word of the description and remark of {@code transaction} for any of the
+     * search terms, or {@link SearchTerm#NO_MATCH}. Lower is better.
+     */
+    public int getMatchQuality(Transaction transaction) {
+        requireNonNull(transaction);
+
+        Set<String> wordKeys = StringUtil.getWordKeysIgnoreCase(transaction.getDescription().toString());
+        wordKeys.addAll(StringUtil.getWordKeysIgnoreCase(transaction.getRemark().toString()));
+        int bestQuality = SearchTerm.NO_MATCH;
+        for (SearchTerm searchTerm : searchTerms) {
+            for (String wordKey : wordKeys) {
+                bestQuality = Math.min(bestQuality, searchTerm.getMatchQuality(wordKey));
+            }
+        }
+        return bestQuality;
+    }
+
+    @Override
+    public boolean test(Transaction transaction) {
+        return getMatchQuality(transaction) != SearchTerm.NO_MATCH;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DescriptionOrRemarkMatchesSearchTermsPredicate // instanceof handles nulls
+                && searchTerms.equals(((DescriptionOrRemarkMatchesSearchTermsPredicate) other).searchTerms));
+    }
+
+}
@@ -2,12 +2,11 @@ package thrift.model.transaction;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import thrift.model.tag.Tag;
+import thrift.model.tag.TagSet;
 
 /**
  * Represents an Income in the transactions list.
@@ -20,7 +19,7 @@ public class Income extends Transaction {
     private final TransactionDate date;
     private final Value value;
     private final Remark remark;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
 
     /**
      * Every field must be present and not null.
@@ -30,7 +29,7 @@ public class Income extends Transaction {
         this.value = value;
         this.remark = remark;
         this.date = date;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
     }
 
     public Description getDescription() {
@@ -54,7 +53,7 @@ public class Income extends Transaction {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -0,0 +1,207 @@
+package thrift.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * An inverted index from keys, such as tags or words, to the transactions with each key, kept up to date as
+ * transactions are added to and removed from a {@link TransactionList}. <br>
+ * Every transaction in the list is given a small slot number, and each key keeps the slots of its transactions in a
+ * {@code BitSet}, so the transactions with all or any of several keys are found by intersecting or uniting the bit sets
+ * instead of going through the list. The same transaction object may be in the list more than once, so each slot also
+ * counts its copies.
+ *
+ * @param <K> the type of the keys of a transaction.
+ */
+abstract class InvertedTransactionIndex<K> {
+
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private final Map<K, BitSet> postings;
+
+    /** The slots that are not in use. */
+    private final BitSet freeSlots = new BitSet();
+
+    private Transaction[] transactions = new Transaction[16];
+    private int[] copyCounts = new int[16];
+    private int slotCount = 0;
+
+    /** Changed whenever a key gets its first transaction or loses its last one. */
+    private int keysVersion = 0;
+
+    InvertedTransactionIndex() {
+        this(new HashMap<>());
+    }
+
+    /**
+     * Creates an index that keeps the postings of each key in {@code postings}, which must be empty.
+     */
+    InvertedTransactionIndex(Map<K, BitSet> postings) {
+        this.postings = postings;
+    }
+
+    /**
+     * Returns the distinct keys of {@code transaction}. The keys of a transaction must never change.
+     */
+    abstract Collection<K> getKeys(Transaction transaction);
+
+    /**
+     * Adds {@code transaction} to the postings of each of its keys.
+     */
+    void add(Transaction transaction) {
+        requireNonNull(transaction);
+
+        Integer slot = slotsById.get(transaction.getId());
+        if (slot != null) {
+            copyCounts[slot]++;
+            return;
+        }
+
+        int newSlot = takeFreeSlot();
+        transactions[newSlot] = transaction;
+        copyCounts[newSlot] = 1;
+        slotsById.put(transaction.getId(), newSlot);
+        for (K key : getKeys(transaction)) {
+            postings.computeIfAbsent(key, unused -> {
+                keysVersion++;
+                return new BitSet();
+            }).set(newSlot);
+        }
+    }
+
+    /**
+     * Removes one copy of {@code transaction}, which must have been added before, from the postings of each of its
+     * keys.
+     */
+    void remove(Transaction transaction) {
+        requireNonNull(transaction);
+
+        int slot = slotsById.get(transaction.getId());
+        if (--copyCounts[slot] > 0) {
+            return;
+        }
+
+        for (K key : getKeys(transaction)) {
+            BitSet posting = postings.get(key);
+            posting.clear(slot);
+            if (posting.isEmpty()) {
+                postings.remove(key);
+                keysVersion++;
+            }
+        }
+        slotsById.remove(transaction.getId());
+        transactions[slot] = null;
+        freeSlots.set(slot);
+    }
+
+    /**
+     * Returns the lowest free slot, growing the slot arrays if every slot is in use.
+     */
+    private int takeFreeSlot() {
+        int slot = freeSlots.nextSetBit(0);
+        if (slot != -1) {
+            freeSlots.clear(slot);
+            return slot;
+        }
+        if (slotCount == transactions.length) {
+            transactions = Arrays.copyOf(transactions, slotCount * 2);
+            copyCounts = Arrays.copyOf(copyCounts, slotCount * 2);
+        }
+        return slotCount++;
+    }
+
+    /**
+     * Returns the slots of the transactions with every key in {@code keys} if {@code isMatchingAll}, or with any of
+     * them otherwise. No keys match no transactions.
+     */
+    BitSet getSlotsWithKeys(Collection<K> keys, boolean isMatchingAll) {
+        requireNonNull(keys);
+        Iterator<K> iterator = keys.iterator();
+        if (!iterator.hasNext()) {
+            return new BitSet();
+        }
+
+        BitSet slots = (BitSet) postings.getOrDefault(iterator.next(), new BitSet()).clone();
+        while (iterator.hasNext() && !(isMatchingAll && slots.isEmpty())) {
+            BitSet posting = postings.getOrDefault(iterator.next(), new BitSet());
+            if (isMatchingAll) {
+                slots.and(posting);
+            } else {
+                slots.or(posting);
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Returns true if {@code transaction} is in the index and has any of {@code keys}.
+     */
+    boolean hasAnyKey(Transaction transaction, Collection<K> keys) {
+        Integer slot = slotsById.get(transaction.getId());
+        return slot != null && keys.stream().anyMatch(key -> hasKey(slot, key));
+    }
+
+    /**
+     * Returns the slot of {@code transaction}, the same object rather than an equal one, or -1 if it is not in the
+     * index.
+     */
+    int getSlot(Transaction transaction) {
+        Integer slot = slotsById.get(transaction.getId());
+        return slot != null && transactions[slot] == transaction ? slot : -1;
+    }
+
+    /**
+     * Returns true if the transaction in {@code slot} has {@code key}.
+     */
+    boolean hasKey(int slot, K key) {
+        BitSet posting = postings.get(key);
+        return posting != null && posting.get(slot);
+    }
+
+    /**
+     * Returns a number that changes whenever a key gets its first transaction or loses its last one, so that
+     * anything worked out from the keys of the index can tell when to work it out again.
+     */
+    int getKeysVersion() {
+        return keysVersion;
+    }
+
+    /**
+     * Returns true if {@code transaction}, the same object rather than an equal one, is in the index.
+     */
+    boolean contains(Transaction transaction) {
+        return getSlot(transaction) != -1;
+    }
+
+    /**
+     * Returns the transaction in {@code slot}, which must be in use.
+     */
+    Transaction getTransaction(int slot) {
+        return transactions[slot];
+    }
+
+    /**
+     * Returns the number of copies in the list of the transaction in {@code slot}, which must be in use.
+     */
+    int getCopyCount(int slot) {
+        return copyCounts[slot];
+    }
+
+    /**
+     * Forgets every transaction.
+     */
+    void clear() {
+        slotsById.clear();
+        postings.clear();
+        keysVersion++;
+        freeSlots.clear();
+        Arrays.fill(transactions, 0, slotCount, null);
+        slotCount = 0;
+    }
+
+}
@@ -0,0 +1,173 @@
+package thrift.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+
+import thrift.model.util.CurrencyUtil;
+import thrift.model.util.PackedDateUtil;
+
+/**
+ * Running totals of the income and expense of every month, kept up to date as transactions are added and removed,
+ * so that the totals of a month are read without going through its transactions. <br>
+ * Amounts are kept exactly, in cents of their own currency, and only converted into the default currency when read,
+ * so removing a transaction always undoes adding it, and the totals follow changes to the currency mappings. Each
+ * transaction is converted and rounded on its own, as by {@link Value#getMonetaryCents()}, so a total is always the
+ * sum of the values of its transactions as they are listed.
+ */
+public class MonthlyTotals {
+
+    private final Map<Integer, MonthTotal> incomeTotals = new HashMap<>();
+    private final Map<Integer, MonthTotal> expenseTotals = new HashMap<>();
+
+    /**
+     * Adds the value of {@code transaction} to the totals of its month.
+     */
+    void add(Transaction transaction) {
+        update(transaction, 1);
+    }
+
+    /**
+     * Removes the value of {@code transaction}, which must have been added before, from the totals of its month.
+     */
+    void remove(Transaction transaction) {
+        update(transaction, -1);
+    }
+
+    /**
+     * Adds {@code sign} times the value of {@code transaction} to the totals of its month, forgetting months whose
+     * totals drop back to having no transactions.
+     */
+    private void update(Transaction transaction, int sign) {
+        requireNonNull(transaction);
+
+        Map<Integer, MonthTotal> totals = transaction instanceof Income ? incomeTotals : expenseTotals;
+        int month = transaction.getDate().getPackedYearMonth();
+        MonthTotal monthTotal = totals.computeIfAbsent(month, unused -> new MonthTotal());
+        monthTotal.update(transaction.getValue(), sign);
+        if (monthTotal.isEmpty()) {
+            totals.remove(month);
+        }
+    }
+
+    /**
+     * Returns the total income of {@code month}, in cents of the default currency.
+     */
+    public long getIncomeCents(YearMonth month) {
+        requireNonNull(month);
+        return toDefaultCurrency(incomeTotals.get(PackedDateUtil.toPackedYearMonth(month)));
+    }
+
+    /**
+     * Returns the total income of the months from {@code startMonth} to {@code endMonth}, both inclusive, in cents of
+     * the default currency.
+     */
+    public long getIncomeCents(YearMonth startMonth, YearMonth endMonth) {
+        return getCentsBetween(incomeTotals, startMonth, endMonth);
+    }
+
+    /**
+     * Returns the total expense of {@code month}, in cents of the default currency.
+     */
+    public long getExpenseCents(YearMonth month) {
+        requireNonNull(month);
+        return toDefaultCurrency(expenseTotals.get(PackedDateUtil.toPackedYearMonth(month)));
+    }
+
+    /**
+     * Returns the total expense of the months from {@code startMonth} to {@code endMonth}, both inclusive, in cents of
+     * the default currency.
+     */
+    public long getExpenseCents(YearMonth startMonth, YearMonth endMonth) {
+        return getCentsBetween(expenseTotals, startMonth, endMonth);
+    }
+
+    /**
+     * Returns the sum of {@code totals} of the months from {@code startMonth} to {@code endMonth}, both inclusive, in
+     * cents of the default currency. Either the months of the range or the months with totals are gone through,
+     * whichever are fewer.
+     */
+    private static long getCentsBetween(Map<Integer, MonthTotal> totals, YearMonth startMonth,
+            YearMonth endMonth) {
+        requireNonNull(startMonth);
+        requireNonNull(endMonth);
+        int start = PackedDateUtil.toPackedYearMonth(startMonth);
+        int end = PackedDateUtil.toPackedYearMonth(endMonth);
+
+        long total = 0;
+        if ((long) end - start < totals.size()) {
+            for (int month = start; month <= end; month++) {
+                total += toDefaultCurrency(totals.get(month));
+            }
+        } else {
+            for (Map.Entry<Integer, MonthTotal> monthTotals : totals.entrySet()) {
+                if (start <= monthTotals.getKey() && monthTotals.getKey() <= end) {
+                    total += toDefaultCurrency(monthTotals.getValue());
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns {@code monthTotal} in cents of the default currency, or 0 if there is none.
+     */
+    private static long toDefaultCurrency(MonthTotal monthTotal) {
+        return monthTotal == null ? 0 : monthTotal.toDefaultCurrency(CurrencyUtil.getCurrencyMap());
+    }
+
+    /**
+     * The total of the values of the transactions of a month. The cents in the default currency, which are never
+     * rounded, are summed, while the cents in each other currency are counted by amount, so that each amount can be
+     * converted and rounded on its own.
+     */
+    private static class MonthTotal {
+        private final Map<String, Map<Long, Integer>> otherCurrencyCents = new HashMap<>();
+        private long defaultCurrencyCents = 0;
+
+        /**
+         * Adds {@code sign} times {@code value}, forgetting amounts and currencies no transaction has any more.
+         */
+        void update(Value value, int sign) {
+            if (value.currency.equals(Value.DEFAULT_CURRENCY)) {
+                defaultCurrencyCents += sign * value.cents;
+                return;
+            }
+            Map<Long, Integer> amountCounts =
+                    otherCurrencyCents.computeIfAbsent(value.currency, unused -> new HashMap<>());
+            amountCounts.merge(value.cents, sign, (oldCount, newCount) -> {
+                int count = oldCount + newCount;
+                return count == 0 ? null : count;
+            });
+            if (amountCounts.isEmpty()) {
+                otherCurrencyCents.remove(value.currency);
+            }
+        }
+
+        /**
+         * Returns true if no transaction has a value in this total. Values are positive, so the default currency
+         * cents only sum to zero once every such value is removed.
+         */
+        boolean isEmpty() {
+            return defaultCurrencyCents == 0 && otherCurrencyCents.isEmpty();
+        }
+
+        /**
+         * Returns this total in cents of the default currency, with each amount converted by
+         * {@code currencyMappings} and rounded on its own.
+         */
+        long toDefaultCurrency(Map<String, Double> currencyMappings) {
+            long total = defaultCurrencyCents;
+            for (Map.Entry<String, Map<Long, Integer>> currencyCents : otherCurrencyCents.entrySet()) {
+                for (Map.Entry<Long, Integer> amountCount : currencyCents.getValue().entrySet()) {
+                    total += amountCount.getValue() * CurrencyUtil.convertCentsFromDefaultCurrency(currencyMappings,
+                            amountCount.getKey(), currencyCents.getKey());
+                }
+            }
+            return total;
+        }
+    }
+
+}
@@ -0,0 +1,311 @@
+package thrift.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An immutable list of transactions, where every change makes a new list that shares all but O(log n) of its nodes
+ * with the old one. <br>
+ * The transactions are kept in an implicit treap, as in {@link TransactionPositions}, but no node is ever changed:
+ * inserting, removing or replacing a transaction copies only the nodes on the path to it. Keeping an old list, such
+ * as a snapshot of the transactions to be saved in the background, thus costs nothing until the list changes, and
+ * the old list can be read from any thread while the new one changes. <br>
+ * Getting a transaction by position takes O(log n) time, and going through the list in order O(n) time.
+ * Guarantees: immutable; elements are non-null.
+ */
+public final class PersistentTransactionList extends AbstractList<Transaction> {
+
+    private static final PersistentTransactionList EMPTY = new PersistentTransactionList(null);
+
+    private final Node root;
+
+    private PersistentTransactionList(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    public static PersistentTransactionList empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a list of {@code transactions}, in their order. A {@code PersistentTransactionList} is returned as it is,
+     * and any other collection is built into a new list in O(n) time.
+     */
+    public static PersistentTransactionList of(Collection<? extends Transaction> transactions) {
+        requireNonNull(transactions);
+        if (transactions instanceof PersistentTransactionList) {
+            return (PersistentTransactionList) transactions;
+        }
+        if (transactions.isEmpty()) {
+            return EMPTY;
+        }
+
+        // Builds the treap as a Cartesian tree of random priorities: the right spine of the tree built so far is
+        // kept on a stack, and each new transaction takes the nodes of lower priority below it as its left subtree.
+        int size = transactions.size();
+        Transaction[] items = transactions.toArray(new Transaction[0]);
+        int[] priorities = new int[size];
+        int[] lefts = new int[size];
+        int[] rights = new int[size];
+        int[] spine = new int[size];
+        int spineSize = 0;
+        for (int i = 0; i < size; i++) {
+            requireNonNull(items[i]);
+            priorities[i] = ThreadLocalRandom.current().nextInt();
+            rights[i] = -1;
+            int lastPopped = -1;
+            while (spineSize > 0 && priorities[spine[spineSize - 1]] < priorities[i]) {
+                lastPopped = spine[--spineSize];
+            }
+            lefts[i] = lastPopped;
+            if (spineSize > 0) {
+                rights[spine[spineSize - 1]] = i;
+            }
+            spine[spineSize++] = i;
+        }
+        return new PersistentTransactionList(toNode(spine[0], items, priorities, lefts, rights));
+    }
+
+    /**
+     * Returns the node for the subtree rooted at {@code i} of the Cartesian tree described by the arrays.
+     */
+    private static Node toNode(int i, Transaction[] items, int[] priorities, int[] lefts, int[] rights) {
+        if (i == -1) {
+            return null;
+        }
+        return new Node(items[i], priorities[i], toNode(lefts[i], items, priorities, lefts, rights),
+                toNode(rights[i], items, priorities, lefts, rights));
+    }
+
+    @Override
+    public Transaction get(int index) {
+        checkIndex(index, size());
+        Node node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.transaction;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns a list with {@code transaction} inserted at {@code index}, shifting the transactions after it.
+     */
+    public PersistentTransactionList plus(int index, Transaction transaction) {
+        requireNonNull(transaction);
+        return plusAll(index, new PersistentTransactionList(
+                new Node(transaction, ThreadLocalRandom.current().nextInt(), null, null)));
+    }
+
+    /**
+     * Returns a list with all of {@code transactions} inserted at {@code index}, in their order, shifting the
+     * transactions after them.
+     */
+    public PersistentTransactionList plusAll(int index, PersistentTransactionList transactions) {
+        requireNonNull(transactions);
+        checkIndex(index, size() + 1);
+        Node[] parts = split(root, index);
+        return new PersistentTransactionList(merge(merge(parts[0], transactions.root), parts[1]));
+    }
+
+    /**
+     * Returns a list with the transaction at {@code index} replaced by {@code transaction}.
+     */
+    public PersistentTransactionList with(int index, Transaction transaction) {
+        requireNonNull(transaction);
+        checkIndex(index, size());
+        return new PersistentTransactionList(replace(root, index, transaction));
+    }
+
+    /**
+     * Returns a list without the transaction at {@code index}, shifting the transactions after it.
+     */
+    public PersistentTransactionList minus(int index) {
+        checkIndex(index, size());
+        return minusRange(index, index + 1);
+    }
+
+    /**
+     * Returns a list without the transactions from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive.
+     */
+    public PersistentTransactionList minusRange(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        Node[] parts = split(root, fromIndex);
+        Node[] removedParts = split(parts[1], toIndex - fromIndex);
+        return new PersistentTransactionList(merge(parts[0], removedParts[1]));
+    }
+
+    /**
+     * Returns the transactions from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive, as a list of their
+     * own. Unlike {@link #subList(int, int)}, the range is cut out in O(log n) time.
+     */
+    public PersistentTransactionList range(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        Node[] parts = split(root, toIndex);
+        return new PersistentTransactionList(split(parts[0], fromIndex)[1]);
+    }
+
+    @Override
+    public Iterator<Transaction> iterator() {
+        return new InOrderIterator(root);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        int index = 0;
+        for (Transaction transaction : this) {
+            if (transaction.equals(o)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Throws an {@code IndexOutOfBoundsException} unless {@code fromIndex} to {@code toIndex} is a range of the list.
+     */
+    private void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex + ") of size " + size());
+        }
+    }
+
+    /**
+     * Throws an {@code IndexOutOfBoundsException} unless {@code index} is from 0, inclusive, to {@code bound},
+     * exclusive.
+     */
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + bound);
+        }
+    }
+
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Splits the subtree of {@code node} into the first {@code count} transactions and the rest, copying the nodes on
+     * the way.
+     */
+    private static Node[] split(Node node, int count) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        if (count <= sizeOf(node.left)) {
+            Node[] parts = split(node.left, count);
+            return new Node[] {parts[0], node.withChildren(parts[1], node.right)};
+        }
+        Node[] parts = split(node.right, count - sizeOf(node.left) - 1);
+        return new Node[] {node.withChildren(node.left, parts[0]), parts[1]};
+    }
+
+    /**
+     * Joins the subtrees of {@code left} and {@code right}, in that order, copying the nodes on the way.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            return left.withChildren(left.left, merge(left.right, right));
+        }
+        return right.withChildren(merge(left, right.left), right.right);
+    }
+
+    /**
+     * Returns a copy of the subtree of {@code node} with the transaction at {@code index} replaced by
+     * {@code transaction}.
+     */
+    private static Node replace(Node node, int index, Transaction transaction) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return node.withChildren(replace(node.left, index, transaction), node.right);
+        } else if (index == leftSize) {
+            return new Node(transaction, node.priority, node.left, node.right);
+        } else {
+            return node.withChildren(node.left, replace(node.right, index - leftSize - 1, transaction));
+        }
+    }
+
+    /**
+     * A node of the treap, which is never changed once made.
+     */
+    private static final class Node {
+        private final Transaction transaction;
+        private final int priority;
+        private final Node left;
+        private final Node right;
+        private final int size;
+
+        Node(Transaction transaction, int priority, Node left, Node right) {
+            this.transaction = transaction;
+            this.priority = priority;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + 1 + sizeOf(right);
+        }
+
+        Node withChildren(Node left, Node right) {
+            return new Node(transaction, priority, left, right);
+        }
+    }
+
+    /**
+     * Goes through the transactions of a subtree in order, keeping the nodes still to be visited on a stack.
+     */
+    private static final class InOrderIterator implements Iterator<Transaction> {
+        private final Deque<Node> path = new ArrayDeque<>();
+
+        InOrderIterator(Node root) {
+            pushLeftSpine(root);
+        }
+
+        private void pushLeftSpine(Node node) {
+            for (Node current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public Transaction next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node node = path.pop();
+            pushLeftSpine(node.right);
+            return node.transaction;
+        }
+    }
+
+}
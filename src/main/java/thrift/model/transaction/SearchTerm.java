@@ -0,0 +1,179 @@
+package thrift.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+import static thrift.commons.util.AppUtil.checkArgument;
+
+import thrift.commons.util.StringUtil;
+
+/**
+ * Represents a word to search the descriptions and remarks of transactions for, ignoring case. <br>
+ * A plain word only matches the same word. A word of more than one character ending in {@link #PREFIX_WILDCARD},
+ * such as {@code starb*}, matches every word starting with it, and one ending in {@link #TYPO_MARKER}, such as
+ * {@code starbuks~}, also matches words a few typos away from it. How well a word matches is given as a match
+ * quality, where lower is better.
+ * Guarantees: immutable; is valid as declared in {@link #isValidSearchTerm(String)}
+ */
+public class SearchTerm {
+
+    public static final char PREFIX_WILDCARD = '*';
+    public static final char TYPO_MARKER = '~';
+
+    /** The match quality of a word that does not match. */
+    public static final int NO_MATCH = Integer.MAX_VALUE;
+
+    public static final String MESSAGE_CONSTRAINTS = "Search terms should be single words, optionally ending in "
+            + PREFIX_WILDCARD + " to match words starting with them or in " + TYPO_MARKER + " to allow typos";
+
+    /** Typo-tolerant words this long or shorter allow no typos. */
+    private static final int MAX_LENGTH_WITHOUT_TYPOS = 2;
+
+    /** Typo-tolerant words this long or shorter allow one typo, and longer words allow {@link #MAX_TYPOS}. */
+    private static final int MAX_LENGTH_WITH_ONE_TYPO = 5;
+
+    private static final int MAX_TYPOS = 2;
+
+    /** The kinds of search term. */
+    enum Kind {
+        WORD, PREFIX, TYPO_TOLERANT
+    }
+
+    private final String term;
+    private final Kind kind;
+    private final String key;
+
+    /**
+     * Constructs a {@code SearchTerm}.
+     *
+     * @param term A valid search term.
+     */
+    public SearchTerm(String term) {
+        requireNonNull(term);
+        checkArgument(isValidSearchTerm(term), MESSAGE_CONSTRAINTS);
+        this.term = term;
+        char last = term.charAt(term.length() - 1);
+        this.kind = !hasMarker(term) ? Kind.WORD : last == PREFIX_WILDCARD ? Kind.PREFIX : Kind.TYPO_TOLERANT;
+        this.key = StringUtil.toWordKeyIgnoreCase(getWord(term));
+    }
+
+    /**
+     * Returns true if {@code term} is a single word, which is not empty without its {@link #PREFIX_WILDCARD} or
+     * {@link #TYPO_MARKER}.
+     */
+    public static boolean isValidSearchTerm(String term) {
+        String word = getWord(term).trim();
+        return !word.isEmpty() && word.split("\\s+").length == 1;
+    }
+
+    /**
+     * Returns true if {@code term} is longer than one character and ends in {@link #PREFIX_WILDCARD} or
+     * {@link #TYPO_MARKER}. A lone {@code *} or {@code ~} is a plain word.
+     */
+    public static boolean hasMarker(String term) {
+        char last = term.length() < 2 ? ' ' : term.charAt(term.length() - 1);
+        return last == PREFIX_WILDCARD || last == TYPO_MARKER;
+    }
+
+    /**
+     * Returns {@code term} without its {@link #PREFIX_WILDCARD} or {@link #TYPO_MARKER}, if any.
+     */
+    private static String getWord(String term) {
+        return hasMarker(term) ? term.substring(0, term.length() - 1) : term;
+    }
+
+    /**
+     * Returns the kind of the term.
+     */
+    Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the key of the word of the term, without its {@link #PREFIX_WILDCARD} or {@link #TYPO_MARKER}, as given
+     * by {@link StringUtil#toWordKeyIgnoreCase(String)}.
+     */
+    String getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the largest number of typos a word matching the term may have.
+     */
+    int getMaxTypos() {
+        if (kind != Kind.TYPO_TOLERANT || key.length() <= MAX_LENGTH_WITHOUT_TYPOS) {
+            return 0;
+        }
+        return key.length() <= MAX_LENGTH_WITH_ONE_TYPO ? 1 : MAX_TYPOS;
+    }
+
+    /**
+     * Returns how well the word with the key {@code wordKey}, as given by
+     * {@link StringUtil#getWordKeysIgnoreCase(String)}, matches the term: 0 for the same word, 1 for a longer word
+     * starting with a prefix, the number of typos for a typo-tolerant term, or {@link #NO_MATCH}.
+     */
+    int getMatchQuality(String wordKey) {
+        switch (kind) {
+        case PREFIX:
+            return wordKey.equals(key) ? 0 : wordKey.startsWith(key) ? 1 : NO_MATCH;
+        case TYPO_TOLERANT:
+            int typos = getEditDistance(key, wordKey, getMaxTypos());
+            return typos <= getMaxTypos() ? typos : NO_MATCH;
+        default:
+            return wordKey.equals(key) ? 0 : NO_MATCH;
+        }
+    }
+
+    /**
+     * Returns the number of single character insertions, deletions and substitutions that turn {@code first} into
+     * {@code second}, or {@code max + 1} if it is more than {@code max}.
+     */
+    static int getEditDistance(String first, String second, int max) {
+        if (Math.abs(first.length() - second.length()) > max) {
+            return max + 1;
+        }
+        int[] row = new int[first.length() + 1];
+        for (int j = 0; j < row.length; j++) {
+            row[j] = j;
+        }
+        for (int i = 1; i <= second.length(); i++) {
+            if (getNextEditDistanceRow(first, second.charAt(i - 1), row) > max) {
+                return max + 1;
+            }
+        }
+        return Math.min(row[first.length()], max + 1);
+    }
+
+    /**
+     * Turns {@code row}, the edit distances from each prefix of {@code word} to some text, into the edit distances to
+     * that text followed by {@code next}, and returns the smallest of them.
+     */
+    static int getNextEditDistanceRow(String word, char next, int[] row) {
+        int diagonal = row[0];
+        row[0]++;
+        int min = row[0];
+        for (int j = 1; j < row.length; j++) {
+            int above = row[j];
+            row[j] = Math.min(Math.min(above, row[j - 1]) + 1, diagonal + (word.charAt(j - 1) == next ? 0 : 1));
+            diagonal = above;
+            min = Math.min(min, row[j]);
+        }
+        return min;
+    }
+
+    @Override
+    public String toString() {
+        return term;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SearchTerm // instanceof handles nulls
+                && term.equals(((SearchTerm) other).term)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return term.hashCode();
+    }
+
+}
@@ -0,0 +1,133 @@
+package thrift.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+import static thrift.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Represents an ID of a transaction that stays the same across sessions. <br>
+ * Unlike {@link Transaction#getId()}, which is given to each Transaction object as it is made, the stable ID is a
+ * 64-bit fingerprint of the fields of the transaction as they are saved, so a transaction read back from the data file
+ * in a later session has the same stable ID. The value and date are fingerprinted as the cents, currency and day they
+ * stand for, which every data format keeps, rather than as they were written. Transactions with the same saved fields
+ * share a stable ID, so it is used together with a position near which to look for the transaction, as done by
+ * {@link #findNear(List, int)}.
+ * Guarantees: immutable; is valid as declared in {@link #isValidStableTransactionId(String)}
+ */
+public final class StableTransactionId {
+
+    public static final String MESSAGE_CONSTRAINTS = "Stable transaction IDs should be 16 hexadecimal digits";
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final char FIELD_SEPARATOR = '\u0000';
+
+    private final long value;
+
+    private StableTransactionId(long value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the stable ID of {@code transaction}.
+     */
+    public static StableTransactionId of(Transaction transaction) {
+        requireNonNull(transaction);
+        List<String> tagNames = transaction.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toList());
+        long hash = FNV_OFFSET_BASIS;
+        hash = hashField(hash, transaction instanceof Expense ? "expense" : "income");
+        hash = hashField(hash, transaction.getDescription().toString());
+        hash = hashField(hash, Long.toString(transaction.getValue().cents));
+        hash = hashField(hash, transaction.getValue().currency);
+        hash = hashField(hash, transaction.getRemark().toString());
+        hash = hashField(hash, Long.toString(transaction.getDate().getEpochDay()));
+        for (String tagName : tagNames) {
+            hash = hashField(hash, tagName);
+        }
+        return new StableTransactionId(hash);
+    }
+
+    /**
+     * Returns the stable ID written as {@code id} by {@link #toString()}.
+     *
+     * @param id A valid stable transaction ID.
+     */
+    public static StableTransactionId fromString(String id) {
+        requireNonNull(id);
+        checkArgument(isValidStableTransactionId(id), MESSAGE_CONSTRAINTS);
+        return new StableTransactionId(Long.parseUnsignedLong(id, 16));
+    }
+
+    /**
+     * Returns true if {@code test} is 16 hexadecimal digits.
+     */
+    public static boolean isValidStableTransactionId(String test) {
+        return test.matches("[0-9a-f]{16}");
+    }
+
+    /**
+     * Returns {@code hash} with the characters of {@code field} and a separator hashed into it, by FNV-1a.
+     */
+    private static long hashField(long hash, String field) {
+        for (int i = 0; i < field.length(); i++) {
+            hash = (hash ^ field.charAt(i)) * FNV_PRIME;
+        }
+        return (hash ^ FIELD_SEPARATOR) * FNV_PRIME;
+    }
+
+    /**
+     * Returns true if this is the stable ID of {@code transaction}.
+     */
+    public boolean identifies(Transaction transaction) {
+        return of(transaction).value == value;
+    }
+
+    /**
+     * Returns the index in {@code transactions} of the transaction with this stable ID that is nearest to
+     * {@code hint}, the earlier one of two equally near, or -1 if there is none. <br>
+     * Takes O(d) time for a transaction d positions away from {@code hint}, so a transaction still at the position it
+     * was last seen at is found at once.
+     */
+    public int findNear(List<Transaction> transactions, int hint) {
+        requireNonNull(transactions);
+        int size = transactions.size();
+        int start = Math.max(0, Math.min(hint, size - 1));
+        for (int distance = 0; distance < size; distance++) {
+            int before = start - distance;
+            int after = start + distance;
+            if (before < 0 && after >= size) {
+                break;
+            }
+            if (before >= 0 && identifies(transactions.get(before))) {
+                return before;
+            }
+            if (distance > 0 && after < size && identifies(transactions.get(after))) {
+                return after;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StableTransactionId // instanceof handles nulls
+                && value == ((StableTransactionId) other).value); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x", value);
+    }
+
+}
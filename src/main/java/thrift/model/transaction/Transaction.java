@@ -1,6 +1,7 @@
 package thrift.model.transaction;
 
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import thrift.model.tag.Tag;
 
@@ -11,8 +12,23 @@ import thrift.model.tag.Tag;
  */
 public abstract class Transaction {
 
+    private static final AtomicLong latestId = new AtomicLong();
+
+    private final long id = latestId.incrementAndGet();
+
     public abstract boolean isSameTransaction(Transaction otherTransaction);
 
+    /**
+     * Gets the ID of this Transaction object, which no other Transaction object has. The ID identifies this object
+     * wherever it is moved to in a list, but it is not part of the transaction's data, so it is neither compared by
+     * {@code equals} nor saved.
+     *
+     * @return This Transaction object's ID.
+     */
+    public long getId() {
+        return id;
+    }
+
     /**
      * Get this Transaction object's Description.
      *
@@ -44,7 +60,8 @@ public abstract class Transaction {
     public abstract Remark getRemark();
 
     /**
-     * Gets this Transaction object's set of Tag.
+     * Gets this Transaction object's set of Tag, which is an immutable {@link thrift.model.tag.TagSet} of interned
+     * tags.
      *
      * @return Set&lt;Tag&gt; belonging to this Transaction object.
      */
@@ -3,38 +3,53 @@ package thrift.model.transaction;
 import static java.util.Objects.requireNonNull;
 import static thrift.commons.util.AppUtil.checkArgument;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+import thrift.model.util.PackedDateUtil;
 
 
 /**
  * Represents the Date whereby the Transaction is created on.
+ * Guarantees: immutable; is valid as declared in {@link #isValidDate(String)}
  */
 public class TransactionDate {
 
     public static final String DATE_CONSTRAINTS =
             "Date should be specified in dd/MM/yyyy format";
-    public static final SimpleDateFormat DATE_FORMATTER = new SimpleDateFormat("dd/MM/yyyy");
-    private Date date;
-    private String rawDate;
+
+    /** Formats dates in the format of a {@code TransactionDate}. Unlike {@code SimpleDateFormat}, it is thread-safe. */
+    public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/uuuu");
+
+    private final String rawDate;
+    private final long epochDay;
+    private final int packedYearMonth;
 
     /**
      * Constructs a {@code TransactionDate}.
      *
      * @param date Datestamp for the Transaction.
-     * @throws ParseException If invalid date String is supplied, but it will be handled in
-     * {@link #isValidDate(String)}.
      */
     public TransactionDate(String date) {
         requireNonNull(date);
-        checkArgument(isValidDate(date), DATE_CONSTRAINTS);
-        try {
-            this.date = DATE_FORMATTER.parse(date);
-            rawDate = date;
-        } catch (ParseException e) {
-            e.printStackTrace();
-        }
+        long parsedEpochDay = PackedDateUtil.parseEpochDay(date);
+        checkArgument(parsedEpochDay != PackedDateUtil.INVALID_EPOCH_DAY, DATE_CONSTRAINTS);
+        rawDate = date;
+        epochDay = parsedEpochDay;
+        packedYearMonth = PackedDateUtil.toPackedYearMonth(epochDay);
+    }
+
+    /**
+     * Constructs a {@code TransactionDate} on the day {@code epochDay}, counted from 1 January 1970.
+     *
+     * @param epochDay Epoch day for the Transaction.
+     */
+    public TransactionDate(long epochDay) {
+        checkArgument(PackedDateUtil.isValidEpochDay(epochDay), DATE_CONSTRAINTS);
+        rawDate = PackedDateUtil.formatEpochDay(epochDay);
+        this.epochDay = epochDay;
+        packedYearMonth = PackedDateUtil.toPackedYearMonth(epochDay);
     }
 
     /**
@@ -44,30 +59,49 @@ public class TransactionDate {
      * @return true if the supplied string is a valid Date.
      */
     public static boolean isValidDate(String date) {
-        try {
-            DATE_FORMATTER.setLenient(false);
-            DATE_FORMATTER.parse(date);
-            return true;
-        } catch (ParseException ex) {
-            return false;
-        }
+        return PackedDateUtil.parseEpochDay(date) != PackedDateUtil.INVALID_EPOCH_DAY;
     }
 
     /**
-     * Gets the Date object for the Transaction.
+     * Gets the date of the Transaction.
      *
-     * @return Date object belonging to the Transaction.
+     * @return LocalDate the Transaction was created on.
      */
-    public Date getDate() {
-        assert this.date != null;
+    public LocalDate getLocalDate() {
+        return LocalDate.ofEpochDay(epochDay);
+    }
 
-        return this.date;
+    /**
+     * Gets the month and year of the Transaction.
+     *
+     * @return YearMonth the Transaction was created in.
+     */
+    public YearMonth getYearMonth() {
+        return PackedDateUtil.toYearMonth(packedYearMonth);
+    }
+
+    /**
+     * Gets the month and year of the Transaction as a packed year-month of {@link PackedDateUtil}, so that months can
+     * be compared without allocating any objects.
+     *
+     * @return Packed year-month the Transaction was created in.
+     */
+    public int getPackedYearMonth() {
+        return packedYearMonth;
+    }
+
+    /**
+     * Gets the day of the Transaction, counted from 1 January 1970, so that dates can be compared and ordered
+     * without building a {@code Calendar}.
+     *
+     * @return Epoch day the Transaction was created on.
+     */
+    public long getEpochDay() {
+        return epochDay;
     }
 
     @Override
     public String toString() {
-        assert rawDate != null;
-
         return rawDate;
     }
 
@@ -75,12 +109,12 @@ public class TransactionDate {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof TransactionDate // instanceof handles nulls
-                && date.equals(((TransactionDate) other).date)); // state check
+                && epochDay == ((TransactionDate) other).epochDay); // state check
     }
 
     @Override
     public int hashCode() {
-        return date.hashCode();
+        return Long.hashCode(epochDay);
     }
 
 }
@@ -0,0 +1,38 @@
+package thrift.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import thrift.model.tag.Tag;
+
+/**
+ * Tests that a {@code Transaction} is tagged with all of the given tags, or with any of them.
+ */
+public class TransactionHasTagsPredicate implements Predicate<Transaction> {
+    private final Set<Tag> tags;
+    private final boolean isMatchingAll;
+
+    public TransactionHasTagsPredicate(Set<Tag> tags, boolean isMatchingAll) {
+        requireNonNull(tags);
+        this.tags = Set.copyOf(tags);
+        this.isMatchingAll = isMatchingAll;
+    }
+
+    @Override
+    public boolean test(Transaction transaction) {
+        Set<Tag> transactionTags = transaction.getTags();
+        return isMatchingAll
+                ? !tags.isEmpty() && transactionTags.containsAll(tags)
+                : tags.stream().anyMatch(transactionTags::contains);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TransactionHasTagsPredicate // instanceof handles nulls
+                && tags.equals(((TransactionHasTagsPredicate) other).tags)
+                && isMatchingAll == ((TransactionHasTagsPredicate) other).isMatchingAll); // state check
+    }
+}
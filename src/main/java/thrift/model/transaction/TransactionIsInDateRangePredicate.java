@@ -0,0 +1,33 @@
+package thrift.model.transaction;
+
+import static thrift.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code Transaction}'s {@code date} is between the given start and end dates, both inclusive.
+ */
+public class TransactionIsInDateRangePredicate implements Predicate<Transaction> {
+    private final TransactionDate startDate;
+    private final TransactionDate endDate;
+
+    public TransactionIsInDateRangePredicate(TransactionDate startDate, TransactionDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    @Override
+    public boolean test(Transaction transaction) {
+        long epochDay = transaction.getDate().getEpochDay();
+        return startDate.getEpochDay() <= epochDay && epochDay <= endDate.getEpochDay();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TransactionIsInDateRangePredicate // instanceof handles nulls
+                && startDate.equals(((TransactionIsInDateRangePredicate) other).startDate)
+                && endDate.equals(((TransactionIsInDateRangePredicate) other).endDate)); // state check
+    }
+}
@@ -5,35 +5,35 @@ import static java.util.Objects.requireNonNull;
 import java.util.Calendar;
 import java.util.function.Predicate;
 
+import thrift.model.util.PackedDateUtil;
+
 /**
  * Tests that a {@code Transaction}'s {@code monthYear} matches the given monthYear.
+ * The months are compared as packed year-months, so testing a transaction allocates nothing.
  */
 public class TransactionIsInMonthYearPredicate implements Predicate<Transaction> {
-    private final Calendar monthYear;
+    private final int packedYearMonth;
 
     public TransactionIsInMonthYearPredicate(Calendar monthYear) {
-        this.monthYear = monthYear;
+        requireNonNull(monthYear);
+        this.packedYearMonth = PackedDateUtil.toPackedYearMonth(monthYear);
+    }
+
+    public TransactionIsInMonthYearPredicate(int packedYearMonth) {
+        this.packedYearMonth = packedYearMonth;
     }
 
     @Override
     public boolean test(Transaction transaction) {
         requireNonNull(transaction);
-        assert monthYear != null;
-
-        Calendar transactionMonthYear = Calendar.getInstance();
-        transactionMonthYear.setTime(transaction.getDate().getDate());
 
-        return monthYear.get(Calendar.MONTH) == transactionMonthYear.get(Calendar.MONTH)
-                && monthYear.get(Calendar.YEAR) == transactionMonthYear.get(Calendar.YEAR) ? true : false;
+        return transaction.getDate().getPackedYearMonth() == packedYearMonth;
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof TransactionIsInMonthYearPredicate) // instanceof handles nulls
-                && (((TransactionIsInMonthYearPredicate) other).monthYear.get(Calendar.MONTH)
-                == monthYear.get(Calendar.MONTH)
-                && ((TransactionIsInMonthYearPredicate) other).monthYear.get(Calendar.YEAR)
-                == monthYear.get(Calendar.YEAR));
+                && ((TransactionIsInMonthYearPredicate) other).packedYearMonth == packedYearMonth;
     }
 }
@@ -3,34 +3,136 @@ package thrift.model.transaction;
 import static java.util.Objects.requireNonNull;
 import static thrift.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import thrift.commons.core.index.Index;
+import thrift.commons.util.StringUtil;
+import thrift.model.tag.Tag;
 import thrift.model.transaction.exceptions.TransactionNotFoundException;
 
 /**
  * A list of Transactions that does not allow nulls. However, the removal of a transaction
  * uses Transaction#equals(Object) so as to ensure that the transaction with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. Keeps the income and expense of every month in {@link MonthlyTotals},
+ * an index of the transactions ordered by date, the position of every transaction in {@link TransactionPositions},
+ * the transactions with each tag and with each word in {@link InvertedTransactionIndex}es, and a count of the
+ * transactions with each description and value, all of which are updated with each change to the list before any
+ * other listener of the list is notified. The transactions themselves are kept in a
+ * {@link PersistentTransactionList}, so that a snapshot of the list is taken in O(1) time.
  *
  */
 public class TransactionList implements Iterable<Transaction> {
 
-    private final ObservableList<Transaction> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Transaction> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final TransactionObservableList internalList = new TransactionObservableList();
+    private final ObservableList<Transaction> internalUnmodifiableList;
+    private final MonthlyTotals monthlyTotals = new MonthlyTotals();
+    private final NavigableMap<Long, List<Transaction>> dateIndex = new TreeMap<>();
+    private final TransactionPositions positions = new TransactionPositions();
+    private final TransactionTagIndex tagIndex = new TransactionTagIndex();
+    private final TransactionWordIndex wordIndex = new TransactionWordIndex();
+    private final Map<SameTransactionKey, Integer> sameTransactionCounts = new HashMap<>();
+
+    public TransactionList() {
+        internalList.addListener(this::updateIndices);
+        // the unmodifiable view listens to the backing list, so it is only made once the indices are up to date
+        internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+    }
+
+    /**
+     * Updates the monthly totals, the date index, the positions, the tag and word indices and the counts with the
+     * transactions removed from and added to the list in {@code change}.
+     */
+    private void updateIndices(ListChangeListener.Change<? extends Transaction> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                positions.clear();
+                for (int i = 0; i < internalList.size(); i++) {
+                    positions.insert(i, internalList.get(i));
+                }
+                continue;
+            }
+
+            boolean isAllRemoved = change.getRemovedSize() > 0 && change.getRemovedSize() == positions.size();
+            if (isAllRemoved) {
+                positions.clear();
+                tagIndex.clear();
+                wordIndex.clear();
+            } else {
+                for (int i = 0; i < change.getRemovedSize(); i++) {
+                    positions.remove(change.getFrom());
+                }
+            }
+            for (Transaction removed : change.getRemoved()) {
+                monthlyTotals.remove(removed);
+                removeFromDateIndex(removed);
+                if (!isAllRemoved) {
+                    tagIndex.remove(removed);
+                    wordIndex.remove(removed);
+                }
+                SameTransactionKey key = new SameTransactionKey(removed);
+                int count = sameTransactionCounts.get(key);
+                if (count == 1) {
+                    sameTransactionCounts.remove(key);
+                } else {
+                    sameTransactionCounts.put(key, count - 1);
+                }
+            }
+
+            int position = change.getFrom();
+            for (Transaction added : change.getAddedSubList()) {
+                monthlyTotals.add(added);
+                dateIndex.computeIfAbsent(added.getDate().getEpochDay(), unused -> new ArrayList<>(1)).add(added);
+                positions.insert(position++, added);
+                tagIndex.add(added);
+                wordIndex.add(added);
+                sameTransactionCounts.merge(new SameTransactionKey(added), 1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code transaction}, which must be in the date index, from the date index.
+     */
+    private void removeFromDateIndex(Transaction transaction) {
+        long epochDay = transaction.getDate().getEpochDay();
+        List<Transaction> sameDayTransactions = dateIndex.get(epochDay);
+        for (int i = 0; i < sameDayTransactions.size(); i++) {
+            if (sameDayTransactions.get(i) == transaction) {
+                sameDayTransactions.remove(i);
+                break;
+            }
+        }
+        if (sameDayTransactions.isEmpty()) {
+            dateIndex.remove(epochDay);
+        }
+    }
 
     /**
      * Returns true if the supplied Transaction object is inside this transaction list.
      */
     public boolean contains(Transaction toCheck) {
         requireAllNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTransaction);
+        return sameTransactionCounts.containsKey(new SameTransactionKey(toCheck));
     }
 
     /**
@@ -49,6 +151,22 @@ public class TransactionList implements Iterable<Transaction> {
         internalList.add(index.getZeroBased(), toAdd);
     }
 
+    /**
+     * Adds all of {@code toAdd} to the end of the list, in their order, as a single change of the list.
+     */
+    public void addAll(List<Transaction> toAdd) {
+        requireAllNonNull(toAdd);
+        internalList.addAll(toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to a specified index in the list, in their order.
+     */
+    public void addAll(List<Transaction> toAdd, Index index) {
+        requireAllNonNull(toAdd, index);
+        internalList.addAll(index.getZeroBased(), toAdd);
+    }
+
     /**
      * Replaces the transaction {@code target} in the list with {@code updatedTransaction}.
      * {@code target} must exist in the list.
@@ -56,7 +174,7 @@ public class TransactionList implements Iterable<Transaction> {
     public void setTransaction(Transaction target, Transaction updatedTransaction) {
         requireAllNonNull(target, updatedTransaction);
 
-        int index = internalList.indexOf(target);
+        int index = positionOf(target);
         if (index == -1) {
             throw new TransactionNotFoundException();
         }
@@ -64,6 +182,19 @@ public class TransactionList implements Iterable<Transaction> {
         internalList.set(index, updatedTransaction);
     }
 
+    /**
+     * Returns the position of {@code transaction} in the list, or of a transaction equal to it, or -1 if there is
+     * none. A transaction from the list is found by its tracked position, and a transaction with no equivalent in the
+     * list is ruled out by the counts, so only an equal copy of a transaction in the list needs the list searched.
+     */
+    private int positionOf(Transaction transaction) {
+        int position = positions.indexOf(transaction);
+        if (position != -1 || !contains(transaction)) {
+            return position;
+        }
+        return internalList.indexOf(transaction);
+    }
+
     /**
      * Replaces the given transaction {@code actualIndex} in the list with {@code updatedTransaction}.
      * {@code actualIndex} must be a valid index.
@@ -85,9 +216,11 @@ public class TransactionList implements Iterable<Transaction> {
      */
     public void remove(Transaction toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = positionOf(toRemove);
+        if (index == -1) {
             throw new TransactionNotFoundException();
         }
+        internalList.remove(index);
     }
 
     /**
@@ -106,9 +239,52 @@ public class TransactionList implements Iterable<Transaction> {
         internalList.remove(index.getZeroBased());
     }
 
+    /**
+     * Removes the transactions at {@code indices}, which must all be valid, as a single change of the list. Each run
+     * of consecutive transactions is removed at once, only shifting the transactions after it.
+     *
+     * @return the removed transactions, in the order of the list.
+     */
+    public List<Transaction> removeAll(Collection<Index> indices) {
+        requireAllNonNull(indices);
+        int[] positions = indices.stream().mapToInt(Index::getZeroBased).sorted().distinct().toArray();
+        if (positions.length == 0) {
+            return new ArrayList<>();
+        }
+        if (positions[0] < 0 || positions[positions.length - 1] >= internalList.size()) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        List<Transaction> removed = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            removed.add(internalList.get(position));
+        }
+        internalList.removeAt(positions);
+        return removed;
+    }
+
+    /**
+     * Replaces the transaction at each index of {@code replacements}, which must all be valid, with the transaction it
+     * maps to, as a single change of the list that only replaces those transactions.
+     */
+    public void replaceAll(Map<Index, Transaction> replacements) {
+        requireNonNull(replacements);
+        requireAllNonNull(replacements.keySet());
+        requireAllNonNull(replacements.values());
+
+        SortedMap<Integer, Transaction> replacementsByPosition = new TreeMap<>();
+        replacements.forEach((index, transaction) -> {
+            if (index.getZeroBased() >= internalList.size()) {
+                throw new IndexOutOfBoundsException();
+            }
+            replacementsByPosition.put(index.getZeroBased(), transaction);
+        });
+        internalList.setAt(replacementsByPosition);
+    }
+
     public void setTransactions(TransactionList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        internalList.setAll(replacement.snapshot());
     }
 
     /**
@@ -119,6 +295,14 @@ public class TransactionList implements Iterable<Transaction> {
         internalList.setAll(transactions);
     }
 
+    /**
+     * Returns the transactions now in the list, in O(1) time. The returned list is immutable and never changes, so it
+     * can be kept as a point-in-time snapshot, or read from another thread, while this list keeps changing.
+     */
+    public PersistentTransactionList snapshot() {
+        return internalList.getContents();
+    }
+
     /**
      * Returns an Optional that contains the {@link Index} of the {@code transaction}.
      *
@@ -127,12 +311,127 @@ public class TransactionList implements Iterable<Transaction> {
      */
     public Optional<Index> getIndex(Transaction transaction) {
         requireNonNull(transaction);
-        for (int i = 0; i < internalList.size(); i++) {
-            if (transaction == internalList.get(i)) {
-                return Optional.of(Index.fromZeroBased(i));
+        int position = positions.indexOf(transaction);
+        return position == -1 ? Optional.empty() : Optional.of(Index.fromZeroBased(position));
+    }
+
+    /**
+     * Returns the total income of the transactions in {@code month}, in cents of the default currency.
+     */
+    public long getIncomeCentsForMonth(YearMonth month) {
+        return monthlyTotals.getIncomeCents(month);
+    }
+
+    /**
+     * Returns the total expense of the transactions in {@code month}, in cents of the default currency.
+     */
+    public long getExpenseCentsForMonth(YearMonth month) {
+        return monthlyTotals.getExpenseCents(month);
+    }
+
+    /**
+     * Returns the total income of the transactions in the months from {@code startMonth} to {@code endMonth}, both
+     * inclusive, in cents of the default currency.
+     */
+    public long getIncomeCentsBetween(YearMonth startMonth, YearMonth endMonth) {
+        return monthlyTotals.getIncomeCents(startMonth, endMonth);
+    }
+
+    /**
+     * Returns the total expense of the transactions in the months from {@code startMonth} to {@code endMonth}, both
+     * inclusive, in cents of the default currency.
+     */
+    public long getExpenseCentsBetween(YearMonth startMonth, YearMonth endMonth) {
+        return monthlyTotals.getExpenseCents(startMonth, endMonth);
+    }
+
+    /**
+     * Returns the transactions from {@code startDate} to {@code endDate}, both inclusive, ordered by date. Only the
+     * days in the range are looked up in the date index, so the whole list is never gone through.
+     */
+    public List<Transaction> getTransactionsBetween(TransactionDate startDate, TransactionDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        List<Transaction> transactions = new ArrayList<>();
+        if (startDate.getEpochDay() > endDate.getEpochDay()) {
+            return transactions;
+        }
+        Collection<List<Transaction>> days =
+                dateIndex.subMap(startDate.getEpochDay(), true, endDate.getEpochDay(), true).values();
+        days.forEach(transactions::addAll);
+        return transactions;
+    }
+
+    /**
+     * Returns the transactions tagged with every tag in {@code tags} if {@code isMatchingAll}, or with any of them
+     * otherwise, in the order of the list. The transactions are found in the tag index, so the whole list is never
+     * gone through.
+     */
+    public List<Transaction> getTransactionsWithTags(Collection<Tag> tags, boolean isMatchingAll) {
+        requireAllNonNull(tags);
+        return toListOrder(tagIndex.getSlotsWithKeys(tags, isMatchingAll), tagIndex);
+    }
+
+    /**
+     * Returns the transactions in {@code slots} of {@code index}, each as many times as it is in the list, in the
+     * order of the list.
+     */
+    private List<Transaction> toListOrder(BitSet slots, InvertedTransactionIndex<?> index) {
+        List<Transaction> transactions = new ArrayList<>(slots.cardinality());
+        for (int slot = slots.nextSetBit(0); slot != -1; slot = slots.nextSetBit(slot + 1)) {
+            Transaction transaction = index.getTransaction(slot);
+            for (int i = index.getCopyCount(slot); i > 0; i--) {
+                transactions.add(transaction);
             }
         }
-        return Optional.empty();
+
+        Map<Long, Integer> firstPositions = new HashMap<>();
+        transactions.forEach(transaction ->
+                firstPositions.computeIfAbsent(transaction.getId(), unused -> positions.indexOf(transaction)));
+        transactions.sort(Comparator.comparing(transaction -> firstPositions.get(transaction.getId())));
+        return transactions;
+    }
+
+    /**
+     * Returns a predicate that matches the same transactions as {@code predicate}, but looks the keywords up in the
+     * word index for the transactions in the list instead of splitting their descriptions and remarks. Transactions
+     * that are not in the list are tested with {@code predicate} itself.
+     */
+    public Predicate<Transaction> getIndexedPredicate(DescriptionOrRemarkContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        List<String> keys = predicate.getKeywords().stream()
+                .map(StringUtil::toWordKeyIgnoreCase)
+                .collect(Collectors.toList());
+        return transaction -> wordIndex.contains(transaction)
+                ? wordIndex.hasAnyKey(transaction, keys)
+                : predicate.test(transaction);
+    }
+
+    /**
+     * Returns a function that gives the same match quality as {@code predicate}, but looks the matching words up in
+     * the word index for the transactions in the list instead of splitting their descriptions and remarks.
+     * Transactions that are not in the list are rated by {@code predicate} itself.
+     */
+    public ToIntFunction<Transaction> getIndexedMatchQuality(DescriptionOrRemarkMatchesSearchTermsPredicate predicate) {
+        requireNonNull(predicate);
+        return new IndexedMatchQuality(predicate);
+    }
+
+    /**
+     * Returns the total income of the transactions tagged with {@code tag} in {@code month}, in cents of the default
+     * currency.
+     */
+    public long getIncomeCentsForTagAndMonth(Tag tag, YearMonth month) {
+        MonthlyTotals tagTotals = tagIndex.getMonthlyTotals(tag);
+        return tagTotals == null ? 0 : tagTotals.getIncomeCents(month);
+    }
+
+    /**
+     * Returns the total expense of the transactions tagged with {@code tag} in {@code month}, in cents of the default
+     * currency.
+     */
+    public long getExpenseCentsForTagAndMonth(Tag tag, YearMonth month) {
+        MonthlyTotals tagTotals = tagIndex.getMonthlyTotals(tag);
+        return tagTotals == null ? 0 : tagTotals.getExpenseCents(month);
     }
 
     /**
@@ -159,4 +458,64 @@ public class TransactionList implements Iterable<Transaction> {
         return internalList.hashCode();
     }
 
+    /**
+     * Rates transactions in the list by the best match quality of the words of the word index they have. The words
+     * that match are only looked up again when the words of the index change.
+     */
+    private class IndexedMatchQuality implements ToIntFunction<Transaction> {
+        private final DescriptionOrRemarkMatchesSearchTermsPredicate predicate;
+        private int keysVersion;
+        private List<Map.Entry<String, Integer>> matchingWords;
+
+        IndexedMatchQuality(DescriptionOrRemarkMatchesSearchTermsPredicate predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public int applyAsInt(Transaction transaction) {
+            int slot = wordIndex.getSlot(transaction);
+            if (slot == -1) {
+                return predicate.getMatchQuality(transaction);
+            }
+            if (matchingWords == null || keysVersion != wordIndex.getKeysVersion()) {
+                keysVersion = wordIndex.getKeysVersion();
+                matchingWords = new ArrayList<>(wordIndex.getMatchingWords(predicate.getSearchTerms()).entrySet());
+                matchingWords.sort(Map.Entry.comparingByValue());
+            }
+
+            for (Map.Entry<String, Integer> matchingWord : matchingWords) {
+                if (wordIndex.hasKey(slot, matchingWord.getKey())) {
+                    return matchingWord.getValue();
+                }
+            }
+            return SearchTerm.NO_MATCH;
+        }
+    }
+
+    /**
+     * The fields compared by {@link Transaction#isSameTransaction(Transaction)}, so that transactions that are the
+     * same by that definition are counted together.
+     */
+    private static class SameTransactionKey {
+        private final Description description;
+        private final Value value;
+
+        SameTransactionKey(Transaction transaction) {
+            this.description = transaction.getDescription();
+            this.value = transaction.getValue();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof SameTransactionKey
+                    && description.equals(((SameTransactionKey) other).description)
+                    && value.equals(((SameTransactionKey) other).value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(description, value);
+        }
+    }
+
 }
@@ -0,0 +1,185 @@
+package thrift.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.SortedMap;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list of transactions backed by a {@link PersistentTransactionList}, so that its contents at any time
+ * are taken in O(1) time by {@link #getContents()} and stay unchanged however the list changes later. <br>
+ * Adding or replacing many transactions at once is a single change made in one go, instead of one change per
+ * transaction.
+ */
+class TransactionObservableList extends ModifiableObservableListBase<Transaction> {
+
+    private volatile PersistentTransactionList contents = PersistentTransactionList.empty();
+
+    /**
+     * Returns the transactions now in the list, which never change.
+     */
+    PersistentTransactionList getContents() {
+        return contents;
+    }
+
+    @Override
+    public Transaction get(int index) {
+        return contents.get(index);
+    }
+
+    @Override
+    public int size() {
+        return contents.size();
+    }
+
+    @Override
+    public Iterator<Transaction> iterator() {
+        return contents.iterator();
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return contents.indexOf(o);
+    }
+
+    @Override
+    protected void doAdd(int index, Transaction element) {
+        contents = contents.plus(index, element);
+    }
+
+    @Override
+    protected Transaction doSet(int index, Transaction element) {
+        Transaction old = contents.get(index);
+        contents = contents.with(index, element);
+        return old;
+    }
+
+    @Override
+    protected Transaction doRemove(int index) {
+        Transaction old = contents.get(index);
+        contents = contents.minus(index);
+        return old;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Transaction> c) {
+        return addAll(size(), c);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends Transaction> c) {
+        requireNonNull(c);
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size());
+        }
+        PersistentTransactionList added = PersistentTransactionList.of(c);
+        if (added.isEmpty()) {
+            return false;
+        }
+
+        beginChange();
+        contents = contents.plusAll(index, added);
+        modCount++;
+        nextAdd(index, index + added.size());
+        endChange();
+        return true;
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends Transaction> col) {
+        requireNonNull(col);
+        PersistentTransactionList old = contents;
+        PersistentTransactionList replacement = PersistentTransactionList.of(col);
+        if (old.isEmpty() && replacement.isEmpty()) {
+            return true;
+        }
+
+        beginChange();
+        contents = replacement;
+        modCount++;
+        if (old.isEmpty()) {
+            nextAdd(0, replacement.size());
+        } else if (replacement.isEmpty()) {
+            nextRemove(0, old);
+        } else {
+            nextReplace(0, replacement.size(), old);
+        }
+        endChange();
+        return true;
+    }
+
+    /**
+     * Removes the transactions at {@code positions}, which must be valid, distinct and in ascending order, as a single
+     * change made up of one removal per run of consecutive positions.
+     */
+    void removeAt(int[] positions) {
+        requireNonNull(positions);
+        if (positions.length == 0) {
+            return;
+        }
+
+        beginChange();
+        int removedCount = 0;
+        int runStart = 0;
+        while (runStart < positions.length) {
+            int runEnd = runStart + 1;
+            while (runEnd < positions.length && positions[runEnd] == positions[runEnd - 1] + 1) {
+                runEnd++;
+            }
+            // earlier runs are already gone, so this run now starts that many positions earlier
+            int from = positions[runStart] - removedCount;
+            int to = from + runEnd - runStart;
+            PersistentTransactionList removed = contents.range(from, to);
+            contents = contents.minusRange(from, to);
+            nextRemove(from, removed);
+            removedCount += runEnd - runStart;
+            runStart = runEnd;
+        }
+        modCount++;
+        endChange();
+    }
+
+    /**
+     * Replaces the transaction at each position of {@code replacements}, which must all be valid, with the transaction
+     * it maps to, as a single change made up of one replacement per position.
+     */
+    void setAt(SortedMap<Integer, Transaction> replacements) {
+        requireNonNull(replacements);
+        if (replacements.isEmpty()) {
+            return;
+        }
+
+        beginChange();
+        replacements.forEach((position, transaction) -> {
+            Transaction old = contents.get(position);
+            contents = contents.with(position, transaction);
+            nextSet(position, old);
+        });
+        modCount++;
+        endChange();
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        PersistentTransactionList old = contents;
+        PersistentTransactionList removed = old.range(fromIndex, toIndex);
+        if (removed.isEmpty()) {
+            return;
+        }
+
+        beginChange();
+        contents = old.minusRange(fromIndex, toIndex);
+        modCount++;
+        nextRemove(fromIndex, removed);
+        endChange();
+    }
+
+    @Override
+    public void clear() {
+        removeRange(0, size());
+    }
+
+}
@@ -0,0 +1,179 @@
+package thrift.model.transaction;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Tracks the position of every transaction in a list by the transaction's {@link Transaction#getId() ID}, so that
+ * a transaction's position is found in O(log n) time. <br>
+ * The list is mirrored as an implicit treap: a balanced tree that keeps the transactions in list order, where every
+ * node knows the size of its subtree and its parent. A transaction's position is counted by walking up from its node,
+ * and inserting or removing at any position rebalances O(log n) nodes, instead of shifting every later position.
+ */
+class TransactionPositions {
+
+    private final Map<Long, List<Node>> nodesById = new HashMap<>();
+    private final Random random = new Random();
+    private Node root;
+
+    /**
+     * Inserts {@code transaction} at {@code position}, shifting the transactions after it.
+     */
+    void insert(int position, Transaction transaction) {
+        assert position >= 0 && position <= sizeOf(root);
+
+        Node node = new Node(transaction, random.nextInt());
+        Node[] parts = split(root, position);
+        setRoot(merge(merge(parts[0], node), parts[1]));
+        nodesById.computeIfAbsent(transaction.getId(), unused -> new ArrayList<>(1)).add(node);
+    }
+
+    /**
+     * Removes the transaction at {@code position}, shifting the transactions after it.
+     */
+    void remove(int position) {
+        assert position >= 0 && position < sizeOf(root);
+
+        Node[] parts = split(root, position);
+        Node[] removedParts = split(parts[1], 1);
+        setRoot(merge(parts[0], removedParts[1]));
+
+        Node removed = removedParts[0];
+        List<Node> nodes = nodesById.get(removed.transaction.getId());
+        nodes.remove(removed);
+        if (nodes.isEmpty()) {
+            nodesById.remove(removed.transaction.getId());
+        }
+    }
+
+    /**
+     * Returns the number of transactions tracked.
+     */
+    int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Removes every transaction.
+     */
+    void clear() {
+        root = null;
+        nodesById.clear();
+    }
+
+    /**
+     * Returns the first position of {@code transaction}, the same object rather than an equal one, or -1 if it is not
+     * tracked.
+     */
+    int indexOf(Transaction transaction) {
+        List<Node> nodes = nodesById.get(transaction.getId());
+        if (nodes == null) {
+            return -1;
+        }
+        int firstPosition = Integer.MAX_VALUE;
+        for (Node node : nodes) {
+            firstPosition = Math.min(firstPosition, positionOf(node));
+        }
+        return firstPosition;
+    }
+
+    /**
+     * Returns the position of {@code node} in the list, counting the nodes before it on the way up to the root.
+     */
+    private static int positionOf(Node node) {
+        int position = sizeOf(node.left);
+        for (Node child = node, parent = node.parent; parent != null; child = parent, parent = parent.parent) {
+            if (parent.right == child) {
+                position += sizeOf(parent.left) + 1;
+            }
+        }
+        return position;
+    }
+
+    private void setRoot(Node node) {
+        root = node;
+        if (root != null) {
+            root.parent = null;
+        }
+    }
+
+    /**
+     * Splits the tree under {@code node} into the tree of its first {@code count} transactions and the tree of the
+     * rest.
+     */
+    private static Node[] split(Node node, int count) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        if (sizeOf(node.left) >= count) {
+            Node[] parts = split(node.left, count);
+            node.left = parts[1];
+            node.update();
+            return new Node[] {parts[0], node};
+        }
+        Node[] parts = split(node.right, count - sizeOf(node.left) - 1);
+        node.right = parts[0];
+        node.update();
+        return new Node[] {node, parts[1]};
+    }
+
+    /**
+     * Returns the tree of the transactions under {@code first}, followed by the transactions under {@code second}.
+     */
+    private static Node merge(Node first, Node second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (first.priority > second.priority) {
+            first.right = merge(first.right, second);
+            first.update();
+            return first;
+        }
+        second.left = merge(first, second.left);
+        second.update();
+        return second;
+    }
+
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * A transaction in the tree, ordered after the transactions in its left subtree and before those in its right
+     * subtree, and above the nodes of lower priority.
+     */
+    private static class Node {
+        private final Transaction transaction;
+        private final int priority;
+        private int size;
+        private Node left;
+        private Node right;
+        private Node parent;
+
+        Node(Transaction transaction, int priority) {
+            this.transaction = transaction;
+            this.priority = priority;
+            this.size = 1;
+        }
+
+        /**
+         * Recounts the size of this node's subtree and makes this node the parent of its children.
+         */
+        void update() {
+            size = 1 + sizeOf(left) + sizeOf(right);
+            if (left != null) {
+                left.parent = this;
+            }
+            if (right != null) {
+                right.parent = this;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+package thrift.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import thrift.model.tag.Tag;
+
+/**
+ * An inverted index from each tag to the transactions tagged with it, which also keeps the {@link MonthlyTotals} of
+ * the transactions with each tag.
+ */
+class TransactionTagIndex extends InvertedTransactionIndex<Tag> {
+
+    private final Map<Tag, MonthlyTotals> monthlyTotals = new HashMap<>();
+
+    @Override
+    Collection<Tag> getKeys(Transaction transaction) {
+        return transaction.getTags();
+    }
+
+    /**
+     * Adds {@code transaction} to the postings and totals of each of its tags.
+     */
+    @Override
+    void add(Transaction transaction) {
+        super.add(transaction);
+        for (Tag tag : transaction.getTags()) {
+            monthlyTotals.computeIfAbsent(tag, unused -> new MonthlyTotals()).add(transaction);
+        }
+    }
+
+    /**
+     * Removes one copy of {@code transaction}, which must have been added before, from the postings and totals of
+     * each of its tags.
+     */
+    @Override
+    void remove(Transaction transaction) {
+        super.remove(transaction);
+        for (Tag tag : transaction.getTags()) {
+            monthlyTotals.get(tag).remove(transaction);
+        }
+    }
+
+    /**
+     * Returns the monthly totals of the transactions tagged with {@code tag}, or null if no transaction has had the
+     * tag.
+     */
+    MonthlyTotals getMonthlyTotals(Tag tag) {
+        requireNonNull(tag);
+        return monthlyTotals.get(tag);
+    }
+
+    @Override
+    void clear() {
+        super.clear();
+        monthlyTotals.clear();
+    }
+
+}
@@ -0,0 +1,142 @@
+package thrift.model.transaction;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import thrift.commons.util.StringUtil;
+
+/**
+ * An inverted index from each word of the descriptions and remarks, ignoring case, to the transactions with the word.
+ * The words are split and compared like in {@link StringUtil#containsWordIgnoreCase(String, String)}. <br>
+ * The words are kept sorted, so the words starting with a prefix are next to each other, and words sharing a prefix
+ * can share the work of matching it against a typo-tolerant {@link SearchTerm}, like in a trie.
+ */
+class TransactionWordIndex extends InvertedTransactionIndex<String> {
+
+    private final NavigableMap<String, BitSet> postings;
+
+    TransactionWordIndex() {
+        this(new TreeMap<>());
+    }
+
+    private TransactionWordIndex(NavigableMap<String, BitSet> postings) {
+        super(postings);
+        this.postings = postings;
+    }
+
+    @Override
+    Collection<String> getKeys(Transaction transaction) {
+        Set<String> keys = StringUtil.getWordKeysIgnoreCase(transaction.getDescription().toString());
+        keys.addAll(StringUtil.getWordKeysIgnoreCase(transaction.getRemark().toString()));
+        return keys;
+    }
+
+    /**
+     * Returns the words in the index that match any of {@code searchTerms}, each with its best match quality.
+     */
+    Map<String, Integer> getMatchingWords(Collection<SearchTerm> searchTerms) {
+        Map<String, Integer> matchingWords = new HashMap<>();
+        for (SearchTerm searchTerm : searchTerms) {
+            String key = searchTerm.getKey();
+            switch (searchTerm.getKind()) {
+            case PREFIX:
+                for (String word : postings.tailMap(key, true).keySet()) {
+                    if (!word.startsWith(key)) {
+                        break;
+                    }
+                    matchingWords.merge(word, searchTerm.getMatchQuality(word), Math::min);
+                }
+                break;
+            case TYPO_TOLERANT:
+                addTypoTolerantMatches(searchTerm, matchingWords);
+                break;
+            default:
+                if (postings.containsKey(key)) {
+                    matchingWords.put(key, 0);
+                }
+            }
+        }
+        return matchingWords;
+    }
+
+    /**
+     * Adds the words in the index within the typos allowed by {@code searchTerm} of it to {@code matchingWords}, each
+     * with its best match quality. <br>
+     * The edit distances of each prefix of a word are kept, so the next word in order only works out those of the
+     * part after the prefix it shares with the last word, and every word starting with a prefix that is already too
+     * many typos away is skipped.
+     */
+    private void addTypoTolerantMatches(SearchTerm searchTerm, Map<String, Integer> matchingWords) {
+        String key = searchTerm.getKey();
+        int maxTypos = searchTerm.getMaxTypos();
+        List<int[]> rows = new ArrayList<>();
+        int[] firstRow = new int[key.length() + 1];
+        for (int j = 0; j < firstRow.length; j++) {
+            firstRow[j] = j;
+        }
+        rows.add(firstRow);
+
+        String lastWord = "";
+        String word = postings.isEmpty() ? null : postings.firstKey();
+        while (word != null) {
+            int sharedLength = getSharedPrefixLength(lastWord, word);
+            int tooFarLength = -1;
+            for (int i = sharedLength + 1; i <= word.length() && tooFarLength == -1; i++) {
+                if (rows.size() <= i) {
+                    rows.add(new int[key.length() + 1]);
+                }
+                int[] row = rows.get(i);
+                System.arraycopy(rows.get(i - 1), 0, row, 0, row.length);
+                if (SearchTerm.getNextEditDistanceRow(key, word.charAt(i - 1), row) > maxTypos) {
+                    tooFarLength = i;
+                }
+            }
+
+            if (tooFarLength != -1) {
+                lastWord = word.substring(0, tooFarLength);
+                word = getFirstWordAfterPrefix(lastWord);
+                continue;
+            }
+            int typos = rows.get(word.length())[key.length()];
+            if (typos <= maxTypos) {
+                matchingWords.merge(word, typos, Math::min);
+            }
+            lastWord = word;
+            word = postings.higherKey(word);
+        }
+    }
+
+    /**
+     * Returns the length of the longest prefix {@code first} and {@code second} share.
+     */
+    private static int getSharedPrefixLength(String first, String second) {
+        int length = 0;
+        while (length < first.length() && length < second.length() && first.charAt(length) == second.charAt(length)) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Returns the first word in the index after every word starting with {@code prefix}, or null if there is none.
+     */
+    private String getFirstWordAfterPrefix(String prefix) {
+        int end = prefix.length();
+        while (end > 0 && prefix.charAt(end - 1) == Character.MAX_VALUE) {
+            end--;
+        }
+        if (end == 0) {
+            return null;
+        }
+        String bound = prefix.substring(0, end - 1) + (char) (prefix.charAt(end - 1) + 1);
+        return postings.ceilingKey(bound);
+    }
+
+}
@@ -7,6 +7,7 @@ import java.text.DecimalFormat;
 import java.util.Map;
 
 import thrift.model.util.CurrencyUtil;
+import thrift.model.util.MoneyUtil;
 
 /**
  * Represents a Transaction's monetary value in the Transactions list.
@@ -19,13 +20,20 @@ public class Value {
                     + "accepts up to 2 decimal digits.\nValue should also be less than 1 billion.";
     public static final String CURRENCY_CONSTRAINTS =
             "Currency should only be 'SGD', 'MYR', 'USD' OR 'EUR'!";
+    /** The values {@link #isValidValue(String)} accepts, which it checks without a regex. */
     public static final String VALIDATION_REGEX = "^(?=.*[1-9])\\d{1,9}(?:\\.\\d{0,2})?$";
     public static final String DEFAULT_CURRENCY = "SGD";
     public static final DecimalFormat DECIMAL_FORMATTER = new DecimalFormat("#,##0.00");
 
+    /** The amount in cents of {@link #currency}. */
+    public final long cents;
+    /** The amount in units of {@link #currency}, derived from {@link #cents}. */
     public final Double amount;
     public final String currency;
 
+    /** The currency mappings {@link #monetaryCents} was converted with. */
+    private final Map<String, Double> monetaryCurrencyMappings;
+    private final long monetaryCents;
 
     /**
      * Constructs a {@code Value} with the default currency {@link #DEFAULT_CURRENCY}.
@@ -33,10 +41,7 @@ public class Value {
      * @param value Monetary cost describing the value.
      */
     public Value(String value) {
-        requireNonNull(value);
-        checkArgument(isValidValue(value), VALUE_CONSTRAINTS);
-        this.amount = Double.parseDouble(value);
-        this.currency = DEFAULT_CURRENCY;
+        this(value, DEFAULT_CURRENCY);
     }
 
     /**
@@ -46,12 +51,34 @@ public class Value {
      * @param currency Currency the amount is in.
      */
     public Value(String amount, String currency) {
-        requireNonNull(amount);
+        this(parseValidCents(amount), currency);
+    }
+
+    /**
+     * Constructs a {@code Value} of {@code cents} cents in a specified currency.
+     *
+     * @param cents Monetary cost describing the value, in cents.
+     * @param currency Currency the amount is in.
+     */
+    public Value(long cents, String currency) {
         requireNonNull(currency);
-        checkArgument(isValidValue(amount), VALUE_CONSTRAINTS);
-        checkArgument(isValidCurrency(currency), CURRENCY_CONSTRAINTS);
-        this.amount = Double.parseDouble(amount);
+        checkArgument(isValidCents(cents), VALUE_CONSTRAINTS);
+        checkArgument(currency.equals(DEFAULT_CURRENCY) || isValidCurrency(currency), CURRENCY_CONSTRAINTS);
+        this.cents = cents;
+        this.amount = MoneyUtil.toUnits(cents);
         this.currency = currency;
+        monetaryCurrencyMappings = CurrencyUtil.getCurrencyMap();
+        monetaryCents = CurrencyUtil.convertCentsFromDefaultCurrency(monetaryCurrencyMappings, cents, currency);
+    }
+
+    /**
+     * Returns the cents in {@code amount}, checking that it is a valid monetary value.
+     */
+    private static long parseValidCents(String amount) {
+        requireNonNull(amount);
+        long cents = MoneyUtil.parseCents(amount);
+        checkArgument(isValidCents(cents), VALUE_CONSTRAINTS);
+        return cents;
     }
 
     /**
@@ -71,7 +98,28 @@ public class Value {
      * @return true if amount is a valid double.
      */
     public static boolean isValidValue(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isValidCents(MoneyUtil.parseCents(test));
+    }
+
+    /**
+     * Returns true if a given amount of cents is a valid monetary value.
+     */
+    public static boolean isValidCents(long cents) {
+        return cents > 0 && cents < MoneyUtil.CENTS_PER_UNIT * 1_000_000_000L;
+    }
+
+    /**
+     * Returns the value in {@link #DEFAULT_CURRENCY} currency cents, if the currency is supported in
+     * {@link CurrencyUtil}. The cents are converted once, and only converted again if the currency mappings have been
+     * replaced since.
+     *
+     * @return Value in {@link #DEFAULT_CURRENCY} denomination, in cents.
+     */
+    public long getMonetaryCents() {
+        Map<String, Double> currencyMappings = CurrencyUtil.getCurrencyMap();
+        return currencyMappings == monetaryCurrencyMappings
+                ? monetaryCents
+                : CurrencyUtil.convertCentsFromDefaultCurrency(currencyMappings, cents, currency);
     }
 
     /**
@@ -81,8 +129,7 @@ public class Value {
      * @return Value in {@link #DEFAULT_CURRENCY} denomination.
      */
     public double getMonetaryValue() {
-        Map<String, Double> currencyMappings = CurrencyUtil.getCurrencyMap();
-        return CurrencyUtil.convertFromDefaultCurrency(currencyMappings, amount, currency);
+        return MoneyUtil.toUnits(getMonetaryCents());
     }
 
     /**
@@ -90,25 +137,25 @@ public class Value {
      * storing.
      */
     public String getUnformattedString() {
-        return String.format("%.2f", getMonetaryValue());
+        return MoneyUtil.toPlainString(getMonetaryCents());
     }
 
     @Override
     public String toString() {
-        return String.valueOf(DECIMAL_FORMATTER.format(getMonetaryValue()));
+        return MoneyUtil.toGroupedString(getMonetaryCents());
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Value // instanceof handles nulls
-                && amount.equals(((Value) other).amount)
+                && cents == ((Value) other).cents
                 && currency.equals(((Value) other).currency)); // state check
     }
 
     @Override
     public int hashCode() {
-        return amount.hashCode();
+        return Long.hashCode(cents);
     }
 
 }
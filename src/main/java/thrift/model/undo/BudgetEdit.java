@@ -0,0 +1,83 @@
+package thrift.model.undo;
+
+import static java.util.Objects.requireNonNull;
+import static thrift.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import thrift.model.Model;
+import thrift.model.transaction.Budget;
+
+/**
+ * The budget of a month being set or removed.
+ * Guarantees: immutable; has a budget before or after the change, or both, of the same month.
+ */
+public final class BudgetEdit implements Edit {
+
+    public static final String MESSAGE_CONSTRAINTS = "A budget edit needs a budget before or after it, "
+            + "both of the same month";
+
+    private final Budget before;
+    private final Budget after;
+
+    /**
+     * Constructs a {@code BudgetEdit}. A null {@code before} stands for a month without a budget being given one,
+     * and a null {@code after} for the budget of a month being removed.
+     */
+    public BudgetEdit(Budget before, Budget after) {
+        checkArgument(before != null || after != null, MESSAGE_CONSTRAINTS);
+        checkArgument(before == null || after == null || before.getBudgetDate().equals(after.getBudgetDate()),
+                MESSAGE_CONSTRAINTS);
+        this.before = before;
+        this.after = after;
+    }
+
+    /**
+     * Returns the budget before the change, or an empty Optional if the month had none.
+     */
+    public Optional<Budget> getBefore() {
+        return Optional.ofNullable(before);
+    }
+
+    /**
+     * Returns the budget after the change, or an empty Optional if it was removed.
+     */
+    public Optional<Budget> getAfter() {
+        return Optional.ofNullable(after);
+    }
+
+    @Override
+    public void applyTo(Model model) {
+        requireNonNull(model);
+        if (after == null) {
+            model.resetBudgetForThatMonth(before);
+        } else {
+            model.setBudget(after);
+        }
+    }
+
+    @Override
+    public BudgetEdit inverse() {
+        return new BudgetEdit(after, before);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BudgetEdit // instanceof handles nulls
+                && Objects.equals(before, ((BudgetEdit) other).before)
+                && Objects.equals(after, ((BudgetEdit) other).after)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(before, after);
+    }
+
+    @Override
+    public String toString() {
+        return "BudgetEdit: " + before + " -> " + after;
+    }
+
+}
@@ -0,0 +1,21 @@
+package thrift.model.undo;
+
+import thrift.model.Model;
+
+/**
+ * A single change made to the model by an undoable command, such as a transaction being added or a budget being set,
+ * which keeps what is needed to make it again and to take it back.
+ */
+public interface Edit {
+
+    /**
+     * Makes this change to {@code model}.
+     */
+    void applyTo(Model model);
+
+    /**
+     * Returns the change that takes this change back.
+     */
+    Edit inverse();
+
+}
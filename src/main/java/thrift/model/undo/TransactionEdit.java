@@ -0,0 +1,217 @@
+package thrift.model.undo;
+
+import static java.util.Objects.requireNonNull;
+import static thrift.commons.util.AppUtil.checkArgument;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import thrift.commons.core.index.Index;
+import thrift.model.Model;
+import thrift.model.transaction.Expense;
+import thrift.model.transaction.Income;
+import thrift.model.transaction.StableTransactionId;
+import thrift.model.transaction.Transaction;
+import thrift.model.transaction.exceptions.TransactionNotFoundException;
+
+/**
+ * A transaction being inserted into, removed from or replaced in the full transaction list. <br>
+ * The position is either the end of the list, for transactions added after all others, or the index the transaction
+ * was at. The index is only where to start looking: the transaction to remove or replace is found by its
+ * {@link StableTransactionId} nearest to the index, and a transaction is inserted right after the transaction that
+ * was before it, its anchor, found the same way. The edit can thus be made in a later session, once the transactions
+ * have been read back from the data file, and is not made at all if the transactions it refers to are gone.
+ * Guarantees: immutable; has a transaction before or after the change, or both, and an index if it has both.
+ */
+public final class TransactionEdit implements Edit {
+
+    public static final String MESSAGE_CONSTRAINTS = "A transaction edit needs a transaction before or after it, "
+            + "and an index if it replaces a transaction";
+
+    private final Index index;
+    private final Transaction before;
+    private final Transaction after;
+    private final StableTransactionId anchor;
+
+    /**
+     * Constructs a {@code TransactionEdit}. A null {@code index} stands for the end of the list, a null
+     * {@code before} for an insertion and a null {@code after} for a removal. {@code anchor} is the stable ID of the
+     * transaction before the inserted or removed one, or null if it is the first, and is ignored otherwise.
+     */
+    public TransactionEdit(Index index, Transaction before, Transaction after, StableTransactionId anchor) {
+        checkArgument(before != null || after != null, MESSAGE_CONSTRAINTS);
+        checkArgument(index != null || before == null || after == null, MESSAGE_CONSTRAINTS);
+        this.index = index;
+        this.before = before;
+        this.after = after;
+        this.anchor = index == null || (before != null && after != null) ? null : anchor;
+    }
+
+    /**
+     * Returns the edit of {@code transaction} being added after all other transactions.
+     */
+    public static TransactionEdit addLast(Transaction transaction) {
+        requireNonNull(transaction);
+        return new TransactionEdit(null, null, transaction, null);
+    }
+
+    /**
+     * Returns the edit of {@code transaction} being removed from {@code index}, right after {@code previous}, or from
+     * the start of the list if {@code previous} is null.
+     */
+    public static TransactionEdit remove(Index index, Transaction transaction, Transaction previous) {
+        requireNonNull(index);
+        requireNonNull(transaction);
+        StableTransactionId anchor = previous == null ? null : StableTransactionId.of(previous);
+        return new TransactionEdit(index, transaction, null, anchor);
+    }
+
+    /**
+     * Returns the edit of the transaction at {@code index} being replaced from {@code before} to {@code after}.
+     */
+    public static TransactionEdit replace(Index index, Transaction before, Transaction after) {
+        requireNonNull(index);
+        requireNonNull(before);
+        requireNonNull(after);
+        return new TransactionEdit(index, before, after, null);
+    }
+
+    /**
+     * Returns the index of the change, or an empty Optional for the end of the list.
+     */
+    public Optional<Index> getIndex() {
+        return Optional.ofNullable(index);
+    }
+
+    /**
+     * Returns the transaction before the change, or an empty Optional if it was inserted.
+     */
+    public Optional<Transaction> getBefore() {
+        return Optional.ofNullable(before);
+    }
+
+    /**
+     * Returns the transaction after the change, or an empty Optional if it was removed.
+     */
+    public Optional<Transaction> getAfter() {
+        return Optional.ofNullable(after);
+    }
+
+    /**
+     * Returns the stable ID of the transaction right before the inserted or removed one, or an empty Optional if it is
+     * the first transaction or this edit does not insert or remove at an index.
+     */
+    public Optional<StableTransactionId> getAnchor() {
+        return Optional.ofNullable(anchor);
+    }
+
+    /**
+     * Returns true if this edit adds a transaction after all other transactions.
+     */
+    boolean isAddLast() {
+        return index == null && before == null;
+    }
+
+    /**
+     * Returns true if this edit removes the last transaction.
+     */
+    boolean isRemoveLast() {
+        return index == null && after == null;
+    }
+
+    /**
+     * Checks that the transaction this edit removes or replaces is at {@code position} of {@code transactions},
+     * throwing a {@link TransactionNotFoundException} if it is not.
+     */
+    void checkBeforeAt(List<Transaction> transactions, int position) {
+        assert before != null;
+        if (position < 0 || position >= transactions.size()
+                || !StableTransactionId.of(before).identifies(transactions.get(position))) {
+            throw new TransactionNotFoundException();
+        }
+    }
+
+    /**
+     * {@inheritDoc} <br>
+     * Throws a {@link TransactionNotFoundException} if the transaction to remove or replace, or the anchor of the
+     * transaction to insert, is not in the full transaction list of {@code model}.
+     */
+    @Override
+    public void applyTo(Model model) {
+        requireNonNull(model);
+        List<Transaction> transactions = model.getThrift().getTransactionList();
+        if (isAddLast()) {
+            model.addTransactions(Collections.singletonList(after));
+        } else if (isRemoveLast()) {
+            checkBeforeAt(transactions, transactions.size() - 1);
+            model.deleteLastTransaction();
+        } else if (before == null) {
+            Index position = findInsertionPosition(transactions);
+            if (after instanceof Expense) {
+                model.addExpense((Expense) after, position);
+            } else {
+                assert after instanceof Income : "Transaction not of type Expense or Income";
+                model.addIncome((Income) after, position);
+            }
+        } else if (after == null) {
+            model.deleteTransaction(findBefore(transactions));
+        } else {
+            model.setTransactionWithIndex(findBefore(transactions), after);
+        }
+    }
+
+    /**
+     * Returns the index of the transaction this edit removes or replaces in {@code transactions}, throwing a
+     * {@link TransactionNotFoundException} if it is not there.
+     */
+    private Index findBefore(List<Transaction> transactions) {
+        int position = StableTransactionId.of(before).findNear(transactions, index.getZeroBased());
+        if (position == -1) {
+            throw new TransactionNotFoundException();
+        }
+        return Index.fromZeroBased(position);
+    }
+
+    /**
+     * Returns the index right after the anchor of this edit in {@code transactions}, or the start if it has none,
+     * throwing a {@link TransactionNotFoundException} if the anchor is not there.
+     */
+    private Index findInsertionPosition(List<Transaction> transactions) {
+        if (anchor == null) {
+            return Index.fromZeroBased(0);
+        }
+        int anchorPosition = anchor.findNear(transactions, index.getZeroBased() - 1);
+        if (anchorPosition == -1) {
+            throw new TransactionNotFoundException();
+        }
+        return Index.fromZeroBased(anchorPosition + 1);
+    }
+
+    @Override
+    public TransactionEdit inverse() {
+        return new TransactionEdit(index, after, before, anchor);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TransactionEdit // instanceof handles nulls
+                && Objects.equals(index, ((TransactionEdit) other).index)
+                && Objects.equals(before, ((TransactionEdit) other).before)
+                && Objects.equals(after, ((TransactionEdit) other).after)
+                && Objects.equals(anchor, ((TransactionEdit) other).anchor)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, before, after, anchor);
+    }
+
+    @Override
+    public String toString() {
+        return "TransactionEdit at " + (index == null ? "end" : index.getOneBased()) + ": " + before + " -> " + after;
+    }
+
+}
@@ -0,0 +1,185 @@
+package thrift.model.undo;
+
+import static java.util.Objects.requireNonNull;
+import static thrift.commons.util.AppUtil.checkArgument;
+import static thrift.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import thrift.logic.commands.Undoable;
+import thrift.logic.commands.exceptions.CommandException;
+import thrift.model.Model;
+import thrift.model.transaction.Transaction;
+import thrift.model.transaction.exceptions.TransactionNotFoundException;
+
+/**
+ * The changes an undoable command made to the model, with the messages its undo and redo give, so that it can be
+ * undone and redone without the command itself. <br>
+ * A record only keeps the transactions and budgets the command changed, so it is much smaller than the command and
+ * can be written out to disk, as {@link thrift.model.PastUndoableCommands} does to keep its history across sessions.
+ * Undoing or redoing a record throws a {@code TransactionNotFoundException}, before changing anything, if the
+ * transactions it refers to are no longer there, such as when the data file was changed outside of THRIFT. The
+ * months of the transactions it changes are loaded first, as a record kept from an earlier session may change
+ * months that are not loaded yet.
+ * Guarantees: immutable; has at least one edit.
+ */
+public final class UndoRecord implements Undoable {
+
+    public static final String MESSAGE_CONSTRAINTS = "An undo record needs at least one edit";
+
+    private final List<Edit> edits;
+    private final String undoMessage;
+    private final String redoMessage;
+
+    /**
+     * Constructs an {@code UndoRecord} of {@code edits}, in the order the command made them.
+     */
+    public UndoRecord(List<? extends Edit> edits, String undoMessage, String redoMessage) {
+        requireAllNonNull(edits, undoMessage, redoMessage);
+        requireAllNonNull(edits);
+        checkArgument(!edits.isEmpty(), MESSAGE_CONSTRAINTS);
+        this.edits = List.copyOf(edits);
+        this.undoMessage = undoMessage;
+        this.redoMessage = redoMessage;
+    }
+
+    /**
+     * Constructs an {@code UndoRecord} of a single edit.
+     */
+    public UndoRecord(Edit edit, String undoMessage, String redoMessage) {
+        this(Collections.singletonList(requireNonNull(edit)), undoMessage, redoMessage);
+    }
+
+    /**
+     * Returns the edits, in the order the command made them, as an unmodifiable list.
+     */
+    public List<Edit> getEdits() {
+        return edits;
+    }
+
+    public String getUndoMessage() {
+        return undoMessage;
+    }
+
+    public String getRedoMessage() {
+        return redoMessage;
+    }
+
+    @Override
+    public String undo(Model model) {
+        requireNonNull(model);
+        List<Edit> inverses = new ArrayList<>(edits.size());
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            inverses.add(edits.get(i).inverse());
+        }
+        applyAll(inverses, model);
+        return undoMessage;
+    }
+
+    @Override
+    public String redo(Model model) {
+        requireNonNull(model);
+        applyAll(edits, model);
+        return redoMessage;
+    }
+
+    @Override
+    public UndoRecord toUndoRecord() {
+        return this;
+    }
+
+    @Override
+    public int getEditCount() {
+        return edits.size();
+    }
+
+    /**
+     * Makes {@code edits} to {@code model} in order, after loading the months of the transactions they change. A run
+     * of transactions added after all others, or of the last transactions removed, is made as a single change of the
+     * transaction list, and a run of removals is only made once every transaction it removes is found to be where it
+     * should be. Throws a {@link TransactionNotFoundException} if a transaction an edit refers to is not in the
+     * transaction list.
+     */
+    private static void applyAll(List<Edit> edits, Model model) {
+        loadMonthsOf(edits, model);
+        int i = 0;
+        while (i < edits.size()) {
+            if (isAddLast(edits.get(i))) {
+                List<Transaction> added = new ArrayList<>();
+                for (; i < edits.size() && isAddLast(edits.get(i)); i++) {
+                    added.add(((TransactionEdit) edits.get(i)).getAfter().get());
+                }
+                model.addTransactions(added);
+            } else if (isRemoveLast(edits.get(i))) {
+                List<Transaction> transactions = model.getThrift().getTransactionList();
+                int count = 0;
+                for (; i < edits.size() && isRemoveLast(edits.get(i)); i++) {
+                    TransactionEdit edit = (TransactionEdit) edits.get(i);
+                    edit.checkBeforeAt(transactions, transactions.size() - 1 - count);
+                    count++;
+                }
+                model.deleteLastTransactions(count);
+            } else {
+                edits.get(i++).applyTo(model);
+            }
+        }
+    }
+
+    /**
+     * Loads the months of the transactions {@code edits} remove, replace or insert that are not loaded in
+     * {@code model}, such as when the record was kept from an earlier session, so that the transactions they refer to
+     * can be found and none is inserted into a month without its stored transactions. A month that cannot be loaded
+     * is left unloaded, and its transactions are then reported as not found.
+     */
+    private static void loadMonthsOf(List<Edit> edits, Model model) {
+        Set<YearMonth> months = new TreeSet<>();
+        for (Edit edit : edits) {
+            if (edit instanceof TransactionEdit) {
+                TransactionEdit transactionEdit = (TransactionEdit) edit;
+                transactionEdit.getBefore().ifPresent(before -> months.add(before.getDate().getYearMonth()));
+                transactionEdit.getAfter().ifPresent(after -> months.add(after.getDate().getYearMonth()));
+            }
+        }
+        for (YearMonth month : months) {
+            try {
+                model.loadTransactions(month, month);
+            } catch (CommandException e) {
+                continue; // already logged by the model
+            }
+        }
+    }
+
+    private static boolean isAddLast(Edit edit) {
+        return edit instanceof TransactionEdit && ((TransactionEdit) edit).isAddLast();
+    }
+
+    private static boolean isRemoveLast(Edit edit) {
+        return edit instanceof TransactionEdit && ((TransactionEdit) edit).isRemoveLast();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof UndoRecord // instanceof handles nulls
+                && edits.equals(((UndoRecord) other).edits)
+                && undoMessage.equals(((UndoRecord) other).undoMessage)
+                && redoMessage.equals(((UndoRecord) other).redoMessage)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(edits, undoMessage, redoMessage);
+    }
+
+    @Override
+    public String toString() {
+        return "UndoRecord of " + edits.size() + " edit(s): " + redoMessage;
+    }
+
+}
@@ -0,0 +1,39 @@
+package thrift.model.undo;
+
+import java.io.IOException;
+import java.util.List;
+
+import thrift.commons.exceptions.DataConversionException;
+
+/**
+ * A stack of undo records kept outside of memory, which holds the whole of an undo or redo history so that it can be
+ * restored in a later session.
+ */
+public interface UndoRecordStore {
+
+    /**
+     * Pushes {@code records}, oldest first, which are all newer than the records already in the store.
+     */
+    void push(List<UndoRecord> records) throws IOException;
+
+    /**
+     * Returns the newest {@code count} records, or all of them if there are fewer, oldest first, without popping them.
+     */
+    List<UndoRecord> peek(int count) throws IOException, DataConversionException;
+
+    /**
+     * Pops the newest {@code count} records, or all of them if there are fewer.
+     */
+    void pop(int count) throws IOException;
+
+    /**
+     * Returns the number of records in the store.
+     */
+    int size() throws IOException;
+
+    /**
+     * Removes every record.
+     */
+    void clear() throws IOException;
+
+}
@@ -96,6 +96,28 @@ public class CurrencyUtil {
         }
     }
 
+    /**
+     * Converts input amount of cents from {@link Value#DEFAULT_CURRENCY} denomination
+     * to the currency specified in the input, rounded to the nearest cent.
+     *
+     * @param currencyMappings Mapping of currency rates scaling from
+     * {@link Value#DEFAULT_CURRENCY}.
+     * @param cents Amount of cents to convert.
+     * @param currency Target currency to convert to.
+     * @return Amount of cents in target currency.
+     */
+    public static long convertCentsFromDefaultCurrency(Map<String, Double> currencyMappings, long cents,
+                                                       String currency) {
+        requireNonNull(currencyMappings);
+        requireNonNull(currency);
+
+        Double rate = currencyMappings.get(currency);
+        if (rate == null) {
+            rate = currencyMappings.get(currency.toUpperCase());
+        }
+        return rate == null ? cents : Math.round(cents * rate);
+    }
+
     /**
      * Converts input currency amount to {@link Value#DEFAULT_CURRENCY} denomination
      * from the currency specified in the input.
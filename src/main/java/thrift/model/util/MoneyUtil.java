@@ -0,0 +1,120 @@
+package thrift.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Contains utility methods for amounts of money kept as a whole number of cents. <br>
+ * Amounts are parsed and formatted digit by digit, so no regular expression, floating point number or
+ * {@code DecimalFormat} is involved, and sums of cents are exact.
+ */
+public class MoneyUtil {
+
+    /** Returned by {@link #parseCents(String)} for text that is not an amount of money. */
+    public static final long INVALID_CENTS = -1;
+
+    /** The number of cents in one unit of a currency. */
+    public static final int CENTS_PER_UNIT = 100;
+
+    /** The most digits an amount may have before its decimal point. */
+    public static final int MAX_WHOLE_DIGITS = 9;
+
+    /** The most digits an amount may have after its decimal point. */
+    public static final int MAX_DECIMAL_DIGITS = 2;
+
+    private static final int GROUP_SIZE = 3;
+
+    private MoneyUtil() {} // prevents instantiation
+
+    /**
+     * Returns the number of cents in {@code amount}, which is 1 to {@value #MAX_WHOLE_DIGITS} digits, optionally
+     * followed by a decimal point and up to {@value #MAX_DECIMAL_DIGITS} digits, or {@link #INVALID_CENTS} if
+     * {@code amount} is not in that format.
+     */
+    public static long parseCents(String amount) {
+        requireNonNull(amount);
+
+        int length = amount.length();
+        int position = 0;
+        long units = 0;
+        while (position < length && isDigit(amount.charAt(position))) {
+            units = units * 10 + (amount.charAt(position) - '0');
+            position++;
+        }
+        if (position == 0 || position > MAX_WHOLE_DIGITS) {
+            return INVALID_CENTS;
+        }
+        if (position == length) {
+            return units * CENTS_PER_UNIT;
+        }
+        if (amount.charAt(position) != '.' || length - position - 1 > MAX_DECIMAL_DIGITS) {
+            return INVALID_CENTS;
+        }
+
+        long cents = 0;
+        int scale = CENTS_PER_UNIT;
+        for (position++; position < length; position++) {
+            char digit = amount.charAt(position);
+            if (!isDigit(digit)) {
+                return INVALID_CENTS;
+            }
+            scale /= 10;
+            cents += (digit - '0') * scale;
+        }
+        return units * CENTS_PER_UNIT + cents;
+    }
+
+    /**
+     * Returns true if {@code c} is one of the ASCII digits.
+     */
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns {@code cents} as an amount with two decimal digits and no grouping, e.g. {@code 1234.50}.
+     */
+    public static String toPlainString(long cents) {
+        return format(cents, false);
+    }
+
+    /**
+     * Returns {@code cents} as an amount with two decimal digits and its thousands grouped, e.g. {@code 1,234.50}.
+     */
+    public static String toGroupedString(long cents) {
+        return format(cents, true);
+    }
+
+    /**
+     * Returns {@code cents} as an amount with two decimal digits, with its thousands grouped if {@code isGrouped}.
+     */
+    private static String format(long cents, boolean isGrouped) {
+        StringBuilder reversed = new StringBuilder();
+        long remaining = Math.abs(cents);
+        reversed.append((char) ('0' + remaining % 10));
+        remaining /= 10;
+        reversed.append((char) ('0' + remaining % 10));
+        remaining /= 10;
+        reversed.append('.');
+        int digitCount = 0;
+        do {
+            if (isGrouped && digitCount > 0 && digitCount % GROUP_SIZE == 0) {
+                reversed.append(',');
+            }
+            reversed.append((char) ('0' + remaining % 10));
+            remaining /= 10;
+            digitCount++;
+        } while (remaining > 0);
+        if (cents < 0) {
+            reversed.append('-');
+        }
+        return reversed.reverse().toString();
+    }
+
+    /**
+     * Returns {@code cents} as a number of whole units, e.g. {@code 1234.5} for {@code 123450} cents.
+     */
+    public static double toUnits(long cents) {
+        return (double) cents / CENTS_PER_UNIT;
+    }
+
+}
@@ -0,0 +1,201 @@
+package thrift.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.YearMonth;
+import java.util.Calendar;
+
+/**
+ * Contains utility methods for dates packed into primitive numbers: a day as its epoch day, the number of days since
+ * 1 January 1970, and a month as its packed year-month, {@code year * 12 + month - 1}. <br>
+ * The conversions are plain arithmetic on the proleptic Gregorian calendar, so they allocate no objects and are
+ * thread-safe, unlike {@code Calendar} and {@code SimpleDateFormat}. Packed year-months are ordered like their months.
+ */
+public class PackedDateUtil {
+
+    /** Returned by {@link #parseEpochDay(String)} for text that is not a date. */
+    public static final long INVALID_EPOCH_DAY = Long.MIN_VALUE;
+
+    public static final int MIN_YEAR = 1;
+    public static final int MAX_YEAR = 9999;
+
+    private static final int MONTHS_PER_YEAR = 12;
+    private static final int DAYS_PER_ERA = 146097;
+    private static final int DAYS_FROM_ERA_START_TO_EPOCH = 719468;
+    private static final int[] DAYS_PER_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    private PackedDateUtil() {} // prevents instantiation
+
+    /**
+     * Returns the epoch day of {@code date}, which is a day and a month of 1 or 2 digits each and a year of 4 digits,
+     * separated by slashes ({@code dd/MM/yyyy}), or {@link #INVALID_EPOCH_DAY} if {@code date} is not in that format
+     * or is not a day of the calendar.
+     */
+    public static long parseEpochDay(String date) {
+        requireNonNull(date);
+
+        int length = date.length();
+        int firstSlash = date.indexOf('/');
+        int secondSlash = firstSlash == -1 ? -1 : date.indexOf('/', firstSlash + 1);
+        if (firstSlash < 1 || firstSlash > 2 || secondSlash - firstSlash - 1 < 1 || secondSlash - firstSlash - 1 > 2
+                || length - secondSlash - 1 != 4) {
+            return INVALID_EPOCH_DAY;
+        }
+
+        int day = parseDigits(date, 0, firstSlash);
+        int month = parseDigits(date, firstSlash + 1, secondSlash);
+        int year = parseDigits(date, secondSlash + 1, length);
+        if (!isValidDate(year, month, day)) {
+            return INVALID_EPOCH_DAY;
+        }
+        return toEpochDay(year, month, day);
+    }
+
+    /**
+     * Returns the number in {@code text} from {@code from} (inclusive) to {@code to} (exclusive), or -1 if any of
+     * those characters is not an ASCII digit.
+     */
+    private static int parseDigits(String text, int from, int to) {
+        int number = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return number;
+    }
+
+    /**
+     * Returns true if {@code day} is a day of {@code month} (1 to 12) of {@code year}, and the year is from
+     * {@link #MIN_YEAR} to {@link #MAX_YEAR}.
+     */
+    public static boolean isValidDate(int year, int month, int day) {
+        if (year < MIN_YEAR || year > MAX_YEAR || month < 1 || month > MONTHS_PER_YEAR || day < 1) {
+            return false;
+        }
+        boolean isLeapFebruary = month == 2 && (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0));
+        return day <= DAYS_PER_MONTH[month - 1] + (isLeapFebruary ? 1 : 0);
+    }
+
+    /**
+     * Returns true if {@code epochDay} is a day in a year from {@link #MIN_YEAR} to {@link #MAX_YEAR}.
+     */
+    public static boolean isValidEpochDay(long epochDay) {
+        return toEpochDay(MIN_YEAR, 1, 1) <= epochDay && epochDay <= toEpochDay(MAX_YEAR, 12, 31);
+    }
+
+    /**
+     * Returns the epoch day of {@code day} of {@code month} (1 to 12) of {@code year}.
+     */
+    public static long toEpochDay(int year, int month, int day) {
+        long shiftedYear = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(shiftedYear, 400);
+        long yearOfEra = shiftedYear - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * DAYS_PER_ERA + dayOfEra - DAYS_FROM_ERA_START_TO_EPOCH;
+    }
+
+    /**
+     * Returns the packed year-month of the month {@code epochDay} is in.
+     */
+    public static int toPackedYearMonth(long epochDay) {
+        long shiftedDay = epochDay + DAYS_FROM_ERA_START_TO_EPOCH;
+        long era = Math.floorDiv(shiftedDay, DAYS_PER_ERA);
+        long dayOfEra = shiftedDay - era * DAYS_PER_ERA;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        long month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return toPackedYearMonth((int) year, (int) month);
+    }
+
+    /**
+     * Returns the packed year-month of {@code month} (1 to 12) of {@code year}.
+     */
+    public static int toPackedYearMonth(int year, int month) {
+        return year * MONTHS_PER_YEAR + month - 1;
+    }
+
+    /**
+     * Returns the packed year-month of {@code yearMonth}.
+     */
+    public static int toPackedYearMonth(YearMonth yearMonth) {
+        return toPackedYearMonth(yearMonth.getYear(), yearMonth.getMonthValue());
+    }
+
+    /**
+     * Returns the packed year-month of the month {@code calendar} is in.
+     */
+    public static int toPackedYearMonth(Calendar calendar) {
+        return toPackedYearMonth(calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH) + 1);
+    }
+
+    /**
+     * Returns the day of the month of {@code epochDay}, from 1 to 31.
+     */
+    public static int getDayOfMonth(long epochDay) {
+        int packedYearMonth = toPackedYearMonth(epochDay);
+        return (int) (epochDay - toEpochDay(getYear(packedYearMonth), getMonth(packedYearMonth), 1)) + 1;
+    }
+
+    /**
+     * Returns the year of {@code packedYearMonth}.
+     */
+    public static int getYear(int packedYearMonth) {
+        return Math.floorDiv(packedYearMonth, MONTHS_PER_YEAR);
+    }
+
+    /**
+     * Returns the month of {@code packedYearMonth}, from 1 to 12.
+     */
+    public static int getMonth(int packedYearMonth) {
+        return Math.floorMod(packedYearMonth, MONTHS_PER_YEAR) + 1;
+    }
+
+    /**
+     * Returns the month of {@code packedYearMonth}.
+     */
+    public static YearMonth toYearMonth(int packedYearMonth) {
+        return YearMonth.of(getYear(packedYearMonth), getMonth(packedYearMonth));
+    }
+
+    /**
+     * Returns {@code epochDay} in the {@code dd/MM/yyyy} format.
+     */
+    public static String formatEpochDay(long epochDay) {
+        int packedYearMonth = toPackedYearMonth(epochDay);
+        char[] date = new char[10];
+        writeDigits(date, 0, 2, getDayOfMonth(epochDay));
+        date[2] = '/';
+        writeDigits(date, 3, 2, getMonth(packedYearMonth));
+        date[5] = '/';
+        writeDigits(date, 6, 4, getYear(packedYearMonth));
+        return new String(date);
+    }
+
+    /**
+     * Returns {@code packedYearMonth} in the {@code MM/yyyy} format.
+     */
+    public static String formatPackedYearMonth(int packedYearMonth) {
+        char[] month = new char[7];
+        writeDigits(month, 0, 2, getMonth(packedYearMonth));
+        month[2] = '/';
+        writeDigits(month, 3, 4, getYear(packedYearMonth));
+        return new String(month);
+    }
+
+    /**
+     * Writes the last {@code count} digits of {@code number} into {@code chars} from {@code from}, padded with zeros.
+     */
+    private static void writeDigits(char[] chars, int from, int count, int number) {
+        for (int i = from + count - 1; i >= from; i--) {
+            chars[i] = (char) ('0' + number % 10);
+            number /= 10;
+        }
+    }
+
+}
@@ -0,0 +1,125 @@
+package thrift.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import thrift.commons.core.LogsCenter;
+import thrift.model.ReadOnlyThrift;
+
+/**
+ * Saves THRIFT data to a {@link ThriftStorage} on a single background thread. <br>
+ * Only the latest THRIFT submitted while a save is in progress is written once it completes, so a burst of commands
+ * costs at most one more save. A THRIFT whose version was already submitted is not saved again.
+ */
+class BackgroundThriftSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundThriftSaver.class);
+    private static final long NO_VERSION = -1;
+
+    private final ThriftStorage thriftStorage;
+    private final ExecutorService writer;
+    private ReadOnlyThrift pendingThrift;
+    private IOException saveError;
+    private long submittedVersion;
+
+    BackgroundThriftSaver(ThriftStorage thriftStorage) {
+        requireNonNull(thriftStorage);
+        this.thriftStorage = thriftStorage;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "THRIFT saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.submittedVersion = NO_VERSION;
+    }
+
+    /**
+     * Marks {@code thrift} as the data already held by the storage, so it is not saved unless it changes.
+     */
+    synchronized void markSaved(ReadOnlyThrift thrift) {
+        requireNonNull(thrift);
+        submittedVersion = thrift.getVersion();
+    }
+
+    /**
+     * Schedules a snapshot of {@code thrift} to be saved, unless its version was already submitted.
+     *
+     * @throws IOException if an earlier save failed since the last call to this method or {@link #flush()}.
+     */
+    synchronized void submit(ReadOnlyThrift thrift) throws IOException {
+        requireNonNull(thrift);
+
+        IOException previousError = takeSaveError();
+        if (thrift.getVersion() != submittedVersion) {
+            boolean isSaveScheduled = pendingThrift != null;
+            pendingThrift = thrift.getSnapshot();
+            submittedVersion = thrift.getVersion();
+            if (!isSaveScheduled) {
+                writer.execute(this::savePendingThrift);
+            }
+        }
+
+        if (previousError != null) {
+            throw previousError;
+        }
+    }
+
+    /**
+     * Waits until every submitted THRIFT has been saved.
+     *
+     * @throws IOException if a save failed since the last call to this method or {@link #submit(ReadOnlyThrift)}.
+     */
+    void flush() throws IOException {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for THRIFT to be saved");
+        } catch (ExecutionException ee) {
+            throw new AssertionError("Flushing does no work of its own and cannot fail.", ee);
+        }
+
+        IOException error;
+        synchronized (this) {
+            error = takeSaveError();
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Saves the latest submitted THRIFT. Runs on the background thread.
+     */
+    private void savePendingThrift() {
+        ReadOnlyThrift thrift;
+        synchronized (this) {
+            thrift = pendingThrift;
+            pendingThrift = null;
+        }
+
+        try {
+            thriftStorage.saveThrift(thrift);
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to save THRIFT in the background: " + e);
+            synchronized (this) {
+                saveError = e instanceof IOException ? (IOException) e : new IOException(e);
+                // The data on disk is unknown now, so the next submission is saved whatever its version.
+                submittedVersion = NO_VERSION;
+            }
+        }
+    }
+
+    private IOException takeSaveError() {
+        IOException error = saveError;
+        saveError = null;
+        return error;
+    }
+
+}
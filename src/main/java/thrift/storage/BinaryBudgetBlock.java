@@ -0,0 +1,89 @@
+package thrift.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+
+import thrift.commons.exceptions.IllegalValueException;
+import thrift.model.transaction.Budget;
+import thrift.model.transaction.BudgetValue;
+
+/**
+ * Encodes budgets as one columnar block of {@link BinaryThriftStorage}. <br>
+ * Periods are stored as months counted from January of year 0, and values as cents.
+ */
+class BinaryBudgetBlock {
+
+    private BinaryBudgetBlock() {} // prevents instantiation
+
+    /**
+     * Writes {@code budgets} to {@code output} as a single block.
+     */
+    public static void write(DataOutput output, List<Budget> budgets) throws IOException {
+        requireNonNull(budgets);
+
+        output.writeInt(budgets.size());
+        for (Budget budget : budgets) {
+            Calendar period = budget.getBudgetDate();
+            output.writeInt(period.get(Calendar.YEAR) * 12 + period.get(Calendar.MONTH));
+        }
+        for (Budget budget : budgets) {
+            output.writeLong(budget.getBudgetValue().getCents());
+        }
+    }
+
+    /**
+     * Reads a single block from {@code input}, which must hold the block's bytes in memory.
+     *
+     * @throws IOException if the block ends early.
+     * @throws IllegalValueException if there were any data constraints violated in the block.
+     */
+    public static List<Budget> read(DataInputStream input) throws IOException, IllegalValueException {
+        int size = BinaryTransactionBlock.readLength(input);
+        int[] periods = new int[size];
+        for (int i = 0; i < size; i++) {
+            periods[i] = input.readInt();
+        }
+
+        List<Budget> budgets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            budgets.add(new Budget(toPeriod(periods[i]), toBudgetValue(input.readLong())));
+        }
+        return budgets;
+    }
+
+    /**
+     * Returns the period {@code months} months after January of year 0.
+     */
+    private static Calendar toPeriod(int months) throws IllegalValueException {
+        String period = String.format("%02d/%04d", Math.floorMod(months, 12) + 1, Math.floorDiv(months, 12));
+        if (!period.matches(Budget.VALIDATION_REGEX)) {
+            throw new IllegalValueException(Budget.DATE_CONSTRAINTS);
+        }
+
+        Calendar calendar = Calendar.getInstance();
+        try {
+            calendar.setTime(Budget.BUDGET_DATE_FORMAT.parse(period));
+        } catch (ParseException pe) {
+            throw new IllegalValueException(Budget.DATE_CONSTRAINTS);
+        }
+        return calendar;
+    }
+
+    /**
+     * Returns the budget value of {@code cents} cents.
+     */
+    private static BudgetValue toBudgetValue(long cents) throws IllegalValueException {
+        if (!BudgetValue.isValidCents(cents)) {
+            throw new IllegalValueException(BudgetValue.VALUE_CONSTRAINTS);
+        }
+        return new BudgetValue(cents);
+    }
+
+}
@@ -0,0 +1,346 @@
+package thrift.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import thrift.commons.core.LogsCenter;
+import thrift.commons.exceptions.DataConversionException;
+import thrift.commons.exceptions.IllegalValueException;
+import thrift.commons.util.FileUtil;
+import thrift.model.ReadOnlyThrift;
+import thrift.model.Thrift;
+import thrift.model.transaction.Budget;
+import thrift.model.transaction.Transaction;
+
+/**
+ * A class to access THRIFT data stored as a binary snapshot on the hard disk. <br>
+ * The snapshot starts with {@link #MAGIC_NUMBER} and {@link #FORMAT_VERSION}, followed by a sequence of blocks, each
+ * made up of its type, the length of its payload and the payload itself. Transactions are stored in blocks of up to
+ * {@link #TRANSACTIONS_PER_BLOCK}, see {@link BinaryTransactionBlock}, and budgets in a single block, see
+ * {@link BinaryBudgetBlock}. The snapshot ends with a block of type {@code END_BLOCK}. <br>
+ * Compressed snapshots, of version {@link #COMPRESSED_FORMAT_VERSION}, store every other block as a
+ * {@link CompressedBinaryBlock} instead. Their blocks are decompressed in parallel, and blocks that are corrupt, or
+ * missing from the end of a snapshot that was not completely written, are skipped. The damaged snapshot is then kept
+ * next to the original with {@link #CORRUPT_FILE_EXTENSION} added, and replaced with the data that could be read.
+ */
+public class BinaryThriftStorage implements ThriftStorage {
+
+    public static final int MAGIC_NUMBER = 0x54485246; // "THRF" in ASCII
+    public static final int FORMAT_VERSION = 1;
+    public static final int COMPRESSED_FORMAT_VERSION = 2;
+    public static final int TRANSACTIONS_PER_BLOCK = 4096;
+    public static final String CORRUPT_FILE_EXTENSION = ".corrupt";
+
+    public static final String MESSAGE_NOT_BINARY_THRIFT = "File is not a binary THRIFT snapshot";
+    public static final String MESSAGE_UNSUPPORTED_VERSION_FORMAT =
+            "Binary THRIFT snapshot version %d is not supported";
+    public static final String MESSAGE_INVALID_BLOCK_FORMAT = "Binary THRIFT snapshot has an invalid block of type %d";
+    public static final String MESSAGE_RECOVERED_FORMAT = "%1$d damaged blocks of the data file %2$s could not be "
+            + "read, and the changes journaled since it was saved were not applied. Only the readable data was "
+            + "kept. The damaged file is kept as %3$s, and its journal, if any, as %4$s.";
+
+    static final byte END_BLOCK = 0;
+    static final byte TRANSACTION_BLOCK = 1;
+    static final byte BUDGET_BLOCK = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryThriftStorage.class);
+
+    private Path filePath;
+    private boolean isCompressed;
+    private int skippedBlockCount;
+    private Optional<String> recoveryMessage = Optional.empty();
+
+    public BinaryThriftStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code BinaryThriftStorage} that saves compressed snapshots to {@code filePath} if
+     * {@code isCompressed} is true, or uncompressed snapshots otherwise. Both kinds of snapshots can be read.
+     */
+    public BinaryThriftStorage(Path filePath, boolean isCompressed) {
+        this.filePath = filePath;
+        this.isCompressed = isCompressed;
+    }
+
+    public Path getThriftFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the number of blocks skipped by the last read because they were corrupt, counting a missing end of the
+     * snapshot as one block.
+     */
+    public int getSkippedBlockCount() {
+        return skippedBlockCount;
+    }
+
+    /**
+     * Returns a message for the user describing what was lost and kept aside if the last read recovered a damaged
+     * snapshot, or an empty {@code Optional} otherwise.
+     */
+    public Optional<String> getRecoveryMessage() {
+        return recoveryMessage;
+    }
+
+    /**
+     * Returns the path that a damaged snapshot at {@code filePath} is kept at once its readable data is recovered.
+     */
+    public static Path getCorruptFilePath(Path filePath) {
+        requireNonNull(filePath);
+        return filePath.resolveSibling(filePath.getFileName() + CORRUPT_FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyThrift> readThrift() throws DataConversionException {
+        return readThrift(filePath);
+    }
+
+    /**
+     * Similar to {@link #readThrift()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyThrift> readThrift(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        Thrift thrift;
+        skippedBlockCount = 0;
+        recoveryMessage = Optional.empty();
+        try (DataInputStream input = new DataInputStream(FileUtil.openForReading(filePath))) {
+            thrift = read(input, Files.size(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        if (skippedBlockCount > 0) {
+            recover(thrift, filePath);
+        }
+        return Optional.of(thrift);
+    }
+
+    /**
+     * Keeps the damaged snapshot at {@code filePath} aside, and replaces it with {@code thrift}, the data that could
+     * be read from it. A journal kept next to the snapshot is kept aside with it, as it cannot be replayed on top of
+     * the incomplete data, but still holds the changes made since the snapshot was saved.
+     */
+    private void recover(Thrift thrift, Path filePath) throws DataConversionException {
+        Path corruptFilePath = getCorruptFilePath(filePath);
+        Path journalFilePath = JournaledThriftStorage.getJournalFilePath(filePath);
+        Path corruptJournalFilePath = getCorruptFilePath(journalFilePath);
+        logger.warning("Skipped " + skippedBlockCount + " corrupt blocks in binary file " + filePath
+                + ", keeping it as " + corruptFilePath + " and its journal as " + corruptJournalFilePath);
+        try {
+            Files.move(filePath, corruptFilePath, StandardCopyOption.REPLACE_EXISTING);
+            if (Files.exists(journalFilePath)) {
+                Files.move(journalFilePath, corruptJournalFilePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+            saveThrift(thrift, filePath);
+            recoveryMessage = Optional.of(String.format(MESSAGE_RECOVERED_FORMAT, skippedBlockCount, filePath,
+                    corruptFilePath, corruptJournalFilePath));
+        } catch (IOException ioe) {
+            logger.warning("Error recovering binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    /**
+     * Reads a snapshot of {@code fileSize} bytes from {@code input}.
+     */
+    private Thrift read(DataInputStream input, long fileSize) throws IOException, IllegalValueException {
+        if (input.readInt() != MAGIC_NUMBER) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_THRIFT);
+        }
+        int version = input.readInt();
+        if (version == COMPRESSED_FORMAT_VERSION) {
+            return readCompressed(input, fileSize);
+        }
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION_FORMAT, version));
+        }
+
+        Thrift thrift = new Thrift();
+        byte blockType;
+        while ((blockType = input.readByte()) != END_BLOCK) {
+            int length = input.readInt();
+            if (length < 0 || length > fileSize) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_BLOCK_FORMAT, blockType));
+            }
+            byte[] payload = new byte[length];
+            input.readFully(payload);
+            DataInputStream blockInput = new DataInputStream(new ByteArrayInputStream(payload));
+
+            switch (blockType) {
+            case TRANSACTION_BLOCK:
+                for (Transaction transaction : BinaryTransactionBlock.read(blockInput)) {
+                    thrift.addTransaction(transaction);
+                }
+                break;
+            case BUDGET_BLOCK:
+                for (Budget budget : BinaryBudgetBlock.read(blockInput)) {
+                    thrift.setBudget(budget);
+                }
+                break;
+            default:
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_BLOCK_FORMAT, blockType));
+            }
+        }
+        return thrift;
+    }
+
+    /**
+     * Reads the blocks of a compressed snapshot of {@code fileSize} bytes from {@code input}, and decodes them in
+     * parallel. Reading stops at the first block that cannot be located, such as one cut off by the end of the file.
+     */
+    private Thrift readCompressed(DataInputStream input, long fileSize) throws IOException, IllegalValueException {
+        List<CompressedBinaryBlock> blocks = new ArrayList<>();
+        try {
+            byte blockType;
+            while ((blockType = input.readByte()) != END_BLOCK) {
+                if (blockType != TRANSACTION_BLOCK && blockType != BUDGET_BLOCK) {
+                    skippedBlockCount++;
+                    break;
+                }
+                blocks.add(CompressedBinaryBlock.read(input, blockType, fileSize));
+            }
+        } catch (EOFException | IllegalValueException e) {
+            skippedBlockCount++;
+        }
+
+        blocks.parallelStream().forEach(CompressedBinaryBlock::decode);
+
+        Thrift thrift = new Thrift();
+        for (CompressedBinaryBlock block : blocks) {
+            if (block.isCorrupt()) {
+                skippedBlockCount++;
+                continue;
+            }
+            for (Transaction transaction : block.getTransactions()) {
+                thrift.addTransaction(transaction);
+            }
+            for (Budget budget : block.getBudgets()) {
+                thrift.setBudget(budget);
+            }
+        }
+        return thrift;
+    }
+
+    @Override
+    public void saveThrift(ReadOnlyThrift thrift) throws IOException {
+        saveThrift(thrift, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveThrift(ReadOnlyThrift)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveThrift(ReadOnlyThrift thrift, Path filePath) throws IOException {
+        requireNonNull(thrift);
+        requireNonNull(filePath);
+
+        // The snapshot is written next to the file and then moved over it, so a failed write leaves it whole.
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = FileUtil.getTempFilePath(filePath);
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(tempFilePath)))) {
+            output.writeInt(MAGIC_NUMBER);
+            output.writeInt(isCompressed ? COMPRESSED_FORMAT_VERSION : FORMAT_VERSION);
+
+            List<Transaction> transactions = thrift.getTransactionList();
+            for (int from = 0; from < transactions.size(); from += TRANSACTIONS_PER_BLOCK) {
+                List<Transaction> blockTransactions =
+                        transactions.subList(from, Math.min(from + TRANSACTIONS_PER_BLOCK, transactions.size()));
+                ByteArrayOutputStream payload = new ByteArrayOutputStream();
+                BinaryTransactionBlock.write(new DataOutputStream(payload), blockTransactions);
+                writeBlock(output, TRANSACTION_BLOCK, payload);
+            }
+
+            List<Budget> budgets = new ArrayList<>();
+            thrift.getBudgetList().forEach(budgets::add);
+            ByteArrayOutputStream payload = new ByteArrayOutputStream();
+            BinaryBudgetBlock.write(new DataOutputStream(payload), budgets);
+            writeBlock(output, BUDGET_BLOCK, payload);
+
+            output.writeByte(END_BLOCK);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFilePath);
+            throw e;
+        }
+        FileUtil.replaceWithTempFile(filePath);
+    }
+
+    /**
+     * Writes {@code payload} to {@code output} as a block of type {@code blockType}, compressed if this storage saves
+     * compressed snapshots.
+     */
+    private void writeBlock(DataOutputStream output, byte blockType, ByteArrayOutputStream payload)
+            throws IOException {
+        if (isCompressed) {
+            CompressedBinaryBlock.write(output, blockType, payload);
+            return;
+        }
+        output.writeByte(blockType);
+        output.writeInt(payload.size());
+        payload.writeTo(output);
+    }
+
+    /**
+     * Replaces the data in this storage with the data in {@code source}, such as a {@link JsonThriftStorage}.
+     *
+     * @return true if {@code source} had data to import.
+     * @throws DataConversionException if the data in {@code source} is not in the correct format.
+     */
+    public boolean importThrift(ThriftStorage source) throws DataConversionException, IOException {
+        requireNonNull(source);
+
+        Optional<ReadOnlyThrift> thrift = source.readThrift();
+        if (!thrift.isPresent()) {
+            return false;
+        }
+        saveThrift(thrift.get());
+        return true;
+    }
+
+    /**
+     * Replaces the data in {@code target}, such as a {@link JsonThriftStorage}, with the data in this storage.
+     *
+     * @return true if this storage had data to export.
+     * @throws DataConversionException if the data in this storage is not in the correct format.
+     */
+    public boolean exportThrift(ThriftStorage target) throws DataConversionException, IOException {
+        requireNonNull(target);
+
+        Optional<ReadOnlyThrift> thrift = readThrift();
+        if (!thrift.isPresent()) {
+            return false;
+        }
+        target.saveThrift(thrift.get());
+        return true;
+    }
+
+}
@@ -0,0 +1,247 @@
+package thrift.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import thrift.commons.exceptions.IllegalValueException;
+import thrift.model.tag.Tag;
+import thrift.model.tag.TagDictionary;
+import thrift.model.transaction.Description;
+import thrift.model.transaction.Expense;
+import thrift.model.transaction.Income;
+import thrift.model.transaction.Remark;
+import thrift.model.transaction.Transaction;
+import thrift.model.transaction.TransactionDate;
+import thrift.model.transaction.Value;
+import thrift.model.util.PackedDateUtil;
+
+/**
+ * Encodes a run of transactions as one self-contained columnar block of {@link BinaryThriftStorage}. <br>
+ * A block holds its own currency and tag dictionaries, followed by one column per field: types as bytes,
+ * dates as epoch days, amounts as cents in their own currency, currencies and tags as dictionary indices, and
+ * descriptions and remarks as length-prefixed UTF-8 strings.
+ */
+class BinaryTransactionBlock {
+
+    public static final String INVALID_DICTIONARY_INDEX_MESSAGE_FORMAT =
+            "Transaction block refers to an unknown %s: %d";
+    public static final String INVALID_TYPE_MESSAGE_FORMAT = "Transaction block has an unknown type: %d";
+    public static final String INVALID_LENGTH_MESSAGE_FORMAT = "Transaction block has an invalid length: %d";
+
+    private static final byte TYPE_EXPENSE = 0;
+    private static final byte TYPE_INCOME = 1;
+
+    private BinaryTransactionBlock() {} // prevents instantiation
+
+    /**
+     * Writes {@code transactions} to {@code output} as a single block.
+     */
+    public static void write(DataOutput output, List<Transaction> transactions) throws IOException {
+        requireNonNull(transactions);
+
+        Map<String, Integer> currencies = new LinkedHashMap<>();
+        Map<String, Integer> tagNames = new LinkedHashMap<>();
+        for (Transaction transaction : transactions) {
+            currencies.putIfAbsent(transaction.getValue().currency, currencies.size());
+            for (Tag tag : transaction.getTags()) {
+                tagNames.putIfAbsent(tag.tagName, tagNames.size());
+            }
+        }
+
+        output.writeInt(transactions.size());
+        writeDictionary(output, currencies);
+        writeDictionary(output, tagNames);
+        for (Transaction transaction : transactions) {
+            output.writeByte(transaction instanceof Expense ? TYPE_EXPENSE : TYPE_INCOME);
+        }
+        for (Transaction transaction : transactions) {
+            output.writeInt((int) transaction.getDate().getEpochDay());
+        }
+        for (Transaction transaction : transactions) {
+            output.writeLong(transaction.getValue().cents);
+        }
+        for (Transaction transaction : transactions) {
+            output.writeInt(currencies.get(transaction.getValue().currency));
+        }
+        for (Transaction transaction : transactions) {
+            writeString(output, transaction.getDescription().value);
+        }
+        for (Transaction transaction : transactions) {
+            writeString(output, transaction.getRemark().value);
+        }
+        for (Transaction transaction : transactions) {
+            output.writeInt(transaction.getTags().size());
+        }
+        for (Transaction transaction : transactions) {
+            for (Tag tag : transaction.getTags()) {
+                output.writeInt(tagNames.get(tag.tagName));
+            }
+        }
+    }
+
+    /**
+     * Reads a single block from {@code input}, which must hold the block's bytes in memory.
+     *
+     * @throws IOException if the block ends early.
+     * @throws IllegalValueException if there were any data constraints violated in the block.
+     */
+    public static List<Transaction> read(DataInputStream input) throws IOException, IllegalValueException {
+        int size = readLength(input);
+        String[] currencies = readDictionary(input);
+        String[] tagNames = readDictionary(input);
+
+        byte[] types = new byte[size];
+        input.readFully(types);
+        int[] epochDays = new int[size];
+        for (int i = 0; i < size; i++) {
+            epochDays[i] = input.readInt();
+        }
+        long[] cents = new long[size];
+        for (int i = 0; i < size; i++) {
+            cents[i] = input.readLong();
+        }
+        int[] currencyIndices = new int[size];
+        for (int i = 0; i < size; i++) {
+            currencyIndices[i] = input.readInt();
+        }
+        String[] descriptions = new String[size];
+        for (int i = 0; i < size; i++) {
+            descriptions[i] = readString(input);
+        }
+        String[] remarks = new String[size];
+        for (int i = 0; i < size; i++) {
+            remarks[i] = readString(input);
+        }
+        int[] tagCounts = new int[size];
+        for (int i = 0; i < size; i++) {
+            tagCounts[i] = readLength(input);
+        }
+
+        Tag[] tags = new Tag[tagNames.length];
+        for (int i = 0; i < tagNames.length; i++) {
+            if (!Tag.isValidTagName(tagNames[i])) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags[i] = TagDictionary.intern(tagNames[i]);
+        }
+
+        List<Transaction> transactions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Set<Tag> transactionTags = new HashSet<>();
+            for (int j = 0; j < tagCounts[i]; j++) {
+                transactionTags.add(lookUp(tags, input.readInt(), "tag"));
+            }
+
+            Description description = new Description(descriptions[i]);
+            Value value = toValue(cents[i], lookUp(currencies, currencyIndices[i], "currency"));
+            Remark remark = new Remark(remarks[i]);
+            TransactionDate date = toTransactionDate(epochDays[i]);
+            switch (types[i]) {
+            case TYPE_EXPENSE:
+                transactions.add(new Expense(description, value, remark, date, transactionTags));
+                break;
+            case TYPE_INCOME:
+                transactions.add(new Income(description, value, remark, date, transactionTags));
+                break;
+            default:
+                throw new IllegalValueException(String.format(INVALID_TYPE_MESSAGE_FORMAT, types[i]));
+            }
+        }
+        return transactions;
+    }
+
+    /**
+     * Returns the date of the day {@code epochDay} days after 01/01/1970 in the ISO calendar.
+     */
+    private static TransactionDate toTransactionDate(int epochDay) throws IllegalValueException {
+        if (!PackedDateUtil.isValidEpochDay(epochDay)) {
+            throw new IllegalValueException(TransactionDate.DATE_CONSTRAINTS);
+        }
+        return new TransactionDate(epochDay);
+    }
+
+    /**
+     * Returns the value of {@code cents} cents in {@code currency}.
+     */
+    private static Value toValue(long cents, String currency) throws IllegalValueException {
+        if (!Value.isValidCents(cents)) {
+            throw new IllegalValueException(Value.VALUE_CONSTRAINTS);
+        }
+        if (!currency.equals(Value.DEFAULT_CURRENCY) && !Value.isValidCurrency(currency)) {
+            throw new IllegalValueException(Value.CURRENCY_CONSTRAINTS);
+        }
+        return new Value(cents, currency);
+    }
+
+    /**
+     * Returns the entry at {@code index} of {@code dictionary}, checking that it exists.
+     */
+    private static <T> T lookUp(T[] dictionary, int index, String entryName) throws IllegalValueException {
+        if (index < 0 || index >= dictionary.length) {
+            throw new IllegalValueException(String.format(INVALID_DICTIONARY_INDEX_MESSAGE_FORMAT, entryName, index));
+        }
+        return dictionary[index];
+    }
+
+    /**
+     * Writes the entries of {@code dictionary} in the order of their indices.
+     */
+    private static void writeDictionary(DataOutput output, Map<String, Integer> dictionary) throws IOException {
+        output.writeInt(dictionary.size());
+        for (String entry : dictionary.keySet()) {
+            writeString(output, entry);
+        }
+    }
+
+    /**
+     * Reads a dictionary written by {@link #writeDictionary(DataOutput, Map)}, as an array indexed by entry index.
+     */
+    private static String[] readDictionary(DataInputStream input) throws IOException, IllegalValueException {
+        String[] dictionary = new String[readLength(input)];
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = readString(input);
+        }
+        return dictionary;
+    }
+
+    /**
+     * Writes {@code string} as its length in UTF-8 bytes, followed by those bytes.
+     */
+    static void writeString(DataOutput output, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(DataOutput, String)}.
+     */
+    static String readString(DataInputStream input) throws IOException, IllegalValueException {
+        byte[] bytes = new byte[readLength(input)];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a count or length, which can be neither negative nor more than the number of bytes left in
+     * {@code input}.
+     */
+    static int readLength(DataInputStream input) throws IOException, IllegalValueException {
+        int length = input.readInt();
+        if (length < 0 || length > input.available()) {
+            throw new IllegalValueException(String.format(INVALID_LENGTH_MESSAGE_FORMAT, length));
+        }
+        return length;
+    }
+
+}
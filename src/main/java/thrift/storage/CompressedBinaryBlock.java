@@ -0,0 +1,191 @@
+package thrift.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+
+import thrift.commons.exceptions.IllegalValueException;
+import thrift.model.transaction.Budget;
+import thrift.model.transaction.Transaction;
+
+/**
+ * One independently compressed and checksummed block of a compressed {@link BinaryThriftStorage} snapshot. <br>
+ * A block is stored as its type, the length of its compressed payload, the length of its payload once decompressed,
+ * a CRC32 over the type, the decompressed length and the compressed payload, and finally the compressed payload
+ * itself. Blocks are decoded independently of each other, so a corrupt block does not stop the others from being
+ * read.
+ */
+class CompressedBinaryBlock {
+
+    private final byte blockType;
+    private final int length;
+    private final int checksum;
+    private final byte[] compressedPayload;
+
+    private boolean isCorrupt;
+    private List<Transaction> transactions;
+    private List<Budget> budgets;
+    private Exception decodingException;
+
+    private CompressedBinaryBlock(byte blockType, int length, int checksum, byte[] compressedPayload) {
+        this.blockType = blockType;
+        this.length = length;
+        this.checksum = checksum;
+        this.compressedPayload = compressedPayload;
+    }
+
+    /**
+     * Compresses {@code payload} and writes it to {@code output} as a block of type {@code blockType}.
+     */
+    public static void write(DataOutputStream output, byte blockType, ByteArrayOutputStream payload)
+            throws IOException {
+        requireNonNull(payload);
+
+        ByteArrayOutputStream compressedPayload = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflaterOutput = new DeflaterOutputStream(compressedPayload)) {
+            payload.writeTo(deflaterOutput);
+        }
+        byte[] compressedBytes = compressedPayload.toByteArray();
+
+        output.writeByte(blockType);
+        output.writeInt(compressedBytes.length);
+        output.writeInt(payload.size());
+        output.writeInt(computeChecksum(blockType, payload.size(), compressedBytes));
+        output.write(compressedBytes);
+    }
+
+    /**
+     * Reads the rest of the block of type {@code blockType} that follows in {@code input}, without decompressing it.
+     *
+     * @throws EOFException if {@code input} ends before the block does.
+     * @throws IllegalValueException if the lengths of the block cannot be valid for a file of {@code fileSize} bytes.
+     */
+    public static CompressedBinaryBlock read(DataInputStream input, byte blockType, long fileSize)
+            throws IOException, IllegalValueException {
+        int compressedLength = input.readInt();
+        int length = input.readInt();
+        int checksum = input.readInt();
+        if (compressedLength < 0 || compressedLength > fileSize || length < 0) {
+            throw new IllegalValueException(
+                    String.format(BinaryThriftStorage.MESSAGE_INVALID_BLOCK_FORMAT, blockType));
+        }
+        byte[] compressedPayload = new byte[compressedLength];
+        input.readFully(compressedPayload);
+        return new CompressedBinaryBlock(blockType, length, checksum, compressedPayload);
+    }
+
+    /**
+     * Returns the CRC32 that a block with the given type, decompressed length and compressed payload is stored with.
+     */
+    private static int computeChecksum(byte blockType, int length, byte[] compressedPayload) {
+        CRC32 crc = new CRC32();
+        crc.update(blockType);
+        crc.update(length >>> 24);
+        crc.update(length >>> 16);
+        crc.update(length >>> 8);
+        crc.update(length);
+        crc.update(compressedPayload);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Verifies, decompresses and decodes this block. Can be called from any thread, and never throws: the outcome
+     * is found through {@link #isCorrupt()}, {@link #getTransactions()} and {@link #getBudgets()}.
+     */
+    public void decode() {
+        if (computeChecksum(blockType, length, compressedPayload) != checksum) {
+            isCorrupt = true;
+            return;
+        }
+
+        byte[] payload = new byte[length];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressedPayload);
+            int inflatedLength = 0;
+            while (inflatedLength < length && !inflater.finished() && !inflater.needsInput()) {
+                inflatedLength += inflater.inflate(payload, inflatedLength, length - inflatedLength);
+            }
+            if (inflatedLength != length || !inflater.finished()) {
+                isCorrupt = true;
+                return;
+            }
+        } catch (DataFormatException dfe) {
+            isCorrupt = true;
+            return;
+        } finally {
+            inflater.end();
+        }
+
+        DataInputStream payloadInput = new DataInputStream(new ByteArrayInputStream(payload));
+        try {
+            switch (blockType) {
+            case BinaryThriftStorage.TRANSACTION_BLOCK:
+                transactions = BinaryTransactionBlock.read(payloadInput);
+                break;
+            case BinaryThriftStorage.BUDGET_BLOCK:
+                budgets = BinaryBudgetBlock.read(payloadInput);
+                break;
+            default:
+                decodingException = new IllegalValueException(
+                        String.format(BinaryThriftStorage.MESSAGE_INVALID_BLOCK_FORMAT, blockType));
+                break;
+            }
+        } catch (IOException | IllegalValueException e) {
+            decodingException = e;
+        }
+    }
+
+    /**
+     * Returns true if the decoded block did not match its checksum or could not be decompressed.
+     */
+    public boolean isCorrupt() {
+        return isCorrupt;
+    }
+
+    /**
+     * Returns the transactions in the decoded block, or an empty list if it is not a transaction block.
+     *
+     * @throws IOException if the block matched its checksum but could not be decoded.
+     * @throws IllegalValueException if there were any data constraints violated in the block.
+     */
+    public List<Transaction> getTransactions() throws IOException, IllegalValueException {
+        throwDecodingException();
+        return transactions == null ? Collections.emptyList() : transactions;
+    }
+
+    /**
+     * Returns the budgets in the decoded block, or an empty list if it is not a budget block.
+     *
+     * @throws IOException if the block matched its checksum but could not be decoded.
+     * @throws IllegalValueException if there were any data constraints violated in the block.
+     */
+    public List<Budget> getBudgets() throws IOException, IllegalValueException {
+        throwDecodingException();
+        return budgets == null ? Collections.emptyList() : budgets;
+    }
+
+    /**
+     * Rethrows the exception that stopped this block from being decoded, if any.
+     */
+    private void throwDecodingException() throws IOException, IllegalValueException {
+        if (decodingException instanceof IOException) {
+            throw (IOException) decodingException;
+        }
+        if (decodingException instanceof IllegalValueException) {
+            throw (IllegalValueException) decodingException;
+        }
+    }
+
+}
@@ -0,0 +1,345 @@
+package thrift.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import thrift.commons.core.LogsCenter;
+import thrift.commons.exceptions.DataConversionException;
+import thrift.commons.exceptions.IllegalValueException;
+import thrift.commons.util.FileUtil;
+import thrift.commons.util.JsonUtil;
+import thrift.model.ReadOnlyThrift;
+import thrift.model.Thrift;
+import thrift.model.transaction.BudgetList;
+import thrift.model.transaction.Transaction;
+
+/**
+ * A class to access THRIFT data stored as a snapshot, written by another {@link ThriftStorage}, together with an
+ * append-only journal of the changes made since that snapshot was written. <br>
+ * Once a THRIFT is tracked through {@link #trackThrift(ReadOnlyThrift)}, saving it only appends one line per change
+ * to the journal instead of rewriting the whole snapshot. The journal is replayed on top of the snapshot when reading,
+ * and is compacted into a fresh snapshot once it holds more than {@code compactionThreshold} entries. <br>
+ * Copies of the tracked THRIFT can be saved from another thread, in which case only the changes up to the
+ * {@link ReadOnlyThrift#getVersion() version} of the copy are journaled.
+ */
+public class JournaledThriftStorage implements ThriftStorage {
+
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledThriftStorage.class);
+    private static final long NO_VERSION = -1;
+
+    private final ThriftStorage snapshotStorage;
+    private final Path journalFilePath;
+    private final int compactionThreshold;
+    private final Deque<PendingEntry> pendingEntries;
+    private final ListChangeListener<Transaction> transactionListListener;
+    private volatile ReadOnlyThrift trackedThrift;
+    private long compactionRequiredVersion;
+    private long journaledVersion;
+    private BudgetList journaledBudgets;
+    private int journalSize;
+    private boolean isJournalUsable;
+
+    public JournaledThriftStorage(ThriftStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledThriftStorage} that keeps its snapshot in {@code snapshotStorage} and compacts its
+     * journal once it holds more than {@code compactionThreshold} entries.
+     */
+    public JournaledThriftStorage(ThriftStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        assert compactionThreshold > 0 : "Journal must be able to hold at least one entry before compaction";
+
+        this.snapshotStorage = snapshotStorage;
+        this.journalFilePath = getJournalFilePath(snapshotStorage.getThriftFilePath());
+        this.compactionThreshold = compactionThreshold;
+        this.pendingEntries = new ArrayDeque<>();
+        this.transactionListListener = this::recordTransactionListChange;
+        this.compactionRequiredVersion = NO_VERSION;
+        this.journaledVersion = NO_VERSION;
+        this.journaledBudgets = new BudgetList();
+        this.journalSize = 0;
+        this.isJournalUsable = false;
+    }
+
+    @Override
+    public Path getThriftFilePath() {
+        return snapshotStorage.getThriftFilePath();
+    }
+
+    public ThriftStorage getSnapshotStorage() {
+        return snapshotStorage;
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot at {@code snapshotFilePath}.
+     */
+    public static Path getJournalFilePath(Path snapshotFilePath) {
+        requireNonNull(snapshotFilePath);
+        return snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + JOURNAL_FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyThrift> readThrift() throws DataConversionException, IOException {
+        return readThrift(getThriftFilePath());
+    }
+
+    /**
+     * Similar to {@link #readThrift()}. The journal is only replayed when reading from this storage's own snapshot.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyThrift> readThrift(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyThrift> snapshot = snapshotStorage.readThrift(filePath);
+        if (!filePath.equals(getThriftFilePath())) {
+            return snapshot;
+        }
+
+        isJournalUsable = false;
+        if (!snapshot.isPresent() || !FileUtil.isFileExists(journalFilePath)) {
+            return snapshot;
+        }
+
+        Thrift replayedThrift = new Thrift(snapshot.get());
+        isJournalUsable = replayJournal(replayedThrift);
+        journaledBudgets = copyOf(replayedThrift.getBudgetList());
+        return Optional.of(replayedThrift);
+    }
+
+    /**
+     * Replays every complete entry in the journal on {@code thrift}.
+     *
+     * @return true if new entries can be appended to the journal after the replayed ones.
+     * @throws DataConversionException if an entry is not in the correct format.
+     */
+    private boolean replayJournal(Thrift thrift) throws DataConversionException, IOException {
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String headerLine = reader.readLine();
+            if (headerLine == null
+                    || !JsonUtil.fromJsonString(headerLine, JsonAdaptedJournalHeader.class)
+                            .isDescribing(getThriftFilePath())) {
+                logger.info("Journal " + journalFilePath + " does not belong to the current snapshot, ignoring it");
+                return false;
+            }
+
+            int replayedEntries = 0;
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                JsonAdaptedJournalEntry entry;
+                try {
+                    entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+                } catch (IOException ioe) {
+                    if (nextLine != null) {
+                        throw new DataConversionException(ioe);
+                    }
+                    // Only the last entry can be incomplete, if the app stopped while appending it.
+                    logger.warning("Ignoring incomplete last entry of journal " + journalFilePath + ": " + ioe);
+                    journalSize = replayedEntries;
+                    return false;
+                }
+                entry.applyTo(thrift);
+                replayedEntries++;
+                line = nextLine;
+            }
+
+            logger.info("Replayed " + replayedEntries + " journal entries from " + journalFilePath);
+            journalSize = replayedEntries;
+            return true;
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Starts recording every change made to {@code thrift}, so that saving it only appends those changes to the
+     * journal. {@code thrift} should hold the same data as was last read from this storage.
+     */
+    public synchronized void trackThrift(ReadOnlyThrift thrift) {
+        requireNonNull(thrift);
+
+        if (trackedThrift != null) {
+            trackedThrift.getTransactionList().removeListener(transactionListListener);
+        }
+        synchronized (pendingEntries) {
+            pendingEntries.clear();
+            compactionRequiredVersion = NO_VERSION;
+        }
+        trackedThrift = thrift;
+        journaledVersion = thrift.getVersion();
+        trackedThrift.getTransactionList().addListener(transactionListListener);
+    }
+
+    /**
+     * Records the changes described by {@code change} as journal entries to be appended on the next save.
+     */
+    private void recordTransactionListChange(ListChangeListener.Change<? extends Transaction> change) {
+        long version = trackedThrift.getVersion();
+        synchronized (pendingEntries) {
+            while (change.next()) {
+                if (change.wasPermutated() || change.getRemovedSize() + change.getAddedSize() > compactionThreshold) {
+                    if (compactionRequiredVersion == NO_VERSION) {
+                        compactionRequiredVersion = version;
+                    }
+                } else if (change.wasReplaced() && change.getRemovedSize() == change.getAddedSize()) {
+                    for (int i = change.getFrom(); i < change.getTo(); i++) {
+                        pendingEntries.add(new PendingEntry(version,
+                                JsonAdaptedJournalEntry.set(i, change.getList().get(i))));
+                    }
+                } else {
+                    for (int i = 0; i < change.getRemovedSize(); i++) {
+                        pendingEntries.add(new PendingEntry(version, JsonAdaptedJournalEntry.remove(change.getFrom())));
+                    }
+                    for (int i = change.getFrom(); i < change.getTo(); i++) {
+                        pendingEntries.add(new PendingEntry(version,
+                                JsonAdaptedJournalEntry.add(i, change.getList().get(i))));
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void saveThrift(ReadOnlyThrift thrift) throws IOException {
+        saveThrift(thrift, getThriftFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveThrift(ReadOnlyThrift)}. Only the tracked THRIFT, or a copy of it, saved to this
+     * storage's own snapshot is journaled, anything else is written out as a full snapshot.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public synchronized void saveThrift(ReadOnlyThrift thrift, Path filePath) throws IOException {
+        requireNonNull(thrift);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getThriftFilePath())) {
+            snapshotStorage.saveThrift(thrift, filePath);
+            return;
+        }
+
+        if (!isTrackedThriftVersion(thrift)) {
+            isJournalUsable = false;
+            snapshotStorage.saveThrift(thrift, filePath);
+            return;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        boolean isCompactionRequired;
+        synchronized (pendingEntries) {
+            while (!pendingEntries.isEmpty() && pendingEntries.peekFirst().version <= thrift.getVersion()) {
+                entries.add(pendingEntries.pollFirst().entry);
+            }
+            isCompactionRequired = compactionRequiredVersion != NO_VERSION
+                    && compactionRequiredVersion <= thrift.getVersion();
+            if (isCompactionRequired) {
+                compactionRequiredVersion = NO_VERSION;
+            }
+        }
+        if (!journaledBudgets.equals(thrift.getBudgetList())) {
+            entries.add(JsonAdaptedJournalEntry.budgets(thrift.getBudgetList()));
+        }
+
+        if (!isJournalUsable || isCompactionRequired || journalSize + entries.size() > compactionThreshold) {
+            compact(thrift);
+        } else if (!entries.isEmpty()) {
+            append(entries, thrift);
+        }
+        journaledVersion = thrift.getVersion();
+    }
+
+    /**
+     * Returns true if {@code thrift} is the tracked THRIFT, or a copy of it taken since it was last journaled.
+     */
+    private boolean isTrackedThriftVersion(ReadOnlyThrift thrift) {
+        ReadOnlyThrift tracked = trackedThrift;
+        return tracked != null
+                && (thrift == tracked
+                || (journaledVersion <= thrift.getVersion() && thrift.getVersion() <= tracked.getVersion()));
+    }
+
+    /**
+     * Writes {@code thrift} out as a fresh snapshot and starts a new, empty journal for it.
+     */
+    private void compact(ReadOnlyThrift thrift) throws IOException {
+        logger.fine("Compacting journal " + journalFilePath + " into a fresh snapshot");
+        isJournalUsable = false;
+        snapshotStorage.saveThrift(thrift, getThriftFilePath());
+
+        String header = JsonUtil.toSingleLineJsonString(JsonAdaptedJournalHeader.describe(getThriftFilePath()));
+        FileUtil.writeToFile(journalFilePath, header + System.lineSeparator());
+
+        journaledBudgets = copyOf(thrift.getBudgetList());
+        journalSize = 0;
+        isJournalUsable = true;
+    }
+
+    /**
+     * Appends {@code entries}, which bring the journal up to date with {@code thrift}, to the journal.
+     */
+    private void append(List<JsonAdaptedJournalEntry> entries, ReadOnlyThrift thrift) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(journalFilePath, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (JsonAdaptedJournalEntry entry : entries) {
+                writer.write(JsonUtil.toSingleLineJsonString(entry));
+                writer.newLine();
+            }
+        } catch (IOException ioe) {
+            // Part of the entries may have been written, so the journal can no longer be trusted to be appended to.
+            isJournalUsable = false;
+            throw ioe;
+        }
+
+        journalSize += entries.size();
+        journaledBudgets = copyOf(thrift.getBudgetList());
+    }
+
+    private static BudgetList copyOf(BudgetList budgets) {
+        BudgetList copy = new BudgetList();
+        copy.setBudgets(budgets);
+        return copy;
+    }
+
+    /**
+     * A journal entry recorded for the tracked THRIFT, together with the version of the change it records.
+     */
+    private static class PendingEntry {
+        private final long version;
+        private final JsonAdaptedJournalEntry entry;
+
+        PendingEntry(long version, JsonAdaptedJournalEntry entry) {
+            this.version = version;
+            this.entry = entry;
+        }
+    }
+
+}
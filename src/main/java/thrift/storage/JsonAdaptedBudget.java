@@ -44,6 +44,15 @@ public class JsonAdaptedBudget {
      * @throws IllegalValueException if there are any data constraints violated in the adapted budget.
      */
     public Budget toModelType() throws IllegalValueException {
+        return toModelType(period, value);
+    }
+
+    /**
+     * Converts the given budget details, as they are stored, into the model's {@code Budget} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the budget details.
+     */
+    static Budget toModelType(String period, String value) throws IllegalValueException {
         final Calendar modelPeriod;
         final BudgetValue modelValue;
 
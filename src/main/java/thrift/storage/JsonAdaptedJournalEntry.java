@@ -0,0 +1,153 @@
+package thrift.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import thrift.commons.core.index.Index;
+import thrift.commons.exceptions.IllegalValueException;
+import thrift.model.Thrift;
+import thrift.model.transaction.Budget;
+import thrift.model.transaction.BudgetList;
+import thrift.model.transaction.Transaction;
+
+/**
+ * Jackson-friendly version of a single change made to a {@link Thrift}, as recorded in the journal of
+ * {@link JournaledThriftStorage}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String OPERATION_ADD = "add";
+    public static final String OPERATION_REMOVE = "remove";
+    public static final String OPERATION_SET = "set";
+    public static final String OPERATION_BUDGETS = "budgets";
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+    public static final String INVALID_OPERATION_MESSAGE_FORMAT = "Journal entry has an unknown operation: %s";
+    public static final String INVALID_INDEX_MESSAGE_FORMAT = "Journal entry's index %d is out of bounds!";
+
+    private final String op;
+    private final Integer index;
+    private final JsonAdaptedTransaction transaction;
+    private final List<JsonAdaptedBudget> budgets;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("op") String op, @JsonProperty("index") Integer index,
+            @JsonProperty("transaction") JsonAdaptedTransaction transaction,
+            @JsonProperty("budgets") List<JsonAdaptedBudget> budgets) {
+        this.op = op;
+        this.index = index;
+        this.transaction = transaction;
+        this.budgets = budgets;
+    }
+
+    /**
+     * Returns an entry that records {@code transaction} being inserted at {@code index}.
+     */
+    public static JsonAdaptedJournalEntry add(int index, Transaction transaction) {
+        return new JsonAdaptedJournalEntry(OPERATION_ADD, index, new JsonAdaptedTransaction(transaction), null);
+    }
+
+    /**
+     * Returns an entry that records the transaction at {@code index} being removed.
+     */
+    public static JsonAdaptedJournalEntry remove(int index) {
+        return new JsonAdaptedJournalEntry(OPERATION_REMOVE, index, null, null);
+    }
+
+    /**
+     * Returns an entry that records the transaction at {@code index} being replaced with {@code transaction}.
+     */
+    public static JsonAdaptedJournalEntry set(int index, Transaction transaction) {
+        return new JsonAdaptedJournalEntry(OPERATION_SET, index, new JsonAdaptedTransaction(transaction), null);
+    }
+
+    /**
+     * Returns an entry that records the whole budget list being replaced with {@code budgetList}.
+     */
+    public static JsonAdaptedJournalEntry budgets(BudgetList budgetList) {
+        List<JsonAdaptedBudget> adaptedBudgets = new ArrayList<>();
+        for (Budget budget : budgetList) {
+            adaptedBudgets.add(new JsonAdaptedBudget(budget));
+        }
+        return new JsonAdaptedJournalEntry(OPERATION_BUDGETS, null, null, adaptedBudgets);
+    }
+
+    /**
+     * Replays this entry on {@code thrift}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the entry, or if the entry does
+     *     not fit the current state of {@code thrift}.
+     */
+    public void applyTo(Thrift thrift) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "op"));
+        }
+
+        switch (op) {
+        case OPERATION_ADD:
+            thrift.addTransaction(toModelTransaction(), toModelIndex(thrift, true));
+            break;
+        case OPERATION_REMOVE:
+            thrift.removeTransactionByIndex(toModelIndex(thrift, false));
+            break;
+        case OPERATION_SET:
+            thrift.setTransactionWithIndex(toModelIndex(thrift, false), toModelTransaction());
+            break;
+        case OPERATION_BUDGETS:
+            thrift.setBudgets(toModelBudgetList());
+            break;
+        default:
+            throw new IllegalValueException(String.format(INVALID_OPERATION_MESSAGE_FORMAT, op));
+        }
+    }
+
+    /**
+     * Returns the {@code Index} this entry refers to, checking that it is within the bounds of {@code thrift}'s
+     * transaction list. An index one past the last transaction is only allowed if {@code isInsertion} is true.
+     */
+    private Index toModelIndex(Thrift thrift, boolean isInsertion) throws IllegalValueException {
+        if (index == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "index"));
+        }
+
+        int size = thrift.getTransactionList().size();
+        if (index < 0 || index > size || (index == size && !isInsertion)) {
+            throw new IllegalValueException(String.format(INVALID_INDEX_MESSAGE_FORMAT, index));
+        }
+        return Index.fromZeroBased(index);
+    }
+
+    /**
+     * Converts the transaction recorded in this entry into the model's {@code Transaction} object.
+     */
+    private Transaction toModelTransaction() throws IllegalValueException {
+        if (transaction == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "transaction"));
+        }
+        return transaction.toModelType();
+    }
+
+    /**
+     * Converts the budgets recorded in this entry into the model's {@code BudgetList} object.
+     */
+    private BudgetList toModelBudgetList() throws IllegalValueException {
+        if (budgets == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "budgets"));
+        }
+
+        BudgetList budgetList = new BudgetList();
+        for (JsonAdaptedBudget jsonAdaptedBudget : budgets) {
+            budgetList.setBudget(jsonAdaptedBudget.toModelType());
+        }
+        return budgetList;
+    }
+
+}
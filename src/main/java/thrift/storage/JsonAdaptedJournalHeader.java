@@ -0,0 +1,49 @@
+package thrift.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly first line of the journal of {@link JournaledThriftStorage}.
+ * Identifies the snapshot file that the entries following it were recorded against, so that a journal left behind
+ * by an interrupted compaction is never replayed on top of a snapshot that already contains its entries.
+ */
+class JsonAdaptedJournalHeader {
+
+    private final long snapshotSize;
+    private final long snapshotLastModified;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalHeader} with the given snapshot details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalHeader(@JsonProperty("snapshotSize") long snapshotSize,
+            @JsonProperty("snapshotLastModified") long snapshotLastModified) {
+        this.snapshotSize = snapshotSize;
+        this.snapshotLastModified = snapshotLastModified;
+    }
+
+    /**
+     * Returns a header describing the snapshot currently stored at {@code snapshotFilePath}.
+     */
+    public static JsonAdaptedJournalHeader describe(Path snapshotFilePath) throws IOException {
+        return new JsonAdaptedJournalHeader(Files.size(snapshotFilePath),
+                Files.getLastModifiedTime(snapshotFilePath).toMillis());
+    }
+
+    /**
+     * Returns true if this header describes the snapshot currently stored at {@code snapshotFilePath}.
+     */
+    public boolean isDescribing(Path snapshotFilePath) throws IOException {
+        if (!Files.exists(snapshotFilePath)) {
+            return false;
+        }
+        JsonAdaptedJournalHeader current = describe(snapshotFilePath);
+        return snapshotSize == current.snapshotSize && snapshotLastModified == current.snapshotLastModified;
+    }
+
+}
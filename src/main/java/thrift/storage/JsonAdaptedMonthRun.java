@@ -0,0 +1,105 @@
+package thrift.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import thrift.commons.exceptions.IllegalValueException;
+import thrift.model.transaction.Transaction;
+
+/**
+ * Jackson-friendly run of consecutive transactions of one month in the transaction list saved to a
+ * {@link PartitionedThriftStorage}. The runs of the list, in order, let the transactions spread over the segments be
+ * read back in the order they were saved in.
+ */
+class JsonAdaptedMonthRun {
+
+    private final String month;
+    private final int count;
+
+    /**
+     * Constructs a {@code JsonAdaptedMonthRun} of {@code count} transactions of {@code month}.
+     */
+    @JsonCreator
+    public JsonAdaptedMonthRun(@JsonProperty("month") String month, @JsonProperty("count") int count) {
+        this.month = month;
+        this.count = count;
+    }
+
+    public JsonAdaptedMonthRun(YearMonth month, int count) {
+        this(month.toString(), count);
+    }
+
+    /**
+     * Returns the runs of consecutive transactions of the same month in {@code transactions}, in order.
+     */
+    public static List<JsonAdaptedMonthRun> of(List<Transaction> transactions) {
+        requireNonNull(transactions);
+
+        List<JsonAdaptedMonthRun> runs = new ArrayList<>();
+        YearMonth runMonth = null;
+        int runCount = 0;
+        for (Transaction transaction : transactions) {
+            YearMonth month = transaction.getDate().getYearMonth();
+            if (!month.equals(runMonth) && runCount > 0) {
+                runs.add(new JsonAdaptedMonthRun(runMonth, runCount));
+                runCount = 0;
+            }
+            runMonth = month;
+            runCount++;
+        }
+        if (runCount > 0) {
+            runs.add(new JsonAdaptedMonthRun(runMonth, runCount));
+        }
+        return runs;
+    }
+
+    /**
+     * Returns the month of the transactions in this run.
+     *
+     * @throws IllegalValueException if the month is missing or not in the correct format.
+     */
+    public YearMonth toModelMonth() throws IllegalValueException {
+        if (month == null) {
+            throw new IllegalValueException(
+                    String.format(JsonAdaptedMonthSummary.MISSING_FIELD_MESSAGE_FORMAT, "month"));
+        }
+        try {
+            return YearMonth.parse(month);
+        } catch (DateTimeParseException dtpe) {
+            throw new IllegalValueException(JsonAdaptedMonthSummary.MONTH_CONSTRAINTS);
+        }
+    }
+
+    /**
+     * Returns the month of the transactions in this run as it is stored, in yyyy-MM format if valid.
+     */
+    public String getMonth() {
+        return month;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof JsonAdaptedMonthRun // instanceof handles nulls
+                && Objects.equals(month, ((JsonAdaptedMonthRun) other).month)
+                && count == ((JsonAdaptedMonthRun) other).count);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(month, count);
+    }
+
+}
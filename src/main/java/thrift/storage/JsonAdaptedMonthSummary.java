@@ -0,0 +1,78 @@
+package thrift.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import thrift.commons.exceptions.IllegalValueException;
+import thrift.model.transaction.Income;
+import thrift.model.transaction.Transaction;
+import thrift.model.util.MoneyUtil;
+
+/**
+ * Jackson-friendly summary of the transactions of one month in a {@link PartitionedThriftStorage}. <br>
+ * Incomes and expenses are totalled in the default currency.
+ */
+class JsonAdaptedMonthSummary {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Month summary's %s field is missing!";
+    public static final String MONTH_CONSTRAINTS = "Month should be specified in yyyy-MM format";
+
+    private final String month;
+    private final int count;
+    private final double income;
+    private final double expense;
+
+    /**
+     * Constructs a {@code JsonAdaptedMonthSummary} with the given summary details.
+     */
+    @JsonCreator
+    public JsonAdaptedMonthSummary(@JsonProperty("month") String month, @JsonProperty("count") int count,
+            @JsonProperty("income") double income, @JsonProperty("expense") double expense) {
+        this.month = month;
+        this.count = count;
+        this.income = income;
+        this.expense = expense;
+    }
+
+    /**
+     * Summarises {@code transactions}, which all happened in {@code month}.
+     */
+    public JsonAdaptedMonthSummary(YearMonth month, List<Transaction> transactions) {
+        requireNonNull(month);
+        requireNonNull(transactions);
+
+        this.month = month.toString();
+        count = transactions.size();
+        income = MoneyUtil.toUnits(transactions.stream().filter(t -> t instanceof Income)
+                .mapToLong(t -> t.getValue().getMonetaryCents()).sum());
+        expense = MoneyUtil.toUnits(transactions.stream().filter(t -> !(t instanceof Income))
+                .mapToLong(t -> t.getValue().getMonetaryCents()).sum());
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the month this summary is of.
+     *
+     * @throws IllegalValueException if the month is missing or not in the correct format.
+     */
+    public YearMonth toModelMonth() throws IllegalValueException {
+        if (month == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "month"));
+        }
+        try {
+            return YearMonth.parse(month);
+        } catch (DateTimeParseException dtpe) {
+            throw new IllegalValueException(MONTH_CONSTRAINTS);
+        }
+    }
+
+}
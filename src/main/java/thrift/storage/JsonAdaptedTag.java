@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonValue;
 
 import thrift.commons.exceptions.IllegalValueException;
 import thrift.model.tag.Tag;
+import thrift.model.tag.TagDictionary;
 
 /**
  * Jackson-friendly version of {@link Tag}.
@@ -39,10 +40,19 @@ class JsonAdaptedTag {
      * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
      */
     public Tag toModelType() throws IllegalValueException {
-        if (!Tag.isValidTagName(tagName)) {
+        return toModelType(tagName);
+    }
+
+    /**
+     * Converts {@code tagName}, as it is stored, into the model's {@code Tag} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the tag name.
+     */
+    static Tag toModelType(String tagName) throws IllegalValueException {
+        if (tagName == null || !Tag.isValidTagName(tagName)) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(tagName);
+        return TagDictionary.intern(tagName);
     }
 
 }
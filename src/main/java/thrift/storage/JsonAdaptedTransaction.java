@@ -74,9 +74,23 @@ class JsonAdaptedTransaction {
      * @throws IllegalValueException if there were any data constraints violated in the adapted transaction.
      */
     public Transaction toModelType() throws IllegalValueException {
-        final List<Tag> transactionTags = new ArrayList<>();
+        List<String> tagNames = new ArrayList<>(tagged.size());
         for (JsonAdaptedTag tag : tagged) {
-            transactionTags.add(tag.toModelType());
+            tagNames.add(tag.getTagName());
+        }
+        return toModelType(type, description, value, remark, date, tagNames);
+    }
+
+    /**
+     * Converts the given transaction details, as they are stored, into the model's {@code Transaction} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the transaction details.
+     */
+    static Transaction toModelType(String type, String description, String value, String remark, String date,
+            List<String> tagNames) throws IllegalValueException {
+        final List<Tag> transactionTags = new ArrayList<>();
+        for (String tagName : tagNames) {
+            transactionTags.add(JsonAdaptedTag.toModelType(tagName));
         }
 
         if (type == null) {
@@ -0,0 +1,115 @@
+package thrift.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import thrift.commons.core.index.Index;
+import thrift.commons.exceptions.IllegalValueException;
+import thrift.model.transaction.Budget;
+import thrift.model.transaction.StableTransactionId;
+import thrift.model.transaction.Transaction;
+import thrift.model.undo.BudgetEdit;
+import thrift.model.undo.Edit;
+import thrift.model.undo.TransactionEdit;
+
+/**
+ * Jackson-friendly version of an {@link Edit}. <br>
+ * A transaction edit has a transaction before or after it, or both, and the zero-based index of the change unless it
+ * is at the end of the list. An insertion or removal at an index also has the {@link StableTransactionId} of the
+ * transaction before it, its anchor, unless it is the first. A budget edit has a budget before or after it, or both.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedUndoEdit {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Undo edit's %s field is missing!";
+    public static final String INVALID_INDEX_MESSAGE_FORMAT = "Undo edit's index %d is out of bounds!";
+    public static final String MIXED_FIELDS_MESSAGE = "Undo edit has both transactions and budgets!";
+
+    private final Integer index;
+    private final String anchor;
+    private final JsonAdaptedTransaction transactionBefore;
+    private final JsonAdaptedTransaction transactionAfter;
+    private final JsonAdaptedBudget budgetBefore;
+    private final JsonAdaptedBudget budgetAfter;
+
+    /**
+     * Constructs a {@code JsonAdaptedUndoEdit} with the given edit details.
+     */
+    @JsonCreator
+    public JsonAdaptedUndoEdit(@JsonProperty("index") Integer index, @JsonProperty("anchor") String anchor,
+            @JsonProperty("transactionBefore") JsonAdaptedTransaction transactionBefore,
+            @JsonProperty("transactionAfter") JsonAdaptedTransaction transactionAfter,
+            @JsonProperty("budgetBefore") JsonAdaptedBudget budgetBefore,
+            @JsonProperty("budgetAfter") JsonAdaptedBudget budgetAfter) {
+        this.index = index;
+        this.anchor = anchor;
+        this.transactionBefore = transactionBefore;
+        this.transactionAfter = transactionAfter;
+        this.budgetBefore = budgetBefore;
+        this.budgetAfter = budgetAfter;
+    }
+
+    /**
+     * Converts a given {@code Edit} into this class for Jackson use.
+     */
+    public JsonAdaptedUndoEdit(Edit source) {
+        if (source instanceof TransactionEdit) {
+            TransactionEdit edit = (TransactionEdit) source;
+            index = edit.getIndex().map(Index::getZeroBased).orElse(null);
+            anchor = edit.getAnchor().map(StableTransactionId::toString).orElse(null);
+            transactionBefore = edit.getBefore().map(JsonAdaptedTransaction::new).orElse(null);
+            transactionAfter = edit.getAfter().map(JsonAdaptedTransaction::new).orElse(null);
+            budgetBefore = null;
+            budgetAfter = null;
+        } else {
+            assert source instanceof BudgetEdit : "Edit not of type TransactionEdit or BudgetEdit";
+            BudgetEdit edit = (BudgetEdit) source;
+            index = null;
+            anchor = null;
+            transactionBefore = null;
+            transactionAfter = null;
+            budgetBefore = edit.getBefore().map(JsonAdaptedBudget::new).orElse(null);
+            budgetAfter = edit.getAfter().map(JsonAdaptedBudget::new).orElse(null);
+        }
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted edit object into the model's {@code Edit} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted edit.
+     */
+    public Edit toModelType() throws IllegalValueException {
+        boolean hasTransaction = transactionBefore != null || transactionAfter != null;
+        boolean hasBudget = budgetBefore != null || budgetAfter != null;
+        if (hasTransaction && hasBudget) {
+            throw new IllegalValueException(MIXED_FIELDS_MESSAGE);
+        }
+        if (hasBudget) {
+            Budget before = budgetBefore == null ? null : budgetBefore.toModelType();
+            Budget after = budgetAfter == null ? null : budgetAfter.toModelType();
+            if (before != null && after != null && !before.getBudgetDate().equals(after.getBudgetDate())) {
+                throw new IllegalValueException(BudgetEdit.MESSAGE_CONSTRAINTS);
+            }
+            return new BudgetEdit(before, after);
+        }
+        if (!hasTransaction) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "transaction"));
+        }
+
+        if (index != null && index < 0) {
+            throw new IllegalValueException(String.format(INVALID_INDEX_MESSAGE_FORMAT, index));
+        }
+        if (index == null && transactionBefore != null && transactionAfter != null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "index"));
+        }
+        if (anchor != null && !StableTransactionId.isValidStableTransactionId(anchor)) {
+            throw new IllegalValueException(StableTransactionId.MESSAGE_CONSTRAINTS);
+        }
+        Transaction before = transactionBefore == null ? null : transactionBefore.toModelType();
+        Transaction after = transactionAfter == null ? null : transactionAfter.toModelType();
+        return new TransactionEdit(index == null ? null : Index.fromZeroBased(index), before, after,
+                anchor == null ? null : StableTransactionId.fromString(anchor));
+    }
+
+}
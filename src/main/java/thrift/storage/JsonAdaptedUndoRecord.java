@@ -0,0 +1,71 @@
+package thrift.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import thrift.commons.exceptions.IllegalValueException;
+import thrift.model.undo.Edit;
+import thrift.model.undo.UndoRecord;
+
+/**
+ * Jackson-friendly version of {@link UndoRecord}.
+ */
+class JsonAdaptedUndoRecord {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Undo record's %s field is missing!";
+
+    private final String undoMessage;
+    private final String redoMessage;
+    private final List<JsonAdaptedUndoEdit> edits = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedUndoRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedUndoRecord(@JsonProperty("undoMessage") String undoMessage,
+            @JsonProperty("redoMessage") String redoMessage, @JsonProperty("edits") List<JsonAdaptedUndoEdit> edits) {
+        this.undoMessage = undoMessage;
+        this.redoMessage = redoMessage;
+        if (edits != null) {
+            this.edits.addAll(edits);
+        }
+    }
+
+    /**
+     * Converts a given {@code UndoRecord} into this class for Jackson use.
+     */
+    public JsonAdaptedUndoRecord(UndoRecord source) {
+        undoMessage = source.getUndoMessage();
+        redoMessage = source.getRedoMessage();
+        for (Edit edit : source.getEdits()) {
+            edits.add(new JsonAdaptedUndoEdit(edit));
+        }
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted record object into the model's {@code UndoRecord} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted record.
+     */
+    public UndoRecord toModelType() throws IllegalValueException {
+        if (undoMessage == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "undoMessage"));
+        }
+        if (redoMessage == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "redoMessage"));
+        }
+        if (edits.isEmpty()) {
+            throw new IllegalValueException(UndoRecord.MESSAGE_CONSTRAINTS);
+        }
+
+        List<Edit> modelEdits = new ArrayList<>();
+        for (JsonAdaptedUndoEdit edit : edits) {
+            modelEdits.add(edit.toModelType());
+        }
+        return new UndoRecord(modelEdits, undoMessage, redoMessage);
+    }
+
+}
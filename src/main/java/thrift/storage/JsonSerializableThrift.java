@@ -13,7 +13,6 @@ import thrift.commons.util.StreamUtils;
 import thrift.model.ReadOnlyThrift;
 import thrift.model.Thrift;
 import thrift.model.transaction.Budget;
-import thrift.model.transaction.Transaction;
 
 /**
  * An Immutable THRIFT that is serializable to JSON format.
@@ -40,7 +39,7 @@ class JsonSerializableThrift {
      * @param source future changes to this will not affect the created {@code JsonSerializableThrift}.
      */
     public JsonSerializableThrift(ReadOnlyThrift source) {
-        transactions.addAll(source.getTransactionList().stream().map(JsonAdaptedTransaction::new)
+        transactions.addAll(source.getTransactionSnapshot().stream().map(JsonAdaptedTransaction::new)
                 .collect(Collectors.toList()));
         budgets.addAll(StreamUtils.asStream(source.getBudgetList().iterator()).map(JsonAdaptedBudget::new)
                 .collect(Collectors.toList()));
@@ -53,10 +52,7 @@ class JsonSerializableThrift {
      */
     public Thrift toModelType() throws IllegalValueException {
         Thrift thrift = new Thrift();
-        for (JsonAdaptedTransaction jsonAdaptedTransaction : transactions) {
-            Transaction transaction = jsonAdaptedTransaction.toModelType();
-            thrift.addTransaction(transaction);
-        }
+        thrift.setTransactions(ParallelTransactionConverter.toModelType(transactions));
         for (JsonAdaptedBudget jsonAdaptedBudget : budgets) {
             Budget budget = jsonAdaptedBudget.toModelType();
             thrift.setBudget(budget);
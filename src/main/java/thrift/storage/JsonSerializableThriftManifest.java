@@ -0,0 +1,96 @@
+package thrift.storage;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import thrift.commons.exceptions.IllegalValueException;
+import thrift.model.transaction.Budget;
+
+/**
+ * The manifest of a {@link PartitionedThriftStorage} that is serializable to JSON format. <br>
+ * It lists every stored month with a summary of its transactions, the order of the transactions across the months,
+ * and holds all the budgets.
+ */
+@JsonRootName(value = "manifest")
+class JsonSerializableThriftManifest {
+
+    public static final String MESSAGE_DUPLICATE_MONTH = "Manifest lists the month %s more than once";
+
+    private final List<JsonAdaptedMonthSummary> months = new ArrayList<>();
+    private final List<JsonAdaptedBudget> budgets = new ArrayList<>();
+    private final List<JsonAdaptedMonthRun> order = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableThriftManifest} with the given month summaries, budgets and order.
+     * Manifests saved before the order was kept have none.
+     */
+    @JsonCreator
+    public JsonSerializableThriftManifest(@JsonProperty("months") List<JsonAdaptedMonthSummary> months,
+            @JsonProperty("budgets") List<JsonAdaptedBudget> budgets,
+            @JsonProperty("order") List<JsonAdaptedMonthRun> order) {
+        if (months != null) {
+            this.months.addAll(months);
+        }
+        if (budgets != null) {
+            this.budgets.addAll(budgets);
+        }
+        if (order != null) {
+            this.order.addAll(order);
+        }
+    }
+
+    /**
+     * Converts the given month summaries, budgets and order into this class for Jackson use.
+     */
+    public JsonSerializableThriftManifest(Collection<JsonAdaptedMonthSummary> months, Iterable<Budget> budgets,
+            List<JsonAdaptedMonthRun> order) {
+        this.months.addAll(months);
+        budgets.forEach(budget -> this.budgets.add(new JsonAdaptedBudget(budget)));
+        this.order.addAll(order);
+    }
+
+    /**
+     * Returns the month summaries, keyed and ordered by their month.
+     *
+     * @throws IllegalValueException if a month is invalid or listed more than once.
+     */
+    public TreeMap<YearMonth, JsonAdaptedMonthSummary> toMonthSummaries() throws IllegalValueException {
+        TreeMap<YearMonth, JsonAdaptedMonthSummary> monthSummaries = new TreeMap<>();
+        for (JsonAdaptedMonthSummary summary : months) {
+            YearMonth month = summary.toModelMonth();
+            if (monthSummaries.put(month, summary) != null) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_MONTH, month));
+            }
+        }
+        return monthSummaries;
+    }
+
+    /**
+     * Converts the budgets into the model's {@code Budget} objects.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<Budget> toModelBudgets() throws IllegalValueException {
+        List<Budget> modelBudgets = new ArrayList<>();
+        for (JsonAdaptedBudget budget : budgets) {
+            modelBudgets.add(budget.toModelType());
+        }
+        return modelBudgets;
+    }
+
+    /**
+     * Returns the runs of transactions of the same month that the saved transaction list is made up of, in order.
+     */
+    public List<JsonAdaptedMonthRun> getOrder() {
+        return Collections.unmodifiableList(order);
+    }
+
+}
@@ -0,0 +1,179 @@
+package thrift.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import thrift.commons.exceptions.IllegalValueException;
+import thrift.model.tag.Tag;
+import thrift.model.transaction.Budget;
+import thrift.model.transaction.Expense;
+import thrift.model.transaction.Transaction;
+
+/**
+ * Encodes and decodes transactions and budgets directly as json tokens, in the same format as
+ * {@link JsonAdaptedTransaction} and {@link JsonAdaptedBudget}. <br>
+ * Unlike Jackson's data binding, the codec needs neither reflection nor adapted objects in between. Decoding applies
+ * the same data constraints, with the same messages, as the adapted objects.
+ */
+class JsonThriftCodec {
+
+    public static final String TYPE_FIELD = "type";
+    public static final String DESCRIPTION_FIELD = "description";
+    public static final String VALUE_FIELD = "value";
+    public static final String REMARK_FIELD = "remark";
+    public static final String DATE_FIELD = "date";
+    public static final String TAGGED_FIELD = "tagged";
+    public static final String PERIOD_FIELD = "period";
+
+    public static final String NOT_A_STRING_MESSAGE_FORMAT = "Expected a json string for %s";
+    public static final String NOT_AN_ARRAY_MESSAGE_FORMAT = "Expected a json array for %s";
+
+    private static final String EXPENSE_TYPE = "expense";
+    private static final String INCOME_TYPE = "income";
+
+    private JsonThriftCodec() {} // prevents instantiation
+
+    /**
+     * Writes {@code transaction} at the generator's current position.
+     */
+    public static void writeTransaction(JsonGenerator generator, Transaction transaction) throws IOException {
+        requireNonNull(transaction);
+
+        generator.writeStartObject();
+        generator.writeStringField(TYPE_FIELD, transaction instanceof Expense ? EXPENSE_TYPE : INCOME_TYPE);
+        generator.writeStringField(DESCRIPTION_FIELD, transaction.getDescription().toString());
+        generator.writeStringField(VALUE_FIELD, transaction.getValue().getUnformattedString());
+        generator.writeStringField(REMARK_FIELD, transaction.getRemark().toString());
+        generator.writeStringField(DATE_FIELD, transaction.getDate().toString());
+        generator.writeArrayFieldStart(TAGGED_FIELD);
+        for (Tag tag : transaction.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads the transaction at the parser's current position, which must be the start of an object.
+     *
+     * @throws IOException if the transaction is not valid json, or has a field of the wrong json type.
+     * @throws IllegalValueException if there were any data constraints violated in the transaction.
+     */
+    public static Transaction readTransaction(JsonParser parser) throws IOException, IllegalValueException {
+        String type = null;
+        String description = null;
+        String value = null;
+        String remark = null;
+        String date = null;
+        List<String> tagNames = new ArrayList<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case TYPE_FIELD:
+                type = readString(parser, fieldName);
+                break;
+            case DESCRIPTION_FIELD:
+                description = readString(parser, fieldName);
+                break;
+            case VALUE_FIELD:
+                value = readString(parser, fieldName);
+                break;
+            case REMARK_FIELD:
+                remark = readString(parser, fieldName);
+                break;
+            case DATE_FIELD:
+                date = readString(parser, fieldName);
+                break;
+            case TAGGED_FIELD:
+                tagNames = readStrings(parser, fieldName);
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        }
+        return JsonAdaptedTransaction.toModelType(type, description, value, remark, date, tagNames);
+    }
+
+    /**
+     * Writes {@code budget} at the generator's current position.
+     */
+    public static void writeBudget(JsonGenerator generator, Budget budget) throws IOException {
+        requireNonNull(budget);
+
+        generator.writeStartObject();
+        generator.writeStringField(PERIOD_FIELD, budget.getBudgetDateString());
+        generator.writeStringField(VALUE_FIELD, budget.getBudgetValue().getUnformattedString());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads the budget at the parser's current position, which must be the start of an object.
+     *
+     * @throws IOException if the budget is not valid json, or has a field of the wrong json type.
+     * @throws IllegalValueException if there were any data constraints violated in the budget.
+     */
+    public static Budget readBudget(JsonParser parser) throws IOException, IllegalValueException {
+        String period = null;
+        String value = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case PERIOD_FIELD:
+                period = readString(parser, fieldName);
+                break;
+            case VALUE_FIELD:
+                value = readString(parser, fieldName);
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        }
+        return JsonAdaptedBudget.toModelType(period, value);
+    }
+
+    /**
+     * Returns the text of the scalar value at the parser's current position, or null if the value is null.
+     */
+    private static String readString(JsonParser parser, String fieldName) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw new JsonParseException(parser, String.format(NOT_A_STRING_MESSAGE_FORMAT, fieldName));
+        }
+        return parser.getText();
+    }
+
+    /**
+     * Returns the texts in the array at the parser's current position, or an empty list if the array is null.
+     */
+    private static List<String> readStrings(JsonParser parser, String fieldName) throws IOException {
+        List<String> strings = new ArrayList<>();
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return strings;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, String.format(NOT_AN_ARRAY_MESSAGE_FORMAT, fieldName));
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            strings.add(readString(parser, fieldName));
+        }
+        return strings;
+    }
+
+}
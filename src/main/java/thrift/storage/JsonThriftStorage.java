@@ -3,6 +3,7 @@ package thrift.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -10,8 +11,6 @@ import java.util.logging.Logger;
 import thrift.commons.core.LogsCenter;
 import thrift.commons.exceptions.DataConversionException;
 import thrift.commons.exceptions.IllegalValueException;
-import thrift.commons.util.FileUtil;
-import thrift.commons.util.JsonUtil;
 import thrift.model.ReadOnlyThrift;
 
 /**
@@ -22,9 +21,26 @@ public class JsonThriftStorage implements ThriftStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonThriftStorage.class);
 
     private Path filePath;
+    private boolean isPrettyPrinted;
+    private boolean isCodecEnabled;
 
     public JsonThriftStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    public JsonThriftStorage(Path filePath, boolean isPrettyPrinted) {
+        this(filePath, isPrettyPrinted, false);
+    }
+
+    /**
+     * Creates a {@code JsonThriftStorage} that saves to {@code filePath}, with line breaks and indentation only if
+     * {@code isPrettyPrinted} is true. Transactions and budgets are read and written with {@link JsonThriftCodec}
+     * if {@code isCodecEnabled} is true, or through Jackson's data binding otherwise.
+     */
+    public JsonThriftStorage(Path filePath, boolean isPrettyPrinted, boolean isCodecEnabled) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.isCodecEnabled = isCodecEnabled;
     }
 
     public Path getThriftFilePath() {
@@ -45,14 +61,16 @@ public class JsonThriftStorage implements ThriftStorage {
     public Optional<ReadOnlyThrift> readThrift(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableThrift> jsonThrift = JsonUtil.readJsonFile(
-                filePath, JsonSerializableThrift.class);
-        if (!jsonThrift.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonThrift.get().toModelType());
+            return Optional.of(new JsonThriftStreamReader(filePath, isCodecEnabled).read());
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -73,8 +91,7 @@ public class JsonThriftStorage implements ThriftStorage {
         requireNonNull(thrift);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableThrift(thrift), filePath);
+        new JsonThriftStreamWriter(filePath, isPrettyPrinted, isCodecEnabled).write(thrift);
     }
 
 }
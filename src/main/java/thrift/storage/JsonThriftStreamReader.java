@@ -0,0 +1,145 @@
+package thrift.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import thrift.commons.exceptions.IllegalValueException;
+import thrift.commons.util.FileUtil;
+import thrift.commons.util.JsonUtil;
+import thrift.model.Thrift;
+
+/**
+ * Reads THRIFT data in the format of {@link JsonSerializableThrift} from a json file, one token at a time. <br>
+ * Each transaction and budget is converted into the model's object as soon as it is parsed, so the data is never
+ * held in memory as a whole file or as a complete {@code JsonSerializableThrift}. Large files are parsed straight
+ * from a memory mapping, see {@link FileUtil#openForReading(Path)}.
+ */
+class JsonThriftStreamReader {
+
+    public static final String TRANSACTIONS_FIELD = "transactions";
+    public static final String BUDGETS_FIELD = "budgets";
+
+    /** The most transactions held in memory as Jackson-friendly transactions before they are converted. */
+    public static final int CONVERSION_BATCH_SIZE = 16384;
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "THRIFT's %s field is missing!";
+    public static final String NOT_AN_OBJECT_MESSAGE_FORMAT = "Expected a json object for %s";
+    public static final String NOT_AN_ARRAY_MESSAGE_FORMAT = "Expected a json array for %s";
+
+    private final Path filePath;
+    private final boolean isCodecEnabled;
+
+    JsonThriftStreamReader(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonThriftStreamReader} that reads from {@code filePath}, decoding each transaction and budget
+     * with {@link JsonThriftCodec} if {@code isCodecEnabled} is true, or through Jackson-friendly adapted objects
+     * otherwise.
+     */
+    JsonThriftStreamReader(Path filePath, boolean isCodecEnabled) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.isCodecEnabled = isCodecEnabled;
+    }
+
+    /**
+     * Reads the THRIFT stored in the file.
+     *
+     * @throws IOException if the file could not be read or is not valid json.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public Thrift read() throws IOException, IllegalValueException {
+        try (InputStream inputStream = FileUtil.openForReading(filePath);
+                JsonParser parser = JsonUtil.createParser(inputStream)) {
+            requireToken(parser, parser.nextToken(), JsonToken.START_OBJECT, NOT_AN_OBJECT_MESSAGE_FORMAT, "THRIFT");
+
+            Thrift thrift = new Thrift();
+            boolean hasTransactions = false;
+            boolean hasBudgets = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                switch (fieldName) {
+                case TRANSACTIONS_FIELD:
+                    requireToken(parser, valueToken, JsonToken.START_ARRAY, NOT_AN_ARRAY_MESSAGE_FORMAT, fieldName);
+                    readTransactions(parser, thrift);
+                    hasTransactions = true;
+                    break;
+                case BUDGETS_FIELD:
+                    requireToken(parser, valueToken, JsonToken.START_ARRAY, NOT_AN_ARRAY_MESSAGE_FORMAT, fieldName);
+                    readBudgets(parser, thrift);
+                    hasBudgets = true;
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+                }
+            }
+
+            if (!hasTransactions) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, TRANSACTIONS_FIELD));
+            }
+            if (!hasBudgets) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, BUDGETS_FIELD));
+            }
+            return thrift;
+        }
+    }
+
+    /**
+     * Adds every transaction in the array at the parser's current position to {@code thrift}. Without the codec, the
+     * transactions are parsed in batches of {@link #CONVERSION_BATCH_SIZE}, and each batch is converted in parallel.
+     */
+    private void readTransactions(JsonParser parser, Thrift thrift) throws IOException, IllegalValueException {
+        List<JsonAdaptedTransaction> batch = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            requireToken(parser, token, JsonToken.START_OBJECT, NOT_AN_OBJECT_MESSAGE_FORMAT, "a transaction");
+            if (isCodecEnabled) {
+                thrift.addTransaction(JsonThriftCodec.readTransaction(parser));
+                continue;
+            }
+            batch.add(parser.readValueAs(JsonAdaptedTransaction.class));
+            if (batch.size() == CONVERSION_BATCH_SIZE) {
+                ParallelTransactionConverter.toModelType(batch).forEach(thrift::addTransaction);
+                batch.clear();
+            }
+        }
+        ParallelTransactionConverter.toModelType(batch).forEach(thrift::addTransaction);
+    }
+
+    /**
+     * Adds every budget in the array at the parser's current position to {@code thrift}.
+     */
+    private void readBudgets(JsonParser parser, Thrift thrift) throws IOException, IllegalValueException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            requireToken(parser, token, JsonToken.START_OBJECT, NOT_AN_OBJECT_MESSAGE_FORMAT, "a budget");
+            thrift.setBudget(isCodecEnabled
+                    ? JsonThriftCodec.readBudget(parser)
+                    : parser.readValueAs(JsonAdaptedBudget.class).toModelType());
+        }
+    }
+
+    /**
+     * Throws a {@code JsonParseException} if {@code actual} is not the {@code expected} token.
+     */
+    private static void requireToken(JsonParser parser, JsonToken actual, JsonToken expected, String messageFormat,
+            String subject) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, String.format(messageFormat, subject));
+        }
+    }
+
+}
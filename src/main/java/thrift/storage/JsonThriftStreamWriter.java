@@ -0,0 +1,101 @@
+package thrift.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import thrift.commons.util.FileUtil;
+import thrift.commons.util.JsonUtil;
+import thrift.model.ReadOnlyThrift;
+import thrift.model.transaction.Budget;
+import thrift.model.transaction.Transaction;
+
+/**
+ * Writes THRIFT data in the format of {@link JsonSerializableThrift} to a json file, one record at a time. <br>
+ * Each transaction and budget is written out as soon as it is converted, so the data is never held in memory as
+ * a complete {@code JsonSerializableThrift} or as a whole file. The records are written to a temp file, which then
+ * replaces the file in one atomic move, so the file is never left half written.
+ */
+class JsonThriftStreamWriter {
+
+    private final Path filePath;
+    private final boolean isPrettyPrinted;
+    private final boolean isCodecEnabled;
+
+    JsonThriftStreamWriter(Path filePath, boolean isPrettyPrinted) {
+        this(filePath, isPrettyPrinted, false);
+    }
+
+    /**
+     * Creates a {@code JsonThriftStreamWriter} that writes to {@code filePath}, with line breaks and indentation
+     * only if {@code isPrettyPrinted} is true. Each transaction and budget is encoded with {@link JsonThriftCodec} if
+     * {@code isCodecEnabled} is true, or through Jackson-friendly adapted objects otherwise.
+     */
+    JsonThriftStreamWriter(Path filePath, boolean isPrettyPrinted, boolean isCodecEnabled) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.isCodecEnabled = isCodecEnabled;
+    }
+
+    /**
+     * Writes {@code thrift} to the file, replacing its contents.
+     *
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public void write(ReadOnlyThrift thrift) throws IOException {
+        requireNonNull(thrift);
+        write(thrift.getTransactionList(), thrift.getBudgetList());
+    }
+
+    /**
+     * Writes {@code transactions} and {@code budgets} to the file as a THRIFT, replacing its contents.
+     *
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public void write(List<Transaction> transactions, Iterable<Budget> budgets) throws IOException {
+        requireNonNull(transactions);
+        requireNonNull(budgets);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = FileUtil.getTempFilePath(filePath);
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(tempFilePath));
+                JsonGenerator generator = JsonUtil.createGenerator(outputStream, isPrettyPrinted)) {
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart(JsonThriftStreamReader.TRANSACTIONS_FIELD);
+            for (Transaction transaction : transactions) {
+                if (isCodecEnabled) {
+                    JsonThriftCodec.writeTransaction(generator, transaction);
+                } else {
+                    generator.writeObject(new JsonAdaptedTransaction(transaction));
+                }
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart(JsonThriftStreamReader.BUDGETS_FIELD);
+            for (Budget budget : budgets) {
+                if (isCodecEnabled) {
+                    JsonThriftCodec.writeBudget(generator, budget);
+                } else {
+                    generator.writeObject(new JsonAdaptedBudget(budget));
+                }
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFilePath);
+            throw e;
+        }
+        FileUtil.replaceWithTempFile(filePath);
+    }
+
+}
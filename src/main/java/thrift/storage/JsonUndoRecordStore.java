@@ -0,0 +1,215 @@
+package thrift.storage;
+
+import static java.util.Objects.requireNonNull;
+import static thrift.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import thrift.commons.exceptions.DataConversionException;
+import thrift.commons.exceptions.IllegalValueException;
+import thrift.commons.util.FileUtil;
+import thrift.commons.util.JsonUtil;
+import thrift.model.undo.UndoRecord;
+import thrift.model.undo.UndoRecordStore;
+
+/**
+ * An {@link UndoRecordStore} that keeps the records in a file, one JSON line per record with the newest last, which
+ * is kept from one session to the next. <br>
+ * The file is only ever appended to and truncated: pushing appends lines, and popping cuts the last lines off. The
+ * offset of each line is kept in memory, so neither reads nor rewrites the rest of the file. The offsets are found by
+ * scanning the file the first time the store is used, not when it is created, so that a long history from an earlier
+ * session does not delay starting up. Once the file holds twice {@code maxRecords} records, it is compacted to the
+ * newest {@code maxRecords}, dropping the oldest.
+ */
+public class JsonUndoRecordStore implements UndoRecordStore {
+
+    private final Path filePath;
+    private final int maxRecords;
+
+    /** The offsets of the lines of the records in the file, oldest first, or null until the file is scanned. */
+    private List<Long> offsets = null;
+
+    private long fileSize = 0;
+
+    /**
+     * Creates a store that keeps at most about {@code maxRecords} records in the file at {@code filePath}, along with
+     * any records already there.
+     */
+    public JsonUndoRecordStore(Path filePath, int maxRecords) {
+        requireNonNull(filePath);
+        checkArgument(maxRecords > 0, "An undo record store must keep at least one record");
+        this.filePath = filePath;
+        this.maxRecords = maxRecords;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public synchronized void push(List<UndoRecord> records) throws IOException {
+        requireNonNull(records);
+        scanIfNeeded();
+        if (records.isEmpty()) {
+            return;
+        }
+
+        ByteArrayOutputStream lines = new ByteArrayOutputStream();
+        List<Long> lineOffsets = new ArrayList<>();
+        for (UndoRecord record : records) {
+            lineOffsets.add(fileSize + lines.size());
+            lines.write(JsonUtil.toSingleLineJsonString(new JsonAdaptedUndoRecord(record))
+                    .getBytes(StandardCharsets.UTF_8));
+            lines.write('\n');
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            // Writes at the end of the records in memory, over anything a failed write may have left after them.
+            channel.truncate(fileSize);
+            channel.position(fileSize);
+            channel.write(ByteBuffer.wrap(lines.toByteArray()));
+        }
+        offsets.addAll(lineOffsets);
+        fileSize += lines.size();
+
+        if (offsets.size() >= 2 * maxRecords) {
+            compact();
+        }
+    }
+
+    @Override
+    public synchronized List<UndoRecord> peek(int count) throws IOException, DataConversionException {
+        scanIfNeeded();
+        int peeked = Math.min(Math.max(count, 0), offsets.size());
+        List<UndoRecord> records = new ArrayList<>(peeked);
+        if (peeked == 0) {
+            return records;
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            channel.position(offsets.get(offsets.size() - peeked));
+            BufferedReader reader = new BufferedReader(new InputStreamReader(Channels.newInputStream(channel),
+                    StandardCharsets.UTF_8));
+            for (int i = 0; i < peeked; i++) {
+                String line = reader.readLine();
+                if (line == null) {
+                    throw new DataConversionException(new IOException("Undo log ends before its last record"));
+                }
+                records.add(JsonUtil.fromJsonString(line, JsonAdaptedUndoRecord.class).toModelType());
+            }
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+        return records;
+    }
+
+    @Override
+    public synchronized void pop(int count) throws IOException {
+        scanIfNeeded();
+        int popped = Math.min(Math.max(count, 0), offsets.size());
+        if (popped == 0) {
+            return;
+        }
+
+        truncate(offsets.get(offsets.size() - popped));
+        offsets.subList(offsets.size() - popped, offsets.size()).clear();
+    }
+
+    @Override
+    public synchronized int size() throws IOException {
+        scanIfNeeded();
+        return offsets.size();
+    }
+
+    @Override
+    public synchronized void clear() throws IOException {
+        offsets = new ArrayList<>();
+        fileSize = 0;
+        Files.deleteIfExists(filePath);
+    }
+
+    /**
+     * Finds the offsets of the lines in the file, unless they are known already. A last line without a line
+     * separator, left by a write that did not finish, is cut off.
+     */
+    private void scanIfNeeded() throws IOException {
+        if (offsets != null) {
+            return;
+        }
+
+        List<Long> lineOffsets = new ArrayList<>();
+        long lineEnd = 0;
+        if (Files.exists(filePath)) {
+            try (InputStream in = Files.newInputStream(filePath)) {
+                byte[] buffer = new byte[8192];
+                long position = 0;
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    for (int i = 0; i < read; i++) {
+                        if (buffer[i] == '\n') {
+                            lineOffsets.add(lineEnd);
+                            lineEnd = position + i + 1;
+                        }
+                    }
+                    position += read;
+                }
+                fileSize = position;
+            }
+        }
+        offsets = lineOffsets;
+        if (fileSize > lineEnd) {
+            truncate(lineEnd);
+        }
+    }
+
+    /**
+     * Cuts the file off at {@code size} bytes.
+     */
+    private void truncate(long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        }
+        fileSize = size;
+    }
+
+    /**
+     * Rewrites the file with only the newest {@code maxRecords} records.
+     */
+    private void compact() throws IOException {
+        int dropped = offsets.size() - maxRecords;
+        long keptFrom = offsets.get(dropped);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try (FileChannel source = FileChannel.open(filePath, StandardOpenOption.READ);
+                FileChannel target = FileChannel.open(tempFilePath, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long transferred = 0;
+            while (transferred < fileSize - keptFrom) {
+                transferred += source.transferTo(keptFrom + transferred, fileSize - keptFrom - transferred, target);
+            }
+        }
+        Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        List<Long> keptOffsets = new ArrayList<>(maxRecords);
+        for (long offset : offsets.subList(dropped, offsets.size())) {
+            keptOffsets.add(offset - keptFrom);
+        }
+        offsets = keptOffsets;
+        fileSize -= keptFrom;
+    }
+
+}
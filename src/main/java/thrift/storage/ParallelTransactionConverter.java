@@ -0,0 +1,91 @@
+package thrift.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import thrift.commons.exceptions.IllegalValueException;
+import thrift.model.transaction.Transaction;
+
+/**
+ * Converts Jackson-friendly transactions into the model's {@code Transaction} objects on the common fork-join pool.
+ * <br>
+ * The transactions are split in halves until each part is small enough to be converted one by one. The converted
+ * transactions keep their order, and if some transactions cannot be converted, the exception of the first of them in
+ * the list is thrown, no matter which part fails first.
+ */
+class ParallelTransactionConverter {
+
+    /** The most transactions that are converted one by one, without splitting them any further. */
+    public static final int SEQUENTIAL_THRESHOLD = 512;
+
+    private ParallelTransactionConverter() {} // prevents instantiation
+
+    /**
+     * Returns the model's transactions for {@code adaptedTransactions}, in the same order.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted transactions.
+     */
+    public static List<Transaction> toModelType(List<JsonAdaptedTransaction> adaptedTransactions)
+            throws IllegalValueException {
+        requireNonNull(adaptedTransactions);
+
+        Transaction[] transactions = new Transaction[adaptedTransactions.size()];
+        ConversionTask task = new ConversionTask(adaptedTransactions, transactions, 0, transactions.length);
+        IllegalValueException firstException = transactions.length <= SEQUENTIAL_THRESHOLD
+                ? task.compute()
+                : ForkJoinPool.commonPool().invoke(task);
+        if (firstException != null) {
+            throw firstException;
+        }
+        return Arrays.asList(transactions);
+    }
+
+    /**
+     * Converts the adapted transactions from index {@code from} (inclusive) to {@code to} (exclusive) into
+     * {@code transactions}, and results in the exception of the first transaction that cannot be converted, if any.
+     */
+    private static class ConversionTask extends RecursiveTask<IllegalValueException> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<JsonAdaptedTransaction> adaptedTransactions;
+        private final Transaction[] transactions;
+        private final int from;
+        private final int to;
+
+        ConversionTask(List<JsonAdaptedTransaction> adaptedTransactions, Transaction[] transactions, int from,
+                int to) {
+            this.adaptedTransactions = adaptedTransactions;
+            this.transactions = transactions;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected IllegalValueException compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    try {
+                        transactions[i] = adaptedTransactions.get(i).toModelType();
+                    } catch (IllegalValueException ive) {
+                        return ive;
+                    }
+                }
+                return null;
+            }
+
+            int middle = (from + to) >>> 1;
+            ConversionTask secondHalf = new ConversionTask(adaptedTransactions, transactions, middle, to);
+            secondHalf.fork();
+            IllegalValueException firstHalfException =
+                    new ConversionTask(adaptedTransactions, transactions, from, middle).compute();
+            IllegalValueException secondHalfException = secondHalf.join();
+            return firstHalfException != null ? firstHalfException : secondHalfException;
+        }
+    }
+
+}
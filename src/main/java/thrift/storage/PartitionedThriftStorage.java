@@ -0,0 +1,435 @@
+package thrift.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import thrift.commons.core.LogsCenter;
+import thrift.commons.exceptions.DataConversionException;
+import thrift.commons.exceptions.IllegalValueException;
+import thrift.commons.util.FileUtil;
+import thrift.commons.util.JsonUtil;
+import thrift.model.ReadOnlyThrift;
+import thrift.model.Thrift;
+import thrift.model.TransactionLoader;
+import thrift.model.transaction.Budget;
+import thrift.model.transaction.Transaction;
+
+/**
+ * A class to access THRIFT data stored in a folder on the hard disk, partitioned by month. <br>
+ * The transactions of each month are kept in their own segment, a json file named after the month such as
+ * {@code 2019-10.json}, in the format of {@link JsonSerializableThrift}. A manifest lists every stored month with a
+ * summary of its transactions, keeps the order of the transactions across the months, and holds all the budgets, see
+ * {@link JsonSerializableThriftManifest}. <br>
+ * THRIFT can be read with only its recent months loaded, see {@link #readRecentThrift()}, and the other months
+ * loaded on demand, see {@link #loadTransactions(YearMonth)}. Saving rewrites only the segments of the months that
+ * changed, and keeps the segments of the months that are not loaded. Transactions added to a month that is not loaded
+ * are saved after the stored transactions of the month, which are then the only ones loaded for it on demand.
+ */
+public class PartitionedThriftStorage implements ThriftStorage, TransactionLoader {
+
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String SEGMENT_FILE_EXTENSION = ".json";
+    public static final int DEFAULT_RECENT_MONTHS = 3;
+
+    public static final String MESSAGE_MISSING_SEGMENT_FORMAT = "Transactions of %s are missing";
+    public static final String MESSAGE_UNKNOWN_MONTH_FORMAT = "Transactions of %s are not stored";
+    public static final String MESSAGE_UNREADABLE_MONTH_FORMAT =
+            "Transactions of %s could not be read to save the transactions added to it";
+
+    private static final Logger logger = LogsCenter.getLogger(PartitionedThriftStorage.class);
+
+    private final Path directoryPath;
+    private final boolean isPrettyPrinted;
+
+    /** The transactions of each month as last read from or written to its segment. */
+    private final Map<YearMonth, List<Transaction>> storedTransactions = new HashMap<>();
+    /** The month summaries as last read from or written to the manifest. */
+    private Map<YearMonth, JsonAdaptedMonthSummary> storedMonthSummaries = new TreeMap<>();
+    /**
+     * The stored transactions of each month that is not loaded but has transactions added to it, which the saved
+     * THRIFT does not hold and which are saved before the added ones until the month is loaded.
+     */
+    private final Map<YearMonth, List<Transaction>> unloadedTransactions = new HashMap<>();
+    /** The budgets as last read from or written to the manifest, or null if the manifest has not been accessed. */
+    private List<Budget> storedBudgets;
+    /** The order of the transactions across the months as last read from or written to the manifest. */
+    private List<JsonAdaptedMonthRun> storedOrder = new ArrayList<>();
+
+    /**
+     * Creates a {@code PartitionedThriftStorage} that keeps its files in {@code directoryPath}, with line breaks and
+     * indentation only if {@code isPrettyPrinted} is true.
+     */
+    public PartitionedThriftStorage(Path directoryPath, boolean isPrettyPrinted) {
+        this.directoryPath = directoryPath;
+        this.isPrettyPrinted = isPrettyPrinted;
+    }
+
+    public PartitionedThriftStorage(Path directoryPath) {
+        this(directoryPath, false);
+    }
+
+    @Override
+    public Path getThriftFilePath() {
+        return directoryPath;
+    }
+
+    public Path getManifestFilePath() {
+        return directoryPath.resolve(MANIFEST_FILE_NAME);
+    }
+
+    public Path getSegmentFilePath(YearMonth month) {
+        return directoryPath.resolve(month + SEGMENT_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns THRIFT with every stored month loaded.
+     */
+    @Override
+    public Optional<ReadOnlyThrift> readThrift() throws DataConversionException {
+        return readThriftSince(YearMonth.of(Year.MIN_VALUE, 1));
+    }
+
+    /**
+     * Returns THRIFT with every month stored in the folder {@code directoryPath} loaded.
+     *
+     * @param directoryPath location of the data. Cannot be null.
+     * @throws DataConversionException if the files are not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyThrift> readThrift(Path directoryPath) throws DataConversionException {
+        requireNonNull(directoryPath);
+        if (directoryPath.equals(this.directoryPath)) {
+            return readThrift();
+        }
+        return new PartitionedThriftStorage(directoryPath).readThrift();
+    }
+
+    /**
+     * Returns THRIFT with only the last {@link #DEFAULT_RECENT_MONTHS} months, and any later months, loaded.
+     * The other months are left in {@link ReadOnlyThrift#getUnloadedMonths()}.
+     *
+     * @throws DataConversionException if the files are not in the correct format.
+     */
+    public Optional<ReadOnlyThrift> readRecentThrift() throws DataConversionException {
+        return readThriftSince(YearMonth.now().minusMonths(DEFAULT_RECENT_MONTHS - 1));
+    }
+
+    /**
+     * Returns THRIFT with only {@code earliestMonth} and the months after it loaded.
+     * The other months are left in {@link ReadOnlyThrift#getUnloadedMonths()}.
+     *
+     * @throws DataConversionException if the files are not in the correct format.
+     */
+    public synchronized Optional<ReadOnlyThrift> readThriftSince(YearMonth earliestMonth)
+            throws DataConversionException {
+        requireNonNull(earliestMonth);
+
+        Path manifestFilePath = getManifestFilePath();
+        Optional<JsonSerializableThriftManifest> manifest =
+                JsonUtil.readJsonFile(manifestFilePath, JsonSerializableThriftManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            TreeMap<YearMonth, JsonAdaptedMonthSummary> monthSummaries = manifest.get().toMonthSummaries();
+            List<Budget> budgets = manifest.get().toModelBudgets();
+
+            storedTransactions.clear();
+            unloadedTransactions.clear();
+            Map<YearMonth, Iterator<Transaction>> segments = new TreeMap<>();
+            for (YearMonth month : monthSummaries.tailMap(earliestMonth).keySet()) {
+                segments.put(month, readSegment(month).iterator());
+            }
+
+            // The transactions are added in the order they were saved in, skipping the months that are not loaded.
+            // Any transactions the order does not cover, such as all of them in older manifests, follow by month.
+            Thrift thrift = new Thrift();
+            List<JsonAdaptedMonthRun> order = manifest.get().getOrder();
+            for (JsonAdaptedMonthRun run : order) {
+                Iterator<Transaction> segment = segments.getOrDefault(run.toModelMonth(), Collections.emptyIterator());
+                for (int i = 0; i < run.getCount() && segment.hasNext(); i++) {
+                    thrift.addTransaction(segment.next());
+                }
+            }
+            segments.values().forEach(segment -> segment.forEachRemaining(thrift::addTransaction));
+            budgets.forEach(thrift::setBudget);
+            thrift.setUnloadedMonths(monthSummaries.headMap(earliestMonth).keySet());
+
+            storedMonthSummaries = monthSummaries;
+            storedBudgets = budgets;
+            storedOrder = new ArrayList<>(order);
+            return Optional.of(thrift);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from partitioned folder " + directoryPath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directoryPath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * {@inheritDoc} <br>
+     * If transactions were added to {@code month} and saved while it was not loaded, only the transactions stored
+     * before them are returned, as the saved THRIFT already holds the added ones.
+     */
+    @Override
+    public synchronized List<Transaction> loadTransactions(YearMonth month) throws DataConversionException {
+        requireNonNull(month);
+
+        if (unloadedTransactions.containsKey(month)) {
+            return Collections.unmodifiableList(unloadedTransactions.get(month));
+        }
+        try {
+            if (!storedMonthSummaries.containsKey(month)) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_MONTH_FORMAT, month));
+            }
+            return readSegment(month);
+        } catch (IOException ioe) {
+            logger.warning("Error reading transactions of " + month + " from " + directoryPath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in transactions of " + month + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the transactions in the segment of {@code month}, and remembers them as stored.
+     */
+    private List<Transaction> readSegment(YearMonth month) throws IOException, IllegalValueException {
+        Path segmentFilePath = getSegmentFilePath(month);
+        if (!Files.exists(segmentFilePath)) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_SEGMENT_FORMAT, month));
+        }
+
+        List<Transaction> transactions =
+                new ArrayList<>(new JsonThriftStreamReader(segmentFilePath).read().getTransactionList());
+        storedTransactions.put(month, transactions);
+        return Collections.unmodifiableList(transactions);
+    }
+
+    /**
+     * Saves the loaded months of {@code thrift}, rewriting only the segments that changed, and its budgets.
+     * The stored segments of the months that are not loaded in {@code thrift} are kept, with any transactions
+     * {@code thrift} holds for such a month saved after the stored ones.
+     *
+     * @throws IOException if there was any problem writing the files, or reading the stored transactions of a month
+     *     that is not loaded but has transactions added to it.
+     */
+    @Override
+    public synchronized void saveThrift(ReadOnlyThrift thrift) throws IOException {
+        requireNonNull(thrift);
+
+        Files.createDirectories(directoryPath);
+        Set<YearMonth> unloadedMonths = thrift.getUnloadedMonths();
+        unloadedTransactions.keySet().retainAll(unloadedMonths);
+        Map<YearMonth, List<Transaction>> months = groupByMonth(thrift.getTransactionList());
+        for (YearMonth month : unloadedTransactions.keySet()) {
+            months.putIfAbsent(month, new ArrayList<>());
+        }
+
+        TreeMap<YearMonth, JsonAdaptedMonthSummary> monthSummaries = new TreeMap<>();
+        boolean hasChangedMonths = false;
+
+        for (Map.Entry<YearMonth, List<Transaction>> entry : months.entrySet()) {
+            YearMonth month = entry.getKey();
+            List<Transaction> transactions = entry.getValue();
+            if (unloadedMonths.contains(month)) {
+                transactions = withUnloadedTransactions(month, transactions);
+            }
+            if (!transactions.equals(storedTransactions.get(month))) {
+                new JsonThriftStreamWriter(getSegmentFilePath(month), isPrettyPrinted)
+                        .write(transactions, Collections.emptyList());
+                storedTransactions.put(month, transactions);
+                hasChangedMonths = true;
+            }
+            monthSummaries.put(month, new JsonAdaptedMonthSummary(month, transactions));
+        }
+
+        for (YearMonth month : unloadedMonths) {
+            if (monthSummaries.containsKey(month)) {
+                continue;
+            }
+            if (storedMonthSummaries.containsKey(month)) {
+                monthSummaries.put(month, storedMonthSummaries.get(month));
+            } else {
+                logger.warning("Transactions of " + month + " are neither loaded nor stored in " + directoryPath);
+            }
+        }
+
+        for (YearMonth month : storedMonthSummaries.keySet()) {
+            if (!monthSummaries.containsKey(month)) {
+                Files.deleteIfExists(getSegmentFilePath(month));
+                storedTransactions.remove(month);
+                hasChangedMonths = true;
+            }
+        }
+
+        List<JsonAdaptedMonthRun> order = getUnloadedOrder(unloadedMonths, monthSummaries, months);
+        order.addAll(JsonAdaptedMonthRun.of(thrift.getTransactionList()));
+
+        List<Budget> budgets = new ArrayList<>();
+        thrift.getBudgetList().forEach(budgets::add);
+        if (hasChangedMonths || !budgets.equals(storedBudgets) || !order.equals(storedOrder)
+                || !Files.exists(getManifestFilePath())) {
+            FileUtil.createParentDirsOfFile(getManifestFilePath());
+            JsonUtil.saveJsonFile(new JsonSerializableThriftManifest(monthSummaries.values(), budgets, order),
+                    FileUtil.getTempFilePath(getManifestFilePath()));
+            FileUtil.replaceWithTempFile(getManifestFilePath());
+        }
+        storedMonthSummaries = monthSummaries;
+        storedBudgets = budgets;
+        storedOrder = order;
+    }
+
+    /**
+     * Similar to {@link #saveThrift(ReadOnlyThrift)}, but saves to the folder {@code directoryPath}.
+     *
+     * @param directoryPath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveThrift(ReadOnlyThrift thrift, Path directoryPath) throws IOException {
+        requireNonNull(thrift);
+        requireNonNull(directoryPath);
+        if (directoryPath.equals(this.directoryPath)) {
+            saveThrift(thrift);
+            return;
+        }
+        new PartitionedThriftStorage(directoryPath, isPrettyPrinted).saveThrift(thrift);
+    }
+
+    /**
+     * Returns the stored transactions of {@code month}, which is not loaded, followed by {@code addedTransactions},
+     * the transactions added to it. The stored transactions are read the first time transactions are added to the
+     * month, and kept until it is loaded.
+     */
+    private List<Transaction> withUnloadedTransactions(YearMonth month, List<Transaction> addedTransactions)
+            throws IOException {
+        if (!unloadedTransactions.containsKey(month)) {
+            if (!storedMonthSummaries.containsKey(month)) {
+                return addedTransactions;
+            }
+            logger.info("Transactions added to " + month + ", which is not loaded, are saved after its stored ones");
+            try {
+                unloadedTransactions.put(month, new ArrayList<>(readSegment(month)));
+            } catch (IllegalValueException ive) {
+                throw new IOException(String.format(MESSAGE_UNREADABLE_MONTH_FORMAT, month), ive);
+            }
+        }
+
+        List<Transaction> transactions = new ArrayList<>(unloadedTransactions.get(month));
+        transactions.addAll(addedTransactions);
+        return transactions;
+    }
+
+    /**
+     * Returns the order of the stored transactions of {@code unloadedMonths} that the saved THRIFT does not hold,
+     * which are saved before the transactions it holds, as they would be placed once loaded. They keep their order
+     * from the manifest, and any of them that it does not cover follow by month.
+     *
+     * @param monthSummaries the summaries of all the months being saved, in month order.
+     * @param months the transactions that the saved THRIFT holds, grouped by month.
+     */
+    private List<JsonAdaptedMonthRun> getUnloadedOrder(Set<YearMonth> unloadedMonths,
+            Map<YearMonth, JsonAdaptedMonthSummary> monthSummaries, Map<YearMonth, List<Transaction>> months) {
+        Map<String, Integer> remainingCounts = new LinkedHashMap<>();
+        for (Map.Entry<YearMonth, JsonAdaptedMonthSummary> entry : monthSummaries.entrySet()) {
+            YearMonth month = entry.getKey();
+            if (unloadedMonths.contains(month)) {
+                remainingCounts.put(month.toString(),
+                        entry.getValue().getCount() - months.getOrDefault(month, List.of()).size());
+            }
+        }
+
+        List<JsonAdaptedMonthRun> order = new ArrayList<>();
+        for (JsonAdaptedMonthRun run : storedOrder) {
+            int count = Math.min(run.getCount(), remainingCounts.getOrDefault(run.getMonth(), 0));
+            if (count > 0) {
+                addRun(order, run.getMonth(), count);
+                remainingCounts.merge(run.getMonth(), -count, Integer::sum);
+            }
+        }
+        remainingCounts.forEach((month, count) -> addRun(order, month, count));
+        return order;
+    }
+
+    /**
+     * Adds a run of {@code count} transactions of {@code month} to the end of {@code order}, joining it to the last
+     * run if that is of the same month.
+     */
+    private static void addRun(List<JsonAdaptedMonthRun> order, String month, int count) {
+        if (count <= 0) {
+            return;
+        }
+        int lastIndex = order.size() - 1;
+        if (lastIndex >= 0 && order.get(lastIndex).getMonth().equals(month)) {
+            order.set(lastIndex, new JsonAdaptedMonthRun(month, order.get(lastIndex).getCount() + count));
+            return;
+        }
+        order.add(new JsonAdaptedMonthRun(month, count));
+    }
+
+    /**
+     * Returns {@code transactions} grouped by the month they happened in, each group in its original order.
+     */
+    private static Map<YearMonth, List<Transaction>> groupByMonth(List<Transaction> transactions) {
+        Map<YearMonth, List<Transaction>> months = new TreeMap<>();
+        for (Transaction transaction : transactions) {
+            months.computeIfAbsent(transaction.getDate().getYearMonth(), month -> new ArrayList<>()).add(transaction);
+        }
+        return months;
+    }
+
+    /**
+     * Replaces the data in this storage with the data in {@code source}, such as a {@link JsonThriftStorage}.
+     *
+     * @return true if {@code source} had data to import.
+     * @throws DataConversionException if the data in {@code source} is not in the correct format.
+     */
+    public boolean importThrift(ThriftStorage source) throws DataConversionException, IOException {
+        requireNonNull(source);
+
+        Optional<ReadOnlyThrift> thrift = source.readThrift();
+        if (!thrift.isPresent()) {
+            return false;
+        }
+        saveThrift(thrift.get());
+        return true;
+    }
+
+    /**
+     * Replaces the data in {@code target}, such as a {@link JsonThriftStorage}, with the data in this storage.
+     *
+     * @return true if this storage had data to export.
+     * @throws DataConversionException if the data in this storage is not in the correct format.
+     */
+    public boolean exportThrift(ThriftStorage target) throws DataConversionException, IOException {
+        requireNonNull(target);
+
+        Optional<ReadOnlyThrift> thrift = readThrift();
+        if (!thrift.isPresent()) {
+            return false;
+        }
+        target.saveThrift(thrift.get());
+        return true;
+    }
+
+}
@@ -29,4 +29,16 @@ public interface Storage extends ThriftStorage, UserPrefsStorage, CurrencyMappin
     @Override
     void saveThrift(ReadOnlyThrift thrift) throws IOException;
 
+    /**
+     * Returns THRIFT with only its recent months loaded if its storage is partitioned, see
+     * {@link PartitionedThriftStorage#readRecentThrift()}, or else with all of it, like {@link #readThrift()}.
+     */
+    Optional<ReadOnlyThrift> readRecentThrift() throws DataConversionException, IOException;
+
+    /**
+     * Waits until all THRIFT data passed to {@link #saveThrift(ReadOnlyThrift)} has been written.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flushThrift() throws IOException;
+
 }
@@ -15,6 +15,7 @@ import thrift.model.UserPrefs;
 
 /**
  * Manages storage of Thrift data in local storage.
+ * Thrift data saved to its default file path is written in the background, see {@link BackgroundThriftSaver}.
  */
 public class StorageManager implements Storage {
 
@@ -22,6 +23,7 @@ public class StorageManager implements Storage {
     private ThriftStorage thriftStorage;
     private UserPrefsStorage userPrefsStorage;
     private CurrencyMappingsStorage currencyMappingsStorage;
+    private BackgroundThriftSaver thriftSaver;
 
 
     public StorageManager(ThriftStorage thriftStorage, UserPrefsStorage userPrefsStorage,
@@ -30,6 +32,7 @@ public class StorageManager implements Storage {
         this.thriftStorage = thriftStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.currencyMappingsStorage = currencyMappingsStorage;
+        this.thriftSaver = new BackgroundThriftSaver(thriftStorage);
     }
 
     // ================ UserPrefs methods ==============================
@@ -64,8 +67,26 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyThrift> readThrift(Path filePath) throws DataConversionException, IOException {
+        flushThrift();
         logger.fine("Attempting to read data from file: " + filePath);
-        return thriftStorage.readThrift(filePath);
+        Optional<ReadOnlyThrift> thrift = thriftStorage.readThrift(filePath);
+        if (thrift.isPresent() && filePath.equals(thriftStorage.getThriftFilePath())) {
+            thriftSaver.markSaved(thrift.get());
+        }
+        return thrift;
+    }
+
+    @Override
+    public Optional<ReadOnlyThrift> readRecentThrift() throws DataConversionException, IOException {
+        if (!(thriftStorage instanceof PartitionedThriftStorage)) {
+            return readThrift();
+        }
+
+        flushThrift();
+        logger.fine("Attempting to read recent data from folder: " + thriftStorage.getThriftFilePath());
+        Optional<ReadOnlyThrift> thrift = ((PartitionedThriftStorage) thriftStorage).readRecentThrift();
+        thrift.ifPresent(thriftSaver::markSaved);
+        return thrift;
     }
 
     @Override
@@ -73,12 +94,31 @@ public class StorageManager implements Storage {
         saveThrift(thrift, thriftStorage.getThriftFilePath());
     }
 
+    /**
+     * Saves the given {@link ReadOnlyThrift} to the storage.
+     * Saving to the default file path only schedules a background save of a copy of {@code thrift}, which is skipped
+     * altogether if {@code thrift} has not changed since it was last saved. Saving anywhere else is done at once.
+     *
+     * @throws IOException if the save, or an earlier background save, failed.
+     */
     @Override
     public void saveThrift(ReadOnlyThrift thrift, Path filePath) throws IOException {
+        if (filePath.equals(thriftStorage.getThriftFilePath())) {
+            logger.fine("Scheduling write to data file: " + filePath);
+            thriftSaver.submit(thrift);
+            return;
+        }
+
+        flushThrift();
         logger.fine("Attempting to write to data file: " + filePath);
         thriftStorage.saveThrift(thrift, filePath);
     }
 
+    @Override
+    public void flushThrift() throws IOException {
+        thriftSaver.flush();
+    }
+
     // ================ Currency Mappings methods ==============================
 
     @Override
@@ -1,5 +1,6 @@
 package thrift.ui;
 
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -24,10 +25,20 @@ public class UiManager implements Ui {
 
     private Logic logic;
     private MainWindow mainWindow;
+    private Optional<String> startupWarning;
 
     public UiManager(Logic logic) {
+        this(logic, Optional.empty());
+    }
+
+    /**
+     * Creates a {@code UiManager} that shows {@code startupWarning}, such as data that could not be read, to the user
+     * once the main window is up.
+     */
+    public UiManager(Logic logic, Optional<String> startupWarning) {
         super();
         this.logic = logic;
+        this.startupWarning = startupWarning;
     }
 
     @Override
@@ -43,6 +54,8 @@ public class UiManager implements Ui {
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
 
+            startupWarning.ifPresent(warning -> showAlertDialogAndWait(Alert.AlertType.WARNING,
+                    "Problem with the data file", "Some data could not be read", warning));
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
             showFatalErrorDialogAndShutdown("Fatal error during initializing", e);
@@ -1,13 +1,38 @@
 package thrift.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static thrift.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Returns every byte left in {@code inputStream}, read in chunks of {@code chunkSize} bytes.
+     */
+    private static byte[] readAll(InputStream inputStream, int chunkSize) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] chunk = new byte[chunkSize];
+        int count;
+        while ((count = inputStream.read(chunk, 0, chunkSize)) != -1) {
+            bytes.write(chunk, 0, count);
+        }
+        return bytes.toByteArray();
+    }
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +45,42 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void openForReading() throws Exception {
+        Path file = testFolder.resolve("data.bin");
+        byte[] content = new byte[10000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i * 31);
+        }
+        Files.write(file, content);
+
+        // small file -> read through a stream
+        try (InputStream inputStream = FileUtil.openForReading(file)) {
+            assertArrayEquals(content, readAll(inputStream, 4096));
+        }
+
+        // large file -> read through a mapping, byte by byte, in chunks and with skips
+        try (InputStream inputStream = FileUtil.openForReading(file, 0)) {
+            assertEquals(content.length, inputStream.available());
+            assertEquals(content[0] & 0xFF, inputStream.read());
+            assertEquals(99, inputStream.skip(99));
+            assertEquals(content[100] & 0xFF, inputStream.read());
+            byte[] rest = readAll(inputStream, 333);
+            assertEquals(content.length - 101, rest.length);
+            assertEquals(content[content.length - 1], rest[rest.length - 1]);
+            assertEquals(-1, inputStream.read());
+            assertEquals(0, inputStream.skip(1));
+        }
+
+        // empty file
+        Path emptyFile = testFolder.resolve("empty.bin");
+        Files.write(emptyFile, new byte[0]);
+        try (InputStream inputStream = FileUtil.openForReading(emptyFile, 0)) {
+            assertEquals(-1, inputStream.read());
+        }
+
+        // null path -> throws NullPointerException
+        assertThrows(NullPointerException.class, () -> FileUtil.openForReading(null));
+    }
+
 }
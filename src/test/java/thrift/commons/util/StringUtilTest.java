@@ -1,5 +1,6 @@
 package thrift.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static thrift.testutil.Assert.assertThrows;
@@ -124,6 +125,30 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for toWordKeyIgnoreCase and getWordKeysIgnoreCase -------------------------
+
+    @Test
+    public void toWordKeyIgnoreCase_invalidWords_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Word parameter cannot be empty", ()
+            -> StringUtil.toWordKeyIgnoreCase("  "));
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", ()
+            -> StringUtil.toWordKeyIgnoreCase("aaa BBB"));
+    }
+
+    @Test
+    public void getWordKeysIgnoreCase_validInputs_sameAsContainsWordIgnoreCase() {
+        String[] sentences = {"", "    ", "aaa bBb ccc@1", "  AAA   bBb\tccc  ",
+            "Stra\u00dfe \u0130stanbul \u03a3\u03c2"};
+        String[] words = {"bb", "bbbb", "Bbb", "CCc@1", "  ccc  ", "STRASSE", "stra\u00dfe", "i\u0307stanbul",
+            "\u0130STANBUL", "\u03c3\u03c3", "\u03c3\u03a3"};
+        for (String sentence : sentences) {
+            for (String word : words) {
+                assertEquals(StringUtil.containsWordIgnoreCase(sentence, word),
+                        StringUtil.getWordKeysIgnoreCase(sentence).contains(StringUtil.toWordKeyIgnoreCase(word)));
+            }
+        }
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
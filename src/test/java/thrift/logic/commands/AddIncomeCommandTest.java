@@ -8,13 +8,19 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static thrift.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.Stack;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 
 import org.junit.jupiter.api.Test;
 
@@ -26,10 +32,14 @@ import thrift.model.Model;
 import thrift.model.ReadOnlyThrift;
 import thrift.model.ReadOnlyUserPrefs;
 import thrift.model.Thrift;
+import thrift.model.tag.Tag;
 import thrift.model.transaction.Budget;
+import thrift.model.transaction.DescriptionOrRemarkContainsKeywordsPredicate;
+import thrift.model.transaction.DescriptionOrRemarkMatchesSearchTermsPredicate;
 import thrift.model.transaction.Expense;
 import thrift.model.transaction.Income;
 import thrift.model.transaction.Transaction;
+import thrift.model.transaction.TransactionDate;
 import thrift.testutil.IncomeBuilder;
 
 public class AddIncomeCommandTest {
@@ -179,6 +189,17 @@ public class AddIncomeCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+
+        @Override
+        public ReadOnlyThrift getThriftSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addThriftSnapshotObserver(Consumer<? super ReadOnlyThrift> observer) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasTransaction(Transaction transaction) {
             throw new AssertionError("This method should not be called.");
@@ -204,6 +225,27 @@ public class AddIncomeCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+
+        @Override
+        public List<Transaction> deleteTransactions(List<Index> indices) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Transaction> deleteLastTransactions(int count) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addTransactions(List<Transaction> transactions) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setTransactionsWithIndex(Map<Index, Transaction> updatedTransactions) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Optional<Budget> setBudget(Budget budget) {
             throw new AssertionError("This method should not be called.");
@@ -229,6 +271,37 @@ public class AddIncomeCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Transaction> getTransactionsBetween(TransactionDate startDate, TransactionDate endDate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Transaction> getTransactionsWithTags(Set<Tag> tags, boolean isMatchingAll) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Transaction> getIndexedPredicate(DescriptionOrRemarkContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ToIntFunction<Transaction> getIndexedMatchQuality(
+                DescriptionOrRemarkMatchesSearchTermsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public double getCurrentMonthExpenseForTag(Tag tag) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public double getCurrentMonthIncomeForTag(Tag tag) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredTransactionListToCurrentMonth() {
             throw new AssertionError("This method should not be called.");
@@ -239,6 +312,11 @@ public class AddIncomeCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredTransactionList(Predicate<Transaction> predicate, Comparator<Transaction> ranking) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public String getCurrentMonthYear() {
             throw new AssertionError("This method should not be called.");
@@ -254,6 +332,21 @@ public class AddIncomeCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void loadTransactions(Calendar monthYear) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadTransactions(YearMonth startMonth, YearMonth endMonth) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadAllTransactions() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateBalanceForCurrentMonth() {
             throw new AssertionError("This method should not be called.");
@@ -1,5 +1,6 @@
 package thrift.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static thrift.logic.commands.CommandTestUtil.assertCommandFailure;
@@ -10,8 +11,9 @@ import static thrift.logic.commands.CommandTestUtil.showTransactionAtIndex;
 import static thrift.model.transaction.TransactionDate.DATE_FORMATTER;
 import static thrift.testutil.Assert.assertThrows;
 
-import java.util.Calendar;
-import java.util.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -55,7 +57,7 @@ public class CloneCommandTest {
 
         Income expectedTransaction = new IncomeBuilder()
                 .withDescription(transactionToClone.getDescription().value)
-                .withDate(DATE_FORMATTER.format(new Date()))
+                .withDate(LocalDate.now().format(DATE_FORMATTER))
                 .withValue(transactionToClone.getValue().getUnformattedString())
                 .withRemark(transactionToClone.getRemark().value)
                 .withTags(transactionToClone.getTags().iterator().next().tagName)
@@ -87,7 +89,7 @@ public class CloneCommandTest {
 
         Expense expectedTransaction = new ExpenseBuilder()
                 .withDescription(transactionToClone.getDescription().value)
-                .withDate(DATE_FORMATTER.format(new Date()))
+                .withDate(LocalDate.now().format(DATE_FORMATTER))
                 .withValue(transactionToClone.getValue().getUnformattedString())
                 .withRemark(transactionToClone.getRemark().value)
                 .withTags(transactionToClone.getTags().iterator().next().tagName)
@@ -122,17 +124,14 @@ public class CloneCommandTest {
         CloneCommand cloneCommand = new CloneCommand(TypicalIndexes.INDEX_SECOND_TRANSACTION,
                 new Occurrence("monthly", twelveOccurrences));
 
-        Date originalDate = transactionToClone.getDate().getDate();
+        LocalDate originalDate = transactionToClone.getDate().getLocalDate();
         String expectedMessage = String.format(CloneCommand.MESSAGE_CLONE_TRANSACTION_SUCCESS, transactionToClone)
                 + "\n" + String.format(CloneCommand.MESSAGE_NUM_CLONED_TRANSACTIONS, "monthly", twelveOccurrences);
 
         ModelManager expectedModel = new ModelManager(model.getThrift(), new UserPrefs(),
                 new PastUndoableCommands());
         for (int i = 1; i <= twelveOccurrences; i++) {
-            Calendar calendar = Calendar.getInstance();
-            calendar.setTime(originalDate);
-            calendar.add(Calendar.MONTH, i);
-            String date = DATE_FORMATTER.format(calendar.getTime());
+            String date = originalDate.plusMonths(i).format(DATE_FORMATTER);
 
             Income expectedTransaction = new IncomeBuilder()
                     .withDescription(transactionToClone.getDescription().value)
@@ -162,7 +161,7 @@ public class CloneCommandTest {
         CloneCommand cloneCommand = new CloneCommand(TypicalIndexes.INDEX_FIRST_TRANSACTION,
                 new Occurrence("yearly", fiveOccurrences));
 
-        Date originalDate = transactionToClone.getDate().getDate();
+        LocalDate originalDate = transactionToClone.getDate().getLocalDate();
         String expectedMessage = String.format(CloneCommand.MESSAGE_CLONE_TRANSACTION_SUCCESS, transactionToClone)
                 + "\n" + String.format(CloneCommand.MESSAGE_NUM_CLONED_TRANSACTIONS, "yearly", fiveOccurrences);
 
@@ -170,10 +169,7 @@ public class CloneCommandTest {
                 new PastUndoableCommands());
 
         for (int i = 1; i <= fiveOccurrences; i++) {
-            Calendar calendar = Calendar.getInstance();
-            calendar.setTime(originalDate);
-            calendar.add(Calendar.YEAR, i);
-            String date = DATE_FORMATTER.format(calendar.getTime());
+            String date = originalDate.plusYears(i).format(DATE_FORMATTER);
 
             Expense expectedTransaction = new ExpenseBuilder()
                     .withDescription(transactionToClone.getDescription().value)
@@ -210,7 +206,7 @@ public class CloneCommandTest {
 
         Expense expectedTransaction = new ExpenseBuilder()
                 .withDescription(transactionToClone.getDescription().value)
-                .withDate(DATE_FORMATTER.format(new Date()))
+                .withDate(LocalDate.now().format(DATE_FORMATTER))
                 .withValue(transactionToClone.getValue().getUnformattedString())
                 .withRemark(transactionToClone.getRemark().value)
                 .withTags(transactionToClone.getTags().stream().map(tag -> tag.tagName).toArray(String[]::new))
@@ -238,7 +234,7 @@ public class CloneCommandTest {
 
         Expense expectedTransaction = new ExpenseBuilder()
                 .withDescription(transactionToClone.getDescription().value)
-                .withDate(DATE_FORMATTER.format(new Date()))
+                .withDate(LocalDate.now().format(DATE_FORMATTER))
                 .withValue(transactionToClone.getValue().getUnformattedString())
                 .withRemark(transactionToClone.getRemark().value)
                 .withTags(transactionToClone.getTags().stream().map(tag -> tag.tagName).toArray(String[]::new))
@@ -261,6 +257,42 @@ public class CloneCommandTest {
         assertRedoCommandSuccess(cloneCommand, model, expectedModel);
     }
 
+    @Test
+    public void redo_redoCloneCommandWithFiveOccurrences_success() {
+        Model expectedModel = new ModelManager(model.getThrift(), new UserPrefs(), new PastUndoableCommands());
+
+        Transaction transactionToClone = model.getFilteredTransactionList()
+                .get(TypicalIndexes.INDEX_FIRST_TRANSACTION.getZeroBased());
+        LocalDate originalDate = transactionToClone.getDate().getLocalDate();
+
+        List<Transaction> expectedTransactions = new ArrayList<>();
+        for (int i = 1; i <= fiveOccurrences; i++) {
+            expectedTransactions.add(new ExpenseBuilder()
+                    .withDescription(transactionToClone.getDescription().value)
+                    .withDate(originalDate.plusMonths(i).format(DATE_FORMATTER))
+                    .withValue(transactionToClone.getValue().getUnformattedString())
+                    .withRemark(transactionToClone.getRemark().value)
+                    .withTags(transactionToClone.getTags().stream().map(tag -> tag.tagName).toArray(String[]::new))
+                    .build());
+        }
+
+        //simulates user performing clone command
+        expectedModel.addTransactions(expectedTransactions);
+        String expectedMessage = String.format(CloneCommand.MESSAGE_CLONE_TRANSACTION_SUCCESS, transactionToClone)
+                + "\n" + String.format(CloneCommand.MESSAGE_NUM_CLONED_TRANSACTIONS, "monthly", fiveOccurrences);
+        CloneCommand cloneCommand = new CloneCommand(TypicalIndexes.INDEX_FIRST_TRANSACTION,
+                new Occurrence("monthly", fiveOccurrences));
+        assertCommandSuccess(cloneCommand, model, expectedMessage, expectedModel);
+
+        //undo
+        assertEquals(expectedTransactions, expectedModel.deleteLastTransactions(fiveOccurrences));
+        assertUndoCommandSuccess(cloneCommand, model, expectedModel);
+
+        //redo
+        expectedModel.addTransactions(expectedTransactions);
+        assertRedoCommandSuccess(cloneCommand, model, expectedModel);
+    }
+
     @Test
     public void undo_undoCloneCommandIncomeWithNoOccurrence_success() {
         Model expectedModel = new ModelManager(model.getThrift(), new UserPrefs(), new PastUndoableCommands());
@@ -270,7 +302,7 @@ public class CloneCommandTest {
 
         Income expectedTransaction = new IncomeBuilder()
                 .withDescription(transactionToClone.getDescription().value)
-                .withDate(DATE_FORMATTER.format(new Date()))
+                .withDate(LocalDate.now().format(DATE_FORMATTER))
                 .withValue(transactionToClone.getValue().getUnformattedString())
                 .withRemark(transactionToClone.getRemark().value)
                 .withTags(transactionToClone.getTags().stream().map(tag -> tag.tagName).toArray(String[]::new))
@@ -298,7 +330,7 @@ public class CloneCommandTest {
 
         Income expectedTransaction = new IncomeBuilder()
                 .withDescription(transactionToClone.getDescription().value)
-                .withDate(DATE_FORMATTER.format(new Date()))
+                .withDate(LocalDate.now().format(DATE_FORMATTER))
                 .withValue(transactionToClone.getValue().getUnformattedString())
                 .withRemark(transactionToClone.getRemark().value)
                 .withTags(transactionToClone.getTags().stream().map(tag -> tag.tagName).toArray(String[]::new))
@@ -8,6 +8,7 @@ import static thrift.logic.commands.CommandTestUtil.assertCommandSuccess;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 
 import org.junit.jupiter.api.Test;
 
@@ -16,6 +17,8 @@ import thrift.model.ModelManager;
 import thrift.model.PastUndoableCommands;
 import thrift.model.UserPrefs;
 import thrift.model.transaction.DescriptionOrRemarkContainsKeywordsPredicate;
+import thrift.model.transaction.DescriptionOrRemarkMatchesSearchTermsPredicate;
+import thrift.model.transaction.SearchTerm;
 import thrift.testutil.TypicalTransactions;
 
 /**
@@ -85,6 +88,22 @@ public class FindCommandTest {
                 model.getFilteredTransactionList());
     }
 
+    @Test
+    public void execute_searchTerms_bestMatchFirst() {
+        String expectedMessage = String.format(MESSAGE_TRANSACTIONS_LISTED_OVERVIEW, 3);
+        DescriptionOrRemarkMatchesSearchTermsPredicate predicate = new DescriptionOrRemarkMatchesSearchTermsPredicate(
+                Arrays.asList(new SearchTerm("bursar*"), new SearchTerm("laksa1~")));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredTransactionList(predicate, Comparator.comparingInt(predicate::getMatchQuality));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(TypicalTransactions.PENANG_LAKSA, TypicalTransactions.LAKSA,
+                TypicalTransactions.BURSARY), model.getFilteredTransactionList());
+
+        // a later filter shows transactions in their order again
+        model.updateFilteredTransactionList(Model.PREDICATE_SHOW_ALL_TRANSACTIONS);
+        assertEquals(model.getThrift().getTransactionList(), model.getFilteredTransactionList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code DescriptionOrRemarkContainsKeywordsPredicate}.
      */
@@ -2,6 +2,8 @@ package thrift.logic.commands;
 
 import static thrift.logic.commands.CommandTestUtil.assertCommandSuccess;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -9,6 +11,10 @@ import thrift.model.Model;
 import thrift.model.ModelManager;
 import thrift.model.PastUndoableCommands;
 import thrift.model.UserPrefs;
+import thrift.model.tag.Tag;
+import thrift.model.transaction.TransactionDate;
+import thrift.model.transaction.TransactionHasTagsPredicate;
+import thrift.model.transaction.TransactionIsInDateRangePredicate;
 import thrift.testutil.TypicalIndexes;
 import thrift.testutil.TypicalTransactions;
 
@@ -36,4 +42,23 @@ public class ListCommandTest {
         CommandTestUtil.showTransactionAtIndex(model, TypicalIndexes.INDEX_FIRST_TRANSACTION);
         assertCommandSuccess(new ListCommand(), model, ListCommand.MESSAGE_SUCCESS, expectedModel);
     }
+
+    @Test
+    public void execute_dateRange_showsTransactionsInRange() {
+        TransactionDate startDate = new TransactionDate("11/10/2010");
+        TransactionDate endDate = new TransactionDate("13/11/2011");
+        expectedModel.updateFilteredTransactionList(new TransactionIsInDateRangePredicate(startDate, endDate));
+        String expectedMessage = String.format(ListCommand.MESSAGE_SUCCESS_DATE_RANGE_FILTER, 2, startDate, endDate);
+        assertCommandSuccess(new ListCommand(startDate, endDate), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_tags_showsTransactionsWithTags() {
+        Set<Tag> tags = Set.of(new Tag("Lunch"));
+        expectedModel.updateFilteredTransactionList(new TransactionHasTagsPredicate(tags, true));
+        String expectedMessage = String.format(ListCommand.MESSAGE_SUCCESS_TAG_FILTER, 1, "all", "[Lunch]")
+                + String.format(ListCommand.MESSAGE_TAG_MONTH_TOTALS, "[Lunch]", model.getCurrentMonthYear(),
+                        "0.00", "0.00");
+        assertCommandSuccess(new ListCommand(tags, true), model, expectedMessage, expectedModel);
+    }
 }
@@ -1,20 +1,35 @@
 package thrift.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static thrift.logic.commands.CommandTestUtil.assertCommandFailure;
 
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import thrift.commons.core.index.Index;
 import thrift.model.Model;
 import thrift.model.ModelManager;
 import thrift.model.PastUndoableCommands;
+import thrift.model.Thrift;
 import thrift.model.UserPrefs;
 import thrift.model.transaction.Expense;
+import thrift.storage.JsonUndoRecordStore;
+import thrift.storage.PartitionedThriftStorage;
 import thrift.testutil.ExpenseBuilder;
+import thrift.testutil.ThriftBuilder;
 import thrift.testutil.TypicalTransactions;
 
 public class UndoCommandTest {
 
+    @TempDir
+    public Path testFolder;
+
     private Model model = new ModelManager(TypicalTransactions.getTypicalThrift(), new UserPrefs(),
             new PastUndoableCommands());
 
@@ -38,4 +53,43 @@ public class UndoCommandTest {
 
         assertDoesNotThrow(() -> undoCommand.execute(model));
     }
+
+    @Test
+    public void execute_undoDeleteAfterRestartIntoUnloadedMonth_monthKeptWhole() throws Exception {
+        Expense supper = new ExpenseBuilder().withDescription("Supper").withDate("20/10/2010").build();
+        Thrift thrift = new ThriftBuilder().withTransaction(TypicalTransactions.LAKSA)
+                .withTransaction(TypicalTransactions.PENANG_LAKSA).withTransaction(supper)
+                .withTransaction(TypicalTransactions.BURSARY).build();
+        Path dataFolder = testFolder.resolve("data");
+        new PartitionedThriftStorage(dataFolder).saveThrift(thrift);
+
+        // Delete Supper, with every month loaded, and quit
+        PartitionedThriftStorage firstStorage = new PartitionedThriftStorage(dataFolder);
+        Model firstModel = new ModelManager(firstStorage.readThrift().get(), new UserPrefs(),
+                createPastUndoableCommands(), firstStorage);
+        DeleteCommand deleteCommand = new DeleteCommand(Index.fromOneBased(3));
+        deleteCommand.execute(firstModel);
+        firstModel.keepTrackCommands(deleteCommand);
+        firstStorage.saveThrift(firstModel.getThrift());
+
+        // Restart with October 2010 unloaded, undo the delete and quit
+        PartitionedThriftStorage secondStorage = new PartitionedThriftStorage(dataFolder);
+        Model secondModel = new ModelManager(secondStorage.readThriftSince(YearMonth.of(2011, 11)).get(),
+                new UserPrefs(), createPastUndoableCommands(), secondStorage);
+        new UndoCommand().execute(secondModel);
+        secondStorage.saveThrift(secondModel.getThrift());
+
+        assertEquals(Set.of(YearMonth.of(1937, 3)), secondModel.getThrift().getUnloadedMonths());
+        assertEquals(List.of(TypicalTransactions.LAKSA, TypicalTransactions.PENANG_LAKSA, supper,
+                TypicalTransactions.BURSARY),
+                new PartitionedThriftStorage(dataFolder).readThrift().get().getTransactionList());
+    }
+
+    /**
+     * Returns past undoable commands kept in files of {@link #testFolder}, as they are from one session to the next.
+     */
+    private PastUndoableCommands createPastUndoableCommands() {
+        return new PastUndoableCommands(100, 1000, new JsonUndoRecordStore(testFolder.resolve("undo"), 1000),
+                new JsonUndoRecordStore(testFolder.resolve("redo"), 1000));
+    }
 }
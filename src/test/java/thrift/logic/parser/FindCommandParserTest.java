@@ -10,6 +10,8 @@ import org.junit.jupiter.api.Test;
 
 import thrift.logic.commands.FindCommand;
 import thrift.model.transaction.DescriptionOrRemarkContainsKeywordsPredicate;
+import thrift.model.transaction.DescriptionOrRemarkMatchesSearchTermsPredicate;
+import thrift.model.transaction.SearchTerm;
 
 public class FindCommandParserTest {
 
@@ -29,6 +31,17 @@ public class FindCommandParserTest {
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
+
+        // lone wildcards are plain words
+        assertParseSuccess(parser, "* ~", new FindCommand(
+                new DescriptionOrRemarkContainsKeywordsPredicate(Arrays.asList("*", "~"))));
+    }
+
+    @Test
+    public void parse_searchTerms_returnsRankedFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new DescriptionOrRemarkMatchesSearchTermsPredicate(
+                Arrays.asList(new SearchTerm("starb*"), new SearchTerm("Alice"), new SearchTerm("chiken~"))));
+        assertParseSuccess(parser, "starb* Alice  chiken~", expectedFindCommand);
     }
 
 }
@@ -1,6 +1,7 @@
 package thrift.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static thrift.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static thrift.logic.parser.CommandParserTestUtil.assertParseFailure;
 
@@ -8,6 +9,13 @@ import org.junit.jupiter.api.Test;
 
 import thrift.logic.commands.CommandTestUtil;
 import thrift.logic.commands.ListCommand;
+import thrift.model.Model;
+import thrift.model.ModelManager;
+import thrift.model.PastUndoableCommands;
+import thrift.model.UserPrefs;
+import thrift.model.tag.Tag;
+import thrift.model.transaction.TransactionDate;
+import thrift.testutil.TypicalTransactions;
 
 public class ListCommandParserTest {
 
@@ -56,4 +64,57 @@ public class ListCommandParserTest {
         assertDoesNotThrow(() -> parser.parse(CommandTestUtil.MONTH_JAN_19));
     }
 
+    @Test
+    public void parse_dateRange_success() throws Exception {
+        Model model = new ModelManager(TypicalTransactions.getTypicalThrift(), new UserPrefs(),
+                new PastUndoableCommands());
+        String expectedMessage = String.format(ListCommand.MESSAGE_SUCCESS_DATE_RANGE_FILTER, 1, "01/01/1937",
+                "31/12/1937");
+        assertEquals(expectedMessage, parser.parse(" d/01/01/1937  d/31/12/1937 ").execute(model).getFeedbackToUser());
+
+        // same start and end date
+        assertDoesNotThrow(() -> parser.parse(" d/01/01/2019 d/01/01/2019"));
+    }
+
+    @Test
+    public void parse_tags_success() throws Exception {
+        Model model = new ModelManager(TypicalTransactions.getTypicalThrift(), new UserPrefs(),
+                new PastUndoableCommands());
+        String totals = String.format(ListCommand.MESSAGE_TAG_MONTH_TOTALS, "[Lunch]", model.getCurrentMonthYear(),
+                "0.00", "0.00");
+        assertEquals(String.format(ListCommand.MESSAGE_SUCCESS_TAG_FILTER, 1, "all", "[Lunch]") + totals,
+                parser.parse(" t/Lunch").execute(model).getFeedbackToUser());
+        assertEquals(String.format(ListCommand.MESSAGE_SUCCESS_TAG_FILTER, 1, "any", "[Lunch]") + totals,
+                parser.parse(" any t/Lunch t/Lunch").execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void parse_invalidTags_failure() {
+        // other preamble
+        assertParseFailure(parser, " all t/Lunch", MESSAGE_INVALID_FORMAT);
+
+        // tags with a month or a date
+        assertParseFailure(parser, " t/Lunch m/01/2019", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " t/Lunch d/01/01/2019 d/02/01/2019", MESSAGE_INVALID_FORMAT);
+
+        // invalid tag
+        assertParseFailure(parser, " t/Lunch*", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_invalidDateRange_failure() {
+        // one date only
+        assertParseFailure(parser, " d/01/01/2019", MESSAGE_INVALID_FORMAT);
+
+        // month and dates together
+        assertParseFailure(parser, CommandTestUtil.MONTH_JAN_19 + " d/01/01/2019 d/31/01/2019",
+                MESSAGE_INVALID_FORMAT);
+
+        // invalid date
+        assertParseFailure(parser, " d/32/01/2019 d/31/01/2019", TransactionDate.DATE_CONSTRAINTS);
+
+        // start date after end date
+        assertParseFailure(parser, " d/31/01/2019 d/01/01/2019", ListCommandParser.MESSAGE_INVALID_DATE_RANGE);
+    }
+
 }
@@ -9,13 +9,17 @@ import static thrift.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Arrays;
-import java.util.Date;
+import java.util.Calendar;
+import java.util.Collections;
 import java.util.HashSet;
 
 import org.junit.jupiter.api.Test;
 
 import thrift.commons.core.GuiSettings;
+import thrift.commons.core.index.Index;
 import thrift.logic.commands.AddExpenseCommand;
 import thrift.logic.commands.exceptions.CommandException;
 import thrift.model.transaction.Description;
@@ -101,7 +105,7 @@ public class ModelManagerTest {
         Model model = new ModelManager(TypicalTransactions.getTypicalThrift(), new UserPrefs(),
                 new PastUndoableCommands());
         Expense newExpense = new Expense(new Description("mcspicy"), new Value("5"), new Remark(""),
-                new TransactionDate(DATE_FORMATTER.format(new Date())), new HashSet<>());
+                new TransactionDate(LocalDate.now().format(DATE_FORMATTER)), new HashSet<>());
         model.addExpense(newExpense);
         model.updateExpenseForCurrentMonth();
         double expense = model.getExpense();
@@ -113,13 +117,68 @@ public class ModelManagerTest {
         Model model = new ModelManager(TypicalTransactions.getTypicalThrift(), new UserPrefs(),
                 new PastUndoableCommands());
         Income newIncome = new Income(new Description("allowance"), new Value("500"), new Remark(""),
-                new TransactionDate(DATE_FORMATTER.format(new Date())), new HashSet<>());
+                new TransactionDate(LocalDate.now().format(DATE_FORMATTER)), new HashSet<>());
         model.addIncome(newIncome);
         model.updateIncomeForCurrentMonth();
         double income = model.getIncome();
         assertEquals(500.00, income);
     }
 
+    @Test
+    public void loadAllTransactions_unloadedMonths_loadedInOrder() throws Exception {
+        Thrift thrift = new ThriftBuilder().withTransaction(TypicalTransactions.BURSARY).build();
+        thrift.setUnloadedMonths(Arrays.asList(YearMonth.of(1937, 3), YearMonth.of(2010, 10)));
+        Model model = new ModelManager(thrift, new UserPrefs(), new PastUndoableCommands(), month ->
+                month.getYear() == 1937
+                        ? Collections.singletonList(TypicalTransactions.LAKSA)
+                        : Collections.singletonList(TypicalTransactions.PENANG_LAKSA));
+
+        model.loadAllTransactions();
+        assertEquals(Arrays.asList(TypicalTransactions.LAKSA, TypicalTransactions.PENANG_LAKSA,
+                TypicalTransactions.BURSARY), model.getThrift().getTransactionList());
+        assertTrue(model.getThrift().getUnloadedMonths().isEmpty());
+    }
+
+    @Test
+    public void addExpense_unloadedMonth_monthLoadedFirst() {
+        Thrift thrift = new ThriftBuilder().withTransaction(TypicalTransactions.LAKSA)
+                .withTransaction(TypicalTransactions.BURSARY).build();
+        thrift.setUnloadedMonths(Collections.singleton(YearMonth.of(2010, 10)));
+        Model model = new ModelManager(thrift, new UserPrefs(), new PastUndoableCommands(), month ->
+                Collections.singletonList(TypicalTransactions.PENANG_LAKSA));
+        Expense supper = new ExpenseBuilder().withDescription("Supper").withDate("20/10/2010").build();
+
+        // Inserted before Bursary, which the loaded transactions are placed before too
+        model.addExpense(supper, Index.fromZeroBased(1));
+        assertEquals(Arrays.asList(TypicalTransactions.LAKSA, TypicalTransactions.PENANG_LAKSA, supper,
+                TypicalTransactions.BURSARY), model.getThrift().getTransactionList());
+        assertTrue(model.getThrift().getUnloadedMonths().isEmpty());
+    }
+
+    @Test
+    public void addExpense_unloadedMonthLoaderFails_addedToUnloadedMonth() {
+        Thrift thrift = new ThriftBuilder().withTransaction(TypicalTransactions.BURSARY).build();
+        thrift.setUnloadedMonths(Collections.singleton(YearMonth.of(2010, 10)));
+        Model model = new ModelManager(thrift, new UserPrefs(), new PastUndoableCommands());
+        Expense supper = new ExpenseBuilder().withDescription("Supper").withDate("20/10/2010").build();
+
+        model.addExpense(supper);
+        assertEquals(Arrays.asList(TypicalTransactions.BURSARY, supper), model.getThrift().getTransactionList());
+        assertEquals(Collections.singleton(YearMonth.of(2010, 10)), model.getThrift().getUnloadedMonths());
+    }
+
+    @Test
+    public void loadTransactions_loaderFails_throwsCommandException() throws Exception {
+        Thrift thrift = new Thrift();
+        thrift.setUnloadedMonths(Collections.singleton(YearMonth.of(2010, 10)));
+        Model model = new ModelManager(thrift, new UserPrefs(), new PastUndoableCommands());
+
+        model.loadTransactions(TypicalTransactions.OCT_2019_MONTH); // already loaded
+        Calendar october2010 = Calendar.getInstance();
+        october2010.set(2010, Calendar.OCTOBER, 1);
+        assertThrows(CommandException.class, () -> model.loadTransactions(october2010));
+    }
+
     @Test
     public void equals() {
         Thrift thrift = new ThriftBuilder().withTransaction(TypicalTransactions.LAKSA).build();
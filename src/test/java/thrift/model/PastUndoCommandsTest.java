@@ -1,10 +1,16 @@
 package thrift.model;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import thrift.logic.commands.AddExpenseCommand;
@@ -14,6 +20,8 @@ import thrift.logic.commands.Undoable;
 import thrift.logic.commands.exceptions.CommandException;
 import thrift.model.transaction.Expense;
 import thrift.model.transaction.Income;
+import thrift.model.undo.UndoRecord;
+import thrift.model.undo.UndoRecordStore;
 import thrift.testutil.ExpenseBuilder;
 import thrift.testutil.IncomeBuilder;
 
@@ -73,5 +81,163 @@ public class PastUndoCommandsTest {
         assertThrows(ClassCastException.class, () -> pastUndoableCommands.addPastCommand((Undoable) new ListCommand()));
     }
 
+    @Test
+    public void getCommandToUndo_pastBounds_olderCommandsReadBackFromStore() throws CommandException {
+        InMemoryUndoRecordStore undoStore = new InMemoryUndoRecordStore();
+        InMemoryUndoRecordStore redoStore = new InMemoryUndoRecordStore();
+        PastUndoableCommands bounded = new PastUndoableCommands(4, 100, undoStore, redoStore);
+        List<Undoable> commands = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            Undoable command = new AddExpenseCommand(new ExpenseBuilder().withDescription("Expense " + i).build());
+            commands.add(command);
+            bounded.addPastCommand(command);
+        }
+        // Every command is in the store, but the fifth passed the bound, so only the newest four are in memory.
+        assertEquals(7, undoStore.records.size());
+
+        for (int i = 6; i >= 0; i--) {
+            assertTrue(bounded.hasUndoCommand());
+            Undoable undone = bounded.getCommandToUndo();
+            if (i >= 3) {
+                assertSame(commands.get(i), undone);
+            } else {
+                assertTrue(undone instanceof UndoRecord);
+                assertEquals(commands.get(i).toUndoRecord(), undone);
+            }
+        }
+        assertFalse(bounded.hasUndoCommand());
+        assertEquals(0, undoStore.records.size());
+        assertEquals(7, redoStore.records.size());
+
+        for (int i = 0; i < 7; i++) {
+            assertEquals(commands.get(i).toUndoRecord(), bounded.getCommandToRedo().toUndoRecord());
+        }
+        assertFalse(bounded.hasRedoCommand());
+        assertEquals(7, undoStore.records.size());
+    }
+
+    @Test
+    public void addPastCommand_pastTransactionBound_newestCommandKeptInMemory() throws CommandException {
+        InMemoryUndoRecordStore undoStore = new InMemoryUndoRecordStore();
+        PastUndoableCommands bounded = new PastUndoableCommands(100, 2, undoStore, new InMemoryUndoRecordStore());
+        Undoable newest = null;
+        for (int i = 0; i < 3; i++) {
+            newest = new AddExpenseCommand(new ExpenseBuilder().build());
+            bounded.addPastCommand(newest);
+        }
+        assertEquals(3, undoStore.records.size());
+        assertSame(newest, bounded.getCommandToUndo());
+        assertTrue(bounded.getCommandToUndo() instanceof UndoRecord);
+    }
+
+    @Test
+    public void addPastCommand_redoCommandsInStore_redoStoreCleared() throws CommandException {
+        InMemoryUndoRecordStore redoStore = new InMemoryUndoRecordStore();
+        PastUndoableCommands bounded = new PastUndoableCommands(2, 100, new InMemoryUndoRecordStore(), redoStore);
+        for (int i = 0; i < 3; i++) {
+            bounded.addPastCommand(new AddExpenseCommand(new ExpenseBuilder().build()));
+        }
+        for (int i = 0; i < 3; i++) {
+            bounded.getCommandToUndo();
+        }
+        assertEquals(3, redoStore.records.size());
+
+        bounded.addPastCommand(new AddIncomeCommand(new IncomeBuilder().build()));
+        assertEquals(0, redoStore.records.size());
+        assertFalse(bounded.hasRedoCommand());
+    }
+
+    @Test
+    public void constructor_storesOfEarlierSession_historyRestoredOnFirstUndo() throws CommandException {
+        UndoRecord older = new AddExpenseCommand(new ExpenseBuilder().withDescription("Older").build()).toUndoRecord();
+        UndoRecord newer = new AddExpenseCommand(new ExpenseBuilder().withDescription("Newer").build()).toUndoRecord();
+        UndoRecord undone = new AddIncomeCommand(new IncomeBuilder().build()).toUndoRecord();
+        InMemoryUndoRecordStore undoStore = new InMemoryUndoRecordStore();
+        undoStore.push(List.of(older, newer));
+        InMemoryUndoRecordStore redoStore = new InMemoryUndoRecordStore();
+        redoStore.push(List.of(undone));
+
+        PastUndoableCommands restored = new PastUndoableCommands(4, 100, undoStore, redoStore);
+        assertTrue(restored.hasUndoCommand());
+        assertTrue(restored.hasRedoCommand());
+        assertEquals(0, undoStore.peekCount);
+
+        assertEquals(undone, restored.getCommandToRedo());
+        assertEquals(undone, restored.getCommandToUndo());
+        assertEquals(0, undoStore.peekCount);
+        assertEquals(newer, restored.getCommandToUndo());
+        assertEquals(1, undoStore.peekCount);
+        assertEquals(older, restored.getCommandToUndo());
+        assertFalse(restored.hasUndoCommand());
+    }
+
+    @Test
+    public void clear_commandsInMemoryAndStore_allForgotten() throws CommandException {
+        InMemoryUndoRecordStore undoStore = new InMemoryUndoRecordStore();
+        InMemoryUndoRecordStore redoStore = new InMemoryUndoRecordStore();
+        PastUndoableCommands bounded = new PastUndoableCommands(2, 100, undoStore, redoStore);
+        for (int i = 0; i < 3; i++) {
+            bounded.addPastCommand(new AddExpenseCommand(new ExpenseBuilder().build()));
+        }
+        bounded.getCommandToUndo();
+
+        bounded.clear();
+        assertFalse(bounded.hasUndoCommand());
+        assertFalse(bounded.hasRedoCommand());
+        assertEquals(0, undoStore.records.size());
+        assertEquals(0, redoStore.records.size());
+    }
+
+    @Test
+    public void getCommandToUndo_unreadableStore_throwsCommandException() {
+        UndoRecordStore brokenStore = new InMemoryUndoRecordStore() {
+            @Override
+            public List<UndoRecord> peek(int count) throws IOException {
+                throw new IOException("Disk gone");
+            }
+        };
+        PastUndoableCommands bounded = new PastUndoableCommands(2, 100, brokenStore, new InMemoryUndoRecordStore());
+        for (int i = 0; i < 3; i++) {
+            bounded.addPastCommand(new AddExpenseCommand(new ExpenseBuilder().build()));
+        }
+        assertDoesNotThrow(bounded::getCommandToUndo);
+        assertThrows(CommandException.class, bounded::getCommandToUndo);
+        assertFalse(bounded.hasUndoCommand());
+    }
+
     //other tests for other types of commands
+
+    /**
+     * An undo record store that keeps its records in memory.
+     */
+    private static class InMemoryUndoRecordStore implements UndoRecordStore {
+        private final List<UndoRecord> records = new ArrayList<>();
+        private int peekCount = 0;
+
+        @Override
+        public void push(List<UndoRecord> newRecords) {
+            records.addAll(newRecords);
+        }
+
+        @Override
+        public List<UndoRecord> peek(int count) throws IOException {
+            peekCount++;
+            return new ArrayList<>(records.subList(Math.max(0, records.size() - count), records.size()));
+        }
+
+        @Override
+        public void pop(int count) {
+            records.subList(Math.max(0, records.size() - count), records.size()).clear();
+        }
+
+        @Override
+        public int size() {
+            return records.size();
+        }
+
+        @Override
+        public void clear() {
+            records.clear();
+        }
+    }
 }
@@ -0,0 +1,67 @@
+package thrift.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import thrift.testutil.TypicalTransactions;
+
+public class ThriftSnapshotPublisherTest {
+
+    private final Thrift thrift = new Thrift();
+    private final Deque<Runnable> scheduled = new ArrayDeque<>();
+    private final ThriftSnapshotPublisher publisher = new ThriftSnapshotPublisher(thrift, scheduled::add);
+
+    @Test
+    public void publish_noObservers_nothingScheduled() {
+        publisher.publish();
+        assertTrue(scheduled.isEmpty());
+    }
+
+    @Test
+    public void publish_burstOfChanges_latestSnapshotPublishedOnce() {
+        List<ReadOnlyThrift> published = new ArrayList<>();
+        publisher.addObserver(published::add);
+
+        thrift.addTransaction(TypicalTransactions.LAKSA);
+        publisher.publish();
+        thrift.addTransaction(TypicalTransactions.BURSARY);
+        publisher.publish();
+        assertEquals(1, scheduled.size());
+
+        scheduled.poll().run();
+        assertEquals(1, published.size());
+        assertEquals(thrift.getVersion(), published.get(0).getVersion());
+        assertEquals(thrift.getTransactionList(), published.get(0).getTransactionList());
+
+        thrift.removeTransaction(TypicalTransactions.LAKSA);
+        assertEquals(2, published.get(0).getTransactionList().size());
+    }
+
+    @Test
+    public void publish_versionAlreadyPublished_observersNotCalledAgain() {
+        List<ReadOnlyThrift> published = new ArrayList<>();
+        publisher.addObserver(published::add);
+        thrift.addTransaction(TypicalTransactions.LAKSA);
+
+        publisher.publish();
+        scheduled.poll().run();
+        publisher.publish();
+        scheduled.poll().run();
+        assertEquals(1, published.size());
+
+        thrift.addTransaction(TypicalTransactions.BURSARY);
+        publisher.publish();
+        scheduled.poll().run();
+        assertEquals(2, published.size());
+        assertEquals(Collections.singletonList(TypicalTransactions.LAKSA), published.get(0).getTransactionList());
+    }
+
+}
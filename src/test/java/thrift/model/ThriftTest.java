@@ -2,11 +2,18 @@ package thrift.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static thrift.testutil.Assert.assertThrows;
 
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -14,6 +21,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import thrift.model.transaction.BudgetList;
 import thrift.model.transaction.Transaction;
+import thrift.testutil.ExpenseBuilder;
 import thrift.testutil.TypicalTransactions;
 
 public class ThriftTest {
@@ -58,6 +66,91 @@ public class ThriftTest {
         assertThrows(UnsupportedOperationException.class, () -> thrift.getTransactionList().remove(0));
     }
 
+    @Test
+    public void getSnapshot_thriftChanges_snapshotUnchanged() {
+        thrift.addTransaction(TypicalTransactions.LAKSA);
+        thrift.setBudget(TypicalTransactions.OCT_BUDGET);
+        ReadOnlyThrift snapshot = thrift.getSnapshot();
+        long version = thrift.getVersion();
+
+        thrift.addTransaction(TypicalTransactions.BURSARY);
+        thrift.removeTransaction(TypicalTransactions.LAKSA);
+        thrift.removeBudget(TypicalTransactions.OCT_BUDGET);
+
+        assertEquals(Collections.singletonList(TypicalTransactions.LAKSA), snapshot.getTransactionList());
+        assertEquals(Collections.singletonList(TypicalTransactions.LAKSA), snapshot.getTransactionSnapshot());
+        assertTrue(snapshot.getBudgetList().iterator().hasNext());
+        assertEquals(version, snapshot.getVersion());
+        assertEquals(new Thrift(snapshot).getTransactionList(), Collections.singletonList(TypicalTransactions.LAKSA));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getTransactionList().remove(0));
+    }
+
+    @Test
+    public void getSnapshot_sameVersion_sameSnapshot() {
+        thrift.addTransaction(TypicalTransactions.LAKSA);
+        ReadOnlyThrift snapshot = thrift.getSnapshot();
+        assertSame(snapshot, thrift.getSnapshot());
+        assertSame(snapshot, snapshot.getSnapshot());
+        thrift.addTransaction(TypicalTransactions.BURSARY);
+        assertNotSame(snapshot, thrift.getSnapshot());
+    }
+
+    @Test
+    public void getSnapshot_otherThreadWhileChanging_consistentSnapshots() throws Exception {
+        int transactionCount = 200;
+        List<String> problems = Collections.synchronizedList(new ArrayList<>());
+        Thread reader = new Thread(() -> {
+            int lastSize = 0;
+            while (lastSize < transactionCount) {
+                ReadOnlyThrift snapshot = thrift.getSnapshot();
+                int size = 0;
+                for (Transaction transaction : snapshot.getTransactionSnapshot()) {
+                    size++;
+                }
+                if (size < lastSize || size != snapshot.getTransactionList().size()) {
+                    problems.add("Snapshot of " + size + " transactions after " + lastSize);
+                }
+                lastSize = size;
+            }
+        });
+        reader.start();
+        for (int i = 0; i < transactionCount; i++) {
+            thrift.addTransaction(new ExpenseBuilder().withDescription("Item " + i).build());
+        }
+        reader.join(10000);
+        assertFalse(reader.isAlive());
+        assertEquals(Collections.emptyList(), problems);
+    }
+
+    @Test
+    public void getTransactionSnapshot_thriftChanges_snapshotUnchanged() {
+        thrift.addTransaction(TypicalTransactions.LAKSA);
+        Collection<Transaction> snapshot = thrift.getTransactionSnapshot();
+        thrift.addTransaction(TypicalTransactions.BURSARY);
+        assertEquals(Collections.singletonList(TypicalTransactions.LAKSA), snapshot);
+        assertEquals(new ThriftStub(thrift.getTransactionList()).getTransactionSnapshot(),
+                thrift.getTransactionSnapshot());
+    }
+
+    @Test
+    public void addLoadedTransactions_unloadedMonth_placedBeforeLaterMonths() {
+        thrift.addTransaction(TypicalTransactions.LAKSA);
+        thrift.addTransaction(TypicalTransactions.BURSARY);
+        thrift.setUnloadedMonths(Collections.singleton(YearMonth.of(2010, 10)));
+
+        thrift.addLoadedTransactions(YearMonth.of(2010, 10),
+                Collections.singletonList(TypicalTransactions.PENANG_LAKSA));
+        assertEquals(Arrays.asList(TypicalTransactions.LAKSA, TypicalTransactions.PENANG_LAKSA,
+                TypicalTransactions.BURSARY), thrift.getTransactionList());
+        assertTrue(thrift.getUnloadedMonths().isEmpty());
+    }
+
+    @Test
+    public void addLoadedTransactions_loadedMonth_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> thrift.addLoadedTransactions(YearMonth.of(2010, 10),
+                Collections.singletonList(TypicalTransactions.PENANG_LAKSA)));
+    }
+
     /**
      * A stub ReadOnlyThrift whose transaction list can violate interface constraints.
      */
@@ -79,6 +172,16 @@ public class ThriftTest {
         public BudgetList getBudgetList() {
             return budgets;
         }
+
+        @Override
+        public Set<YearMonth> getUnloadedMonths() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
@@ -5,7 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static thrift.testutil.Assert.assertThrows;
 
-import java.util.Calendar;
+import java.time.temporal.ChronoUnit;
 
 import org.junit.jupiter.api.Test;
 
@@ -43,22 +43,22 @@ public class OccurrenceTest {
     }
 
     @Test
-    public void getFrequencyCalendarField() {
+    public void getFrequencyUnit() {
         try {
             Occurrence dailyOccurrence = new Occurrence("daily", 3);
-            assertEquals(dailyOccurrence.getFrequencyCalendarField(), Calendar.DATE);
+            assertEquals(dailyOccurrence.getFrequencyUnit(), ChronoUnit.DAYS);
 
             Occurrence weeklyOccurrence = new Occurrence("weekly", 3);
-            assertEquals(weeklyOccurrence.getFrequencyCalendarField(), Calendar.WEEK_OF_YEAR);
+            assertEquals(weeklyOccurrence.getFrequencyUnit(), ChronoUnit.WEEKS);
 
             Occurrence monthlyOccurrence = new Occurrence("monthly", 3);
-            assertEquals(monthlyOccurrence.getFrequencyCalendarField(), Calendar.MONTH);
+            assertEquals(monthlyOccurrence.getFrequencyUnit(), ChronoUnit.MONTHS);
 
             Occurrence yearlyOccurrence = new Occurrence("yearly", 3);
-            assertEquals(yearlyOccurrence.getFrequencyCalendarField(), Calendar.YEAR);
+            assertEquals(yearlyOccurrence.getFrequencyUnit(), ChronoUnit.YEARS);
 
             Occurrence invalidFrequencyOccurrence = new Occurrence("once every month", 3);
-            assertThrows(CommandException.class, invalidFrequencyOccurrence::getFrequencyCalendarField);
+            assertThrows(CommandException.class, invalidFrequencyOccurrence::getFrequencyUnit);
         } catch (CommandException ce) {
             // Should not reach this line
         }
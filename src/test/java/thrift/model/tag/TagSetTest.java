@@ -0,0 +1,58 @@
+package thrift.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static thrift.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    @Test
+    public void intern_sameName_sameTag() {
+        Tag lunch = TagDictionary.intern("Lunch");
+        assertSame(lunch, TagDictionary.intern("Lunch"));
+        assertEquals(lunch, new Tag("Lunch"));
+        assertTrue(TagDictionary.contains("Lunch"));
+        assertThrows(IllegalArgumentException.class, () -> TagDictionary.intern("not alphanumeric"));
+        assertFalse(TagDictionary.contains("not alphanumeric"));
+    }
+
+    @Test
+    public void of_duplicateTags_sameAsHashSet() {
+        Set<Tag> hashSet = new HashSet<>(Arrays.asList(new Tag("Lunch"), new Tag("Dinner"), new Tag("Lunch")));
+        TagSet tagSet = TagSet.of(Arrays.asList(new Tag("Lunch"), new Tag("Dinner"), new Tag("Lunch")));
+
+        assertEquals(2, tagSet.size());
+        assertEquals(hashSet, tagSet);
+        assertEquals(tagSet, hashSet);
+        assertEquals(hashSet.hashCode(), tagSet.hashCode());
+        assertEquals(tagSet, TagSet.of(hashSet));
+        assertTrue(tagSet.contains(new Tag("Dinner")));
+        assertFalse(tagSet.contains(new Tag("Breakfast")));
+        assertFalse(tagSet.contains("Dinner"));
+    }
+
+    @Test
+    public void of_noTags_emptySet() {
+        assertSame(TagSet.EMPTY, TagSet.of(Collections.emptySet()));
+        assertEquals(Collections.emptySet(), TagSet.EMPTY);
+    }
+
+    @Test
+    public void modify_anyChange_throwsUnsupportedOperationException() {
+        TagSet tagSet = TagSet.of(Collections.singleton(new Tag("Lunch")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.add(new Tag("Dinner")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(new Tag("Dinner")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.removeIf(tag -> true));
+        assertThrows(UnsupportedOperationException.class, tagSet::clear);
+    }
+
+}
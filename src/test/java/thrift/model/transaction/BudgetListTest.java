@@ -5,10 +5,16 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static thrift.testutil.Assert.assertThrows;
 
+import java.time.YearMonth;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import thrift.commons.util.StreamUtils;
 import thrift.testutil.TypicalTransactions;
 
 public class BudgetListTest {
@@ -51,4 +57,50 @@ public class BudgetListTest {
         budgetList.removeBudget(budget);
         assertEquals(budgetList, expectedList);
     }
+
+    @Test
+    public void setBudget_existingMonth_keepsPlace() {
+        Budget october = new Budget(TypicalTransactions.OCT_2019_MONTH, new BudgetValue("100"));
+        Budget november = new Budget(getMonth(11, 2019), new BudgetValue("200"));
+        Budget newOctober = new Budget(TypicalTransactions.OCT_2019_MONTH, new BudgetValue("300"));
+        budgetList.setBudget(october);
+        budgetList.setBudget(november);
+
+        assertEquals(Optional.of(october), budgetList.setBudget(newOctober));
+        assertEquals(Arrays.asList(newOctober, november), StreamUtils.asStream(budgetList.iterator())
+                .collect(Collectors.toList()));
+        assertEquals(Optional.of(newOctober), budgetList.getBudgetForMonthYear(TypicalTransactions.OCT_2019_MONTH));
+
+        // a different budget of the same month is not removed
+        budgetList.removeBudget(october);
+        assertEquals(Optional.of(newOctober), budgetList.getBudgetForMonthYear(TypicalTransactions.OCT_2019_MONTH));
+    }
+
+    @Test
+    public void getBudgetsBetween_budgetsOfSeveralYears_orderedByMonth() {
+        Budget december = new Budget(getMonth(12, 2018), new BudgetValue("10"));
+        Budget january = new Budget(getMonth(1, 2019), new BudgetValue("20.50"));
+        Budget march = new Budget(getMonth(3, 2019), new BudgetValue("30"));
+        budgetList.setBudget(march);
+        budgetList.setBudget(december);
+        budgetList.setBudget(january);
+
+        YearMonth startOf2019 = YearMonth.of(2019, 1);
+        YearMonth endOfMarch = YearMonth.of(2019, 3);
+        assertEquals(Arrays.asList(january, march), budgetList.getBudgetsBetween(startOf2019, endOfMarch));
+        assertEquals(5050, budgetList.getTotalBudgetCentsBetween(startOf2019, endOfMarch));
+        assertEquals(Arrays.asList(december, january, march),
+                budgetList.getBudgetsBetween(YearMonth.of(2000, 1), YearMonth.of(2100, 1)));
+        assertEquals(Collections.emptyList(), budgetList.getBudgetsBetween(endOfMarch, startOf2019));
+    }
+
+    /**
+     * Returns a {@code Calendar} in {@code month} (1 to 12) of {@code year}.
+     */
+    private static Calendar getMonth(int month, int year) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+        calendar.set(year, month - 1, 1);
+        return calendar;
+    }
 }
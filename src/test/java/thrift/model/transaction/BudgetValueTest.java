@@ -1,5 +1,6 @@
 package thrift.model.transaction;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static thrift.testutil.Assert.assertThrows;
@@ -38,4 +39,12 @@ public class BudgetValueTest {
         assertTrue(BudgetValue.isValidValue("100.10")); // 2 decimal points
         assertTrue(BudgetValue.isValidValue("0")); // 0 is valid for budget
     }
+
+    @Test
+    public void isValidValue_sameAsValidationRegex() {
+        for (String test : new String[] {"", " ", "1a", ".10", "10.100", "0", "0.00", "0.01", "100", "100.", "100.1",
+            "999999999.99", "1000000000", "0010", "+1", "-1", "1,000"}) {
+            assertEquals(test.matches(BudgetValue.VALIDATION_REGEX), BudgetValue.isValidValue(test), test);
+        }
+    }
 }
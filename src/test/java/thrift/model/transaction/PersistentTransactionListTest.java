@@ -0,0 +1,109 @@
+package thrift.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static thrift.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import thrift.testutil.ExpenseBuilder;
+import thrift.testutil.TypicalTransactions;
+
+public class PersistentTransactionListTest {
+
+    @Test
+    public void of_persistentTransactionList_returnsSameList() {
+        PersistentTransactionList list = PersistentTransactionList.of(Arrays.asList(TypicalTransactions.LAKSA,
+                TypicalTransactions.BURSARY));
+        assertSame(list, PersistentTransactionList.of(list));
+        assertSame(PersistentTransactionList.empty(), PersistentTransactionList.of(Collections.emptyList()));
+    }
+
+    @Test
+    public void of_nullTransaction_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentTransactionList.of(
+                Arrays.asList(TypicalTransactions.LAKSA, null)));
+    }
+
+    @Test
+    public void modify_list_oldListUnchanged() {
+        PersistentTransactionList original = PersistentTransactionList.of(Arrays.asList(TypicalTransactions.LAKSA,
+                TypicalTransactions.BURSARY));
+        original.plus(1, TypicalTransactions.PENANG_LAKSA);
+        original.with(0, TypicalTransactions.PENANG_LAKSA);
+        original.minus(0);
+        original.minusRange(0, 2);
+        assertEquals(Arrays.asList(TypicalTransactions.LAKSA, TypicalTransactions.BURSARY), original);
+        assertThrows(UnsupportedOperationException.class, () -> original.add(TypicalTransactions.LAKSA));
+    }
+
+    @Test
+    public void modify_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentTransactionList list = PersistentTransactionList.of(Collections.singletonList(
+                TypicalTransactions.LAKSA));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(2, TypicalTransactions.BURSARY));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(1, TypicalTransactions.BURSARY));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minusRange(1, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.range(0, 2));
+    }
+
+    @Test
+    public void modify_randomChanges_sameAsArrayList() {
+        Random random = new Random(42);
+        List<Transaction> pool = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            pool.add(new ExpenseBuilder().withDescription("Item " + i).build());
+        }
+
+        List<List<Transaction>> expectedVersions = new ArrayList<>();
+        List<PersistentTransactionList> versions = new ArrayList<>();
+        List<Transaction> expected = new ArrayList<>(pool.subList(0, 5));
+        PersistentTransactionList list = PersistentTransactionList.of(expected);
+        for (int step = 0; step < 500; step++) {
+            Transaction transaction = pool.get(random.nextInt(pool.size()));
+            int choice = random.nextInt(5);
+            if (choice == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, transaction);
+                list = list.plus(index, transaction);
+            } else if (choice == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, transaction);
+                list = list.with(index, transaction);
+            } else if (choice == 2) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.minus(index);
+            } else if (choice == 3) {
+                int from = random.nextInt(expected.size() + 1);
+                int to = from + random.nextInt(expected.size() - from + 1);
+                assertEquals(expected.subList(from, to), list.range(from, to));
+                expected.subList(from, to).clear();
+                list = list.minusRange(from, to);
+            } else {
+                int index = random.nextInt(expected.size() + 1);
+                List<Transaction> added = pool.subList(0, random.nextInt(4));
+                expected.addAll(index, added);
+                list = list.plusAll(index, PersistentTransactionList.of(added));
+            }
+            assertEquals(expected.size(), list.size());
+            assertEquals(expected, list);
+            assertEquals(expected.indexOf(transaction), list.indexOf(transaction));
+            expectedVersions.add(new ArrayList<>(expected));
+            versions.add(list);
+        }
+
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expectedVersions.get(i), versions.get(i));
+        }
+    }
+
+}
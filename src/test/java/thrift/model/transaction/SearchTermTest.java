@@ -0,0 +1,67 @@
+package thrift.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static thrift.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class SearchTermTest {
+
+    @Test
+    public void constructor_invalidSearchTerm_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> new SearchTerm(null));
+        assertThrows(IllegalArgumentException.class, () -> new SearchTerm(""));
+        assertThrows(IllegalArgumentException.class, () -> new SearchTerm(" ~"));
+        assertThrows(IllegalArgumentException.class, () -> new SearchTerm("two words*"));
+    }
+
+    @Test
+    public void isValidSearchTerm() {
+        assertFalse(SearchTerm.isValidSearchTerm(" *")); // only a wildcard after spaces
+        assertTrue(SearchTerm.isValidSearchTerm("*")); // a lone wildcard is a plain word
+        assertTrue(SearchTerm.isValidSearchTerm("starb*"));
+        assertTrue(SearchTerm.isValidSearchTerm("starbuks~"));
+    }
+
+    @Test
+    public void getMatchQuality_plainWord_onlySameWord() {
+        SearchTerm searchTerm = new SearchTerm("Laksa");
+        assertEquals(0, searchTerm.getMatchQuality("laksa"));
+        assertEquals(SearchTerm.NO_MATCH, searchTerm.getMatchQuality("laksas"));
+
+        assertEquals(0, new SearchTerm("~").getMatchQuality("~"));
+    }
+
+    @Test
+    public void getMatchQuality_prefix_sameWordFirst() {
+        SearchTerm searchTerm = new SearchTerm("STARB*");
+        assertEquals(0, searchTerm.getMatchQuality("starb"));
+        assertEquals(1, searchTerm.getMatchQuality("starbucks"));
+        assertEquals(SearchTerm.NO_MATCH, searchTerm.getMatchQuality("star"));
+    }
+
+    @Test
+    public void getMatchQuality_typoTolerant_fewerTyposFirst() {
+        SearchTerm searchTerm = new SearchTerm("starbuks~");
+        assertEquals(0, searchTerm.getMatchQuality("starbuks"));
+        assertEquals(1, searchTerm.getMatchQuality("starbucks"));
+        assertEquals(2, searchTerm.getMatchQuality("starbux"));
+        assertEquals(SearchTerm.NO_MATCH, searchTerm.getMatchQuality("starbucks12"));
+
+        // short words allow fewer typos
+        assertEquals(1, new SearchTerm("laksa~").getMatchQuality("laksa1"));
+        assertEquals(SearchTerm.NO_MATCH, new SearchTerm("laksa~").getMatchQuality("laksa12"));
+        assertEquals(SearchTerm.NO_MATCH, new SearchTerm("ab~").getMatchQuality("abc"));
+    }
+
+    @Test
+    public void getEditDistance_boundedByMax() {
+        assertEquals(0, SearchTerm.getEditDistance("", "", 2));
+        assertEquals(3, SearchTerm.getEditDistance("kitten", "sitting", 5));
+        assertEquals(3, SearchTerm.getEditDistance("kitten", "sitting", 2));
+        assertEquals(2, SearchTerm.getEditDistance("abc", "abcdef", 1));
+    }
+
+}
@@ -0,0 +1,37 @@
+package thrift.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+import thrift.testutil.ExpenseBuilder;
+import thrift.testutil.TypicalTransactions;
+
+public class StableTransactionIdTest {
+
+    @Test
+    public void of_dateWrittenDifferently_sameId() {
+        Transaction unpadded = new ExpenseBuilder(TypicalTransactions.LAKSA).withDate("1/3/1937").build();
+        Transaction padded = new ExpenseBuilder(TypicalTransactions.LAKSA).withDate("01/03/1937").build();
+        assertEquals(StableTransactionId.of(unpadded), StableTransactionId.of(padded));
+
+        Transaction readBack = new ExpenseBuilder(TypicalTransactions.LAKSA)
+                .withDate(new TransactionDate(unpadded.getDate().getEpochDay()).toString()).build();
+        assertEquals(StableTransactionId.of(unpadded), StableTransactionId.of(readBack));
+    }
+
+    @Test
+    public void of_differentDate_differentId() {
+        Transaction laksa = new ExpenseBuilder(TypicalTransactions.LAKSA).withDate("01/03/1937").build();
+        Transaction laterLaksa = new ExpenseBuilder(TypicalTransactions.LAKSA).withDate("02/03/1937").build();
+        assertNotEquals(StableTransactionId.of(laksa), StableTransactionId.of(laterLaksa));
+    }
+
+    @Test
+    public void fromString_toString_sameId() {
+        StableTransactionId id = StableTransactionId.of(TypicalTransactions.LAKSA);
+        assertEquals(id, StableTransactionId.fromString(id.toString()));
+    }
+
+}
@@ -1,9 +1,12 @@
 package thrift.model.transaction;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static thrift.testutil.Assert.assertThrows;
 
+import java.time.YearMonth;
+
 import org.junit.jupiter.api.Test;
 
 public class TransactionDateTest {
@@ -35,4 +38,14 @@ public class TransactionDateTest {
         assertTrue(TransactionDate.isValidDate("10/01/2000")); //proper date
     }
 
+    @Test
+    public void constructor_epochDay_sameAsParsedDate() {
+        TransactionDate parsedDate = new TransactionDate("13/03/1937");
+        TransactionDate epochDayDate = new TransactionDate(parsedDate.getEpochDay());
+        assertEquals(parsedDate, epochDayDate);
+        assertEquals("13/03/1937", epochDayDate.toString());
+        assertEquals(YearMonth.of(1937, 3), epochDayDate.getYearMonth());
+        assertThrows(IllegalArgumentException.class, () -> new TransactionDate(Long.MAX_VALUE));
+    }
+
 }
@@ -2,18 +2,34 @@ package thrift.model.transaction;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static thrift.testutil.Assert.assertThrows;
 
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.transformation.FilteredList;
+
 import thrift.commons.core.index.Index;
 import thrift.logic.commands.CommandTestUtil;
+import thrift.model.tag.Tag;
 import thrift.model.transaction.exceptions.TransactionNotFoundException;
+import thrift.model.util.CurrencyUtil;
 import thrift.testutil.ExpenseBuilder;
+import thrift.testutil.IncomeBuilder;
 import thrift.testutil.TypicalTransactions;
 
 public class TransactionListTest {
@@ -127,6 +143,19 @@ public class TransactionListTest {
         assertEquals(expectedTransactionList, transactionList);
     }
 
+    @Test
+    public void remove_equalCopyOfTransaction_removesTransaction() {
+        transactionList.add(TypicalTransactions.PENANG_LAKSA);
+        transactionList.add(TypicalTransactions.LAKSA);
+        Transaction laksaCopy = new ExpenseBuilder(TypicalTransactions.LAKSA).build();
+        assertEquals(TypicalTransactions.LAKSA, laksaCopy);
+
+        transactionList.remove(laksaCopy);
+        TransactionList expectedTransactionList = new TransactionList();
+        expectedTransactionList.add(TypicalTransactions.PENANG_LAKSA);
+        assertEquals(expectedTransactionList, transactionList);
+    }
+
     @Test
     public void setTransactions_nullTransactionList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> transactionList.setTransactions((TransactionList) null));
@@ -161,4 +190,372 @@ public class TransactionListTest {
         assertThrows(UnsupportedOperationException.class, ()
             -> transactionList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void addAll_severalTransactions_singleChange() {
+        transactionList.add(TypicalTransactions.BURSARY);
+        List<Integer> changeCounts = countChanges();
+        transactionList.addAll(Arrays.asList(TypicalTransactions.LAKSA, TypicalTransactions.PENANG_LAKSA));
+        assertEquals(Collections.singletonList(1), changeCounts);
+        assertEquals(Arrays.asList(TypicalTransactions.BURSARY, TypicalTransactions.LAKSA,
+                TypicalTransactions.PENANG_LAKSA), transactionList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(Index.fromZeroBased(2)), transactionList.getIndex(TypicalTransactions.PENANG_LAKSA));
+    }
+
+    @Test
+    public void removeAll_lastTransactions_singleChange() {
+        transactionList.setTransactions(Arrays.asList(TypicalTransactions.BURSARY, TypicalTransactions.LAKSA,
+                TypicalTransactions.PENANG_LAKSA));
+        List<Integer> changeCounts = countChanges();
+        assertEquals(Arrays.asList(TypicalTransactions.LAKSA, TypicalTransactions.PENANG_LAKSA),
+                transactionList.removeAll(Arrays.asList(Index.fromZeroBased(2), Index.fromZeroBased(1))));
+        assertEquals(Collections.singletonList(1), changeCounts);
+        assertEquals(Collections.singletonList(TypicalTransactions.BURSARY),
+                transactionList.asUnmodifiableObservableList());
+        assertFalse(transactionList.contains(TypicalTransactions.LAKSA));
+        assertEquals(0, transactionList.getExpenseCentsForMonth(YearMonth.of(1937, 3)));
+    }
+
+    @Test
+    public void removeAll_scatteredTransactions_singleChange() {
+        transactionList.setTransactions(Arrays.asList(TypicalTransactions.BURSARY, TypicalTransactions.LAKSA,
+                TypicalTransactions.PENANG_LAKSA));
+        List<Integer> changeCounts = countChanges();
+        assertEquals(Arrays.asList(TypicalTransactions.BURSARY, TypicalTransactions.PENANG_LAKSA),
+                transactionList.removeAll(Arrays.asList(Index.fromZeroBased(2), Index.fromZeroBased(0))));
+        // a single change removing each of the two transactions
+        assertEquals(Collections.singletonList(2), changeCounts);
+        assertEquals(Collections.singletonList(TypicalTransactions.LAKSA),
+                transactionList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(Index.fromZeroBased(0)), transactionList.getIndex(TypicalTransactions.LAKSA));
+        assertEquals(Collections.singletonList(TypicalTransactions.LAKSA),
+                transactionList.getTransactionsWithTags(Set.of(new Tag("Lunch")), true));
+    }
+
+    @Test
+    public void removeAll_invalidIndex_throwsIndexOutOfBoundsException() {
+        transactionList.add(TypicalTransactions.LAKSA);
+        assertThrows(IndexOutOfBoundsException.class, () -> transactionList.removeAll(
+                Arrays.asList(Index.fromZeroBased(0), Index.fromZeroBased(1))));
+        assertTrue(transactionList.contains(TypicalTransactions.LAKSA));
+    }
+
+    @Test
+    public void replaceAll_severalTransactions_singleChange() {
+        transactionList.setTransactions(Arrays.asList(TypicalTransactions.BURSARY, TypicalTransactions.LAKSA,
+                TypicalTransactions.PENANG_LAKSA));
+        Expense coffee = new ExpenseBuilder().withDescription("Coffee").withValue("1").withDate("01/10/2010")
+                .build();
+        List<Integer> changeCounts = countChanges();
+        transactionList.replaceAll(Map.of(Index.fromZeroBased(0), coffee,
+                Index.fromZeroBased(2), TypicalTransactions.LAKSA));
+        // a single change replacing each of the two transactions
+        assertEquals(Collections.singletonList(2), changeCounts);
+        assertEquals(Arrays.asList(coffee, TypicalTransactions.LAKSA, TypicalTransactions.LAKSA),
+                transactionList.asUnmodifiableObservableList());
+        assertEquals(100, transactionList.getExpenseCentsForMonth(YearMonth.of(2010, 10)));
+        assertEquals(0, transactionList.getIncomeCentsForMonth(YearMonth.of(2011, 11)));
+        assertThrows(IndexOutOfBoundsException.class, () -> transactionList.replaceAll(
+                Map.of(Index.fromZeroBased(0), coffee, Index.fromZeroBased(3), coffee)));
+    }
+
+    @Test
+    public void snapshot_listChanges_snapshotUnchanged() {
+        transactionList.setTransactions(Arrays.asList(TypicalTransactions.BURSARY, TypicalTransactions.LAKSA));
+        List<Transaction> snapshot = transactionList.snapshot();
+        assertSame(snapshot, transactionList.snapshot());
+
+        transactionList.add(TypicalTransactions.PENANG_LAKSA);
+        transactionList.setTransactionWithIndex(Index.fromZeroBased(0), TypicalTransactions.LAKSA);
+        transactionList.removeAll(Collections.singletonList(Index.fromZeroBased(1)));
+        assertEquals(Arrays.asList(TypicalTransactions.BURSARY, TypicalTransactions.LAKSA), snapshot);
+        assertEquals(Arrays.asList(TypicalTransactions.LAKSA, TypicalTransactions.PENANG_LAKSA),
+                transactionList.snapshot());
+
+        TransactionList copy = new TransactionList();
+        copy.setTransactions(transactionList);
+        assertSame(transactionList.snapshot(), copy.snapshot());
+        assertEquals(Optional.of(Index.fromZeroBased(1)), copy.getIndex(TypicalTransactions.PENANG_LAKSA));
+    }
+
+    /**
+     * Returns a list holding the number of changes of each notification of the list from now on.
+     */
+    private List<Integer> countChanges() {
+        List<Integer> changeCounts = new ArrayList<>();
+        transactionList.asUnmodifiableObservableList().addListener((ListChangeListener<Transaction>) change -> {
+            int count = 0;
+            while (change.next()) {
+                count++;
+            }
+            changeCounts.add(count);
+        });
+        return changeCounts;
+    }
+
+    @Test
+    public void getTotalsForMonth_listChanges_totalsFollowList() {
+        YearMonth october = YearMonth.of(2010, 10);
+        Expense coffee = new ExpenseBuilder().withDescription("Coffee").withValue("0.10").withDate("01/10/2010")
+                .build();
+        Income salary = new IncomeBuilder().withDescription("Salary").withValue("0.20").withDate("31/10/2010")
+                .build();
+        assertEquals(0, transactionList.getExpenseCentsForMonth(october));
+
+        transactionList.setTransactions(Arrays.asList(TypicalTransactions.LAKSA, TypicalTransactions.PENANG_LAKSA,
+                coffee, salary));
+        assertEquals(510, transactionList.getExpenseCentsForMonth(october));
+        assertEquals(20, transactionList.getIncomeCentsForMonth(october));
+        assertEquals(350, transactionList.getExpenseCentsForMonth(YearMonth.of(1937, 3)));
+
+        transactionList.setTransaction(coffee, TypicalTransactions.BURSARY);
+        assertEquals(500, transactionList.getExpenseCentsForMonth(october));
+        assertEquals(50000, transactionList.getIncomeCentsForMonth(YearMonth.of(2011, 11)));
+
+        transactionList.remove(TypicalTransactions.PENANG_LAKSA);
+        transactionList.removeByIndex(Index.fromZeroBased(2));
+        assertEquals(0, transactionList.getExpenseCentsForMonth(october));
+        assertEquals(0, transactionList.getIncomeCentsForMonth(october));
+    }
+
+    @Test
+    public void getExpenseCentsForMonth_foreignCurrency_eachValueRoundedOnItsOwn() {
+        YearMonth october = YearMonth.of(2010, 10);
+        Value oneCent = new Value("0.01", "USD");
+        Expense sweet = new Expense(new Description("Sweet"), oneCent, new Remark(""),
+                new TransactionDate("01/10/2010"), Collections.emptySet());
+        Expense gum = new Expense(new Description("Gum"), oneCent, new Remark(""),
+                new TransactionDate("02/10/2010"), Collections.emptySet());
+        transactionList.setTransactions(Arrays.asList(sweet, gum));
+
+        // Rounding the sum of the two cents would give a different total
+        long listedCents = sweet.getValue().getMonetaryCents() + gum.getValue().getMonetaryCents();
+        assertFalse(listedCents == CurrencyUtil.convertCentsFromDefaultCurrency(CurrencyUtil.getCurrencyMap(), 2,
+                "USD"));
+        assertEquals(listedCents, transactionList.getExpenseCentsForMonth(october));
+        assertEquals(listedCents, transactionList.getExpenseCentsBetween(october, october));
+
+        transactionList.remove(gum);
+        assertEquals(sweet.getValue().getMonetaryCents(), transactionList.getExpenseCentsForMonth(october));
+        transactionList.remove(sweet);
+        assertEquals(0, transactionList.getExpenseCentsForMonth(october));
+    }
+
+    @Test
+    public void getExpenseCentsBetween_severalMonths_sumOfMonths() {
+        transactionList.add(TypicalTransactions.LAKSA);
+        transactionList.add(new ExpenseBuilder().withDate("01/01/1937").withValue("1").build());
+        transactionList.add(new ExpenseBuilder().withDate("31/12/1936").withValue("10").build());
+        transactionList.add(TypicalTransactions.PENANG_LAKSA);
+        transactionList.add(TypicalTransactions.BURSARY);
+
+        YearMonth startOf1937 = YearMonth.of(1937, 1);
+        assertEquals(450, transactionList.getExpenseCentsBetween(startOf1937, YearMonth.of(1937, 3)));
+        assertEquals(100, transactionList.getExpenseCentsBetween(startOf1937, YearMonth.of(1937, 2)));
+        assertEquals(1950, transactionList.getExpenseCentsBetween(YearMonth.of(1, 1), YearMonth.of(9999, 12)));
+        assertEquals(50000, transactionList.getIncomeCentsBetween(YearMonth.of(2011, 1), YearMonth.of(2011, 12)));
+        assertEquals(0, transactionList.getIncomeCentsBetween(YearMonth.of(2011, 12), YearMonth.of(2011, 1)));
+    }
+
+    @Test
+    public void getTransactionsBetween_listChanges_orderedByDate() {
+        transactionList.setTransactions(Arrays.asList(TypicalTransactions.BURSARY, TypicalTransactions.LAKSA,
+                TypicalTransactions.PENANG_LAKSA));
+        TransactionDate startDate = new TransactionDate("13/03/1937");
+        TransactionDate endDate = new TransactionDate("13/11/2011");
+        assertEquals(Arrays.asList(TypicalTransactions.LAKSA, TypicalTransactions.PENANG_LAKSA,
+                TypicalTransactions.BURSARY), transactionList.getTransactionsBetween(startDate, endDate));
+        assertEquals(Collections.singletonList(TypicalTransactions.PENANG_LAKSA),
+                transactionList.getTransactionsBetween(new TransactionDate("14/03/1937"),
+                        new TransactionDate("12/11/2011")));
+        assertEquals(Collections.emptyList(), transactionList.getTransactionsBetween(endDate, startDate));
+
+        transactionList.remove(TypicalTransactions.PENANG_LAKSA);
+        transactionList.setTransaction(TypicalTransactions.LAKSA, TypicalTransactions.PENANG_LAKSA);
+        assertEquals(Arrays.asList(TypicalTransactions.PENANG_LAKSA, TypicalTransactions.BURSARY),
+                transactionList.getTransactionsBetween(startDate, endDate));
+    }
+
+    @Test
+    public void getTransactionsWithTags_tagAndUntag_followsList() {
+        Set<Tag> lunch = Set.of(new Tag("Lunch"));
+        Set<Tag> lunchAndCheap = Set.of(new Tag("Lunch"), new Tag("Cheap"));
+        Expense cheapLaksa = new ExpenseBuilder(TypicalTransactions.LAKSA).withTags("Lunch", "Cheap").build();
+        transactionList.setTransactions(Arrays.asList(TypicalTransactions.LAKSA, TypicalTransactions.PENANG_LAKSA,
+                TypicalTransactions.BURSARY));
+        assertEquals(Collections.singletonList(TypicalTransactions.LAKSA),
+                transactionList.getTransactionsWithTags(lunch, true));
+        assertEquals(Collections.emptyList(), transactionList.getTransactionsWithTags(lunchAndCheap, true));
+        assertEquals(Collections.emptyList(), transactionList.getTransactionsWithTags(Collections.emptySet(), false));
+
+        // tag, as TagCommand does
+        transactionList.setTransactionWithIndex(Index.fromZeroBased(0), cheapLaksa);
+        transactionList.add(cheapLaksa, Index.fromZeroBased(0));
+        transactionList.add(TypicalTransactions.LAKSA);
+        assertEquals(Arrays.asList(cheapLaksa, cheapLaksa, TypicalTransactions.LAKSA),
+                transactionList.getTransactionsWithTags(lunchAndCheap, false));
+        assertEquals(Arrays.asList(cheapLaksa, cheapLaksa),
+                transactionList.getTransactionsWithTags(lunchAndCheap, true));
+
+        // untag, as UntagCommand does
+        transactionList.setTransactionWithIndex(Index.fromZeroBased(1), TypicalTransactions.LAKSA);
+        transactionList.removeByIndex(Index.fromZeroBased(0));
+        assertEquals(Collections.emptyList(), transactionList.getTransactionsWithTags(lunchAndCheap, true));
+        assertEquals(Arrays.asList(TypicalTransactions.LAKSA, TypicalTransactions.LAKSA),
+                transactionList.getTransactionsWithTags(lunch, true));
+    }
+
+    @Test
+    public void getExpenseCentsForTagAndMonth_listChanges_updatedTotals() {
+        Tag lunch = new Tag("Lunch");
+        YearMonth march = YearMonth.of(1937, 3);
+        Expense otherLaksa = new ExpenseBuilder(TypicalTransactions.LAKSA).withValue("1.25").build();
+        transactionList.add(TypicalTransactions.LAKSA);
+        transactionList.add(otherLaksa);
+        transactionList.add(TypicalTransactions.PENANG_LAKSA);
+        assertEquals(475, transactionList.getExpenseCentsForTagAndMonth(lunch, march));
+        assertEquals(0, transactionList.getIncomeCentsForTagAndMonth(lunch, march));
+        assertEquals(0, transactionList.getExpenseCentsForTagAndMonth(lunch, YearMonth.of(1937, 4)));
+
+        transactionList.remove(TypicalTransactions.LAKSA);
+        assertEquals(125, transactionList.getExpenseCentsForTagAndMonth(lunch, march));
+        transactionList.setTransactions(Collections.emptyList());
+        assertEquals(0, transactionList.getExpenseCentsForTagAndMonth(lunch, march));
+    }
+
+    @Test
+    public void getTransactionsWithTags_randomChanges_sameAsPredicate() {
+        Random random = new Random(42);
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            transactions.add(new ExpenseBuilder().withDescription("Coffee " + i)
+                    .withTags(i % 2 == 0 ? "Even" : "Odd", i % 3 == 0 ? "Third" : "Other").build());
+        }
+        Set<Tag> tags = Set.of(new Tag("Odd"), new Tag("Third"));
+
+        for (int step = 0; step < 300; step++) {
+            List<Transaction> list = transactionList.asUnmodifiableObservableList();
+            int operation = random.nextInt(3);
+            if (operation == 0 || list.isEmpty()) {
+                transactionList.add(transactions.get(random.nextInt(transactions.size())),
+                        Index.fromZeroBased(random.nextInt(list.size() + 1)));
+            } else if (operation == 1) {
+                transactionList.removeByIndex(Index.fromZeroBased(random.nextInt(list.size())));
+            } else {
+                transactionList.setTransactionWithIndex(Index.fromZeroBased(random.nextInt(list.size())),
+                        transactions.get(random.nextInt(transactions.size())));
+            }
+
+            for (boolean isMatchingAll : new boolean[] {true, false}) {
+                List<Transaction> expected = list.stream()
+                        .filter(new TransactionHasTagsPredicate(tags, isMatchingAll)).collect(Collectors.toList());
+                List<Transaction> actual = transactionList.getTransactionsWithTags(tags, isMatchingAll);
+                assertEquals(expected.size(), actual.size());
+                assertEquals(Set.copyOf(expected), Set.copyOf(actual));
+            }
+        }
+    }
+
+    @Test
+    public void getIndexedPredicate_listChanges_sameAsPredicate() {
+        DescriptionOrRemarkContainsKeywordsPredicate predicate =
+                new DescriptionOrRemarkContainsKeywordsPredicate(Arrays.asList("laksa", "FRIEND"));
+        Expense otherLaksa = new ExpenseBuilder().withDescription("Curry  Laksa").withRemark("with a friend").build();
+        Expense otherExpense = new ExpenseBuilder().withDescription("Laksas").withRemark("friends").build();
+        List<Transaction> transactions = Arrays.asList(TypicalTransactions.LAKSA, TypicalTransactions.PENANG_LAKSA,
+                TypicalTransactions.BURSARY, otherLaksa, otherExpense);
+        FilteredList<Transaction> filteredList = new FilteredList<>(transactionList.asUnmodifiableObservableList(),
+                transactionList.getIndexedPredicate(predicate));
+
+        transactionList.setTransactions(transactions);
+        assertEquals(transactions.stream().filter(predicate).collect(Collectors.toList()), filteredList);
+        transactionList.setTransactionWithIndex(Index.fromZeroBased(3), otherExpense);
+        transactionList.add(otherLaksa, Index.fromZeroBased(0));
+        transactionList.remove(TypicalTransactions.LAKSA);
+        assertEquals(Collections.singletonList(otherLaksa), filteredList);
+
+        // transactions outside the list are tested by the predicate itself
+        assertTrue(transactionList.getIndexedPredicate(predicate).test(TypicalTransactions.LAKSA));
+        assertFalse(transactionList.getIndexedPredicate(predicate).test(TypicalTransactions.BURSARY));
+    }
+
+    @Test
+    public void getIndexedMatchQuality_randomChanges_sameAsPredicate() {
+        Random random = new Random(42);
+        String[] words = {"star", "starbucks", "Starbuck", "stabrucks", "STARS", "bucks", "chicken", "chiken", "rice",
+            "\uffff", "\uffff\uffff", "st\uffffr"};
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            transactions.add(new ExpenseBuilder().withDescription(words[i % words.length] + " " + i)
+                    .withRemark(words[(i * 7) % words.length]).build());
+        }
+        List<DescriptionOrRemarkMatchesSearchTermsPredicate> predicates = Arrays.asList(
+                new DescriptionOrRemarkMatchesSearchTermsPredicate(Arrays.asList(new SearchTerm("starbuks~"))),
+                new DescriptionOrRemarkMatchesSearchTermsPredicate(Arrays.asList(new SearchTerm("star*"),
+                        new SearchTerm("chicken~"))),
+                new DescriptionOrRemarkMatchesSearchTermsPredicate(Arrays.asList(new SearchTerm("st\uffff*"),
+                        new SearchTerm("rice"), new SearchTerm("s\uffff\uffff~"))));
+
+        for (int step = 0; step < 200; step++) {
+            List<Transaction> list = transactionList.asUnmodifiableObservableList();
+            if (random.nextBoolean() || list.isEmpty()) {
+                transactionList.add(transactions.get(random.nextInt(transactions.size())));
+            } else {
+                transactionList.removeByIndex(Index.fromZeroBased(random.nextInt(list.size())));
+            }
+
+            for (DescriptionOrRemarkMatchesSearchTermsPredicate predicate : predicates) {
+                ToIntFunction<Transaction> matchQuality = transactionList.getIndexedMatchQuality(predicate);
+                for (Transaction transaction : transactions) {
+                    assertEquals(predicate.getMatchQuality(transaction), matchQuality.applyAsInt(transaction));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void contains_sameDescriptionAndValue_followsList() {
+        Expense laksaOnOtherDay = new ExpenseBuilder(TypicalTransactions.LAKSA).withDate("01/01/2000").build();
+        transactionList.add(TypicalTransactions.LAKSA);
+        transactionList.add(laksaOnOtherDay);
+        assertTrue(transactionList.contains(new ExpenseBuilder(TypicalTransactions.LAKSA).withRemark("x").build()));
+
+        transactionList.remove(TypicalTransactions.LAKSA);
+        assertTrue(transactionList.contains(TypicalTransactions.LAKSA));
+        transactionList.remove(laksaOnOtherDay);
+        assertFalse(transactionList.contains(TypicalTransactions.LAKSA));
+    }
+
+    @Test
+    public void getIndex_randomChanges_sameAsLinearSearch() {
+        Random random = new Random(42);
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            transactions.add(new ExpenseBuilder().withDescription("Coffee " + i).build());
+        }
+        transactionList.setTransactions(transactions.subList(0, 50));
+
+        for (int step = 0; step < 500; step++) {
+            List<Transaction> list = transactionList.asUnmodifiableObservableList();
+            int operation = random.nextInt(4);
+            if (operation == 0 || list.isEmpty()) {
+                transactionList.add(transactions.get(random.nextInt(transactions.size())),
+                        Index.fromZeroBased(random.nextInt(list.size() + 1)));
+            } else if (operation == 1) {
+                transactionList.removeByIndex(Index.fromZeroBased(random.nextInt(list.size())));
+            } else if (operation == 2) {
+                transactionList.setTransactionWithIndex(Index.fromZeroBased(random.nextInt(list.size())),
+                        transactions.get(random.nextInt(transactions.size())));
+            } else if (step % 50 == 3) {
+                transactionList.setTransactions(transactions.subList(step % 7, step % 7 + 20));
+            }
+
+            Transaction transaction = transactions.get(random.nextInt(transactions.size()));
+            int expectedPosition = -1;
+            for (int i = 0; i < list.size() && expectedPosition == -1; i++) {
+                expectedPosition = list.get(i) == transaction ? i : -1;
+            }
+            assertEquals(expectedPosition, transactionList.getIndex(transaction).map(Index::getZeroBased).orElse(-1));
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package thrift.model.transaction;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static thrift.testutil.Assert.assertThrows;
@@ -51,4 +52,18 @@ public class ValueTest {
         assertTrue(Value.isValidValue("100.1")); // 1 decimal point
         assertTrue(Value.isValidValue("100.10")); // 2 decimal points
     }
+
+    @Test
+    public void isValidValue_sameAsValidationRegex() {
+        for (String test : new String[] {"", " ", "1a", ".10", "10.100", "0", "0.00", "0.01", "100", "100.", "100.1",
+            "999999999.99", "1000000000", "0010", "+1", "-1", "1,000"}) {
+            assertEquals(test.matches(Value.VALIDATION_REGEX), Value.isValidValue(test), test);
+        }
+    }
+
+    @Test
+    public void amount_derivedFromCents() {
+        assertEquals(100.1, new Value("100.10").amount);
+        assertEquals(12.34, new Value(1234, "USD").amount);
+    }
 }
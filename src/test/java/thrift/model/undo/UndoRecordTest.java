@@ -0,0 +1,121 @@
+package thrift.model.undo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static thrift.testutil.Assert.assertThrows;
+import static thrift.testutil.TypicalTransactions.BURSARY;
+import static thrift.testutil.TypicalTransactions.LAKSA;
+import static thrift.testutil.TypicalTransactions.OCT_2019_MONTH;
+import static thrift.testutil.TypicalTransactions.OCT_BUDGET;
+import static thrift.testutil.TypicalTransactions.PENANG_LAKSA;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import thrift.commons.core.index.Index;
+import thrift.model.Model;
+import thrift.model.ModelManager;
+import thrift.model.PastUndoableCommands;
+import thrift.model.UserPrefs;
+import thrift.model.transaction.Budget;
+import thrift.model.transaction.BudgetValue;
+import thrift.model.transaction.Expense;
+import thrift.model.transaction.Transaction;
+import thrift.model.transaction.exceptions.TransactionNotFoundException;
+import thrift.testutil.ExpenseBuilder;
+import thrift.testutil.IncomeBuilder;
+import thrift.testutil.TypicalTransactions;
+
+public class UndoRecordTest {
+
+    private final Model model = new ModelManager(TypicalTransactions.getTypicalThrift(), new UserPrefs(),
+            new PastUndoableCommands());
+
+    @Test
+    public void constructor_noEdits_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new UndoRecord(new ArrayList<Edit>(), "undo", "redo"));
+    }
+
+    @Test
+    public void undoAndRedo_addedTransactions_removedAndAddedBack() {
+        Transaction first = new ExpenseBuilder().withDescription("First clone").build();
+        Transaction second = new ExpenseBuilder().withDescription("Second clone").build();
+        UndoRecord record = new UndoRecord(List.of(TransactionEdit.addLast(first), TransactionEdit.addLast(second)),
+                "undone", "redone");
+
+        assertEquals("redone", record.redo(model));
+        assertEquals(List.of(LAKSA, BURSARY, PENANG_LAKSA, first, second), model.getThrift().getTransactionList());
+        assertEquals("undone", record.undo(model));
+        assertEquals(List.of(LAKSA, BURSARY, PENANG_LAKSA), model.getThrift().getTransactionList());
+        assertEquals(2, record.getEditCount());
+    }
+
+    @Test
+    public void undoAndRedo_removedAndReplacedTransactions_restoredInPlace() {
+        UndoRecord record = new UndoRecord(List.of(TransactionEdit.remove(Index.fromZeroBased(1), BURSARY, LAKSA),
+                TransactionEdit.replace(Index.fromZeroBased(0), LAKSA, PENANG_LAKSA)), "undone", "redone");
+
+        record.redo(model);
+        assertEquals(List.of(PENANG_LAKSA, PENANG_LAKSA), model.getThrift().getTransactionList());
+        record.undo(model);
+        assertEquals(List.of(LAKSA, BURSARY, PENANG_LAKSA), model.getThrift().getTransactionList());
+    }
+
+    @Test
+    public void undoAndRedo_budgetEdits_budgetRestored() {
+        Budget newBudget = new Budget(OCT_2019_MONTH, new BudgetValue("2000"));
+        UndoRecord record = new UndoRecord(new BudgetEdit(OCT_BUDGET, newBudget), "undone", "redone");
+
+        record.redo(model);
+        assertEquals(newBudget, model.getThrift().getBudgetList().getBudgetForMonthYear(OCT_2019_MONTH).get());
+        record.undo(model);
+        assertEquals(OCT_BUDGET, model.getThrift().getBudgetList().getBudgetForMonthYear(OCT_2019_MONTH).get());
+
+        new UndoRecord(new BudgetEdit(null, OCT_BUDGET), "undone", "redone").undo(model);
+        assertFalse(model.getThrift().getBudgetList().getBudgetForMonthYear(OCT_2019_MONTH).isPresent());
+    }
+
+    @Test
+    public void undoAndRedo_transactionsMovedSinceRecorded_foundByStableId() {
+        Transaction laksaCopy = new ExpenseBuilder(LAKSA).build();
+        Transaction bursaryCopy = new IncomeBuilder(BURSARY).build();
+        UndoRecord record = new UndoRecord(TransactionEdit.remove(Index.fromZeroBased(1), bursaryCopy, laksaCopy),
+                "undone", "redone");
+        Transaction newFirst = new ExpenseBuilder().withDescription("Added elsewhere").build();
+        model.addExpense((Expense) newFirst, Index.fromZeroBased(0));
+
+        record.redo(model);
+        assertEquals(List.of(newFirst, LAKSA, PENANG_LAKSA), model.getThrift().getTransactionList());
+        record.undo(model);
+        assertEquals(List.of(newFirst, LAKSA, bursaryCopy, PENANG_LAKSA), model.getThrift().getTransactionList());
+    }
+
+    @Test
+    public void undoAndRedo_transactionsGone_throwsTransactionNotFoundException() {
+        Transaction gone = new ExpenseBuilder().withDescription("Gone").build();
+        UndoRecord replaceGone = new UndoRecord(TransactionEdit.replace(Index.fromZeroBased(0), gone, LAKSA),
+                "undone", "redone");
+        assertThrows(TransactionNotFoundException.class, () -> replaceGone.redo(model));
+
+        UndoRecord insertAfterGone = new UndoRecord(TransactionEdit.remove(Index.fromZeroBased(1), BURSARY, gone),
+                "undone", "redone");
+        assertThrows(TransactionNotFoundException.class, () -> insertAfterGone.undo(model));
+
+        UndoRecord addGoneAndLaksa = new UndoRecord(List.of(TransactionEdit.addLast(gone),
+                TransactionEdit.addLast(PENANG_LAKSA)), "undone", "redone");
+        assertThrows(TransactionNotFoundException.class, () -> addGoneAndLaksa.undo(model));
+        assertEquals(List.of(LAKSA, BURSARY, PENANG_LAKSA), model.getThrift().getTransactionList());
+    }
+
+    @Test
+    public void equals() {
+        UndoRecord record = new UndoRecord(TransactionEdit.addLast(LAKSA), "undone", "redone");
+        assertEquals(record, new UndoRecord(List.of(TransactionEdit.addLast(LAKSA)), "undone", "redone"));
+        assertFalse(record.equals(new UndoRecord(TransactionEdit.addLast(BURSARY), "undone", "redone")));
+        assertFalse(record.equals(new UndoRecord(TransactionEdit.addLast(LAKSA), "undone", "other")));
+        assertFalse(record.equals(null));
+    }
+
+}
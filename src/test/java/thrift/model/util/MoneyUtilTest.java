@@ -0,0 +1,60 @@
+package thrift.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static thrift.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class MoneyUtilTest {
+
+    @Test
+    public void parseCents_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> MoneyUtil.parseCents(null));
+    }
+
+    @Test
+    public void parseCents_invalidAmounts_invalidCents() {
+        assertEquals(MoneyUtil.INVALID_CENTS, MoneyUtil.parseCents("")); // empty string
+        assertEquals(MoneyUtil.INVALID_CENTS, MoneyUtil.parseCents(" 1")); // leading space
+        assertEquals(MoneyUtil.INVALID_CENTS, MoneyUtil.parseCents("1a")); // non-numeric characters
+        assertEquals(MoneyUtil.INVALID_CENTS, MoneyUtil.parseCents(".10")); // no whole number
+        assertEquals(MoneyUtil.INVALID_CENTS, MoneyUtil.parseCents("1.1.")); // two decimal points
+        assertEquals(MoneyUtil.INVALID_CENTS, MoneyUtil.parseCents("10.100")); // more than 2 decimal digits
+        assertEquals(MoneyUtil.INVALID_CENTS, MoneyUtil.parseCents("-1")); // negative
+        assertEquals(MoneyUtil.INVALID_CENTS, MoneyUtil.parseCents("1000000000")); // more than 9 whole digits
+        assertEquals(MoneyUtil.INVALID_CENTS, MoneyUtil.parseCents("\u0661")); // non-ASCII digit
+    }
+
+    @Test
+    public void parseCents_validAmounts_exactCents() {
+        assertEquals(0, MoneyUtil.parseCents("0"));
+        assertEquals(10000, MoneyUtil.parseCents("100"));
+        assertEquals(10000, MoneyUtil.parseCents("100."));
+        assertEquals(10010, MoneyUtil.parseCents("100.1"));
+        assertEquals(10001, MoneyUtil.parseCents("100.01"));
+        assertEquals(99999999999L, MoneyUtil.parseCents("999999999.99"));
+    }
+
+    @Test
+    public void toString_cents_twoDecimalDigits() {
+        assertEquals("0.00", MoneyUtil.toPlainString(0));
+        assertEquals("0.05", MoneyUtil.toPlainString(5));
+        assertEquals("-1.50", MoneyUtil.toPlainString(-150));
+        assertEquals("1234567.89", MoneyUtil.toPlainString(123456789));
+
+        assertEquals("0.05", MoneyUtil.toGroupedString(5));
+        assertEquals("999.99", MoneyUtil.toGroupedString(99999));
+        assertEquals("1,000.00", MoneyUtil.toGroupedString(100000));
+        assertEquals("-1,234,567.89", MoneyUtil.toGroupedString(-123456789));
+    }
+
+    @Test
+    public void toUnits_manySmallAmounts_exactSum() {
+        long cents = 0;
+        for (int i = 0; i < 1000; i++) {
+            cents += MoneyUtil.parseCents("0.10");
+        }
+        assertEquals(100.0, MoneyUtil.toUnits(cents));
+    }
+
+}
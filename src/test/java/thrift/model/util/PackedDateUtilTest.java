@@ -0,0 +1,76 @@
+package thrift.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static thrift.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.Test;
+
+public class PackedDateUtilTest {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/uuuu");
+
+    @Test
+    public void parseEpochDay_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PackedDateUtil.parseEpochDay(null));
+    }
+
+    @Test
+    public void parseEpochDay_invalidDates_invalidEpochDay() {
+        assertEquals(PackedDateUtil.INVALID_EPOCH_DAY, PackedDateUtil.parseEpochDay("")); // empty string
+        assertEquals(PackedDateUtil.INVALID_EPOCH_DAY, PackedDateUtil.parseEpochDay("10-10-2010")); // wrong separator
+        assertEquals(PackedDateUtil.INVALID_EPOCH_DAY, PackedDateUtil.parseEpochDay("10/10/10")); // short year
+        assertEquals(PackedDateUtil.INVALID_EPOCH_DAY, PackedDateUtil.parseEpochDay("10/10/2010 ")); // trailing space
+        assertEquals(PackedDateUtil.INVALID_EPOCH_DAY, PackedDateUtil.parseEpochDay("a1/10/2010")); // not a digit
+        assertEquals(PackedDateUtil.INVALID_EPOCH_DAY, PackedDateUtil.parseEpochDay("29/02/2019")); // not a leap year
+        assertEquals(PackedDateUtil.INVALID_EPOCH_DAY, PackedDateUtil.parseEpochDay("29/02/1900")); // not a leap year
+        assertEquals(PackedDateUtil.INVALID_EPOCH_DAY, PackedDateUtil.parseEpochDay("31/04/2019")); // invalid day
+        assertEquals(PackedDateUtil.INVALID_EPOCH_DAY, PackedDateUtil.parseEpochDay("00/04/2019")); // invalid day
+        assertEquals(PackedDateUtil.INVALID_EPOCH_DAY, PackedDateUtil.parseEpochDay("01/00/2019")); // invalid month
+        assertEquals(PackedDateUtil.INVALID_EPOCH_DAY, PackedDateUtil.parseEpochDay("01/01/0000")); // invalid year
+    }
+
+    @Test
+    public void parseEpochDay_validDates_sameAsLocalDate() {
+        assertEquals(LocalDate.of(2000, 2, 29).toEpochDay(), PackedDateUtil.parseEpochDay("29/02/2000"));
+        assertEquals(LocalDate.of(2010, 1, 5).toEpochDay(), PackedDateUtil.parseEpochDay("5/1/2010"));
+        assertEquals(LocalDate.of(1, 1, 1).toEpochDay(), PackedDateUtil.parseEpochDay("01/01/0001"));
+        assertEquals(LocalDate.of(9999, 12, 31).toEpochDay(), PackedDateUtil.parseEpochDay("31/12/9999"));
+    }
+
+    @Test
+    public void conversions_everyDayOfManyYears_sameAsLocalDate() {
+        LocalDate end = LocalDate.of(2101, 1, 1);
+        for (LocalDate date = LocalDate.of(1899, 1, 1); date.isBefore(end); date = date.plusDays(1)) {
+            long epochDay = date.toEpochDay();
+            int packedYearMonth = PackedDateUtil.toPackedYearMonth(epochDay);
+            assertEquals(YearMonth.from(date), PackedDateUtil.toYearMonth(packedYearMonth));
+            assertEquals(date.getDayOfMonth(), PackedDateUtil.getDayOfMonth(epochDay));
+            assertEquals(epochDay, PackedDateUtil.toEpochDay(date.getYear(), date.getMonthValue(),
+                    date.getDayOfMonth()));
+            assertEquals(date.format(DATE_FORMATTER), PackedDateUtil.formatEpochDay(epochDay));
+        }
+    }
+
+    @Test
+    public void toPackedYearMonth_months_orderedLikeMonths() {
+        assertTrue(PackedDateUtil.toPackedYearMonth(2019, 12) < PackedDateUtil.toPackedYearMonth(2020, 1));
+        assertEquals(PackedDateUtil.toPackedYearMonth(2019, 12), PackedDateUtil.toPackedYearMonth(YearMonth.of(2019,
+                12)));
+        assertEquals("03/1937", PackedDateUtil.formatPackedYearMonth(PackedDateUtil.toPackedYearMonth(1937, 3)));
+    }
+
+    @Test
+    public void isValidEpochDay() {
+        assertTrue(PackedDateUtil.isValidEpochDay(0));
+        assertTrue(PackedDateUtil.isValidEpochDay(LocalDate.of(1, 1, 1).toEpochDay()));
+        assertFalse(PackedDateUtil.isValidEpochDay(LocalDate.of(1, 1, 1).toEpochDay() - 1));
+        assertFalse(PackedDateUtil.isValidEpochDay(LocalDate.of(10000, 1, 1).toEpochDay()));
+    }
+
+}
@@ -0,0 +1,218 @@
+package thrift.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static thrift.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import thrift.commons.exceptions.DataConversionException;
+import thrift.commons.util.FileUtil;
+import thrift.model.ReadOnlyThrift;
+import thrift.model.Thrift;
+import thrift.model.transaction.Expense;
+import thrift.model.transaction.Value;
+import thrift.testutil.ExpenseBuilder;
+import thrift.testutil.TypicalTransactions;
+
+public class BinaryThriftStorageTest {
+    private static final Path TYPICAL_TRANSACTIONS_JSON_FILE = Paths.get("src", "test", "data",
+            "JsonSerializableThriftTest", "typicalTransactionThrift.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readThrift_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryThriftStorage(null).readThrift(null));
+    }
+
+    @Test
+    public void readThrift_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryThriftStorage(testFolder.resolve("NonExistentFile.bin")).readThrift().isPresent());
+    }
+
+    @Test
+    public void readThrift_jsonFile_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () ->
+                new BinaryThriftStorage(TYPICAL_TRANSACTIONS_JSON_FILE).readThrift());
+    }
+
+    @Test
+    public void readThrift_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempThrift.bin");
+        new BinaryThriftStorage(filePath).saveThrift(TypicalTransactions.getTypicalThrift());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataConversionException.class, () -> new BinaryThriftStorage(filePath).readThrift());
+    }
+
+    @Test
+    public void readAndSaveThrift_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempThrift.bin");
+        Thrift original = TypicalTransactions.getTypicalThrift();
+        BinaryThriftStorage binaryThriftStorage = new BinaryThriftStorage(filePath);
+
+        // Save in new file and read back
+        binaryThriftStorage.saveThrift(original);
+        ReadOnlyThrift readBack = binaryThriftStorage.readThrift().get();
+        assertEquals(original, new Thrift(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addTransaction(TypicalTransactions.LAKSA);
+        original.removeTransaction(TypicalTransactions.PENANG_LAKSA);
+        binaryThriftStorage.saveThrift(original);
+        readBack = binaryThriftStorage.readThrift().get();
+        assertEquals(original, new Thrift(readBack));
+    }
+
+    @Test
+    public void readAndSaveThrift_manyBlocksAndCurrencies_success() throws Exception {
+        Path filePath = testFolder.resolve("TempThrift.bin");
+        Thrift original = TypicalTransactions.getTypicalThrift();
+        for (int i = 0; i < BinaryThriftStorage.TRANSACTIONS_PER_BLOCK + 1; i++) {
+            Expense expense = new ExpenseBuilder().withDescription("Coffee " + i).withTags("Drink" + i % 7).build();
+            original.addTransaction(new Expense(expense.getDescription(), new Value("1.05", "USD"),
+                    expense.getRemark(), expense.getDate(), expense.getTags()));
+        }
+
+        BinaryThriftStorage binaryThriftStorage = new BinaryThriftStorage(filePath);
+        binaryThriftStorage.saveThrift(original);
+        assertEquals(original, new Thrift(binaryThriftStorage.readThrift().get()));
+    }
+
+    /**
+     * Returns the typical THRIFT with enough transactions added to fill several blocks.
+     */
+    private static Thrift getManyBlocksThrift() {
+        Thrift thrift = TypicalTransactions.getTypicalThrift();
+        for (int i = 0; i < BinaryThriftStorage.TRANSACTIONS_PER_BLOCK * 3; i++) {
+            thrift.addTransaction(new ExpenseBuilder().withDescription("Coffee " + i).withTags("Drink" + i % 7)
+                    .build());
+        }
+        return thrift;
+    }
+
+    @Test
+    public void readAndSaveThrift_compressed_success() throws Exception {
+        Path filePath = testFolder.resolve("TempThrift.bin");
+        Thrift original = getManyBlocksThrift();
+
+        new BinaryThriftStorage(filePath).saveThrift(original);
+        long uncompressedSize = Files.size(filePath);
+        BinaryThriftStorage compressedStorage = new BinaryThriftStorage(filePath, true);
+        compressedStorage.saveThrift(original);
+        assertTrue(Files.size(filePath) < uncompressedSize);
+
+        assertEquals(original, new Thrift(compressedStorage.readThrift().get()));
+        assertEquals(0, compressedStorage.getSkippedBlockCount());
+
+        // Compressed snapshots are read whether or not the storage saves them compressed
+        assertEquals(original, new Thrift(new BinaryThriftStorage(filePath).readThrift().get()));
+        assertFalse(Files.exists(BinaryThriftStorage.getCorruptFilePath(filePath)));
+    }
+
+    @Test
+    public void saveThrift_existingFile_replacedWithoutTempFile() throws Exception {
+        Path filePath = testFolder.resolve("TempThrift.bin");
+        BinaryThriftStorage binaryThriftStorage = new BinaryThriftStorage(filePath);
+        binaryThriftStorage.saveThrift(getManyBlocksThrift());
+
+        Thrift original = TypicalTransactions.getTypicalThrift();
+        binaryThriftStorage.saveThrift(original);
+        assertEquals(original, new Thrift(binaryThriftStorage.readThrift().get()));
+        assertFalse(Files.exists(FileUtil.getTempFilePath(filePath)));
+    }
+
+    @Test
+    public void readThrift_compressedCorruptBlock_blockSkippedAndFileRecovered() throws Exception {
+        Path filePath = testFolder.resolve("TempThrift.bin");
+        Thrift original = getManyBlocksThrift();
+        BinaryThriftStorage binaryThriftStorage = new BinaryThriftStorage(filePath, true);
+        binaryThriftStorage.saveThrift(original);
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 0x55;
+        Files.write(filePath, bytes);
+
+        Thrift recovered = new Thrift(binaryThriftStorage.readThrift().get());
+        assertEquals(1, binaryThriftStorage.getSkippedBlockCount());
+        assertEquals(original.getTransactionList().size() - BinaryThriftStorage.TRANSACTIONS_PER_BLOCK,
+                recovered.getTransactionList().size());
+        assertEquals(original.getBudgetList(), recovered.getBudgetList());
+        assertTrue(Files.exists(BinaryThriftStorage.getCorruptFilePath(filePath)));
+
+        assertTrue(binaryThriftStorage.getRecoveryMessage().isPresent());
+
+        // The recovered data replaced the damaged snapshot
+        assertEquals(recovered, new Thrift(binaryThriftStorage.readThrift().get()));
+        assertEquals(0, binaryThriftStorage.getSkippedBlockCount());
+        assertFalse(binaryThriftStorage.getRecoveryMessage().isPresent());
+    }
+
+    @Test
+    public void readThrift_corruptBlockWithJournal_journalKeptAside() throws Exception {
+        Path filePath = testFolder.resolve("TempThrift.bin");
+        JournaledThriftStorage journaledThriftStorage =
+                new JournaledThriftStorage(new BinaryThriftStorage(filePath, true));
+        Thrift thrift = getManyBlocksThrift();
+        journaledThriftStorage.saveThrift(thrift);
+        journaledThriftStorage.trackThrift(thrift);
+        thrift.addTransaction(TypicalTransactions.LAKSA);
+        journaledThriftStorage.saveThrift(thrift);
+        Path journalFilePath = journaledThriftStorage.getJournalFilePath();
+        byte[] journal = Files.readAllBytes(journalFilePath);
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 0x55;
+        Files.write(filePath, bytes);
+        journaledThriftStorage.readThrift();
+
+        assertFalse(Files.exists(journalFilePath));
+        assertArrayEquals(journal, Files.readAllBytes(BinaryThriftStorage.getCorruptFilePath(journalFilePath)));
+    }
+
+    @Test
+    public void readThrift_compressedTruncatedFile_readableBlocksKept() throws Exception {
+        Path filePath = testFolder.resolve("TempThrift.bin");
+        Thrift original = getManyBlocksThrift();
+        BinaryThriftStorage binaryThriftStorage = new BinaryThriftStorage(filePath, true);
+        binaryThriftStorage.saveThrift(original);
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 10));
+
+        Thrift recovered = new Thrift(binaryThriftStorage.readThrift().get());
+        assertEquals(1, binaryThriftStorage.getSkippedBlockCount());
+        assertEquals(original.getTransactionList(), recovered.getTransactionList());
+        assertEquals(bytes.length - 10, Files.size(BinaryThriftStorage.getCorruptFilePath(filePath)));
+    }
+
+    @Test
+    public void importAndExportThrift_jsonFile_sameData() throws Exception {
+        BinaryThriftStorage binaryThriftStorage = new BinaryThriftStorage(testFolder.resolve("TempThrift.bin"));
+        assertTrue(binaryThriftStorage.importThrift(new JsonThriftStorage(TYPICAL_TRANSACTIONS_JSON_FILE)));
+        assertEquals(TypicalTransactions.getTypicalThrift(), new Thrift(binaryThriftStorage.readThrift().get()));
+
+        Path jsonFilePath = testFolder.resolve("TempThrift.json");
+        assertTrue(binaryThriftStorage.exportThrift(new JsonThriftStorage(jsonFilePath)));
+        assertEquals(TypicalTransactions.getTypicalThrift(),
+                new Thrift(new JsonThriftStorage(jsonFilePath).readThrift().get()));
+    }
+
+    @Test
+    public void importThrift_missingJsonFile_nothingImported() throws Exception {
+        Path filePath = testFolder.resolve("TempThrift.bin");
+        assertFalse(new BinaryThriftStorage(filePath)
+                .importThrift(new JsonThriftStorage(testFolder.resolve("NonExistentFile.json"))));
+        assertFalse(Files.exists(filePath));
+    }
+
+}
@@ -0,0 +1,205 @@
+package thrift.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static thrift.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import thrift.commons.core.index.Index;
+import thrift.commons.exceptions.DataConversionException;
+import thrift.model.ReadOnlyThrift;
+import thrift.model.Thrift;
+import thrift.model.transaction.Budget;
+import thrift.model.transaction.BudgetValue;
+import thrift.testutil.TypicalTransactions;
+
+public class JournaledThriftStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JsonThriftStorage snapshotStorage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempThrift.json");
+        snapshotStorage = new JsonThriftStorage(filePath);
+    }
+
+    @Test
+    public void constructor_nullSnapshotStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledThriftStorage(null));
+    }
+
+    @Test
+    public void getJournalFilePath_snapshotFilePath_journalNextToSnapshot() {
+        assertEquals(testFolder.resolve("TempThrift.json.journal"),
+                JournaledThriftStorage.getJournalFilePath(filePath));
+    }
+
+    @Test
+    public void readThrift_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledThriftStorage(snapshotStorage).readThrift().isPresent());
+    }
+
+    @Test
+    public void readAndSaveThrift_trackedThrift_changesJournaledAndReplayed() throws Exception {
+        JournaledThriftStorage storage = new JournaledThriftStorage(snapshotStorage);
+        Thrift thrift = TypicalTransactions.getTypicalThrift();
+        storage.trackThrift(thrift);
+        storage.saveThrift(thrift);
+        String snapshot = readSnapshot();
+
+        thrift.addTransaction(TypicalTransactions.LAKSA);
+        thrift.removeTransactionByIndex(Index.fromZeroBased(1));
+        thrift.setTransactionWithIndex(Index.fromZeroBased(0), TypicalTransactions.BURSARY);
+        thrift.setBudget(new Budget(TypicalTransactions.OCT_2019_MONTH, new BudgetValue("50")));
+        storage.saveThrift(thrift);
+
+        // Snapshot untouched, all changes went to the journal
+        assertEquals(snapshot, readSnapshot());
+        assertEquals(5, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        ReadOnlyThrift readBack = new JournaledThriftStorage(snapshotStorage).readThrift().get();
+        assertEquals(thrift, new Thrift(readBack));
+    }
+
+    @Test
+    public void saveThrift_copyOfTrackedThrift_changesUpToCopyJournaled() throws Exception {
+        JournaledThriftStorage storage = new JournaledThriftStorage(snapshotStorage);
+        Thrift thrift = new Thrift();
+        storage.trackThrift(thrift);
+        storage.saveThrift(thrift);
+        String snapshot = readSnapshot();
+
+        thrift.addTransaction(TypicalTransactions.LAKSA);
+        Thrift copy = new Thrift(thrift);
+        thrift.addTransaction(TypicalTransactions.BURSARY);
+        storage.saveThrift(copy);
+
+        assertEquals(snapshot, readSnapshot());
+        assertEquals(copy, new Thrift(new JournaledThriftStorage(snapshotStorage).readThrift().get()));
+
+        storage.saveThrift(new Thrift(thrift));
+        assertEquals(snapshot, readSnapshot());
+        assertEquals(thrift, new Thrift(new JournaledThriftStorage(snapshotStorage).readThrift().get()));
+    }
+
+    @Test
+    public void saveThrift_untrackedThrift_snapshotSavedAndJournalIgnored() throws Exception {
+        JournaledThriftStorage storage = new JournaledThriftStorage(snapshotStorage);
+        Thrift thrift = TypicalTransactions.getTypicalThrift();
+        storage.trackThrift(thrift);
+        storage.saveThrift(thrift);
+        thrift.addTransaction(TypicalTransactions.LAKSA);
+        storage.saveThrift(thrift);
+
+        Thrift untracked = new Thrift();
+        storage.saveThrift(untracked);
+
+        assertEquals(untracked, new Thrift(new JournaledThriftStorage(snapshotStorage).readThrift().get()));
+    }
+
+    @Test
+    public void saveThrift_thresholdExceeded_journalCompacted() throws Exception {
+        JournaledThriftStorage storage = new JournaledThriftStorage(snapshotStorage, 2);
+        Thrift thrift = new Thrift();
+        storage.trackThrift(thrift);
+        storage.saveThrift(thrift);
+        String snapshot = readSnapshot();
+
+        thrift.addTransaction(TypicalTransactions.LAKSA);
+        thrift.addTransaction(TypicalTransactions.BURSARY);
+        storage.saveThrift(thrift);
+        assertEquals(snapshot, readSnapshot());
+
+        thrift.addTransaction(TypicalTransactions.PENANG_LAKSA);
+        storage.saveThrift(thrift);
+        assertNotEquals(snapshot, readSnapshot());
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        assertEquals(thrift, new Thrift(new JournaledThriftStorage(snapshotStorage).readThrift().get()));
+    }
+
+    @Test
+    public void readThrift_staleJournal_journalIgnored() throws Exception {
+        JournaledThriftStorage storage = new JournaledThriftStorage(snapshotStorage);
+        Thrift thrift = new Thrift();
+        storage.trackThrift(thrift);
+        storage.saveThrift(thrift);
+        thrift.addTransaction(TypicalTransactions.LAKSA);
+        storage.saveThrift(thrift);
+
+        // Snapshot replaced without going through the journaled storage
+        Thrift replacement = TypicalTransactions.getTypicalThrift();
+        snapshotStorage.saveThrift(replacement);
+
+        assertEquals(replacement, new Thrift(new JournaledThriftStorage(snapshotStorage).readThrift().get()));
+    }
+
+    @Test
+    public void readThrift_incompleteLastEntry_entryIgnored() throws Exception {
+        JournaledThriftStorage storage = new JournaledThriftStorage(snapshotStorage);
+        Thrift thrift = new Thrift();
+        storage.trackThrift(thrift);
+        storage.saveThrift(thrift);
+        thrift.addTransaction(TypicalTransactions.LAKSA);
+        storage.saveThrift(thrift);
+        Thrift expected = new Thrift(thrift);
+
+        Files.write(storage.getJournalFilePath(), "{\"op\":\"add\",\"ind".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournaledThriftStorage reopened = new JournaledThriftStorage(snapshotStorage);
+        Thrift readBack = new Thrift(reopened.readThrift().get());
+        assertEquals(expected, readBack);
+
+        // Journal with the incomplete entry is not appended to, the next save compacts it instead
+        reopened.trackThrift(readBack);
+        readBack.addTransaction(TypicalTransactions.BURSARY);
+        reopened.saveThrift(readBack);
+        assertEquals(1, Files.readAllLines(reopened.getJournalFilePath()).size());
+        assertEquals(readBack, new Thrift(new JournaledThriftStorage(snapshotStorage).readThrift().get()));
+    }
+
+    @Test
+    public void readThrift_invalidEntry_throwsDataConversionException() throws Exception {
+        JournaledThriftStorage storage = new JournaledThriftStorage(snapshotStorage);
+        Thrift thrift = new Thrift();
+        storage.trackThrift(thrift);
+        storage.saveThrift(thrift);
+
+        Files.write(storage.getJournalFilePath(), ("{\"op\":\"remove\",\"index\":3}" + System.lineSeparator())
+                .getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertThrows(DataConversionException.class, () -> new JournaledThriftStorage(snapshotStorage).readThrift());
+    }
+
+    @Test
+    public void saveThrift_otherFilePath_journalUntouched() throws Exception {
+        JournaledThriftStorage storage = new JournaledThriftStorage(snapshotStorage);
+        Thrift thrift = TypicalTransactions.getTypicalThrift();
+        Path otherFilePath = testFolder.resolve("OtherThrift.json");
+        storage.saveThrift(thrift, otherFilePath);
+
+        assertTrue(Files.exists(otherFilePath));
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(thrift, new Thrift(storage.readThrift(otherFilePath).get()));
+    }
+
+    private String readSnapshot() throws Exception {
+        return new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,101 @@
+package thrift.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static thrift.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import thrift.commons.exceptions.DataConversionException;
+import thrift.commons.exceptions.IllegalValueException;
+import thrift.commons.util.JsonUtil;
+import thrift.model.Thrift;
+import thrift.model.transaction.Description;
+import thrift.model.transaction.Value;
+import thrift.testutil.TypicalTransactions;
+
+public class JsonThriftCodecTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableThriftTest");
+    private static final Path TYPICAL_TRANSACTIONS_FILE = TEST_DATA_FOLDER.resolve("typicalTransactionThrift.json");
+    private static final Path INVALID_TRANSACTIONS_FILE = TEST_DATA_FOLDER.resolve("invalidTransactionThrift.json");
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Returns a parser positioned at the start of the single json object in {@code json}.
+     */
+    private static JsonParser parseObject(String json) throws IOException {
+        JsonParser parser = JsonUtil.createParser(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        parser.nextToken();
+        return parser;
+    }
+
+    @Test
+    public void readThrift_typicalTransactionsFile_success() throws Exception {
+        Thrift thriftFromFile = new Thrift(new JsonThriftStorage(TYPICAL_TRANSACTIONS_FILE, false, true)
+                .readThrift().get());
+        assertEquals(TypicalTransactions.getTypicalThrift(), thriftFromFile);
+    }
+
+    @Test
+    public void readThrift_invalidTransactionFile_throwsDataConversionException() {
+        assertThrows(DataConversionException.class, () ->
+                new JsonThriftStorage(INVALID_TRANSACTIONS_FILE, false, true).readThrift());
+    }
+
+    @Test
+    public void saveThrift_typicalTransactionsFile_roundTripsWithDataBinding() throws Exception {
+        Thrift thrift = new Thrift(new JsonThriftStorage(TYPICAL_TRANSACTIONS_FILE).readThrift().get());
+        Path codecFilePath = testFolder.resolve("codec.json");
+        Path bindingFilePath = testFolder.resolve("binding.json");
+
+        for (boolean isPrettyPrinted : new boolean[] {false, true}) {
+            new JsonThriftStorage(codecFilePath, isPrettyPrinted, true).saveThrift(thrift);
+            new JsonThriftStorage(bindingFilePath, isPrettyPrinted, false).saveThrift(thrift);
+            assertArrayEquals(Files.readAllBytes(bindingFilePath), Files.readAllBytes(codecFilePath));
+            assertEquals(thrift, new Thrift(new JsonThriftStorage(codecFilePath).readThrift().get()));
+        }
+    }
+
+    @Test
+    public void readTransaction_missingDescription_throwsSameMessageAsAdaptedTransaction() throws Exception {
+        JsonParser parser = parseObject("{\"type\":\"expense\",\"value\":\"1\",\"remark\":\"\","
+                + "\"date\":\"10/10/2010\",\"tagged\":[],\"unknown\":{\"a\":[1]}}");
+        String expectedMessage = String.format(JsonAdaptedTransaction.MISSING_FIELD_MESSAGE_FORMAT,
+                Description.class.getSimpleName());
+        assertThrows(IllegalValueException.class, expectedMessage, () -> JsonThriftCodec.readTransaction(parser));
+    }
+
+    @Test
+    public void readTransaction_invalidValue_throwsIllegalValueException() throws Exception {
+        JsonParser parser = parseObject("{\"type\":\"expense\",\"description\":\"Laksa\",\"value\":\".00\","
+                + "\"remark\":\"\",\"date\":\"10/10/2010\",\"tagged\":[\"Lunch\"]}");
+        assertThrows(IllegalValueException.class, Value.VALUE_CONSTRAINTS, () ->
+                JsonThriftCodec.readTransaction(parser));
+    }
+
+    @Test
+    public void readTransaction_tagsNotArray_throwsIoException() throws Exception {
+        JsonParser parser = parseObject("{\"type\":\"expense\",\"tagged\":\"Lunch\"}");
+        assertThrows(IOException.class, () -> JsonThriftCodec.readTransaction(parser));
+    }
+
+    @Test
+    public void readBudget_validBudget_success() throws Exception {
+        JsonParser parser = parseObject("{\"period\":\"10/2019\",\"value\":\"1000.00\"}");
+        assertEquals(TypicalTransactions.OCT_BUDGET, JsonThriftCodec.readBudget(parser));
+    }
+
+}
@@ -2,18 +2,26 @@ package thrift.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static thrift.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import thrift.commons.exceptions.DataConversionException;
+import thrift.commons.util.FileUtil;
+import thrift.commons.util.JsonUtil;
 import thrift.model.ReadOnlyThrift;
 import thrift.model.Thrift;
+import thrift.model.transaction.Transaction;
 import thrift.testutil.TypicalTransactions;
 
 public class JsonThriftStorageTest {
@@ -59,6 +67,17 @@ public class JsonThriftStorageTest {
             -> readThrift("invalidAndValidTransactionThrift.json"));
     }
 
+    @Test
+    public void readThrift_budgetsBeforeTransactions_success() throws Exception {
+        ReadOnlyThrift thrift = readThrift("budgetsBeforeTransactionsThrift.json").get();
+        assertEquals(TypicalTransactions.getTypicalThrift(), new Thrift(thrift));
+    }
+
+    @Test
+    public void readThrift_missingBudgets_throwDataConversionException() {
+        assertThrows(DataConversionException.class, () -> readThrift("missingBudgetsThrift.json"));
+    }
+
     @Test
     public void readAndSaveThrift_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempThrift.json");
@@ -85,6 +104,51 @@ public class JsonThriftStorageTest {
 
     }
 
+    @Test
+    public void saveThrift_compactOrPrettyPrinted_readableAsJsonSerializableThrift() throws Exception {
+        Thrift original = TypicalTransactions.getTypicalThrift();
+
+        Path compactFilePath = testFolder.resolve("CompactThrift.json");
+        new JsonThriftStorage(compactFilePath, false).saveThrift(original);
+        assertEquals(1, Files.readAllLines(compactFilePath).size());
+        assertEquals(original, JsonUtil.readJsonFile(compactFilePath, JsonSerializableThrift.class).get()
+                .toModelType());
+
+        Path prettyFilePath = testFolder.resolve("PrettyThrift.json");
+        new JsonThriftStorage(prettyFilePath, true).saveThrift(original);
+        assertTrue(Files.readAllLines(prettyFilePath).size() > 1);
+        assertEquals(original, JsonUtil.readJsonFile(prettyFilePath, JsonSerializableThrift.class).get()
+                .toModelType());
+    }
+
+    @Test
+    public void write_failsPartWay_oldFileKeptWhole() throws Exception {
+        Path filePath = testFolder.resolve("TempThrift.json");
+        Thrift original = TypicalTransactions.getTypicalThrift();
+        JsonThriftStorage jsonThriftStorage = new JsonThriftStorage(filePath);
+        jsonThriftStorage.saveThrift(original);
+
+        List<Transaction> failingTransactions = new AbstractList<>() {
+            @Override
+            public Transaction get(int index) {
+                if (index > 0) {
+                    throw new IllegalStateException("Failed part way");
+                }
+                return TypicalTransactions.LAKSA;
+            }
+
+            @Override
+            public int size() {
+                return 2;
+            }
+        };
+        assertThrows(IllegalStateException.class, () -> new JsonThriftStreamWriter(filePath, false)
+                .write(failingTransactions, Collections.emptyList()));
+
+        assertEquals(original, new Thrift(jsonThriftStorage.readThrift().get()));
+        assertFalse(Files.exists(FileUtil.getTempFilePath(filePath)));
+    }
+
     @Test
     public void saveThrift_nullThrift_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveThrift(null, "SomeFile.json"));
@@ -0,0 +1,147 @@
+package thrift.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static thrift.testutil.Assert.assertThrows;
+import static thrift.testutil.TypicalTransactions.BURSARY;
+import static thrift.testutil.TypicalTransactions.LAKSA;
+import static thrift.testutil.TypicalTransactions.OCT_BUDGET;
+import static thrift.testutil.TypicalTransactions.PENANG_LAKSA;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import thrift.commons.core.index.Index;
+import thrift.commons.exceptions.DataConversionException;
+import thrift.commons.util.JsonUtil;
+import thrift.model.undo.BudgetEdit;
+import thrift.model.undo.TransactionEdit;
+import thrift.model.undo.UndoRecord;
+
+public class JsonUndoRecordStoreTest {
+
+    private static final UndoRecord ADD_LAKSA = new UndoRecord(TransactionEdit.addLast(LAKSA), "undo add",
+            "redo add");
+    private static final UndoRecord CLONE_LAKSA = new UndoRecord(
+            List.of(TransactionEdit.addLast(LAKSA), TransactionEdit.addLast(PENANG_LAKSA)), "undo clone\nmany",
+            "redo clone\nmany");
+    private static final UndoRecord DELETE_LAKSA = new UndoRecord(
+            TransactionEdit.remove(Index.fromZeroBased(0), LAKSA, null), "undo delete first", "redo delete first");
+    private static final UndoRecord DELETE_BURSARY = new UndoRecord(
+            TransactionEdit.remove(Index.fromZeroBased(2), BURSARY, PENANG_LAKSA), "undo delete", "redo delete");
+    private static final UndoRecord UPDATE_LAKSA = new UndoRecord(
+            TransactionEdit.replace(Index.fromZeroBased(0), LAKSA, PENANG_LAKSA), "undo update", "redo update");
+    private static final UndoRecord SET_BUDGET = new UndoRecord(new BudgetEdit(null, OCT_BUDGET), "undo budget",
+            "redo budget");
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempThrift.json.undo");
+    }
+
+    @Test
+    public void constructor_invalidMaxRecords_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new JsonUndoRecordStore(filePath, 0));
+    }
+
+    @Test
+    public void pushPeekAndPop_everyKindOfEdit_recordsRoundTripNewestLast() throws Exception {
+        JsonUndoRecordStore store = new JsonUndoRecordStore(filePath, 100);
+        store.push(List.of(ADD_LAKSA, CLONE_LAKSA, DELETE_LAKSA));
+        store.push(List.of(DELETE_BURSARY, UPDATE_LAKSA, SET_BUDGET));
+        assertEquals(6, store.size());
+
+        assertEquals(List.of(UPDATE_LAKSA, SET_BUDGET), store.peek(2));
+        store.pop(2);
+        assertEquals(4, store.size());
+        assertEquals(List.of(ADD_LAKSA, CLONE_LAKSA, DELETE_LAKSA, DELETE_BURSARY), store.peek(10));
+        store.pop(10);
+        assertEquals(0, store.size());
+        assertTrue(store.peek(1).isEmpty());
+    }
+
+    @Test
+    public void constructor_recordsOfEarlierStore_recordsRestored() throws Exception {
+        JsonUndoRecordStore earlierStore = new JsonUndoRecordStore(filePath, 100);
+        earlierStore.push(List.of(ADD_LAKSA, CLONE_LAKSA, DELETE_BURSARY));
+        earlierStore.pop(1);
+
+        JsonUndoRecordStore store = new JsonUndoRecordStore(filePath, 100);
+        assertEquals(2, store.size());
+        assertEquals(List.of(ADD_LAKSA, CLONE_LAKSA), store.peek(2));
+    }
+
+    @Test
+    public void size_unfinishedLastLine_lineCutOff() throws Exception {
+        new JsonUndoRecordStore(filePath, 100).push(List.of(ADD_LAKSA));
+        long sizeWithOneRecord = Files.size(filePath);
+        Files.write(filePath, "{\"undoMessage\":".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        JsonUndoRecordStore store = new JsonUndoRecordStore(filePath, 100);
+        assertEquals(1, store.size());
+        assertEquals(sizeWithOneRecord, Files.size(filePath));
+        store.push(List.of(SET_BUDGET));
+        assertEquals(List.of(ADD_LAKSA, SET_BUDGET), store.peek(2));
+    }
+
+    @Test
+    public void pop_thenPush_fileTruncatedBeforePoppedRecords() throws Exception {
+        JsonUndoRecordStore store = new JsonUndoRecordStore(filePath, 100);
+        store.push(List.of(ADD_LAKSA, CLONE_LAKSA, DELETE_BURSARY));
+
+        store.pop(2);
+        assertEquals(lineLength(ADD_LAKSA), Files.size(filePath));
+
+        store.push(List.of(SET_BUDGET));
+        assertEquals(List.of(ADD_LAKSA, SET_BUDGET), store.peek(2));
+    }
+
+    @Test
+    public void push_twiceMaxRecords_compactedToNewest() throws Exception {
+        JsonUndoRecordStore store = new JsonUndoRecordStore(filePath, 2);
+        store.push(List.of(ADD_LAKSA, CLONE_LAKSA, DELETE_BURSARY));
+        assertEquals(3, store.size());
+
+        store.push(List.of(SET_BUDGET));
+        assertEquals(2, store.size());
+        assertEquals(lineLength(DELETE_BURSARY) + lineLength(SET_BUDGET), Files.size(filePath));
+        assertEquals(List.of(DELETE_BURSARY, SET_BUDGET), store.peek(2));
+        assertEquals(List.of(DELETE_BURSARY, SET_BUDGET), new JsonUndoRecordStore(filePath, 2).peek(2));
+    }
+
+    @Test
+    public void clear_recordsRemoved() throws Exception {
+        JsonUndoRecordStore store = new JsonUndoRecordStore(filePath, 100);
+        store.push(List.of(ADD_LAKSA));
+        store.clear();
+        assertEquals(0, store.size());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void peek_corruptedRecord_throwsDataConversionException() throws Exception {
+        Files.write(filePath, "{\"undoMessage\":\"undo add\"}\n".getBytes(StandardCharsets.UTF_8));
+        JsonUndoRecordStore store = new JsonUndoRecordStore(filePath, 100);
+        assertEquals(1, store.size());
+        assertThrows(DataConversionException.class, () -> store.peek(1));
+    }
+
+    private static long lineLength(UndoRecord record) throws Exception {
+        return JsonUtil.toSingleLineJsonString(new JsonAdaptedUndoRecord(record))
+                .getBytes(StandardCharsets.UTF_8).length + 1;
+    }
+
+}
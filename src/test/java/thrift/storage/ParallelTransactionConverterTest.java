@@ -0,0 +1,80 @@
+package thrift.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static thrift.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import thrift.commons.exceptions.IllegalValueException;
+import thrift.model.transaction.Description;
+import thrift.model.transaction.Transaction;
+import thrift.model.transaction.TransactionDate;
+import thrift.testutil.ExpenseBuilder;
+
+public class ParallelTransactionConverterTest {
+
+    private static final int MANY_TRANSACTIONS = ParallelTransactionConverter.SEQUENTIAL_THRESHOLD * 8 + 1;
+
+    /**
+     * Returns {@code count} distinct transactions.
+     */
+    private static List<Transaction> getTransactions(int count) {
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            transactions.add(new ExpenseBuilder().withDescription("Coffee " + i).withTags("Drink" + i % 7).build());
+        }
+        return transactions;
+    }
+
+    /**
+     * Returns the Jackson-friendly versions of {@code transactions}.
+     */
+    private static List<JsonAdaptedTransaction> toAdapted(List<Transaction> transactions) {
+        List<JsonAdaptedTransaction> adaptedTransactions = new ArrayList<>();
+        for (Transaction transaction : transactions) {
+            adaptedTransactions.add(new JsonAdaptedTransaction(transaction));
+        }
+        return adaptedTransactions;
+    }
+
+    @Test
+    public void toModelType_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParallelTransactionConverter.toModelType(null));
+    }
+
+    @Test
+    public void toModelType_noTransactions_emptyList() throws Exception {
+        assertEquals(Collections.emptyList(), ParallelTransactionConverter.toModelType(Collections.emptyList()));
+    }
+
+    @Test
+    public void toModelType_manyTransactions_sameOrder() throws Exception {
+        List<Transaction> transactions = getTransactions(MANY_TRANSACTIONS);
+        assertEquals(transactions, ParallelTransactionConverter.toModelType(toAdapted(transactions)));
+    }
+
+    @Test
+    public void toModelType_manyInvalidTransactions_throwsFirstException() {
+        List<JsonAdaptedTransaction> adaptedTransactions = toAdapted(getTransactions(MANY_TRANSACTIONS));
+        adaptedTransactions.set(MANY_TRANSACTIONS - 1,
+                new JsonAdaptedTransaction("expense", null, "1", "", "10/10/2010", Collections.emptyList()));
+        adaptedTransactions.set(MANY_TRANSACTIONS / 2,
+                new JsonAdaptedTransaction("expense", "Coffee", "1", "", "31/02/2010", Collections.emptyList()));
+
+        for (int i = 0; i < 10; i++) {
+            assertThrows(IllegalValueException.class, TransactionDate.DATE_CONSTRAINTS, () ->
+                    ParallelTransactionConverter.toModelType(adaptedTransactions));
+        }
+
+        adaptedTransactions.set(MANY_TRANSACTIONS / 2, new JsonAdaptedTransaction(getTransactions(1).get(0)));
+        String expectedMessage = String.format(JsonAdaptedTransaction.MISSING_FIELD_MESSAGE_FORMAT,
+                Description.class.getSimpleName());
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                ParallelTransactionConverter.toModelType(adaptedTransactions));
+    }
+
+}
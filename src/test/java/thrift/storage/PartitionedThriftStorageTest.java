@@ -0,0 +1,209 @@
+package thrift.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static thrift.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import thrift.commons.exceptions.DataConversionException;
+import thrift.model.ReadOnlyThrift;
+import thrift.model.Thrift;
+import thrift.model.transaction.Expense;
+import thrift.testutil.ExpenseBuilder;
+import thrift.testutil.TypicalTransactions;
+
+public class PartitionedThriftStorageTest {
+
+    private static final YearMonth LAKSA_MONTH = YearMonth.of(1937, 3);
+    private static final YearMonth PENANG_LAKSA_MONTH = YearMonth.of(2010, 10);
+    private static final YearMonth BURSARY_MONTH = YearMonth.of(2011, 11);
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Returns the typical THRIFT with its transactions in the order of their months, as they are read back once saved
+     * with only the months from {@code BURSARY_MONTH} loaded.
+     */
+    private static Thrift getTypicalThriftByMonth() {
+        Thrift thrift = TypicalTransactions.getTypicalThrift();
+        thrift.setTransactions(Arrays.asList(TypicalTransactions.LAKSA, TypicalTransactions.PENANG_LAKSA,
+                TypicalTransactions.BURSARY));
+        return thrift;
+    }
+
+    @Test
+    public void readThrift_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PartitionedThriftStorage(testFolder).readThrift(null));
+    }
+
+    @Test
+    public void readThrift_missingFolder_emptyResult() throws Exception {
+        assertFalse(new PartitionedThriftStorage(testFolder.resolve("NonExistentFolder")).readThrift().isPresent());
+    }
+
+    @Test
+    public void readAndSaveThrift_allInOrder_success() throws Exception {
+        PartitionedThriftStorage partitionedThriftStorage = new PartitionedThriftStorage(testFolder);
+
+        partitionedThriftStorage.saveThrift(TypicalTransactions.getTypicalThrift());
+        assertTrue(Files.exists(partitionedThriftStorage.getSegmentFilePath(LAKSA_MONTH)));
+        assertTrue(Files.exists(partitionedThriftStorage.getSegmentFilePath(PENANG_LAKSA_MONTH)));
+        assertTrue(Files.exists(partitionedThriftStorage.getSegmentFilePath(BURSARY_MONTH)));
+        assertEquals(TypicalTransactions.getTypicalThrift(), new Thrift(partitionedThriftStorage.readThrift().get()));
+
+        // Read back with a new storage
+        assertEquals(TypicalTransactions.getTypicalThrift(),
+                new Thrift(new PartitionedThriftStorage(testFolder).readThrift().get()));
+    }
+
+    @Test
+    public void readThriftSince_olderMonthsUnloaded_loadedOnDemand() throws Exception {
+        PartitionedThriftStorage partitionedThriftStorage = new PartitionedThriftStorage(testFolder);
+        partitionedThriftStorage.saveThrift(TypicalTransactions.getTypicalThrift());
+
+        ReadOnlyThrift recentThrift = partitionedThriftStorage.readThriftSince(BURSARY_MONTH).get();
+        assertEquals(Collections.singletonList(TypicalTransactions.BURSARY), recentThrift.getTransactionList());
+        assertEquals(new HashSet<>(Arrays.asList(LAKSA_MONTH, PENANG_LAKSA_MONTH)), recentThrift.getUnloadedMonths());
+        assertEquals(TypicalTransactions.getTypicalThrift().getBudgetList(), recentThrift.getBudgetList());
+
+        assertEquals(Collections.singletonList(TypicalTransactions.PENANG_LAKSA),
+                partitionedThriftStorage.loadTransactions(PENANG_LAKSA_MONTH));
+    }
+
+    @Test
+    public void loadTransactions_monthNotStored_throwsDataConversionException() throws Exception {
+        PartitionedThriftStorage partitionedThriftStorage = new PartitionedThriftStorage(testFolder);
+        partitionedThriftStorage.saveThrift(TypicalTransactions.getTypicalThrift());
+
+        assertThrows(DataConversionException.class, () ->
+                partitionedThriftStorage.loadTransactions(YearMonth.of(2000, 1)));
+    }
+
+    @Test
+    public void readThrift_missingSegment_throwsDataConversionException() throws Exception {
+        PartitionedThriftStorage partitionedThriftStorage = new PartitionedThriftStorage(testFolder);
+        partitionedThriftStorage.saveThrift(TypicalTransactions.getTypicalThrift());
+        Files.delete(partitionedThriftStorage.getSegmentFilePath(PENANG_LAKSA_MONTH));
+
+        assertThrows(DataConversionException.class, () -> new PartitionedThriftStorage(testFolder).readThrift());
+    }
+
+    @Test
+    public void saveThrift_unloadedMonths_keptInStorage() throws Exception {
+        PartitionedThriftStorage partitionedThriftStorage = new PartitionedThriftStorage(testFolder);
+        partitionedThriftStorage.saveThrift(TypicalTransactions.getTypicalThrift());
+
+        Thrift recentThrift = new Thrift(partitionedThriftStorage.readThriftSince(BURSARY_MONTH).get());
+        Expense coffee = new ExpenseBuilder().withDescription("Coffee").withDate("14/11/2011").build();
+        recentThrift.addTransaction(coffee);
+        partitionedThriftStorage.saveThrift(recentThrift);
+
+        Thrift expectedThrift = getTypicalThriftByMonth();
+        expectedThrift.addTransaction(coffee);
+        assertEquals(expectedThrift, new Thrift(new PartitionedThriftStorage(testFolder).readThrift().get()));
+    }
+
+    @Test
+    public void saveThrift_transactionAddedToUnloadedMonth_storedTransactionsKept() throws Exception {
+        PartitionedThriftStorage partitionedThriftStorage = new PartitionedThriftStorage(testFolder);
+        partitionedThriftStorage.saveThrift(TypicalTransactions.getTypicalThrift());
+
+        Thrift recentThrift = new Thrift(partitionedThriftStorage.readThriftSince(BURSARY_MONTH).get());
+        Expense supper = new ExpenseBuilder().withDescription("Supper").withDate("20/10/2010").build();
+        recentThrift.addTransaction(supper);
+        partitionedThriftStorage.saveThrift(recentThrift);
+        partitionedThriftStorage.saveThrift(recentThrift); // the stored transactions are not saved twice
+
+        assertEquals(Collections.singletonList(TypicalTransactions.PENANG_LAKSA),
+                partitionedThriftStorage.loadTransactions(PENANG_LAKSA_MONTH));
+        Thrift expectedThrift = getTypicalThriftByMonth();
+        expectedThrift.setTransactions(Arrays.asList(TypicalTransactions.LAKSA, TypicalTransactions.PENANG_LAKSA,
+                TypicalTransactions.BURSARY, supper));
+        assertEquals(expectedThrift, new Thrift(new PartitionedThriftStorage(testFolder).readThrift().get()));
+
+        // Loading the month and saving again keeps the same transactions
+        recentThrift.addLoadedTransactions(PENANG_LAKSA_MONTH,
+                partitionedThriftStorage.loadTransactions(PENANG_LAKSA_MONTH));
+        partitionedThriftStorage.saveThrift(recentThrift);
+        assertEquals(expectedThrift, new Thrift(new PartitionedThriftStorage(testFolder).readThrift().get()));
+    }
+
+    @Test
+    public void saveThrift_transactionAddedToUnloadedMonthThenRemoved_storedTransactionsKept() throws Exception {
+        PartitionedThriftStorage partitionedThriftStorage = new PartitionedThriftStorage(testFolder);
+        partitionedThriftStorage.saveThrift(TypicalTransactions.getTypicalThrift());
+
+        Thrift recentThrift = new Thrift(partitionedThriftStorage.readThriftSince(BURSARY_MONTH).get());
+        Expense supper = new ExpenseBuilder().withDescription("Supper").withDate("20/10/2010").build();
+        recentThrift.addTransaction(supper);
+        partitionedThriftStorage.saveThrift(recentThrift);
+        recentThrift.removeTransaction(supper);
+        partitionedThriftStorage.saveThrift(recentThrift);
+
+        assertEquals(getTypicalThriftByMonth(),
+                new Thrift(new PartitionedThriftStorage(testFolder).readThrift().get()));
+    }
+
+    @Test
+    public void saveThrift_unchangedMonths_segmentsNotRewritten() throws Exception {
+        PartitionedThriftStorage partitionedThriftStorage = new PartitionedThriftStorage(testFolder);
+        Thrift thrift = TypicalTransactions.getTypicalThrift();
+        partitionedThriftStorage.saveThrift(thrift);
+        Path laksaSegment = partitionedThriftStorage.getSegmentFilePath(LAKSA_MONTH);
+        FileTime oldTime = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(laksaSegment, oldTime);
+
+        thrift.removeTransaction(TypicalTransactions.PENANG_LAKSA);
+        partitionedThriftStorage.saveThrift(thrift);
+
+        assertEquals(oldTime, Files.getLastModifiedTime(laksaSegment));
+        assertFalse(Files.exists(partitionedThriftStorage.getSegmentFilePath(PENANG_LAKSA_MONTH)));
+        Thrift expectedThrift = TypicalTransactions.getTypicalThrift();
+        expectedThrift.removeTransaction(TypicalTransactions.PENANG_LAKSA);
+        assertEquals(expectedThrift, new Thrift(new PartitionedThriftStorage(testFolder).readThrift().get()));
+    }
+
+    @Test
+    public void saveThrift_olderMonthsUnloaded_orderKept() throws Exception {
+        PartitionedThriftStorage partitionedThriftStorage = new PartitionedThriftStorage(testFolder);
+        partitionedThriftStorage.saveThrift(TypicalTransactions.getTypicalThrift());
+        Path manifest = partitionedThriftStorage.getManifestFilePath();
+        FileTime oldTime = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(manifest, oldTime);
+
+        partitionedThriftStorage = new PartitionedThriftStorage(testFolder);
+        partitionedThriftStorage.saveThrift(partitionedThriftStorage.readThriftSince(PENANG_LAKSA_MONTH).get());
+
+        assertEquals(oldTime, Files.getLastModifiedTime(manifest));
+        assertEquals(TypicalTransactions.getTypicalThrift(),
+                new Thrift(new PartitionedThriftStorage(testFolder).readThrift().get()));
+    }
+
+    @Test
+    public void importAndExportThrift_jsonFile_sameData() throws Exception {
+        PartitionedThriftStorage partitionedThriftStorage = new PartitionedThriftStorage(testFolder.resolve("data"));
+        Path jsonFilePath = testFolder.resolve("TempThrift.json");
+        new JsonThriftStorage(jsonFilePath).saveThrift(TypicalTransactions.getTypicalThrift());
+
+        assertTrue(partitionedThriftStorage.importThrift(new JsonThriftStorage(jsonFilePath)));
+        assertEquals(TypicalTransactions.getTypicalThrift(), new Thrift(partitionedThriftStorage.readThrift().get()));
+
+        Path exportedFilePath = testFolder.resolve("ExportedThrift.json");
+        assertTrue(partitionedThriftStorage.exportThrift(new JsonThriftStorage(exportedFilePath)));
+        assertEquals(TypicalTransactions.getTypicalThrift(),
+                new Thrift(new JsonThriftStorage(exportedFilePath).readThrift().get()));
+    }
+
+}
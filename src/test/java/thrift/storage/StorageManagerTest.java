@@ -1,8 +1,13 @@
 package thrift.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static thrift.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -10,10 +15,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import thrift.commons.core.GuiSettings;
-//import thrift.model.Thrift;
-//import thrift.model.ReadOnlyThrift;
+import thrift.model.ReadOnlyThrift;
+import thrift.model.Thrift;
 import thrift.model.UserPrefs;
-//import thrift.testutil.TypicalTransactions;
+import thrift.testutil.TypicalTransactions;
 
 public class StorageManagerTest {
 
@@ -64,6 +69,69 @@ public class StorageManagerTest {
     }
      */
 
+    @Test
+    public void saveThrift_thenFlush_thriftSaved() throws Exception {
+        Thrift original = TypicalTransactions.getTypicalThrift();
+        storageManager.saveThrift(original);
+        storageManager.flushThrift();
+        assertEquals(original, new Thrift(new JsonThriftStorage(getTempFilePath("ab")).readThrift().get()));
+
+        // Changes made after saving are not part of the saved data
+        original.addTransaction(TypicalTransactions.LAKSA);
+        Thrift expected = new Thrift(original);
+        storageManager.saveThrift(original);
+        original.removeTransaction(TypicalTransactions.LAKSA);
+        ReadOnlyThrift retrieved = storageManager.readThrift().get();
+        assertEquals(expected, new Thrift(retrieved));
+    }
+
+    @Test
+    public void saveThrift_unchangedThrift_notSavedAgain() throws Exception {
+        Thrift original = TypicalTransactions.getTypicalThrift();
+        storageManager.saveThrift(original);
+        storageManager.flushThrift();
+        Files.delete(getTempFilePath("ab"));
+
+        storageManager.saveThrift(original);
+        storageManager.saveThrift(new Thrift(original));
+        storageManager.flushThrift();
+        assertFalse(Files.exists(getTempFilePath("ab")));
+
+        original.addTransaction(TypicalTransactions.LAKSA);
+        storageManager.saveThrift(original);
+        storageManager.flushThrift();
+        assertTrue(Files.exists(getTempFilePath("ab")));
+    }
+
+    @Test
+    public void readRecentThrift_partitionedStorage_notSavedUntilChanged() throws Exception {
+        PartitionedThriftStorage thriftStorage = new PartitionedThriftStorage(getTempFilePath("data"));
+        thriftStorage.saveThrift(TypicalTransactions.getTypicalThrift());
+        storageManager = new StorageManager(thriftStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new JsonCurrencyMappingsStorage(getTempFilePath("currMap")));
+
+        Thrift recentThrift = new Thrift(storageManager.readRecentThrift().get());
+        Files.delete(thriftStorage.getManifestFilePath());
+        storageManager.saveThrift(recentThrift);
+        storageManager.flushThrift();
+        assertFalse(Files.exists(thriftStorage.getManifestFilePath()));
+    }
+
+    @Test
+    public void saveThrift_backgroundSaveFails_exceptionThrownOnFlush() throws Exception {
+        IOException dummyException = new IOException("dummy exception");
+        storageManager = new StorageManager(new JsonThriftStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveThrift(ReadOnlyThrift thrift, Path filePath) throws IOException {
+                throw dummyException;
+            }
+        }, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new JsonCurrencyMappingsStorage(getTempFilePath("currMap")));
+
+        storageManager.saveThrift(TypicalTransactions.getTypicalThrift());
+        assertThrows(IOException.class, () -> storageManager.flushThrift());
+    }
+
     @Test
     public void getThriftFilePath() {
         assertNotNull(storageManager.getThriftFilePath());